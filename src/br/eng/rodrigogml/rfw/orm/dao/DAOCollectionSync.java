@@ -0,0 +1,393 @@
+package br.eng.rodrigogml.rfw.orm.dao;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import br.eng.rodrigogml.rfw.kernel.RFW;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaCollectionField;
+import br.eng.rodrigogml.rfw.orm.dao.DAOMap.DAOMapField;
+import br.eng.rodrigogml.rfw.orm.dao.DAOMap.DAOMapTable;
+import br.eng.rodrigogml.rfw.orm.dao.EntityMetadata.CollectionDescriptor;
+import br.eng.rodrigogml.rfw.orm.dao.RFWDAO.SQLDialect;
+
+/**
+ * Description: Sincroniza a tabela de um atributo {@link RFWMetaCollectionField} de um objeto já existente no banco de dados, ao invés de excluir e inserir novamente todos os elementos.<br>
+ * As linhas atuais são lidas do banco de dados e comparadas com o conteúdo do atributo, e apenas as diferenças são enviadas (em lote): os DELETEs dos elementos removidos, os UPDATEs dos elementos
+ * que mudaram de posição (ou de valor, no caso de Map) e os INSERTs dos novos elementos. A identificação de cada linha depende do tipo da collection:
+ * <ul>
+ * <li>List com sortColumn: pelo valor, e a sortColumn é atualizada quando o elemento mudou de posição. O índice de cada elemento é o da sua posição na lista, atribuído em uma única passada. As
+ * linhas movidas passam por uma posição temporária fora da faixa utilizada, para não violar uma eventual chave única em (fk, sortColumn).
+ * <li>List sem sortColumn e HashSet: pelo valor, considerando a quantidade de ocorrências de cada valor.
+ * <li>Map: pela chave (keyColumn), e a coluna do valor é atualizada quando o valor da chave mudou.
+ * </ul>
+ * As combinações de HashSet ou Map com a sortColumn, em que a ordem é a da iteração da collection, continuam sendo excluídas e inseridas novamente por completo.
+ *
+ * @author Rodrigo Leitão
+ * @since 10.0.0 (18 de out de 2026)
+ */
+final class DAOCollectionSync {
+
+  private final DAOMap map;
+  private final String path;
+  private final CollectionDescriptor col;
+  private final DAOMapTable mTable;
+  private final Long parentID;
+  private final int batchSize;
+  private final SQLDialect dialect;
+
+  private final String fkColumn;
+  private final String valueColumn;
+  private final String keyColumn;
+  private final String sortColumn;
+
+  private final ArrayList<Object[]> deletes = new ArrayList<>();
+  private final ArrayList<Object[]> updates = new ArrayList<>();
+  private final ArrayList<Object[]> inserts = new ArrayList<>();
+
+  private DAOCollectionSync(DAOMap map, String path, CollectionDescriptor col, Long parentID, int batchSize, SQLDialect dialect) throws RFWException {
+    this.map = map;
+    this.path = path;
+    this.col = col;
+    this.mTable = map.getMapTableByPath(path);
+    if (this.mTable == null) throw new RFWCriticalException("O caminho '${0}' da RFWMetaCollection não foi mapeado no DAO.", new String[] { path });
+    this.parentID = parentID;
+    this.batchSize = Math.max(batchSize, 1);
+    this.dialect = dialect;
+
+    String fk = this.mTable.column;
+    String value = null;
+    String key = null;
+    String sort = null;
+    for (DAOMapField mField : this.mTable.mappedFields) {
+      if (mField.field.endsWith("@fk")) {
+        fk = mField.column;
+      } else if (mField.field.endsWith("@keyColumn")) {
+        key = mField.column;
+      } else if (mField.field.endsWith("@sortColumn")) {
+        sort = mField.column;
+      } else {
+        value = mField.column;
+      }
+    }
+    this.fkColumn = fk;
+    this.valueColumn = value;
+    this.keyColumn = key;
+    this.sortColumn = sort;
+  }
+
+  /**
+   * Sincroniza a tabela da collection com o conteúdo atual do atributo.
+   *
+   * @param conn Conexão com o banco de dados, a mesma utilizada na persistência do objeto pai.
+   * @param map Mapeamento do VO com as tabelas do banco.
+   * @param path Caminho da tabela da collection no mapeamento (iniciado com "@").
+   * @param col Definições da collection.
+   * @param collection Conteúdo atual do atributo (List, HashSet ou Map). Nulo é tratado como uma collection vazia.
+   * @param parentID ID do objeto pai.
+   * @param batchSize Quantidade máxima de linhas enviadas em cada executeBatch().
+   * @param dialect Dialeto do banco de dados.
+   * @throws RFWException Lançado em caso de falha no banco de dados ou caso o tipo da collection não seja suportado.
+   */
+  static void sync(Connection conn, DAOMap map, String path, CollectionDescriptor col, Object collection, Long parentID, int batchSize, SQLDialect dialect) throws RFWException {
+    final DAOCollectionSync sync = new DAOCollectionSync(map, path, col, parentID, batchSize, dialect);
+    try {
+      if (collection == null) {
+        sync.syncBag(conn, new ArrayList<>(0));
+      } else if (containsNull(collection)) {
+        // Os elementos nulos são gravados na inserção, mas não são recuperados na leitura. Mantemos o comportamento de excluir e inserir todos novamente
+        sync.rewrite(conn, collection instanceof Map<?, ?> ? new LinkedList<Object>(((Map<?, ?>) collection).entrySet()) : new LinkedList<Object>((Collection<?>) collection));
+      } else if (collection instanceof List<?>) {
+        if (sync.sortColumn != null) {
+          sync.syncSortedList(conn, (List<?>) collection);
+        } else {
+          sync.syncBag(conn, (List<?>) collection);
+        }
+      } else if (collection instanceof HashSet<?>) {
+        if (sync.sortColumn != null) {
+          sync.rewrite(conn, new LinkedList<Object>((HashSet<?>) collection));
+        } else {
+          sync.syncBag(conn, (HashSet<?>) collection);
+        }
+      } else if (collection instanceof Map<?, ?>) {
+        if (sync.sortColumn != null) {
+          sync.rewrite(conn, new LinkedList<Object>(((Map<?, ?>) collection).entrySet()));
+        } else {
+          sync.syncMap(conn, (Map<?, ?>) collection);
+        }
+      } else {
+        throw new RFWCriticalException("O RFWDAO não sabe persistir uma RFWMetaCollectionField com o objeto do tipo '" + collection.getClass().getCanonicalName() + "'");
+      }
+    } catch (RFWException e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new RFWCriticalException("Falha ao sincronizar os elementos de uma Collection no banco de dados!", e);
+    }
+  }
+
+  /**
+   * Lista com sortColumn: cada elemento é associado a uma linha atual com o mesmo valor (na ordem das posições), e apenas a sortColumn das linhas que mudaram de posição é atualizada, em duas
+   * etapas (posição temporária e posição final).
+   */
+  private void syncSortedList(Connection conn, List<?> list) throws Throwable {
+    final ArrayList<Row> rows = loadRows(conn);
+    if (rows == null) {
+      rewrite(conn, list);
+      return;
+    }
+    final LinkedHashMap<Object, ArrayDeque<Row>> byValue = new LinkedHashMap<>();
+    for (Row row : rows) {
+      if (row.sort == null) { // Linhas sem o índice só existem se a sortColumn foi criada depois, não temos como posicioná-las
+        rewrite(conn, list);
+        return;
+      }
+      byValue.computeIfAbsent(row.value, k -> new ArrayDeque<>()).add(row);
+    }
+
+    // Posição temporária, acima de todas as posições atuais e finais, para onde as linhas que mudaram de posição são movidas antes de receberem a posição final
+    int tempBase = list.size();
+    for (Row row : rows) {
+      tempBase = Math.max(tempBase, row.sort + 1);
+    }
+    final ArrayList<Object[]> moves = new ArrayList<>();
+    for (int i = 0; i < list.size(); i++) {
+      final Object item = list.get(i);
+      final ArrayDeque<Row> queue = byValue.get(normalize(item));
+      final Row row = queue == null ? null : queue.poll();
+      if (row == null) {
+        inserts.add(new Object[] { parentID, item, i });
+      } else if (row.sort != i) {
+        updates.add(new Object[] { tempBase + i, parentID, row.raw, row.sort });
+        moves.add(new Object[] { i, parentID, tempBase + i });
+      }
+    }
+    for (ArrayDeque<Row> queue : byValue.values()) {
+      for (Row row : queue) {
+        deletes.add(new Object[] { parentID, row.raw, row.sort });
+      }
+    }
+
+    // Com uma chave única em (fk, sortColumn), mover uma linha diretamente para a nova posição falharia enquanto a linha que ocupa essa posição ainda não foi movida. Por isso as linhas passam
+    // primeiro por uma posição temporária livre e só depois recebem a posição final. As posições das linhas inseridas estão livres: ou eram de linhas excluídas, ou de linhas movidas.
+    execute(conn, "DELETE FROM " + table() + " WHERE " + qm(fkColumn) + "=? AND " + qm(valueColumn) + "=? AND " + qm(sortColumn) + "=?", deletes);
+    execute(conn, "UPDATE " + table() + " SET " + qm(sortColumn) + "=? WHERE " + qm(fkColumn) + "=? AND " + qm(valueColumn) + "=? AND " + qm(sortColumn) + "=?", updates);
+    execute(conn, "UPDATE " + table() + " SET " + qm(sortColumn) + "=? WHERE " + qm(fkColumn) + "=? AND " + qm(sortColumn) + "=?", moves);
+    execute(conn, "INSERT INTO " + table() + " (" + qm(fkColumn) + "," + qm(valueColumn) + "," + qm(sortColumn) + ") VALUES (?,?,?)", inserts);
+  }
+
+  /**
+   * Lista sem sortColumn e HashSet: compara a quantidade de ocorrências de cada valor. Os valores que deixaram de existir (ou que diminuíram de quantidade) são excluídos, e as ocorrências que
+   * faltam são inseridas.
+   */
+  private void syncBag(Connection conn, Collection<?> items) throws Throwable {
+    final ArrayList<Row> rows = loadRows(conn);
+    if (rows == null) {
+      rewrite(conn, new LinkedList<Object>(items));
+      return;
+    }
+    final LinkedHashMap<Object, ArrayList<Row>> oldByValue = new LinkedHashMap<>();
+    for (Row row : rows) {
+      oldByValue.computeIfAbsent(row.value, k -> new ArrayList<>()).add(row);
+    }
+    final LinkedHashMap<Object, ArrayList<Object>> newByValue = new LinkedHashMap<>();
+    for (Object item : items) {
+      newByValue.computeIfAbsent(normalize(item), k -> new ArrayList<>()).add(item);
+    }
+
+    for (Entry<Object, ArrayList<Row>> entry : oldByValue.entrySet()) {
+      final ArrayList<Object> current = newByValue.get(entry.getKey());
+      final int newCount = current == null ? 0 : current.size();
+      if (newCount < entry.getValue().size()) {
+        // O DELETE pelo valor remove todas as ocorrências, as que devem continuar são inseridas novamente
+        deletes.add(new Object[] { parentID, entry.getValue().get(0).raw });
+        for (int i = 0; i < newCount; i++) {
+          inserts.add(new Object[] { parentID, current.get(i) });
+        }
+      }
+    }
+    for (Entry<Object, ArrayList<Object>> entry : newByValue.entrySet()) {
+      final ArrayList<Row> old = oldByValue.get(entry.getKey());
+      final int oldCount = old == null ? 0 : old.size();
+      for (int i = oldCount; i < entry.getValue().size(); i++) {
+        inserts.add(new Object[] { parentID, entry.getValue().get(i) });
+      }
+    }
+
+    execute(conn, "DELETE FROM " + table() + " WHERE " + qm(fkColumn) + "=? AND " + qm(valueColumn) + "=?", deletes);
+    execute(conn, "INSERT INTO " + table() + " (" + qm(fkColumn) + "," + qm(valueColumn) + ") VALUES (?,?)", inserts);
+  }
+
+  /**
+   * Map: compara pela chave. As chaves removidas são excluídas, as novas inseridas, e as chaves existentes com outro valor são atualizadas.
+   */
+  private void syncMap(Connection conn, Map<?, ?> hash) throws Throwable {
+    final ArrayList<Row> rows = loadRows(conn);
+    if (rows == null) {
+      rewrite(conn, new LinkedList<Object>(hash.entrySet()));
+      return;
+    }
+    final HashMap<String, Row> oldByKey = new HashMap<>();
+    for (Row row : rows) {
+      if (oldByKey.put(row.key, row) != null) { // Chave repetida no banco de dados, não temos como atualizar apenas uma das linhas
+        rewrite(conn, new LinkedList<Object>(hash.entrySet()));
+        return;
+      }
+    }
+
+    for (Entry<?, ?> entry : hash.entrySet()) {
+      final Object key = keyToDB(entry.getKey());
+      final Row row = oldByKey.remove(String.valueOf(key));
+      if (row == null) {
+        inserts.add(new Object[] { parentID, entry.getValue(), key });
+      } else if (!row.value.equals(normalize(entry.getValue()))) {
+        updates.add(new Object[] { entry.getValue(), parentID, row.key });
+      }
+    }
+    for (Row row : oldByKey.values()) {
+      deletes.add(new Object[] { parentID, row.key });
+    }
+
+    execute(conn, "DELETE FROM " + table() + " WHERE " + qm(fkColumn) + "=? AND " + qm(keyColumn) + "=?", deletes);
+    execute(conn, "UPDATE " + table() + " SET " + qm(valueColumn) + "=? WHERE " + qm(fkColumn) + "=? AND " + qm(keyColumn) + "=?", updates);
+    execute(conn, "INSERT INTO " + table() + " (" + qm(fkColumn) + "," + qm(valueColumn) + "," + qm(keyColumn) + ") VALUES (?,?,?)", inserts);
+  }
+
+  /**
+   * Exclui todos os elementos e insere novamente, como era feito antes da sincronização.
+   */
+  private void rewrite(Connection conn, List<?> items) throws Throwable {
+    try (PreparedStatement stmt = DAOMap.createDeleteCollectionStatement(conn, map, path, parentID, dialect)) {
+      stmt.executeUpdate();
+    }
+    if (items.size() > 0) {
+      try (PreparedStatement stmt = DAOMap.createInsertCollectionStatement(conn, map, path, items, parentID, dialect, col)) {
+        stmt.executeUpdate();
+      }
+    }
+  }
+
+  /**
+   * Linha atual da tabela da collection.
+   */
+  private static final class Row {
+    /**
+     * Valor como lido do banco de dados, utilizado nas condições dos UPDATEs e DELETEs.
+     */
+    private final Object raw;
+    /**
+     * Valor normalizado para comparação com os elementos da collection.
+     */
+    private final Object value;
+    private final String key;
+    private final Integer sort;
+
+    private Row(Object raw, String key, Integer sort) {
+      this.raw = raw;
+      this.value = normalize(raw);
+      this.key = key;
+      this.sort = sort;
+    }
+  }
+
+  private static boolean containsNull(Object collection) {
+    if (collection instanceof Map<?, ?>) return ((Map<?, ?>) collection).containsValue(null);
+    if (collection instanceof Collection<?>) {
+      for (Object item : (Collection<?>) collection) {
+        if (item == null) return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Lê as linhas atuais da collection.
+   *
+   * @return Linhas atuais, ou nulo caso exista alguma linha com o valor nulo.
+   */
+  private ArrayList<Row> loadRows(Connection conn) throws Throwable {
+    final StringBuilder sql = new StringBuilder(128);
+    sql.append("SELECT ").append(qm(valueColumn));
+    if (keyColumn != null) sql.append(",").append(qm(keyColumn));
+    if (sortColumn != null) sql.append(",").append(qm(sortColumn));
+    sql.append(" FROM ").append(table()).append(" WHERE ").append(qm(fkColumn)).append("=?");
+    if (sortColumn != null) sql.append(" ORDER BY ").append(qm(sortColumn));
+
+    final String s = sql.toString();
+    // ATENÇÃO: NÃO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log não dá certo!!!!
+    if (RFW.isDevelopmentEnvironment()) System.out.println(s);
+    final Class<?> target = col.ann.targetRelationship();
+    final ArrayList<Row> rows = new ArrayList<>();
+    try (PreparedStatement stmt = conn.prepareStatement(s)) {
+      stmt.setLong(1, parentID);
+      try (ResultSet rs = stmt.executeQuery()) {
+        while (rs.next()) {
+          final Object raw = BigDecimal.class.isAssignableFrom(target) ? rs.getBigDecimal(1) : rs.getString(1);
+          if (raw == null) return null; // Linhas com valor nulo não são associadas a nenhum elemento, a collection precisa ser gravada novamente
+          int c = 2;
+          final String key = keyColumn != null ? rs.getString(c++) : null;
+          Integer sort = null;
+          if (sortColumn != null) {
+            sort = rs.getInt(c);
+            if (rs.wasNull()) sort = null;
+          }
+          rows.add(new Row(raw, key, sort));
+        }
+      }
+    }
+    return rows;
+  }
+
+  private void execute(Connection conn, String sql, List<Object[]> rows) throws Throwable {
+    if (rows.isEmpty()) return;
+    // ATENÇÃO: NÃO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log não dá certo!!!!
+    if (RFW.isDevelopmentEnvironment()) System.out.println(sql + " [x" + rows.size() + "]");
+    try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+      int pending = 0;
+      for (Object[] params : rows) {
+        DAOMap.writeStatementParameters(stmt, new LinkedList<>(Arrays.asList(params)));
+        stmt.addBatch();
+        if (++pending == batchSize) {
+          stmt.executeBatch();
+          pending = 0;
+        }
+      }
+      if (pending > 0) stmt.executeBatch();
+    }
+  }
+
+  private Object keyToDB(Object key) throws RFWException {
+    if (col.keyConverterClass == null) return key;
+    return DAOConverterRegistry.get(map.getResolver(), col.keyConverterClass, true, col.name, mTable.type).toDB(key);
+  }
+
+  /**
+   * Normaliza o valor para a comparação entre o elemento da collection e o valor lido do banco de dados: Enum pelo nome (como é escrito no banco) e BigDecimal sem considerar a escala.
+   */
+  private static Object normalize(Object value) {
+    if (value instanceof Enum<?>) return ((Enum<?>) value).name();
+    if (value instanceof BigDecimal) return ((BigDecimal) value).stripTrailingZeros();
+    return value;
+  }
+
+  private String table() {
+    return qm(mTable.schema) + "." + qm(mTable.table);
+  }
+
+  private String qm(String name) {
+    return dialect.getQM() + name + dialect.getQM();
+  }
+}
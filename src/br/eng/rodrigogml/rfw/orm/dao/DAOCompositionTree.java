@@ -0,0 +1,99 @@
+package br.eng.rodrigogml.rfw.orm.dao;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVO;
+import br.eng.rodrigogml.rfw.orm.dao.DAOMap.DAOMapTable;
+
+/**
+ * Description: Acumula os objetos de COMPOSITION_TREE encontrados durante a montagem dos objetos, para que sejam completados nível a nível.<br>
+ * Ao invés de uma consulta para cada objeto da árvore, os objetos de um mesmo nível são agrupados pelo mapeamento que os completa e recuperados juntos, com um IN pelos IDs. Os objetos filhos
+ * encontrados nesta consulta formam o próximo nível, e assim por diante até que a árvore termine. Assim, uma árvore custa uma consulta por nível (limitada pelo
+ * {@link RFWDAO#getInClauseMaxSize()}) e não uma consulta por objeto.<br>
+ * Os objetos já montados continuam no cache de objetos e são completados na mesma instância.
+ *
+ * @author Rodrigo Leitão
+ * @since 10.0.0 (18 de out de 2026)
+ */
+final class DAOCompositionTree {
+
+  /**
+   * Objetos aguardando o próximo nível, agrupados pelo mapeamento (tendo o objeto como raiz) utilizado para completá-los. Indexados pelo ID.
+   */
+  private IdentityHashMap<DAOMap, LinkedHashMap<Long, RFWVO>> pending = new IdentityHashMap<>();
+
+  /**
+   * Mapeamentos já criados a partir de cada tabela de início, para que todos os objetos (e todos os níveis) de uma mesma árvore utilizem o mesmo mapeamento.
+   */
+  private final IdentityHashMap<DAOMap, HashMap<String, DAOMap>> subMaps = new IdentityHashMap<>();
+
+  /**
+   * Chaves (classe + ID) dos objetos já agendados, evitando que o mesmo objeto seja consultado mais de uma vez.
+   */
+  private final HashSet<String> scheduled = new HashSet<>();
+
+  /**
+   * Agenda o objeto para ser completado no próximo nível.
+   *
+   * @param map Mapeamento utilizado na montagem do objeto.
+   * @param startTable Tabela do objeto pai no mapeamento. Como a árvore é composta por objetos do mesmo tipo, a estrutura a partir do pai é a mesma necessária para completar o filho.
+   * @param vo Objeto a ser completado.
+   * @throws RFWException
+   */
+  void add(DAOMap map, DAOMapTable startTable, RFWVO vo) throws RFWException {
+    if (!scheduled.add(vo.getClass().getCanonicalName() + "." + vo.getId())) return;
+
+    DAOMap treeMap = map;
+    // Se não for a tabela raiz, temos de criar um subMap para conseguir prosseguir, se for, já estamos com ele pronto (provavelmente pq já estamos seguindo a árvore desse objeto)
+    if (!"".equals(startTable.path)) {
+      HashMap<String, DAOMap> maps = subMaps.get(map);
+      if (maps == null) {
+        maps = new HashMap<>();
+        subMaps.put(map, maps);
+      }
+      treeMap = maps.get(startTable.alias);
+      if (treeMap == null) {
+        treeMap = map.createSubMap(startTable);
+        treeMap.shareRowMapper(); // O mesmo mapeamento é utilizado em todos os níveis, compensando compilar o plano de montagem
+        maps.put(startTable.alias, treeMap);
+      }
+    }
+
+    LinkedHashMap<Long, RFWVO> nodes = pending.get(treeMap);
+    if (nodes == null) {
+      nodes = new LinkedHashMap<>();
+      pending.put(treeMap, nodes);
+    }
+    nodes.put(vo.getId(), vo);
+  }
+
+  /**
+   * Indica se há objetos aguardando para serem completados.
+   */
+  boolean hasPending() {
+    return !pending.isEmpty();
+  }
+
+  /**
+   * Retira os objetos do nível atual. Os objetos agendados a partir daqui passam a fazer parte do próximo nível.
+   *
+   * @return Objetos do nível atual, agrupados pelo mapeamento que deve ser utilizado para completá-los.
+   */
+  IdentityHashMap<DAOMap, LinkedHashMap<Long, RFWVO>> poll() {
+    final IdentityHashMap<DAOMap, LinkedHashMap<Long, RFWVO>> level = pending;
+    pending = new IdentityHashMap<>();
+    return level;
+  }
+
+  /**
+   * Descarta os objetos já agendados. Utilizado quando o cache de objetos também é descartado (montagem incremental), já que os mesmos objetos podem voltar a ser instanciados.
+   */
+  void clear() {
+    pending.clear();
+    scheduled.clear();
+  }
+}
@@ -0,0 +1,146 @@
+package br.eng.rodrigogml.rfw.orm.dao;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.orm.dao.annotations.dao.RFWDAOConverter;
+import br.eng.rodrigogml.rfw.orm.dao.interfaces.DAOResolver;
+import br.eng.rodrigogml.rfw.orm.dao.interfaces.RFWDAOConverterInterface;
+
+/**
+ * Description: Registro compartilhado das instâncias dos {@link RFWDAOConverterInterface}.<br>
+ * Os conversores normalmente não tem estado (como o MeasureUnitDAOConverter), por isso cada implementação é instanciada uma única vez e reaproveitada em todas as leituras e escritas, ao invés de
+ * criar uma nova instância para cada valor convertido. Conversores com estado devem ser declarados com {@link RFWDAOConverter#cacheable()} = false, e recebem uma nova instância a cada uso.<br>
+ * Quando o {@link RFWDAO} tem um {@link DAOResolver}, as instâncias criadas por ele são registradas separadamente para cada resolver, assim o resolver é consultado uma única vez por conversor.
+ *
+ * @author Rodrigo Leitão
+ * @since 10.0.0 (18 de out de 2026)
+ */
+final class DAOConverterRegistry {
+
+  private static final ConcurrentHashMap<Class<?>, RFWDAOConverterInterface<Object, Object>> registry = new ConcurrentHashMap<>();
+
+  /**
+   * Instâncias criadas pelos {@link DAOResolver}, indexadas pela instância do resolver (referência fraca, para não impedir que ele seja descartado) e pela classe do conversor.
+   */
+  private static final Map<DAOResolver, ConcurrentHashMap<Class<?>, RFWDAOConverterInterface<Object, Object>>> resolverRegistry = Collections.synchronizedMap(new WeakHashMap<>());
+
+  /**
+   * Marca registrada no {@link #resolverRegistry} quando o resolver não cria a instância do conversor, indicando que a instância do {@link #registry} deve ser utilizada.
+   */
+  private static final RFWDAOConverterInterface<Object, Object> NO_RESOLVER_INSTANCE = new RFWDAOConverterInterface<Object, Object>() {
+    @Override
+    public Object toVO(Object obj) {
+      return obj;
+    }
+
+    @Override
+    public Object toDB(Object obj) {
+      return obj;
+    }
+  };
+
+  /**
+   * Construtor privado para classe estática.
+   */
+  private DAOConverterRegistry() {
+  }
+
+  /**
+   * Recupera a instância do conversor.
+   *
+   * @param converterClass Classe do conversor.
+   * @param cacheable Indica se a instância pode ser reaproveitada. Caso false uma nova instância é criada a cada chamada.
+   * @param field Atributo onde o conversor foi definido. Utilizado apenas na mensagem de erro.
+   * @param owner Classe do atributo onde o conversor foi definido. Utilizado apenas na mensagem de erro.
+   * @return Instância do conversor.
+   * @throws RFWException Lançado caso a classe não seja um {@link RFWDAOConverterInterface} ou não possa ser instanciada.
+   */
+  static RFWDAOConverterInterface<Object, Object> get(Class<?> converterClass, boolean cacheable, String field, Class<?> owner) throws RFWException {
+    if (!cacheable) return newInstance(converterClass, field, owner);
+    RFWDAOConverterInterface<Object, Object> conv = registry.get(converterClass);
+    if (conv == null) {
+      conv = newInstance(converterClass, field, owner);
+      final RFWDAOConverterInterface<Object, Object> previous = registry.putIfAbsent(converterClass, conv);
+      if (previous != null) conv = previous;
+    }
+    return conv;
+  }
+
+  /**
+   * Recupera a instância do conversor, dando preferência para a instância criada pelo {@link DAOResolver}.<br>
+   * Nos conversores que podem ser reaproveitados o resultado do resolver (inclusive quando ele não cria a instância) é registrado, e o resolver não é consultado novamente para a mesma classe.
+   *
+   * @param resolver Resolver do {@link RFWDAO}. Caso nulo a instância é obtida como em {@link #get(Class, boolean, String, Class)}.
+   * @param converterClass Classe do conversor.
+   * @param cacheable Indica se a instância pode ser reaproveitada. Caso false o resolver (ou a própria classe) cria uma nova instância a cada chamada.
+   * @param field Atributo onde o conversor foi definido. Utilizado apenas na mensagem de erro.
+   * @param owner Classe do atributo onde o conversor foi definido. Utilizado apenas na mensagem de erro.
+   * @return Instância do conversor.
+   * @throws RFWException Lançado caso a classe não seja um {@link RFWDAOConverterInterface} ou não possa ser instanciada.
+   */
+  static RFWDAOConverterInterface<Object, Object> get(DAOResolver resolver, Class<?> converterClass, boolean cacheable, String field, Class<?> owner) throws RFWException {
+    if (resolver == null) return get(converterClass, cacheable, field, owner);
+    if (!cacheable) {
+      final Object ni = resolver.createInstance(converterClass);
+      if (ni != null) return validate(ni, converterClass, field, owner);
+      return newInstance(converterClass, field, owner);
+    }
+    ConcurrentHashMap<Class<?>, RFWDAOConverterInterface<Object, Object>> convs = resolverRegistry.get(resolver);
+    if (convs == null) {
+      synchronized (resolverRegistry) {
+        convs = resolverRegistry.get(resolver);
+        if (convs == null) {
+          convs = new ConcurrentHashMap<>();
+          resolverRegistry.put(resolver, convs);
+        }
+      }
+    }
+    RFWDAOConverterInterface<Object, Object> conv = convs.get(converterClass);
+    if (conv == null) {
+      final Object ni = resolver.createInstance(converterClass);
+      conv = ni != null ? validate(ni, converterClass, field, owner) : NO_RESOLVER_INSTANCE;
+      final RFWDAOConverterInterface<Object, Object> previous = convs.putIfAbsent(converterClass, conv);
+      if (previous != null) conv = previous;
+    }
+    return conv != NO_RESOLVER_INSTANCE ? conv : get(converterClass, true, field, owner);
+  }
+
+  /**
+   * Valida e converte uma instância recebida de fora do registro (por exemplo criada pelo {@link br.eng.rodrigogml.rfw.orm.dao.interfaces.DAOResolver}).
+   *
+   * @param instance Instância do conversor.
+   * @param converterClass Classe do conversor.
+   * @param field Atributo onde o conversor foi definido. Utilizado apenas na mensagem de erro.
+   * @param owner Classe do atributo onde o conversor foi definido. Utilizado apenas na mensagem de erro.
+   * @return Instância do conversor.
+   * @throws RFWException Lançado caso a instância não seja um {@link RFWDAOConverterInterface}.
+   */
+  @SuppressWarnings("unchecked")
+  static RFWDAOConverterInterface<Object, Object> validate(Object instance, Class<?> converterClass, String field, Class<?> owner) throws RFWException {
+    if (!(instance instanceof RFWDAOConverterInterface)) throw new RFWCriticalException("A classe '${0}' definida no atributo '${1}' da classe '${2}' não é um RFWDAOConverterInterface válido!", new String[] { converterClass.getCanonicalName(), field, owner.getCanonicalName() });
+    return (RFWDAOConverterInterface<Object, Object>) instance;
+  }
+
+  private static RFWDAOConverterInterface<Object, Object> newInstance(Class<?> converterClass, String field, Class<?> owner) throws RFWException {
+    final Object instance;
+    try {
+      instance = converterClass.newInstance();
+    } catch (Throwable e) {
+      throw new RFWCriticalException("RFW_000021", new String[] { converterClass.getCanonicalName() }, e);
+    }
+    return validate(instance, converterClass, field, owner);
+  }
+
+  /**
+   * Descarta as instâncias registradas.
+   */
+  static void clear() {
+    registry.clear();
+    resolverRegistry.clear();
+  }
+}
@@ -0,0 +1,106 @@
+package br.eng.rodrigogml.rfw.orm.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import br.eng.rodrigogml.rfw.kernel.RFW;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.orm.dao.DAOMap.DAOMapTable;
+import br.eng.rodrigogml.rfw.orm.dao.RFWDAO.SQLDialect;
+
+/**
+ * Description: Sincroniza a tabela de joinAlias de um relacionamento ManyToMany de um objeto.<br>
+ * Os IDs já associados ao objeto são lidos em uma única consulta e comparados em memória com os IDs dos objetos do atributo. Os links que faltam são inseridos, e os links dos objetos que foram
+ * removidos do atributo (em relação ao objeto original) são excluídos, ambos em lote, ao invés de uma consulta e um comando por objeto associado.
+ *
+ * @author Rodrigo Leitão
+ * @since 10.0.0 (18 de out de 2026)
+ */
+final class DAOManyToManySync {
+
+  private DAOManyToManySync() {
+  }
+
+  /**
+   * Sincroniza os links do objeto na tabela de joinAlias.
+   *
+   * @param conn Conexão com o banco de dados, a mesma utilizada na persistência do objeto.
+   * @param map Mapeamento do VO com as tabelas do banco.
+   * @param path Caminho até o VO associado no relacionamento N:N (sem o prefixo ".").
+   * @param ownerID ID do objeto que está sendo persistido.
+   * @param ids IDs dos objetos associados atualmente.
+   * @param idsOrig IDs dos objetos associados no objeto original, cujos links devem ser excluídos caso não estejam mais em ids. Nulo quando o objeto é novo ou o atributo não foi carregado no
+   *          original.
+   * @param isNew Indica se o objeto é novo. Neste caso não há links existentes e a consulta não é realizada.
+   * @param batchSize Quantidade máxima de linhas enviadas em cada executeBatch().
+   * @param dialect Dialeto do banco de dados.
+   * @throws RFWException Lançado em caso de falha no banco de dados.
+   */
+  static void sync(Connection conn, DAOMap map, String path, Long ownerID, Collection<Long> ids, Collection<Long> idsOrig, boolean isNew, int batchSize, SQLDialect dialect) throws RFWException {
+    final DAOMapTable jTable = map.getMapTableByPath("." + path); // Obtem o mapeamento da tabela de joinAlias, que é colocada na Hash com mesmo caminho do path com o prefixo de "."
+    final DAOMapTable mTable = map.getMapTableByPath(path);
+    final String table = dialect.getQM() + jTable.schema + dialect.getQM() + "." + dialect.getQM() + jTable.table + dialect.getQM();
+    final String ownerColumn = dialect.getQM() + jTable.column + dialect.getQM();
+    final String itemColumn = dialect.getQM() + mTable.joinColumn + dialect.getQM();
+    try {
+      final HashSet<Long> existing = new HashSet<>();
+      if (!isNew) {
+        final String sql = "SELECT " + itemColumn + " FROM " + table + " WHERE " + ownerColumn + "=?";
+        // ATENÇÃO: NÃO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log não dá certo!!!!
+        if (RFW.isDevelopmentEnvironment()) System.out.println(sql);
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+          stmt.setLong(1, ownerID);
+          try (ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+              existing.add(rs.getLong(1));
+            }
+          }
+        }
+      }
+
+      final LinkedHashSet<Long> current = new LinkedHashSet<>(ids);
+      final ArrayList<Long> inserts = new ArrayList<>();
+      for (Long id : current) {
+        if (!existing.contains(id)) inserts.add(id);
+      }
+      final ArrayList<Long> deletes = new ArrayList<>();
+      if (idsOrig != null) {
+        for (Long id : new LinkedHashSet<>(idsOrig)) {
+          if (!current.contains(id) && existing.contains(id)) deletes.add(id);
+        }
+      }
+
+      execute(conn, "DELETE FROM " + table + " WHERE " + ownerColumn + "=? AND " + itemColumn + "=?", ownerID, deletes, batchSize);
+      execute(conn, "INSERT INTO " + table + " (" + ownerColumn + ", " + itemColumn + ") VALUES (?,?)", ownerID, inserts, batchSize);
+    } catch (Throwable e) {
+      throw new RFWCriticalException("Falha ao executar a operação no banco de dados.", e);
+    }
+  }
+
+  private static void execute(Connection conn, String sql, Long ownerID, List<Long> ids, int batchSize) throws Throwable {
+    if (ids.isEmpty()) return;
+    // ATENÇÃO: NÃO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log não dá certo!!!!
+    if (RFW.isDevelopmentEnvironment()) System.out.println(sql + " [x" + ids.size() + "]");
+    final int size = Math.max(batchSize, 1);
+    try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+      int pending = 0;
+      for (Long id : ids) {
+        stmt.setLong(1, ownerID);
+        stmt.setLong(2, id);
+        stmt.addBatch();
+        if (++pending == size) {
+          stmt.executeBatch();
+          pending = 0;
+        }
+      }
+      if (pending > 0) stmt.executeBatch();
+    }
+  }
+}
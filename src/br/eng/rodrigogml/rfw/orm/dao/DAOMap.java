@@ -13,6 +13,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
@@ -22,6 +23,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicReference;
 
 import br.eng.rodrigogml.rfw.kernel.RFW;
 import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
@@ -33,19 +35,21 @@ import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaEncrypt;
 import br.eng.rodrigogml.rfw.kernel.utils.RUEncrypter;
 import br.eng.rodrigogml.rfw.kernel.utils.RUReflex;
 import br.eng.rodrigogml.rfw.kernel.vo.RFWField;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWField.FunctionType;
 import br.eng.rodrigogml.rfw.kernel.vo.RFWMO;
 import br.eng.rodrigogml.rfw.kernel.vo.RFWMO.RFWMOData;
 import br.eng.rodrigogml.rfw.kernel.vo.RFWOrderBy;
 import br.eng.rodrigogml.rfw.kernel.vo.RFWOrderBy.RFWOrderbyItem;
 import br.eng.rodrigogml.rfw.kernel.vo.RFWVO;
+import br.eng.rodrigogml.rfw.orm.dao.EntityMetadata.CollectionDescriptor;
+import br.eng.rodrigogml.rfw.orm.dao.EntityMetadata.FieldDescriptor;
 import br.eng.rodrigogml.rfw.orm.dao.RFWDAO.SQLDialect;
-import br.eng.rodrigogml.rfw.orm.dao.annotations.dao.RFWDAOConverter;
-import br.eng.rodrigogml.rfw.orm.dao.interfaces.RFWDAOConverterInterface;
+import br.eng.rodrigogml.rfw.orm.dao.interfaces.DAOResolver;
 
 /**
- * Description: Classe que cria um mapeamento para execuo de um comando SQL entre os objetos e o banco de dados.<br>
+ * Description: Classe que cria um mapeamento para execução de um comando SQL entre os objetos e o banco de dados.<br>
  *
- * @author Rodrigo Leito
+ * @author Rodrigo Leitão
  * @since 10.0.0 (13 de jul de 2018)
  */
 class DAOMap {
@@ -61,12 +65,12 @@ class DAOMap {
     Class<? extends RFWVO> type = null;
 
     /**
-     * Caminho do atributo, vazio quando o atributo est no objeto raiz. Nulo quando  apenas uma tabela de joinAlias de N:N.
+     * Caminho do atributo, vazio quando o atributo está no objeto raiz. Nulo quando é apenas uma tabela de joinAlias de N:N.
      */
     String path = null;
 
     /**
-     * Schema do banco de dados em que esta tabela ser encontrada.
+     * Schema do banco de dados em que esta tabela será encontrada.
      */
     String schema = null;
 
@@ -76,22 +80,22 @@ class DAOMap {
     String table = null;
 
     /**
-     * Alias da tabela no SQL. Segue a sequncia t0, t1, t2, ..., tN
+     * Alias da tabela no SQL. Segue a sequência t0, t1, t2, ..., tN
      */
     String alias = null;
 
     /**
-     * Nulo na tabela t0, que representa o comeo do SQL e a tabela do objeto raiz. Para as demais tabelas anexadas ao SQL deve conter o Alias da tabela  qual esta est anexada.
+     * Nulo na tabela t0, que representa o começo do SQL e a tabela do objeto raiz. Para as demais tabelas anexadas ao SQL deve conter o Alias da tabela à qual esta está anexada.
      */
     String joinAlias = null;
 
     /**
-     * Nulo na tabela t0, que representa o comeo do SQL e a tabela do objeto raiz. Para as demais tabelas anexadas, contem a coluna desta tabela que ser usada para fazer o joinAlias com a tabela descrita em {@link #joinAlias}.
+     * Nulo na tabela t0, que representa o começo do SQL e a tabela do objeto raiz. Para as demais tabelas anexadas, contem a coluna desta tabela que será usada para fazer o joinAlias com a tabela descrita em {@link #joinAlias}.
      */
     String column = null;
 
     /**
-     * Nulo na tabela t0, que representa o comeo do SQL e a tabela do objeto raiz. Para as demais tabelas anexadas, contem a coluna da tabela descrita em {@link #joinAlias} que ser usada para fazer o joinAlias com esta tabela.
+     * Nulo na tabela t0, que representa o começo do SQL e a tabela do objeto raiz. Para as demais tabelas anexadas, contem a coluna da tabela descrita em {@link #joinAlias} que será usada para fazer o joinAlias com esta tabela.
      */
     String joinColumn = null;
 
@@ -114,7 +118,7 @@ class DAOMap {
   static class DAOMapField {
 
     /**
-     * Caminho do atributo a partir do objeto raiz. Vazio para os campos do objeto raiz. No inclu o nome do atributo do objeto, este deve ser declarado em {@link #field}.
+     * Caminho do atributo a partir do objeto raiz. Vazio para os campos do objeto raiz. Não incluí o nome do atributo do objeto, este deve ser declarado em {@link #field}.
      */
     String path = null;
 
@@ -129,19 +133,19 @@ class DAOMap {
     String column = null;
 
     /**
-     * Tabela  qual este campo est associado
+     * Tabela à qual este campo está associado
      */
     DAOMapTable table = null;
   }
 
   /**
-   * Mantm referncia para a tabela "raiz", a primeira tabela do SELECT, com alias t0.
+   * Mantém referência para a tabela "raiz", a primeira tabela do SELECT, com alias t0.
    */
   private DAOMapTable rootTable = null;
 
   /**
    * Hash com os mapas de tabela indexados pelo caminho.<BR>
-   * <b>ATENO: os mapeamentos de tabelas de N:N que no tem "path" so colocados na hash com uma chave gerada com o seguinte formato: { '.' + <alias> + '.' + <joinAlias> } para garantir a unicidade da chave.</b>
+   * <b>ATENÇÃO: os mapeamentos de tabelas de N:N que não tem "path" são colocados na hash com uma chave gerada com o seguinte formato: { '.' + <alias> + '.' + <joinAlias> } para garantir a unicidade da chave.</b>
    */
   private final LinkedHashMap<String, DAOMapTable> mapTableByPath = new LinkedHashMap<>();
 
@@ -155,6 +159,19 @@ class DAOMap {
    */
   private final LinkedHashMap<String, DAOMapField> mapFieldByPath = new LinkedHashMap<>();
 
+  /**
+   * Referência para o {@link DAORowMapper} compilado para este mapeamento. É compartilhada entre o template mantido no {@link DAOMapCache} e todas as suas cópias, assim o plano é compilado uma única
+   * vez para cada "formato" de mapeamento.<br>
+   * Fica nula quando o mapeamento não veio do cache ou quando foi alterado depois de copiado. Nesses casos os objetos são montados pelo interpretador do {@link RFWDAO}.
+   */
+  private AtomicReference<DAORowMapper> rowMapperRef = null;
+
+  /**
+   * {@link DAOResolver} do {@link RFWDAO} que criou o mapeamento. Utilizado para obter as instâncias dos conversores ao preparar os valores que serão escritos no banco, da mesma forma que na
+   * leitura. Pode ser nulo.
+   */
+  private DAOResolver resolver = null;
+
   DAOMap() {
   }
 
@@ -162,11 +179,11 @@ class DAOMap {
    * Cria um novo mapeamento entre VO e Tabela do Banco de dados.
    *
    * @param type Classe do objeto / entidade do sistema.
-   * @param path Caminho at esta entidade a partir do objeto raiz. Usar "" para o objeto raiz. Para tabelas de N:N que no tem objeto associado, utilizar o caminho do objeto N:N precedido de um '.', para que no se confunda com o path da tabela do prprio objeto.
+   * @param path Caminho até esta entidade a partir do objeto raiz. Usar "" para o objeto raiz. Para tabelas de N:N que não tem objeto associado, utilizar o caminho do objeto N:N precedido de um '.', para que não se confunda com o path da tabela do próprio objeto.
    * @param schema Schema onde a tabela se encontra.
    * @param table Tabela do Banco de Dados que armazena os dados dessa entidade.
-   * @param column Coluna na tabela desta entidade que  utilizada para realizar o Join.
-   * @param joinAlias Alias da tabela na qual esta far o joinAlias. Null para a tabela raiz.
+   * @param column Coluna na tabela desta entidade que é utilizada para realizar o Join.
+   * @param joinAlias Alias da tabela na qual esta fará o joinAlias. Null para a tabela raiz.
    * @param joinColumn Coluna na outra tabela (informada em 'joinAlias') utilizada para fazer o joinAlias.
    * @return Objeto de mapeamento entre Banco de Dados e Objeto do sistema.
    * @throws RFWException
@@ -179,21 +196,23 @@ class DAOMap {
    * Cria um novo mapeamento entre VO e Tabela do Banco de dados.
    *
    * @param type Classe do objeto / entidade do sistema.
-   * @param path Caminho at esta entidade a partir do objeto raiz. Usar "" para o objeto raiz. Para tabelas de N:N que no tem objeto associado, utilizar o caminho do objeto N:N precedido de um '.', para que no se confunda com o path da tabela do prprio objeto.
+   * @param path Caminho até esta entidade a partir do objeto raiz. Usar "" para o objeto raiz. Para tabelas de N:N que não tem objeto associado, utilizar o caminho do objeto N:N precedido de um '.', para que não se confunda com o path da tabela do próprio objeto.
    * @param schema Schema onde a tabela se encontra.
    * @param table Tabela do Banco de Dados que armazena os dados dessa entidade.
-   * @param column Coluna na tabela desta entidade que  utilizada para realizar o Join.
-   * @param joinAlias Alias da tabela na qual esta far o joinAlias. Null para a tabela raiz.
+   * @param column Coluna na tabela desta entidade que é utilizada para realizar o Join.
+   * @param joinAlias Alias da tabela na qual esta fará o joinAlias. Null para a tabela raiz.
    * @param joinColumn Coluna na outra tabela (informada em 'joinAlias') utilizada para fazer o joinAlias.
-   * @param alias Fora a definio de um Alias personalizado. Utilizado somente para casos de clone.
+   * @param alias Força a definição de um Alias personalizado. Utilizado somente para casos de clone.
    * @return Objeto de mapeamento entre Banco de Dados e Objeto do sistema.
    * @throws RFWException
    */
   private DAOMapTable createMapTable(Class<? extends RFWVO> type, String path, String schema, String table, String column, String joinAlias, String joinColumn, String alias) throws RFWException {
     if (this.mapTableByAlias.containsKey(alias) || this.mapTableByPath.containsKey(path)) {
-      throw new RFWCriticalException("Alias j existente neste DAOMap!");
+      throw new RFWCriticalException("Alias já existente neste DAOMap!");
     }
 
+    this.rowMapperRef = null; // Alterações no mapeamento invalidam o plano compilado compartilhado
+
     DAOMapTable t = new DAOMapTable();
     t.type = type;
     t.alias = alias;
@@ -215,11 +234,11 @@ class DAOMap {
 
   /**
    * Acrescenta o mapeamento de mais uma tabela Replica o mapeamento de uma tabela existente para um caminho (entidade) para outro caminho (outra entidade similar).<br>
-   * Essa replicao  til quando precisamos modificar dinamicamente o DAOMap para iteragir com objetos hierarquicos.
+   * Essa replicação é útil quando precisamos modificar dinamicamente o DAOMap para iteragir com objetos hierarquicos.
    *
-   * @param originalPath Caminho original (j existente) para ser replicado. Normalmente o caminho do primeiro objeto da estrutura hierarquica.
-   * @param destinationPath Caminho final (a ser duplicado) para o mesmo objeto e que utilizar as definies do objeto original, para que o caminho seja replicado.
-   * @param column Coluna na tabela desta entidade que  utilizada para realizar o Join.
+   * @param originalPath Caminho original (já existente) para ser replicado. Normalmente o caminho do primeiro objeto da estrutura hierarquica.
+   * @param destinationPath Caminho final (a ser duplicado) para o mesmo objeto e que utilizará as definições do objeto original, para que o caminho seja replicado.
+   * @param column Coluna na tabela desta entidade que é utilizada para realizar o Join.
    * @param joinColumn Coluna na outra tabela (informada em 'joinAlias') utilizada para fazer o joinAlias.
    * @return Objeto de mapeamento duplicado.
    * @throws RFWException
@@ -229,14 +248,14 @@ class DAOMap {
   }
 
   /**
-   * @param Define o alias base, da primeira tabela sendo replicada, para evitar de entrar em loop eterno replicando as associaes recm criadas
+   * @param Define o alias base, da primeira tabela sendo replicada, para evitar de entrar em loop eterno replicando as associações recém criadas
    */
   private DAOMapTable createMapTableForCompositionTree(String originalPath, String destinationPath, String column, String joinColumn, DAOMapTable parentTable, String baseAlias) throws RFWException {
     DAOMapTable origTable = this.mapTableByPath.get(originalPath);
     if (origTable != null) {
       DAOMapTable newTable = this.mapTableByPath.get(destinationPath);
       if (newTable == null) {
-        // Se ainda no existir a tabela criamos. Se existir utilizamos a existente com seu alias, mas vamos completar. Isso pq o primeiro nvel de objetos hierarquivos j  mapeado, s seus subobjetos que no.
+        // Se ainda não existir a tabela criamos. Se existir utilizamos a existente com seu alias, mas vamos completar. Isso pq o primeiro nível de objetos hierarquivos já é mapeado, só seus subobjetos que não.
         String joinAlias = origTable.alias;
         if (parentTable != null) {
           joinAlias = parentTable.alias;
@@ -247,17 +266,17 @@ class DAOMap {
       // Buscamos todos os atributos associadoa a tabela base, para replicar para este novo mapeamento
       for (DAOMapField mapField : new ArrayList<>(getMapField())) {
         if (mapField.table == origTable) {
-          // Verifica se o campo ainda no existe.
+          // Verifica se o campo ainda não existe.
           if (this.getMapFieldByPath(destinationPath, mapField.field) == null) {
             createMapField(destinationPath, mapField.field, newTable, mapField.column);
           }
         }
       }
 
-      // Busca todas as tabelas que fazem JOIN com a tabela recebida (que so os subobjetos da rvore) e replicamos
+      // Busca todas as tabelas que fazem JOIN com a tabela recebida (que são os subobjetos da árvore) e replicamos
       for (DAOMapTable mTable : new ArrayList<>(getMapTable())) {
-        if (origTable.alias.equals(mTable.joinAlias)) { // S duplica as tabelas com Join direto
-          if (newTable != mTable) { // No deixa entrar em Loop replicando a prpria tabela
+        if (origTable.alias.equals(mTable.joinAlias)) { // Só duplica as tabelas com Join direto
+          if (newTable != mTable) { // Não deixa entrar em Loop replicando a própria tabela
             if (!mTable.alias.equals(baseAlias)) {
               if (baseAlias == null) baseAlias = newTable.alias;
               if (!this.mapTableByPath.containsKey(destinationPath + mTable.path.substring(originalPath.length()))) {
@@ -275,13 +294,15 @@ class DAOMap {
   /**
    * Cria um mapeamnto entre um 'field' de um objeto do sistema e uma coluna da tabela do banco de dados.
    *
-   * @param path Caminho no objeto desde o objeto raiz at o objeto deste atributo. No inclui o atributo deste objeto. Utilizar "" para o objeto raiz.
+   * @param path Caminho no objeto desde o objeto raiz até o objeto deste atributo. Não inclui o atributo deste objeto. Utilizar "" para o objeto raiz.
    * @param field Nome do field no objeto sendo mapeado.
    * @param table Objeto mapeamento da entidade na tabela do sistema.
-   * @param column Coluna do banco de dados onde o campo ser associado.
+   * @param column Coluna do banco de dados onde o campo será associado.
    * @return Objeto criado de mapeamento entre o field e a coluna da tabela.
    */
   public DAOMapField createMapField(String path, String field, DAOMapTable table, String column) {
+    this.rowMapperRef = null; // Alterações no mapeamento invalidam o plano compilado compartilhado
+
     DAOMapField t = new DAOMapField();
     t.path = path;
     t.field = field;
@@ -300,7 +321,7 @@ class DAOMap {
   /**
    * Retorna um mapeamento de tabela a partir do Path definido.
    *
-   * @param path Caminho desde o objeto raiz at este objeto.
+   * @param path Caminho desde o objeto raiz até este objeto.
    * @return Mapeamento da Tabela
    */
   public DAOMapTable getMapTableByPath(String path) {
@@ -310,7 +331,7 @@ class DAOMap {
   /**
    * Retorna um mapeamento de tabela a partir do Alias utilizado na tabela.
    *
-   * @param alias Apelido da tabela no SQL. Criado automaticamente no mtodo {@link #createMapTable(Class, String, String, String, String, String, String)}.
+   * @param alias Apelido da tabela no SQL. Criado automaticamente no método {@link #createMapTable(Class, String, String, String, String, String, String)}.
    * @return Mapeamento da Tabela
    */
   public DAOMapTable getMapTableByAlias(String alias) {
@@ -318,7 +339,7 @@ class DAOMap {
   }
 
   /**
-   * Retorna Coleo com todos os Mapeamentos de Tabelas do DAOMap
+   * Retorna Coleção com todos os Mapeamentos de Tabelas do DAOMap
    */
   public Collection<DAOMapTable> getMapTable() {
     return this.mapTableByPath.values();
@@ -327,7 +348,7 @@ class DAOMap {
   /**
    * Recupera um mapeamento entre field e coluna do banco de dados.
    *
-   * @param path Caminho desde o objeto raiz at o este objeto. No inclui o nome do atributo.
+   * @param path Caminho desde o objeto raiz até o este objeto. Não inclui o nome do atributo.
    * @param fieldName field/atributo do objeto.
    * @return Objeto de Mapeamento entre field e coluna do banco de dados
    */
@@ -340,7 +361,7 @@ class DAOMap {
   /**
    * Recupera um mapeamento entre field e coluna do banco de dados pelo caminho/nome completo.
    *
-   * @param fullPath Caminho desde o objeto raiz at o este objeto. INCLUI o nome do atributo.
+   * @param fullPath Caminho desde o objeto raiz até o este objeto. INCLUI o nome do atributo.
    * @return Objeto de Mapeamento entre field e coluna do banco de dados
    */
   public DAOMapField getMapFieldByPath(String fullPath) {
@@ -348,7 +369,7 @@ class DAOMap {
   }
 
   /**
-   * Coleo de objetos de mapeamento entre field dos VOs e colunas das tabelas.
+   * Coleção de objetos de mapeamento entre field dos VOs e colunas das tabelas.
    */
   public Collection<DAOMapField> getMapField() {
     return this.mapFieldByPath.values();
@@ -356,16 +377,16 @@ class DAOMap {
 
   /**
    * Cria o Statement SQL para consulta baseado em no Map recebido.<br>
-   * Mesmo que o mtodo {@link #createMapTable(Class, String, String, String, String, String, String)} com o attributo selectFields nulo.
+   * Mesmo que o método {@link #createMapTable(Class, String, String, String, String, String, String)} com o attributo selectFields nulo.
    *
-   * @param conn Conexo com o banco para criao do PreparedStatement.
+   * @param conn Conexão com o banco para criação do PreparedStatement.
    * @param map Mapeamento do VO com as tabelas do banco.
-   * @param mo Objeto com as confies da Clausula WHERE a ser utilizada.
-   * @param orderBy Objeto com as informaes de ordenao. Passar Null para no defir nenhum OrderBy.
-   * @param useFullJoin Caso TRUE, o SELECTED ser montado com FULL JOIN ao invs do LEFT JOIN
+   * @param mo Objeto com as confições da Clausula WHERE a ser utilizada.
+   * @param orderBy Objeto com as informações de ordenação. Passar Null para não defir nenhum OrderBy.
+   * @param useFullJoin Caso TRUE, o SELECTED será montado com FULL JOIN ao invés do LEFT JOIN
    * @param dialect
    * @return PreparedStatemetn pronto para realizar a consulta e obter o ResultSet.
-   * @throws RFWException Lanado em caso de Erro.
+   * @throws RFWException Lançado em caso de Erro.
    */
   public static PreparedStatement createSelectStatement(Connection conn, DAOMap map, RFWMO mo, RFWOrderBy orderBy, Boolean useFullJoin, SQLDialect dialect) throws RFWException {
     return createSelectStatement(conn, map, null, null, false, mo, orderBy, null, null, null, useFullJoin, dialect);
@@ -374,18 +395,18 @@ class DAOMap {
   /**
    * Cria o Statement SQL para consulta baseado em no Map recebido.
    *
-   * @param conn Conexo com o banco para criao do PreparedStatement.
+   * @param conn Conexão com o banco para criação do PreparedStatement.
    * @param map Mapeamento do VO com as tabelas do banco.
-   * @param selectFields Campos que devem ser obtidos das tabelas. Se passo nulo, ser obtido todos os campos que esto no objeto de mapeamento.
-   * @param expandTable Este atributo s  utilizando quando o selectFields no  nulo. Caso TRUE obtem todos os campos de uma tabela mesmo que s uma coluna esteja definida no selectFields. Caso FALSE recupera estritamente os campos passados em selectFields.
-   * @param mo Objeto com as confies da Clausula WHERE a ser utilizada.
+   * @param selectFields Campos que devem ser obtidos das tabelas. Se passo nulo, será obtido todos os campos que estão no objeto de mapeamento.
+   * @param expandTable Este atributo só é utilizando quando o selectFields não é nulo. Caso TRUE obtem todos os campos de uma tabela mesmo que só uma coluna esteja definida no selectFields. Caso FALSE recupera estritamente os campos passados em selectFields.
+   * @param mo Objeto com as confições da Clausula WHERE a ser utilizada.
    * @param orderBy Objeto que define a ordem da lista.
-   * @param offSet Define quantos registros a partir do comeo devemos pular (no retornar), por exemplo, um offSet de 0, retorna desde o primeiro (index 0).
-   * @param limit Define quantos registros devemos retornar da lista. Define a quantidade e no o index como o "offSet". Se ambos forem combinados, ex: offset = 5 e limit = 10, retorna os registros desde o index 5 at o idnex 15, ou seja da 6 linha at a 15.
-   * @param useFullJoin Caso TRUE, o SELECTED ser montado com FULL JOIN ao invs do LEFT JOIN
+   * @param offSet Define quantos registros a partir do começo devemos pular (não retornar), por exemplo, um offSet de 0, retorna desde o primeiro (index 0).
+   * @param limit Define quantos registros devemos retornar da lista. Define a quantidade e não o index como o "offSet". Se ambos forem combinados, ex: offset = 5 e limit = 10, retorna os registros desde o index 5 até o idnex 15, ou seja da 6ª linha até a 15ª.
+   * @param useFullJoin Caso TRUE, o SELECTED será montado com FULL JOIN ao invés do LEFT JOIN
    * @param dialect
    * @return PreparedStatemetn pronto para realizar a consulta e obter o ResultSet.
-   * @throws RFWException Lanado em caso de Erro.
+   * @throws RFWException Lançado em caso de Erro.
    */
   public static PreparedStatement createSelectStatement(Connection conn, DAOMap map, String[] selectFields, boolean expandTable, RFWMO mo, RFWOrderBy orderBy, Integer offSet, Integer limit, Boolean useFullJoin, SQLDialect dialect) throws RFWException {
     return createSelectStatement(conn, map, null, selectFields, expandTable, mo, orderBy, null, offSet, limit, useFullJoin, dialect);
@@ -394,17 +415,17 @@ class DAOMap {
   /**
    * Cria o Statement SQL para consulta baseado em no Map recebido.
    *
-   * @param conn Conexo com o banco para criao do PreparedStatement.
+   * @param conn Conexão com o banco para criação do PreparedStatement.
    * @param map Mapeamento do VO com as tabelas do banco.
-   * @param fields Campos com funes para serem recuperados.
-   * @param mo Objeto com as confies da Clausula WHERE a ser utilizada.
+   * @param fields Campos com funções para serem recuperados.
+   * @param mo Objeto com as confições da Clausula WHERE a ser utilizada.
    * @param orderBy Objeto que define a ordem da lista.
-   * @param offSet Define quantos registros a partir do comeo devemos pular (no retornar), por exemplo, um offSet de 0, retorna desde o primeiro (index 0).
-   * @param limit Define quantos registros devemos retornar da lista. Define a quantidade e no o index como o "offSet". Se ambos forem combinados, ex: offset = 5 e limit = 10, retorna os registros desde o index 5 at o idnex 15, ou seja da 6 linha at a 15.
-   * @param useFullJoin Caso TRUE, o SELECTED ser montado com FULL JOIN ao invs do LEFT JOIN
+   * @param offSet Define quantos registros a partir do começo devemos pular (não retornar), por exemplo, um offSet de 0, retorna desde o primeiro (index 0).
+   * @param limit Define quantos registros devemos retornar da lista. Define a quantidade e não o index como o "offSet". Se ambos forem combinados, ex: offset = 5 e limit = 10, retorna os registros desde o index 5 até o idnex 15, ou seja da 6ª linha até a 15ª.
+   * @param useFullJoin Caso TRUE, o SELECTED será montado com FULL JOIN ao invés do LEFT JOIN
    * @param dialect
    * @return PreparedStatemetn pronto para realizar a consulta e obter o ResultSet.
-   * @throws RFWException Lanado em caso de Erro.
+   * @throws RFWException Lançado em caso de Erro.
    */
   public static PreparedStatement createSelectStatement(Connection conn, DAOMap map, RFWField[] fields, RFWMO mo, RFWOrderBy orderBy, RFWField[] groupBy, Integer offSet, Integer limit, Boolean useFullJoin, SQLDialect dialect) throws RFWException {
     return createSelectStatement(conn, map, fields, null, false, mo, orderBy, groupBy, offSet, limit, useFullJoin, dialect);
@@ -413,111 +434,338 @@ class DAOMap {
   /**
    * Cria o Statement SQL para consulta baseado em no Map recebido.
    *
-   * @param conn Conexo com o banco para criao do PreparedStatement.
+   * @param conn Conexão com o banco para criação do PreparedStatement.
    * @param map Mapeamento do VO com as tabelas do banco.
-   * @param fields Campos com funes para serem recuperados. Note que ao informar esse parmetro sero ignorados os parmetros: selectFields e expandTable
-   * @param selectFields Campos que devem ser obtidos das tabelas. Se passo nulo, ser obtido todos os campos que esto no objeto de mapeamento.
-   * @param expandTable Este atributo s  utilizando quando o selectFields no  nulo. Caso TRUE obtem todos os campos de uma tabela mesmo que s uma coluna esteja definida no selectFields. Caso FALSE recupera estritamente os campos passados em selectFields.
-   * @param mo Objeto com as confies da Clausula WHERE a ser utilizada.
+   * @param fields Campos com funções para serem recuperados. Note que ao informar esse parâmetro serão ignorados os parâmetros: selectFields e expandTable
+   * @param selectFields Campos que devem ser obtidos das tabelas. Se passo nulo, será obtido todos os campos que estão no objeto de mapeamento.
+   * @param expandTable Este atributo só é utilizando quando o selectFields não é nulo. Caso TRUE obtem todos os campos de uma tabela mesmo que só uma coluna esteja definida no selectFields. Caso FALSE recupera estritamente os campos passados em selectFields.
+   * @param mo Objeto com as confições da Clausula WHERE a ser utilizada.
    * @param orderBy Objeto que define a ordem da lista.
-   * @param groupBy Campos com funes ou fields/colunas a serem utilizadas no groupBy da consulta.
-   * @param offSet Define quantos registros a partir do comeo devemos pular (no retornar), por exemplo, um offSet de 0, retorna desde o primeiro (index 0).
-   * @param limit Define quantos registros devemos retornar da lista. Define a quantidade e no o index como o "offSet". Se ambos forem combinados, ex: offset = 5 e limit = 10, retorna os registros desde o index 5 at o idnex 15, ou seja da 6 linha at a 15.
-   * @param useFullJoin Caso TRUE, o SELECTED ser montado com FULL JOIN ao invs do LEFT JOIN
+   * @param groupBy Campos com funções ou fields/colunas a serem utilizadas no groupBy da consulta.
+   * @param offSet Define quantos registros a partir do começo devemos pular (não retornar), por exemplo, um offSet de 0, retorna desde o primeiro (index 0).
+   * @param limit Define quantos registros devemos retornar da lista. Define a quantidade e não o index como o "offSet". Se ambos forem combinados, ex: offset = 5 e limit = 10, retorna os registros desde o index 5 até o idnex 15, ou seja da 6ª linha até a 15ª.
+   * @param useFullJoin Caso TRUE, o SELECTED será montado com FULL JOIN ao invés do LEFT JOIN
    * @return PreparedStatemetn pronto para realizar a consulta e obter o ResultSet.
-   * @throws RFWException Lanado em caso de Erro.
+   * @throws RFWException Lançado em caso de Erro.
    */
   private static PreparedStatement createSelectStatement(Connection conn, DAOMap map, RFWField[] fields, String[] selectFields, boolean expandTable, RFWMO mo, RFWOrderBy orderBy, RFWField[] groupBy, Integer offSet, Integer limit, Boolean useFullJoin, SQLDialect dialect) throws RFWException {
     final StringBuffer sql = new StringBuffer();
+    final LinkedList<Object> statementParameters = new LinkedList<>();
+    try {
+      writeSelect(sql, statementParameters, map, fields, selectFields, expandTable, mo, null, orderBy, false, null, groupBy, offSet, limit, useFullJoin, dialect);
+      return prepareSelectStatement(conn, map, sql, statementParameters);
+    } catch (Throwable e) {
+      throw new RFWCriticalException("RFW_ERR_000010", new String[] { sql.toString() }, e);
+    }
+  }
+
+  /**
+   * Cria o Statement SQL para consulta de uma página de objetos em uma única ida ao banco de dados.<br>
+   * A página de IDs do objeto raiz (filtrada pelo MO, ordenada e limitada pelo offSet/limit) é escrita como uma tabela derivada dentro de um "IN (SELECT ...)", e o SELECT externo faz o JOIN de todo o
+   * grafo apenas para esses IDs. A tabela derivada é necessária pois o MySQL não aceita o LIMIT diretamente em uma subquery do IN.<br>
+   * Equivale a consultar os IDs com {@link #createSelectStatement(Connection, DAOMap, String[], boolean, RFWMO, RFWOrderBy, Integer, Integer, Boolean, SQLDialect)} e em seguida consultar os objetos com
+   * um MO de "IN" desses IDs, sem que os IDs precisem trafegar até a aplicação e voltar como parâmetros.<br>
+   * A página de IDs é selecionada com o idMap, que deve ter apenas as tabelas do MO e do orderBy (veja {@link #writeSelectPageIDs(StringBuffer, LinkedList, DAOMap, RFWMO, RFWOrderBy, boolean, Object[], Integer, Integer, SQLDialect)}).
+   *
+   * @param conn Conexão com o banco para criação do PreparedStatement.
+   * @param map Mapeamento do VO com as tabelas do banco.
+   * @param idMap Mapeamento do VO contendo apenas os atributos do MO e do orderBy, utilizado na seleção dos IDs da página.
+   * @param selectFields Campos que devem ser obtidos das tabelas. Se passo nulo, será obtido apenas a tabela raiz.
+   * @param mo Objeto com as confições da Clausula WHERE a ser utilizada na seleção dos IDs.
+   * @param orderBy Objeto que define a ordem da lista. Aplicado tanto na seleção dos IDs quanto no resultado final.
+   * @param offSet Define quantos registros a partir do começo devemos pular (não retornar), por exemplo, um offSet de 0, retorna desde o primeiro (index 0).
+   * @param limit Define quantos registros devemos retornar da lista. Define a quantidade e não o index como o "offSet". Se ambos forem combinados, ex: offset = 5 e limit = 10, retorna os registros desde o index 5 até o idnex 15, ou seja da 6ª linha até a 15ª.
+   * @param dialect Dialeto do banco de dados.
+   * @return PreparedStatemetn pronto para realizar a consulta e obter o ResultSet.
+   * @throws RFWException Lançado em caso de Erro.
+   */
+  public static PreparedStatement createSelectPageStatement(Connection conn, DAOMap map, DAOMap idMap, String[] selectFields, RFWMO mo, RFWOrderBy orderBy, Integer offSet, Integer limit, SQLDialect dialect) throws RFWException {
+    return createSelectPageStatement(conn, map, idMap, selectFields, mo, orderBy, offSet, limit, false, dialect);
+  }
 
+  /**
+   * Cria o Statement SQL para consulta de uma página de objetos em uma única ida ao banco de dados.<br>
+   * Veja {@link #createSelectPageStatement(Connection, DAOMap, DAOMap, String[], RFWMO, RFWOrderBy, Integer, Integer, SQLDialect)}.
+   *
+   * @param orderByRoot Caso TRUE, garante que as linhas de um mesmo objeto raiz sejam retornadas em sequência: quando não há orderBy o resultado é ordenado pelo "t0.id". Quando há orderBy o "t0.id" já é
+   *          adicionado como critério de desempate. Necessário para a montagem incremental dos objetos.
+   */
+  public static PreparedStatement createSelectPageStatement(Connection conn, DAOMap map, DAOMap idMap, String[] selectFields, RFWMO mo, RFWOrderBy orderBy, Integer offSet, Integer limit, boolean orderByRoot, SQLDialect dialect) throws RFWException {
+    final StringBuffer sql = new StringBuffer();
+    final StringBuffer pageSQL = new StringBuffer();
+    final LinkedList<Object> statementParameters = new LinkedList<>();
     try {
-      // Se tiver a definio dos RFWFields vamos utilizar ela para realizar a montagem do SELECT, e o selectFields  ignorado. Caso contrrio a consulta  feita em cima do selectFields
-      if (fields != null) {
-        for (RFWField field : fields) {
-          if (sql.length() > 0) {
-            sql.append(",");
-          } else {
-            sql.append("SELECT ");
-          }
-          sql.append(evalRFWField(map, field, dialect));
+      // O SELECT e o FROM externos não tem parâmetros, por isso os parâmetros da página de IDs podem ser colocados primeiro na lista: eles aparecerão antes de qualquer outro no SQL final.
+      writeSelectPageIDs(pageSQL, statementParameters, idMap, mo, orderBy, false, null, offSet, limit, dialect);
+      writeSelect(sql, statementParameters, map, null, selectFields, true, null, pageSQL, orderBy, orderByRoot, null, null, null, null, null, dialect);
+      return prepareSelectStatement(conn, map, sql, statementParameters);
+    } catch (Throwable e) {
+      throw new RFWCriticalException("RFW_ERR_000010", new String[] { sql.length() > 0 ? sql.toString() : pageSQL.toString() }, e);
+    }
+  }
+
+  /**
+   * Cria o Statement SQL para consulta de uma página de objetos por continuação (keyset/seek), em uma única ida ao banco de dados.<br>
+   * Ao invés de pular os registros com o offSet, que obriga o banco a ler e descartar todas as linhas anteriores, a página começa logo após o último registro da página anterior, através de um critério
+   * montado com as colunas do orderBy e o "t0.id" (o mesmo critério de desempate já incluído na ordenação). Assim o custo de cada página independe da sua profundidade.
+   *
+   * A seleção dos IDs da página utiliza um mapeamento próprio, apenas com as tabelas do MO e do orderBy (veja
+   * {@link #writeSelectPageIDs(StringBuffer, LinkedList, DAOMap, RFWMO, RFWOrderBy, boolean, Object[], Integer, Integer, SQLDialect)}).
+   *
+   * @param conn Conexão com o banco para criação do PreparedStatement.
+   * @param map Mapeamento do VO com as tabelas do banco.
+   * @param idMap Mapeamento do VO contendo apenas os atributos do MO e do orderBy, utilizado na seleção dos IDs da página.
+   * @param selectFields Campos que devem ser obtidos das tabelas. Se passo nulo, será obtido apenas a tabela raiz.
+   * @param mo Objeto com as confições da Clausula WHERE a ser utilizada na seleção dos IDs.
+   * @param orderBy Objeto que define a ordem da lista. Só aceita campos simples (sem funções). Se nulo a ordem é apenas pelo "t0.id".
+   * @param seekValues Valores do último registro da página anterior, na ordem das colunas do orderBy seguidos do ID. Nulo para a primeira página.
+   * @param size Quantidade de objetos da página.
+   * @param dialect Dialeto do banco de dados.
+   * @return PreparedStatemetn pronto para realizar a consulta e obter o ResultSet.
+   * @throws RFWException Lançado em caso de Erro.
+   */
+  public static PreparedStatement createSelectSeekStatement(Connection conn, DAOMap map, DAOMap idMap, String[] selectFields, RFWMO mo, RFWOrderBy orderBy, Object[] seekValues, int size, SQLDialect dialect) throws RFWException {
+    final StringBuffer sql = new StringBuffer();
+    final StringBuffer pageSQL = new StringBuffer();
+    final LinkedList<Object> statementParameters = new LinkedList<>();
+    try {
+      writeSelectPageIDs(pageSQL, statementParameters, idMap, mo, orderBy, true, seekValues, null, size, dialect);
+      writeSelect(sql, statementParameters, map, null, selectFields, true, null, pageSQL, orderBy, true, null, null, null, null, null, dialect);
+      return prepareSelectStatement(conn, map, sql, statementParameters);
+    } catch (Throwable e) {
+      throw new RFWCriticalException("RFW_ERR_000010", new String[] { sql.length() > 0 ? sql.toString() : pageSQL.toString() }, e);
+    }
+  }
+
+  /**
+   * Escreve o SQL que seleciona os IDs do objeto raiz de uma página, utilizado como tabela derivada pelo
+   * {@link #createSelectPageStatement(Connection, DAOMap, DAOMap, String[], RFWMO, RFWOrderBy, Integer, Integer, boolean, SQLDialect)} e pelo
+   * {@link #createSelectSeekStatement(Connection, DAOMap, DAOMap, String[], RFWMO, RFWOrderBy, Object[], int, SQLDialect)}.<br>
+   * O idMap deve ter apenas as tabelas do MO e do orderBy. Se a seleção utilizasse o mapeamento completo, os LEFT JOINs das listas solicitadas repetiriam o objeto raiz em várias linhas e o
+   * LIMIT/offSet contariam as linhas e não os objetos. Caso o próprio idMap passe por um relacionamento "para muitos", os IDs são selecionados com DISTINCT, junto com as colunas do orderBy (o banco
+   * exige que as colunas do ORDER BY estejam no SELECT de um DISTINCT). Veja {@link #isPageIDSelectSupported(DAOMap, RFWOrderBy)}.
+   *
+   * @param pageSQL Buffer onde o SQL será escrito.
+   * @param statementParameters Lista onde os parâmetros serão adicionados, na ordem em que aparecem no SQL.
+   * @param idMap Mapeamento do VO contendo apenas os atributos do MO e do orderBy.
+   * @param mo Objeto com as confições da Clausula WHERE.
+   * @param orderBy Objeto que define a ordem dos IDs.
+   * @param orderByRoot Caso TRUE e não exista orderBy, ordena pelo "t0.id".
+   * @param seekValues Valores do último registro da página anterior, para a paginação por continuação. Nulo quando não utilizada.
+   * @param offSet Quantidade de objetos a pular.
+   * @param limit Quantidade de objetos da página.
+   * @param dialect Dialeto do banco de dados.
+   * @throws RFWException Lançado em caso de Erro.
+   */
+  private static void writeSelectPageIDs(StringBuffer pageSQL, LinkedList<Object> statementParameters, DAOMap idMap, RFWMO mo, RFWOrderBy orderBy, boolean orderByRoot, Object[] seekValues, Integer offSet, Integer limit, SQLDialect dialect) throws RFWException {
+    if (idMap.getToManyBranches().isEmpty()) {
+      writeSelect(pageSQL, statementParameters, idMap, null, new String[] { "id" }, false, mo, null, orderBy, orderByRoot, seekValues, null, offSet, limit, null, dialect);
+    } else {
+      if (!isPageIDSelectSupported(idMap, orderBy)) throw new RFWCriticalException("A seleção da página de IDs com DISTINCT não aceita ordenação por funções.");
+      final String[] idFields = orderBy == null ? new String[] { "id" } : orderBy.getAttributes().toArray(new String[0]);
+      writeSelect(pageSQL, statementParameters, idMap, null, idFields, false, mo, null, orderBy, orderByRoot, seekValues, null, offSet, limit, null, dialect);
+      pageSQL.insert("SELECT ".length(), "DISTINCT ");
+    }
+  }
+
+  /**
+   * Verifica se a página de IDs pode ser selecionada em uma tabela derivada. Quando o idMap passa por um relacionamento "para muitos" os IDs são selecionados com DISTINCT, o que só é possível se o
+   * orderBy tiver apenas atributos simples (sem funções), que podem ser colocados no SELECT.
+   *
+   * @param idMap Mapeamento do VO contendo apenas os atributos do MO e do orderBy.
+   * @param orderBy Objeto que define a ordem dos IDs.
+   * @return true caso a página de IDs possa ser selecionada.
+   * @throws RFWException Lançado em caso de Erro.
+   */
+  static boolean isPageIDSelectSupported(DAOMap idMap, RFWOrderBy orderBy) throws RFWException {
+    if (orderBy == null || idMap.getToManyBranches().isEmpty()) return true;
+    for (RFWOrderbyItem orderItem : orderBy.getOrderbylist()) {
+      if (orderItem.getField().getFunction() != FunctionType.FIELD) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Escreve o critério que seleciona os registros posteriores ao último registro da página anterior.<br>
+   * Para as colunas c1..cN do orderBy e o ID, com os valores v1..vN e vID, o critério é: (c1 após v1) OR (c1 = v1 AND c2 após v2) OR ... OR (c1 = v1 AND ... AND cN = vN AND t0.id > vID).<br>
+   * O "após" depende da direção da coluna e de onde o banco posiciona os valores nulos (veja {@link SQLDialect#getNullsSortLow()}).
+   *
+   * @param map Mapeamento do VO com as tabelas do banco.
+   * @param orderBy Ordenação da consulta. Pode ser nulo, neste caso apenas o ID é utilizado.
+   * @param seekValues Valores do último registro da página anterior, na ordem das colunas do orderBy seguidos do ID.
+   * @param statementParameters Lista onde os parâmetros serão adicionados, na ordem em que aparecem no SQL.
+   * @param dialect Dialeto do banco de dados.
+   * @return Critério escrito.
+   * @throws RFWException Lançado caso o orderBy tenha funções ou caso a quantidade de valores não corresponda à ordenação.
+   */
+  private static StringBuilder writeSeek(DAOMap map, RFWOrderBy orderBy, Object[] seekValues, LinkedList<Object> statementParameters, SQLDialect dialect) throws RFWException {
+    final ArrayList<String> columns = new ArrayList<>();
+    final ArrayList<Boolean> ascs = new ArrayList<>();
+    if (orderBy != null) {
+      for (RFWOrderbyItem orderItem : orderBy.getOrderbylist()) {
+        if (orderItem.getField().getFunction() != FunctionType.FIELD) throw new RFWCriticalException("A paginação por continuação só aceita ordenação por atributos simples, sem funções.");
+        columns.add(evalFieldToColumn(map, orderItem.getField().getField(), dialect));
+        ascs.add(orderItem.isAsc());
+      }
+    }
+    columns.add(dialect.getQM() + "t0" + dialect.getQM() + "." + dialect.getQM() + "id" + dialect.getQM());
+    ascs.add(Boolean.TRUE);
+    if (seekValues.length != columns.size()) throw new RFWCriticalException("O PageToken informado não corresponde à ordenação da consulta.");
+
+    final StringBuilder buff = new StringBuilder();
+    for (int k = 0; k < columns.size(); k++) {
+      final Object value = seekValues[k];
+      // Com o valor nulo na última posição, só existem registros "após" se os nulos vierem antes dos demais valores na ordem utilizada
+      final boolean nullsFirst = ascs.get(k) == dialect.getNullsSortLow();
+      if (value == null && !nullsFirst) continue;
+
+      if (buff.length() > 0) buff.append(" OR ");
+      buff.append("(");
+      for (int j = 0; j < k; j++) {
+        if (seekValues[j] == null) {
+          buff.append(columns.get(j)).append(" IS NULL AND ");
+        } else {
+          buff.append(columns.get(j)).append(" = ? AND ");
+          statementParameters.add(seekValues[j]);
         }
+      }
+      if (value == null) {
+        buff.append(columns.get(k)).append(" IS NOT NULL");
       } else {
-        // ==> SELECT
-        {
-          // Se recebemos os campos especficos para buscar, recuperamos apenas eles, caso contrrio vamos recuperar todas as tabelas mapeadas.
-          if (selectFields == null) {
-            // Se no temos nenhum field, no adicionamos nada alm da tabela raiz completa
+        buff.append(columns.get(k)).append(ascs.get(k) ? " > ?" : " < ?");
+        statementParameters.add(value);
+        if (!nullsFirst) buff.append(" OR ").append(columns.get(k)).append(" IS NULL");
+      }
+      buff.append(")");
+    }
+    // Nenhum registro pode vir depois do último (só acontece se o próprio ID for nulo)
+    if (buff.length() == 0) buff.append("1 = 0");
+    return buff;
+  }
+
+  /**
+   * Cria o PreparedStatement de consulta a partir do SQL já montado.
+   *
+   * @param conn Conexão com o banco para criação do PreparedStatement.
+   * @param map Mapeamento do VO com as tabelas do banco.
+   * @param sql SQL da consulta.
+   * @param statementParameters Parâmetros a serem definidos no Statement, na ordem em que aparecem no SQL.
+   * @return PreparedStatemetn pronto para realizar a consulta e obter o ResultSet.
+   * @throws Throwable Lançado em caso de falha ao criar o Statement ou definir os parâmetros.
+   */
+  private static PreparedStatement prepareSelectStatement(Connection conn, DAOMap map, StringBuffer sql, LinkedList<Object> statementParameters) throws Throwable {
+    final String s = sql.toString();
+    // ATENÇÃO: NÃO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log não dá certo!!!!
+    if (RFW.isDevelopmentEnvironment()) System.out.println(s);
+    PreparedStatement stmt = conn.prepareStatement(s, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+    if (map.getMapTable().size() > 15) {
+      // Se tivermos mais de 15 tabelas conectadas, ativamos o fetch de linha a linha para não termos problema de memória. Não deixamos direto pq o linha a linha é pior em questões de performance.
+      RFW.pDev("Limite de Fetch do MySQL (Linha à Linha) habilitado!");
+      stmt.setFetchSize(Integer.MIN_VALUE);
+    }
+    writeStatementParameters(stmt, statementParameters);
+    return stmt;
+  }
+
+  /**
+   * Escreve o SQL de consulta baseado em no Map recebido.<br>
+   * Veja a documentação dos parâmetros em {@link #createSelectStatement(Connection, DAOMap, RFWField[], String[], boolean, RFWMO, RFWOrderBy, RFWField[], Integer, Integer, Boolean, SQLDialect)}.
+   *
+   * @param sql Buffer onde o SQL será escrito.
+   * @param statementParameters Lista onde os parâmetros do WHERE serão adicionados, na ordem em que aparecem no SQL.
+   * @param pageSQL SQL que retorna a página de IDs do objeto raiz. Quando informado, substitui o MO e a clausula WHERE passa a ser "t0.id IN (SELECT page.id FROM (pageSQL) AS page)".
+   * @param orderByRoot Caso TRUE e não exista orderBy, ordena pelo "t0.id" para que as linhas de um mesmo objeto raiz sejam retornadas em sequência.
+   * @param seekValues Valores do último registro da página anterior, na ordem das colunas do orderBy seguidos do ID. Quando informado, acrescenta ao WHERE o critério para retornar apenas os registros
+   *          posteriores a ele (paginação por continuação). Ignorado quando o pageSQL é informado.
+   * @throws RFWException Lançado em caso de Erro.
+   */
+  private static void writeSelect(StringBuffer sql, LinkedList<Object> statementParameters, DAOMap map, RFWField[] fields, String[] selectFields, boolean expandTable, RFWMO mo, StringBuffer pageSQL, RFWOrderBy orderBy, boolean orderByRoot, Object[] seekValues, RFWField[] groupBy, Integer offSet, Integer limit, Boolean useFullJoin, SQLDialect dialect) throws RFWException {
+    // Se tiver a definição dos RFWFields vamos utilizar ela para realizar a montagem do SELECT, e o selectFields é ignorado. Caso contrário a consulta é feita em cima do selectFields
+    if (fields != null) {
+      for (RFWField field : fields) {
+        if (sql.length() > 0) {
+          sql.append(",");
+        } else {
+          sql.append("SELECT ");
+        }
+        sql.append(evalRFWField(map, field, dialect));
+      }
+    } else {
+      // ==> SELECT
+      {
+        // Se recebemos os campos específicos para buscar, recuperamos apenas eles, caso contrário vamos recuperar todas as tabelas mapeadas.
+        if (selectFields == null) {
+          // Se não temos nenhum field, não adicionamos nada além da tabela raiz completa
+          sql.append("SELECT ").append(dialect.getQM()).append("t0").append(dialect.getQM()).append(".*");
+        } else {
+          // CACHE para armazena as tabelas que já adicionamos para evitar de repeti-las no select. Chave é o Alias da tabela.
+          // ATENÇÃO: Quando o expandTable é false, no cache é colocado o fieldPath Completo da tabela, evitando assim que as colunas sejam solicitadas repetidas
+          HashMap<String, DAOMapTable> cache = new HashMap<>();
+
+          // A tabela raiz sempre é utilizada, seja para pegar o ID do objeto, seja para pegar a tabela toda no caso de expandTable = true
+          if (expandTable) {
+            // Se vamos expandir a tabela, já colocamos ela no select e adicionamos no cache para que não se repita
             sql.append("SELECT ").append(dialect.getQM()).append("t0").append(dialect.getQM()).append(".*");
+            cache.put("t0", map.getMapTableByPath(""));
           } else {
-            // CACHE para armazena as tabelas que j adicionamos para evitar de repeti-las no select. Chave  o Alias da tabela.
-            // ATENO: Quando o expandTable  false, no cache  colocado o fieldPath Completo da tabela, evitando assim que as colunas sejam solicitadas repetidas
-            HashMap<String, DAOMapTable> cache = new HashMap<>();
-
-            // A tabela raiz sempre  utilizada, seja para pegar o ID do objeto, seja para pegar a tabela toda no caso de expandTable = true
-            if (expandTable) {
-              // Se vamos expandir a tabela, j colocamos ela no select e adicionamos no cache para que no se repita
-              sql.append("SELECT ").append(dialect.getQM()).append("t0").append(dialect.getQM()).append(".*");
-              cache.put("t0", map.getMapTableByPath(""));
-            } else {
-              // Se NO vamos expandir a tabela, s colocamos o campo id inicialmente
-              sql.append("SELECT ").append(dialect.getQM()).append("t0").append(dialect.getQM()).append(".").append(dialect.getQM()).append("id").append(dialect.getQM());
-              cache.put("t0.id", map.getMapTableByPath(""));
-            }
+            // Se NÃO vamos expandir a tabela, só colocamos o campo id inicialmente
+            sql.append("SELECT ").append(dialect.getQM()).append("t0").append(dialect.getQM()).append(".").append(dialect.getQM()).append("id").append(dialect.getQM());
+            cache.put("t0.id", map.getMapTableByPath(""));
+          }
 
-            for (String field : selectFields) {
-              // Se o field solicitado for "id", ignoramos pois j incluimos ele seja com expandTable = true ou false.
-              if ("id".equals(field)) continue;
+          for (String field : selectFields) {
+            // Se o field solicitado for "id", ignoramos pois já incluimos ele seja com expandTable = true ou false.
+            if ("id".equals(field)) continue;
 
-              // Se o atributo sendo requisitado comea com "@"  um atributo anotado com RFWMetaCollection, precisa ser tratado diferente
-              boolean collection = false;
-              if (field.endsWith("@")) {
-                // Se for uma RFWMetaCollection, deixamos a flag para indicar
-                collection = true;
-              }
+            // Se o atributo sendo requisitado começa com "@" é um atributo anotado com RFWMetaCollection, precisa ser tratado diferente
+            boolean collection = false;
+            if (field.endsWith("@")) {
+              // Se for uma RFWMetaCollection, deixamos a flag para indicar
+              collection = true;
+            }
 
-              // Como temos de pegar todos os objetos entre o objeto raiz e os campos selecionados, vamos quebrar cada campo solicitado para garantir que vamos pedir no SELECT os campos intermedirios
-              String[] parts = field.split("\\.");
-              StringBuilder pathBuilder = new StringBuilder();
-              for (int i = 0; i < parts.length; i++) {
-                if (i < parts.length - 1) {
-                  if (pathBuilder.length() > 0) pathBuilder.append(".");
-                  pathBuilder.append(parts[i]);
-                }
+            // Como temos de pegar todos os objetos entre o objeto raiz e os campos selecionados, vamos quebrar cada campo solicitado para garantir que vamos pedir no SELECT os campos intermediários
+            String[] parts = field.split("\\.");
+            StringBuilder pathBuilder = new StringBuilder();
+            for (int i = 0; i < parts.length; i++) {
+              if (i < parts.length - 1) {
+                if (pathBuilder.length() > 0) pathBuilder.append(".");
+                pathBuilder.append(parts[i]);
+              }
 
-                // Cria o nome completo do atributo. Mas se ainda no estiver no ltimo parametro (ltimo parts) colocamos o final .id ou no a tabela no ser encontrada
-                String fieldName = pathBuilder.toString();
-                if (fieldName.length() > 0) fieldName += ".";
-                if (collection || i >= parts.length - 1) {
-                  fieldName += parts[parts.length - 1];
-                } else {
-                  fieldName += "id";
-                }
+              // Cria o nome completo do atributo. Mas se ainda não estiver no último parametro (último parts) colocamos o final .id ou não a tabela não será encontrada
+              String fieldName = pathBuilder.toString();
+              if (fieldName.length() > 0) fieldName += ".";
+              if (collection || i >= parts.length - 1) {
+                fieldName += parts[parts.length - 1];
+              } else {
+                fieldName += "id";
+              }
 
-                // Se for collection, a partir do caminho
-                DAOMapField mField = map.mapFieldByPath.get(fieldName);
+              // Se for collection, a partir do caminho
+              DAOMapField mField = map.mapFieldByPath.get(fieldName);
+              if (mField == null) {
+                // Se não encontramos procuramos se o atributo não é um collection, mas solicitado pelo usuário (Path criado pelo MetaVO_)
+                mField = map.mapFieldByPath.get(fieldName + "@");
                 if (mField == null) {
-                  // Se no encontramos procuramos se o atributo no  um collection, mas solicitado pelo usurio (Path criado pelo MetaVO_)
-                  mField = map.mapFieldByPath.get(fieldName + "@");
-                  if (mField == null) {
-                    // Um dos casos do mField ser nulo  pq o atributo solicitado no find no  um atributo "final" de um objeto, mas sim um atributo que aponta para outro objeto de relacionamento.
-                    // No Find devemos sempre buscar os atributos diretos dos objetos, caso contrrio eles no sero mapeados.
-                    throw new RFWCriticalException("O atributo '${0}' no foi maepado no DAO! Ao realizar consultas, sempre utilize o caminho desejado at um atributo do objeto e no somente para um atributo que aponte o relacionamento (VO). Em outras palavras, no termine o caminho desejado do MO com \".path()\", solicite um atributo do objeto como \".id()\".", new String[] { fieldName });
-                  }
+                  // Um dos casos do mField ser nulo é pq o atributo solicitado no find não é um atributo "final" de um objeto, mas sim um atributo que aponta para outro objeto de relacionamento.
+                  // No Find devemos sempre buscar os atributos diretos dos objetos, caso contrário eles não serão mapeados.
+                  throw new RFWCriticalException("O atributo '${0}' não foi maepado no DAO! Ao realizar consultas, sempre utilize o caminho desejado até um atributo do objeto e não somente para um atributo que aponte o relacionamento (VO). Em outras palavras, não termine o caminho desejado do MO com \".path()\", solicite um atributo do objeto como \".id()\".", new String[] { fieldName });
                 }
-                final DAOMapTable mTable = mField.table;
-                if (mTable.path != null) {
-                  if (expandTable) {
-                    // Se vams expandir a tabela, adicionamos a tabela toda e colocamos o Alias no cache para que no se repita para outros campos
-                    if (!cache.containsKey(mTable.alias)) {
-                      sql.append(",").append(dialect.getQM()).append(mTable.alias).append(dialect.getQM()).append(".*");
-                      cache.put(mTable.alias, mTable); // Coloca na cache para no repetir
-                    }
-                  } else {
-                    // Se no expande toda a tabela, vamos adicionar apenas o field, e no colocamos no cache, j que a mesma tabela pode se repetir para outro campo.
-                    if (!cache.containsKey(mTable.alias)) {
-                      sql.append(",").append(dialect.getQM()).append(mTable.alias).append(dialect.getQM()).append(".").append(dialect.getQM()).append(mField.column).append(dialect.getQM());
-                      cache.put(mTable.alias + '.' + mField.column, mTable); // Coloca na cache para no repetir
-                    }
+              }
+              final DAOMapTable mTable = mField.table;
+              if (mTable.path != null) {
+                if (expandTable) {
+                  // Se vams expandir a tabela, adicionamos a tabela toda e colocamos o Alias no cache para que não se repita para outros campos
+                  if (!cache.containsKey(mTable.alias)) {
+                    sql.append(",").append(dialect.getQM()).append(mTable.alias).append(dialect.getQM()).append(".*");
+                    cache.put(mTable.alias, mTable); // Coloca na cache para não repetir
+                  }
+                } else {
+                  // Se não expande toda a tabela, vamos adicionar apenas o field, e não colocamos no cache, já que a mesma tabela pode se repetir para outro campo.
+                  if (!cache.containsKey(mTable.alias)) {
+                    sql.append(",").append(dialect.getQM()).append(mTable.alias).append(dialect.getQM()).append(".").append(dialect.getQM()).append(mField.column).append(dialect.getQM());
+                    cache.put(mTable.alias + '.' + mField.column, mTable); // Coloca na cache para não repetir
                   }
                 }
               }
@@ -525,116 +773,133 @@ class DAOMap {
           }
         }
       }
+    }
 
-      // ==> FROM
-      {
-        // Comea incluindo o mapeamento raiz
-        final DAOMapTable mTableRoot = map.mapTableByPath.get("");
-        sql.append(" FROM ").append(dialect.getQM());
-        if (mTableRoot.schema != null) {
-          sql.append(mTableRoot.schema).append(dialect.getQM()).append(".").append(dialect.getQM());
-        }
-        sql.append(mTableRoot.table).append(dialect.getQM()).append(" AS ").append(dialect.getQM()).append(mTableRoot.alias).append(dialect.getQM());
-        // Itera as demais tabelas para o Join
-        for (DAOMapTable mTable : map.mapTableByPath.values()) {
-          // Evita a tabela raiz, j que ela j foi adicionada
-          if (!"".equals(mTable.path)) {
-            if (useFullJoin == null || !useFullJoin) {
-              sql.append(" LEFT JOIN ").append(dialect.getQM());
-            } else {
-              sql.append(" FULL JOIN ").append(dialect.getQM());
-            }
-            sql.append(mTable.schema).append(dialect.getQM()).append(".").append(dialect.getQM()).append(mTable.table).append(dialect.getQM()).append(" AS ").append(dialect.getQM()).append(mTable.alias).append(dialect.getQM()).append(" ON ").append(dialect.getQM()).append(mTable.joinAlias).append(dialect.getQM()).append(".").append(dialect.getQM()).append(mTable.joinColumn).append(dialect.getQM()).append(" = ").append(dialect.getQM()).append(mTable.alias).append(dialect.getQM()).append(".").append(dialect.getQM()).append(mTable.column).append(dialect.getQM());
-          }
-        }
-      }
-
-      // ==> WHERE
-      final LinkedList<Object> statementParameters = new LinkedList<>();
-      if (mo != null) {
-        final StringBuilder where = writeWhere(map, mo, statementParameters, dialect);
-        // As vezes temos MO, mas ele no gera nenhuma consulta (um MO em branco), neste caso no escrevemos o "WHERE" ou teremos um SQL invlido
-        if (where.length() > 0) sql.append(" WHERE").append(where);
+    // ==> FROM
+    {
+      // Começa incluindo o mapeamento raiz
+      final DAOMapTable mTableRoot = map.mapTableByPath.get("");
+      sql.append(" FROM ").append(dialect.getQM());
+      if (mTableRoot.schema != null) {
+        sql.append(mTableRoot.schema).append(dialect.getQM()).append(".").append(dialect.getQM());
       }
-
-      // ==> GroupBy
-      if (fields != null && groupBy != null) { // S  utilizado no caso de consulta especial com fields preparados
-        final StringBuilder gbBuff = new StringBuilder();
-        for (RFWField field : groupBy) {
-          if (gbBuff.length() > 0) {
-            gbBuff.append(",");
+      sql.append(mTableRoot.table).append(dialect.getQM()).append(" AS ").append(dialect.getQM()).append(mTableRoot.alias).append(dialect.getQM());
+      // Itera as demais tabelas para o Join
+      for (DAOMapTable mTable : map.mapTableByPath.values()) {
+        // Evita a tabela raiz, já que ela já foi adicionada
+        if (!"".equals(mTable.path)) {
+          if (useFullJoin == null || !useFullJoin) {
+            sql.append(" LEFT JOIN ").append(dialect.getQM());
           } else {
-            gbBuff.append(" GROUP BY ");
+            sql.append(" FULL JOIN ").append(dialect.getQM());
           }
-          gbBuff.append(evalRFWField(map, field, dialect));
+          sql.append(mTable.schema).append(dialect.getQM()).append(".").append(dialect.getQM()).append(mTable.table).append(dialect.getQM()).append(" AS ").append(dialect.getQM()).append(mTable.alias).append(dialect.getQM()).append(" ON ").append(dialect.getQM()).append(mTable.joinAlias).append(dialect.getQM()).append(".").append(dialect.getQM()).append(mTable.joinColumn).append(dialect.getQM()).append(" = ").append(dialect.getQM()).append(mTable.alias).append(dialect.getQM()).append(".").append(dialect.getQM()).append(mTable.column).append(dialect.getQM());
         }
-        sql.append(gbBuff);
       }
+    }
 
-      // ==> ORDERBY
-      boolean first = true;
-      if (orderBy != null) {
-        for (RFWOrderbyItem orderItem : orderBy.getOrderbylist()) {
-          if (first) {
-            sql.append(" ORDER BY ");
-            first = false;
-          } else {
-            sql.append(", ");
-          }
-          sql.append(evalRFWField(map, orderItem.getField(), dialect));
-          // sql.append(dialect.getQM()).append(mField.table.alias).append(dialect.getQM()).append(".").append(dialect.getQM()).append(mField.column).append(dialect.getQM());
-          if (!orderItem.isAsc()) sql.append(" DESC");
+    // ==> WHERE
+    if (pageSQL != null) {
+      sql.append(" WHERE ").append(dialect.getQM()).append("t0").append(dialect.getQM()).append(".").append(dialect.getQM()).append("id").append(dialect.getQM());
+      sql.append(" IN (SELECT ").append(dialect.getQM()).append("page").append(dialect.getQM()).append(".").append(dialect.getQM()).append("id").append(dialect.getQM());
+      sql.append(" FROM (").append(pageSQL).append(") AS ").append(dialect.getQM()).append("page").append(dialect.getQM()).append(")");
+    } else {
+      StringBuilder where = new StringBuilder();
+      if (mo != null) where = writeWhere(map, mo, statementParameters, dialect);
+      if (seekValues != null) {
+        // O MO pode ter sido escrito com OR, por isso ele é isolado em parênteses antes de acrescentarmos o critério de continuação da página
+        if (where.length() > 0) where.insert(0, " (").append(") AND");
+        where.append(" (").append(writeSeek(map, orderBy, seekValues, statementParameters, dialect)).append(")");
+      }
+      // As vezes temos MO, mas ele não gera nenhuma consulta (um MO em branco), neste caso não escrevemos o "WHERE" ou teremos um SQL inválido
+      if (where.length() > 0) sql.append(" WHERE").append(where);
+    }
+
+    // ==> GroupBy
+    if (fields != null && groupBy != null) { // Só é utilizado no caso de consulta especial com fields preparados
+      final StringBuilder gbBuff = new StringBuilder();
+      for (RFWField field : groupBy) {
+        if (gbBuff.length() > 0) {
+          gbBuff.append(",");
+        } else {
+          gbBuff.append(" GROUP BY ");
         }
-        // Adicionamos no fim, como critrio final de desempate a organizao pelo ID da tabela principal. Esse atributo garante que chamadas diferentes no mtodo (com MOs diferentes) retornem sempre a mesma ordem mesmo que com objetos ocultos. Sem essa organizao, requisies por "chunks of data" retornam cada hora uma ordem dependendo do MO, repetindo dados e errando a distribuio.
-        // Note que essa soluo s  colocada em caso de utilizao do OrderBy, se no ouver Order By, no precisamos do desempate j que a ordem no  importante.
-        sql.append(", ").append(dialect.getQM()).append("t0").append(dialect.getQM()).append(".").append(dialect.getQM()).append("id").append(dialect.getQM());
+        gbBuff.append(evalRFWField(map, field, dialect));
       }
+      sql.append(gbBuff);
+    }
 
-      // ==> LIMIT
-      if (offSet != null || limit != null) {
-        sql.append(" LIMIT ");
-        if (offSet != null) sql.append(offSet).append(",");
-        if (limit != null) {
-          sql.append(limit);
+    // ==> ORDERBY
+    boolean first = true;
+    if (orderBy != null) {
+      for (RFWOrderbyItem orderItem : orderBy.getOrderbylist()) {
+        if (first) {
+          sql.append(" ORDER BY ");
+          first = false;
         } else {
-          // Se entrou nesse IF  pq temos um offSet, mas para usar o offset o MySQL exige o limit tambm. Por isso utilizmaos um numero gigantesco para garantir que tudo seja retornado. https://dev.mysql.com/doc/refman/8.0/en/select.html
-          sql.append("18446744073709551615");
+          sql.append(", ");
         }
+        sql.append(evalRFWField(map, orderItem.getField(), dialect));
+        // sql.append(dialect.getQM()).append(mField.table.alias).append(dialect.getQM()).append(".").append(dialect.getQM()).append(mField.column).append(dialect.getQM());
+        if (!orderItem.isAsc()) sql.append(" DESC");
       }
+      // Adicionamos no fim, como critério final de desempate a organização pelo ID da tabela principal. Esse atributo garante que chamadas diferentes no método (com MOs diferentes) retornem sempre a mesma ordem mesmo que com objetos ocultos. Sem essa organização, requisições por "chunks of data" retornam cada hora uma ordem dependendo do MO, repetindo dados e errando a distribuição.
+      // Note que essa solução só é colocada em caso de utilização do OrderBy, se não ouver Order By, não precisamos do desempate já que a ordem não é importante.
+      sql.append(", ").append(dialect.getQM()).append("t0").append(dialect.getQM()).append(".").append(dialect.getQM()).append("id").append(dialect.getQM());
+    } else if (orderByRoot) {
+      sql.append(" ORDER BY ").append(dialect.getQM()).append("t0").append(dialect.getQM()).append(".").append(dialect.getQM()).append("id").append(dialect.getQM());
+    }
 
-      final String s = sql.toString();
-      // ATENO: NO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log no d certo!!!!
-      if (RFW.isDevelopmentEnvironment()) System.out.println(s);
-      PreparedStatement stmt = conn.prepareStatement(s, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
-      if (map.getMapTable().size() > 15) {
-        // Se tivermos mais de 15 tabelas conectadas, ativamos o fetch de linha a linha para no termos problema de memria. No deixamos direto pq o linha a linha  pior em questes de performance.
-        RFW.pDev("Limite de Fetch do MySQL (Linha  Linha) habilitado!");
-        stmt.setFetchSize(Integer.MIN_VALUE);
+    // ==> LIMIT
+    if (offSet != null || limit != null) {
+      sql.append(" LIMIT ");
+      if (offSet != null) sql.append(offSet).append(",");
+      if (limit != null) {
+        sql.append(limit);
+      } else {
+        // Se entrou nesse IF é pq temos um offSet, mas para usar o offset o MySQL exige o limit também. Por isso utilizmaos um numero gigantesco para garantir que tudo seja retornado. https://dev.mysql.com/doc/refman/8.0/en/select.html
+        sql.append("18446744073709551615");
       }
-      writeStatementParameters(stmt, statementParameters);
-      return stmt;
-    } catch (Throwable e) {
-      throw new RFWCriticalException("RFW_ERR_000010", new String[] { sql.toString() }, e);
     }
   }
 
   /**
    * Cria o Statement SQL para completar objetos de CompositionTree.
    *
-   * @param conn Conexo com o banco para criao do PreparedStatement.
+   * @param conn Conexão com o banco para criação do PreparedStatement.
    * @param map Mapeamento do VO com as tabelas do banco.
-   * @param startTable tabela de incio de busca dos objetos
+   * @param startTable tabela de início de busca dos objetos
    * @param id ID do objeto a ser procurado na tabela
    * @param orderBy Objeto que define a ordem da lista.
-   * @param groupBy Campos com funes ou fields/colunas a serem utilizadas no groupBy da consulta.
-   * @param offSet Define quantos registros a partir do comeo devemos pular (no retornar), por exemplo, um offSet de 0, retorna desde o primeiro (index 0).
-   * @param limit Define quantos registros devemos retornar da lista. Define a quantidade e no o index como o "offSet". Se ambos forem combinados, ex: offset = 5 e limit = 10, retorna os registros desde o index 5 at o idnex 15, ou seja da 6 linha at a 15.
-   * @param useFullJoin Caso TRUE, o SELECTED ser montado com FULL JOIN ao invs do LEFT JOIN
+   * @param groupBy Campos com funções ou fields/colunas a serem utilizadas no groupBy da consulta.
+   * @param offSet Define quantos registros a partir do começo devemos pular (não retornar), por exemplo, um offSet de 0, retorna desde o primeiro (index 0).
+   * @param limit Define quantos registros devemos retornar da lista. Define a quantidade e não o index como o "offSet". Se ambos forem combinados, ex: offset = 5 e limit = 10, retorna os registros desde o index 5 até o idnex 15, ou seja da 6ª linha até a 15ª.
+   * @param useFullJoin Caso TRUE, o SELECTED será montado com FULL JOIN ao invés do LEFT JOIN
    * @param dialect
    * @return PreparedStatemetn pronto para realizar a consulta e obter o ResultSet.
-   * @throws RFWException Lanado em caso de Erro.
+   * @throws RFWException Lançado em caso de Erro.
    */
   public static PreparedStatement createSelectCompositionTreeStatement(Connection conn, DAOMap map, DAOMapTable startTable, Long id, RFWOrderBy orderBy, RFWField[] groupBy, Integer offSet, Integer limit, Boolean useFullJoin, SQLDialect dialect) throws RFWException {
+    final ArrayList<Long> ids = new ArrayList<>(1);
+    ids.add(id);
+    return createSelectCompositionTreeStatement(conn, map, startTable, ids, useFullJoin, dialect);
+  }
+
+  /**
+   * Cria o Statement SQL para completar de uma só vez vários objetos de CompositionTree de um mesmo nível da árvore.<br>
+   * Mesma consulta do {@link #createSelectCompositionTreeStatement(Connection, DAOMap, DAOMapTable, Long, RFWOrderBy, RFWField[], Integer, Integer, Boolean, SQLDialect)}, mas filtrando os objetos com
+   * um IN pelos IDs ao invés de um único ID.
+   *
+   * @param conn Conexão com o banco para criação do PreparedStatement.
+   * @param map Mapeamento do VO com as tabelas do banco.
+   * @param startTable tabela de início de busca dos objetos
+   * @param ids IDs dos objetos a serem procurados na tabela. A quantidade de IDs deve ser limitada pelo chamador, já que todos são incluídos na mesma condição IN.
+   * @param useFullJoin Caso TRUE, o SELECTED será montado com FULL JOIN ao invés do LEFT JOIN
+   * @param dialect
+   * @return PreparedStatemetn pronto para realizar a consulta e obter o ResultSet.
+   * @throws RFWException Lançado em caso de Erro.
+   */
+  static PreparedStatement createSelectCompositionTreeStatement(Connection conn, DAOMap map, DAOMapTable startTable, Collection<Long> ids, Boolean useFullJoin, SQLDialect dialect) throws RFWException {
     final StringBuffer sql = new StringBuffer();
     final StringBuffer sqlFrom = new StringBuffer();
     try {
@@ -643,9 +908,9 @@ class DAOMap {
 
       // ==> FROM
       {
-        // Comea incluindo o mapeamento raiz
+        // Começa incluindo o mapeamento raiz
         sqlFrom.append(" FROM ").append(dialect.getQM()).append(startTable.schema).append(dialect.getQM()).append(".").append(dialect.getQM()).append(startTable.table).append(dialect.getQM()).append(" AS ").append(dialect.getQM()).append(startTable.alias).append(dialect.getQM());
-        // Adiciona todas as tabelas que fazem join com a nossa tabela recursivamente. (para evitar um mtodo recusivo fiz esse loop que fica reiterando at que as alteraes parem
+        // Adiciona todas as tabelas que fazem join com a nossa tabela recursivamente. (para evitar um método recusivo fiz esse loop que fica reiterando até que as alterações parem
         HashSet<String> cacheAlias = new HashSet<String>();
         cacheAlias.add(startTable.alias);
         int size = -1;
@@ -654,7 +919,7 @@ class DAOMap {
 
           // Itera as demais tabelas para o Join
           for (DAOMapTable mTable : map.mapTableByPath.values()) {
-            // Evita a tabela raiz, j que ela j foi adicionada, ou qualquer tabela que j esteja no cache
+            // Evita a tabela raiz, já que ela já foi adicionada, ou qualquer tabela que já esteja no cache
             if (!cacheAlias.contains(mTable.alias) && cacheAlias.contains(mTable.joinAlias)) {
               sql.append(",").append(dialect.getQM()).append(mTable.alias).append(dialect.getQM()).append(".*");
 
@@ -674,11 +939,21 @@ class DAOMap {
 
       // ==> WHERE
       final LinkedList<Object> statementParameters = new LinkedList<>();
-      sql.append(" WHERE ").append(dialect.getQM()).append(startTable.alias).append(dialect.getQM()).append(".").append(dialect.getQM()).append("id").append(dialect.getQM()).append("=?");
-      statementParameters.add(id);
+      sql.append(" WHERE ").append(dialect.getQM()).append(startTable.alias).append(dialect.getQM()).append(".").append(dialect.getQM()).append("id").append(dialect.getQM());
+      if (ids.size() == 1) {
+        sql.append("=?");
+      } else {
+        sql.append(" IN (");
+        for (int i = 0; i < ids.size(); i++) {
+          if (i > 0) sql.append(",");
+          sql.append("?");
+        }
+        sql.append(")");
+      }
+      statementParameters.addAll(ids);
 
       // // ==> GroupBy
-      // if (fields != null && groupBy != null) { // S  utilizado no caso de consulta especial com fields preparados
+      // if (fields != null && groupBy != null) { // Só é utilizado no caso de consulta especial com fields preparados
       // final StringBuilder gbBuff = new StringBuilder();
       // for (RFWField field : groupBy) {
       // if (gbBuff.length() > 0) {
@@ -705,8 +980,8 @@ class DAOMap {
       // // sql.append(dialect.getQM()).append(mField.table.alias).append(dialect.getQM()).append(".").append(dialect.getQM()).append(mField.column).append(dialect.getQM());
       // if (!orderItem.isAsc()) sql.append(" DESC");
       // }
-      // // Adicionamos no fim, como critrio final de desempate a organizao pelo ID da tabela principal. Esse atributo garante que chamadas diferentes no mtodo (com MOs diferentes) retornem sempre a mesma ordem mesmo que com objetos ocultos. Sem essa organizao, requisies por "chunks of data" retornam cada hora uma ordem dependendo do MO, repetindo dados e errando a distribuio.
-      // // Note que essa soluo s  colocada em caso de utilizao do OrderBy, se no ouver Order By, no precisamos do desempate j que a ordem no  importante.
+      // // Adicionamos no fim, como critério final de desempate a organização pelo ID da tabela principal. Esse atributo garante que chamadas diferentes no método (com MOs diferentes) retornem sempre a mesma ordem mesmo que com objetos ocultos. Sem essa organização, requisições por "chunks of data" retornam cada hora uma ordem dependendo do MO, repetindo dados e errando a distribuição.
+      // // Note que essa solução só é colocada em caso de utilização do OrderBy, se não ouver Order By, não precisamos do desempate já que a ordem não é importante.
       // sql.append(", ").append(dialect.getQM()).append("t0").append(dialect.getQM()).append(".").append(dialect.getQM()).append("id").append(dialect.getQM());
       // }
       //
@@ -717,18 +992,18 @@ class DAOMap {
       // if (limit != null) {
       // sql.append(limit);
       // } else {
-      // // Se entrou nesse IF  pq temos um offSet, mas para usar o offset o MySQL exige o limit tambm. POr isso utilizmaos um numero gigantesco para garantir que tudo seja retornado. https://dev.mysql.com/doc/refman/8.0/en/select.html
+      // // Se entrou nesse IF é pq temos um offSet, mas para usar o offset o MySQL exige o limit também. POr isso utilizmaos um numero gigantesco para garantir que tudo seja retornado. https://dev.mysql.com/doc/refman/8.0/en/select.html
       // sql.append("18446744073709551615");
       // }
       // }
 
       final String s = sql.toString();
-      // ATENO: NO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log no d certo!!!!
+      // ATENÇÃO: NÃO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log não dá certo!!!!
       if (RFW.isDevelopmentEnvironment()) System.out.println(s);
       PreparedStatement stmt = conn.prepareStatement(s, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
       if (map.getMapTable().size() > 15) {
-        // Se tivermos mais de 15 tabelas conectadas, ativamos o fetch de linha a linha para no termos problema de memria. No deixamos direto pq o linha a linha  pior em questes de performance.
-        RFWLogger.logDebug("Limite de Fetch do MySQL (Linha  Linha) habilitado!");
+        // Se tivermos mais de 15 tabelas conectadas, ativamos o fetch de linha a linha para não termos problema de memória. Não deixamos direto pq o linha a linha é pior em questões de performance.
+        RFWLogger.logDebug("Limite de Fetch do MySQL (Linha à Linha) habilitado!");
         stmt.setFetchSize(Integer.MIN_VALUE);
       }
       writeStatementParameters(stmt, statementParameters);
@@ -739,9 +1014,9 @@ class DAOMap {
   }
 
   /**
-   * Mtodo utilizado para trocar a definio do {@link RFWField} na string necessria para anexar no SQL de consulta.
+   * Método utilizado para trocar a definição do {@link RFWField} na string necessária para anexar no SQL de consulta.
    *
-   * @param map {@link DAOMap} com as informaes de mapeamento
+   * @param map {@link DAOMap} com as informações de mapeamento
    * @param field {@link RFWField} para evaluation.
    * @param dialect
    * @return String pronta para ser concatenada na string SQL.
@@ -828,10 +1103,10 @@ class DAOMap {
       case DIVIDE:
         buff.append(evalRFWField(map, field.getFunctionParam().get(0), dialect)).append("/").append(evalRFWField(map, field.getFunctionParam().get(1), dialect));
         break;
-      case WEEKDAY: // Deve retornar valores de 0 a 6, comeando na segunda-feira.
+      case WEEKDAY: // Deve retornar valores de 0 a 6, começando na segunda-feira.
         switch (dialect) {
           case DerbyDB:
-            // Funo dayofweek do Derby difere da weekday definida no RFWDAO (leia definio da funo em RFWField), por isso o ajuste do valor retornado
+            // Função dayofweek do Derby difere da weekday definida no RFWDAO (leia definição da função em RFWField), por isso o ajuste do valor retornado
             if (field.getField() != null) {
               buff.append("((dayofweek(").append(evalFieldToColumn(map, field.getField(), dialect)).append(") + 5) % 7)");
             } else {
@@ -867,12 +1142,12 @@ class DAOMap {
   }
 
   /**
-   * Este mtodo recebe o objeto de mapeamento {@link DAOMap}, com as informaes do mapeamento entre tabelas e objetos. E recebendo um field do VO (na estrutura do Math Object),  capaz de retornar a string como deve ser utilizada no SQL.<br>
+   * Este método recebe o objeto de mapeamento {@link DAOMap}, com as informações do mapeamento entre tabelas e objetos. E recebendo um field do VO (na estrutura do Math Object), é capaz de retornar a string como deve ser utilizada no SQL.<br>
    *
-   * @param map Objeto com a definio do mapeamento entre tabelas/colunas e VO/atributos
+   * @param map Objeto com a definição do mapeamento entre tabelas/colunas e VO/atributos
    * @param field path do atributo do VO a ser convertido para o formato de tabela.coluna para o SQL.
    * @param dialect
-   * @return Retorna uma string no formato ").append(dialect.getQM()).append("aliasTabela").append(dialect.getQM()).append(".").append(dialect.getQM()).append("coluna").append(dialect.getQM()).append(" que associada ao attributo do VO passado como parmetro.
+   * @return Retorna uma string no formato ").append(dialect.getQM()).append("aliasTabela").append(dialect.getQM()).append(".").append(dialect.getQM()).append("coluna").append(dialect.getQM()).append(" que associada ao attributo do VO passado como parâmetro.
    */
   private static String evalFieldToColumn(DAOMap map, String field, SQLDialect dialect) {
     final DAOMapField fMap = map.mapFieldByPath.get(field);
@@ -884,113 +1159,258 @@ class DAOMap {
   /**
    * Cria o Statement SQL para inserir o objeto no banco de dados.
    *
-   * @param conn Conexo com o banco para criao do PreparedStatement.
+   * @param conn Conexão com o banco para criação do PreparedStatement.
    * @param map Mapeamento do VO com as tabelas do banco.
-   * @param path caminho at o VO que est sendo inserido no banco.
+   * @param path caminho até o VO que está sendo inserido no banco.
    * @param vo Objeto a ser inserido no banco de dados.
    * @param dialect
    *
-   * @return PreparedStatemet pronto para realizar a operao no banco.
-   * @throws RFWException Lanado em caso de Erro.
+   * @return PreparedStatemet pronto para realizar a operação no banco.
+   * @throws RFWException Lançado em caso de Erro.
    */
   public static <VO extends RFWVO> PreparedStatement createInsertStatement(Connection conn, DAOMap map, String path, VO vo, SQLDialect dialect) throws RFWException {
     return createInsertStatement(conn, map, path, vo, null, 0, dialect);
   }
 
   /**
-   * Cria o Statement SQL para inserir o objeto no banco de dados, COM a criao da coluna de SortColumn. A sortcolumn  a coluna utilizada para salvar o ndice de um objeto em uma lista e dessa forma garantir que a lista ter a mesma ordem ao ser recuperada do banco de dados.<br>
-   *  necessrio um mtodo de criao especial pois a coluna de sort no deve fazer parte do objeto e  gerenciada pela classe do RFWDAO. Diferentemente da coluna da Hash que normalmente  algum atributo do prprio objeto.
+   * Cria o Statement SQL para inserir o objeto no banco de dados, COM a criação da coluna de SortColumn. A sortcolumn é a coluna utilizada para salvar o índice de um objeto em uma lista e dessa forma garantir que a lista terá a mesma ordem ao ser recuperada do banco de dados.<br>
+   * É necessário um método de criação especial pois a coluna de sort não deve fazer parte do objeto e é gerenciada pela classe do RFWDAO. Diferentemente da coluna da Hash que normalmente é algum atributo do próprio objeto.
    *
-   * @param conn Conexo com o banco para criao do PreparedStatement.
+   * @param conn Conexão com o banco para criação do PreparedStatement.
    * @param map Mapeamento do VO com as tabelas do banco.
-   * @param path caminho at o VO que est sendo inserido no banco.
+   * @param path caminho até o VO que está sendo inserido no banco.
    * @param vo Objeto a ser inserido no banco de dados.
-   * @param sortColumn Nome da coluna onde  salvo o ndice de ordem da Lista (se houver), ou Null caso no seja usado o recurso
-   * @param sortIndex ndice de indexao do item na lista.
+   * @param sortColumn Nome da coluna onde é salvo o índice de ordem da Lista (se houver), ou Null caso não seja usado o recurso
+   * @param sortIndex Índice de indexação do item na lista.
    * @param dialect
    *
-   * @return PreparedStatemet pronto para realizar a operao no banco.
-   * @throws RFWException Lanado em caso de Erro.
+   * @return PreparedStatemet pronto para realizar a operação no banco.
+   * @throws RFWException Lançado em caso de Erro.
    */
   public static <VO extends RFWVO> PreparedStatement createInsertStatement(Connection conn, DAOMap map, String path, VO vo, String sortColumn, int sortIndex, SQLDialect dialect) throws RFWException {
     final StringBuffer sql = new StringBuffer();
     final LinkedList<Object> statementParameters = new LinkedList<>();
     try {
-      final DAOMapTable mTable = map.getMapTableByPath(path);
+      writeInsert(sql, statementParameters, map, path, vo, sortColumn, sortIndex, dialect);
 
-      sql.append("INSERT INTO ").append(dialect.getQM()).append(mTable.schema).append(dialect.getQM()).append(".").append(dialect.getQM()).append(mTable.table).append(dialect.getQM()).append(" (");
+      final String s = sql.toString();
+      // ATENÇÃO: NÃO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log não dá certo!!!!
+      if (RFW.isDevelopmentEnvironment()) System.out.println(s);
+      PreparedStatement stmt = conn.prepareStatement(s, Statement.RETURN_GENERATED_KEYS);
+      writeStatementParameters(stmt, statementParameters);
+      return stmt;
+    } catch (Throwable e) {
+      throw new RFWCriticalException("RFW_ERR_000010", new String[] { sql.toString() }, e);
+    }
+  }
 
-      // Itera todos os campos em busca dos campos dessa tabela
-      int c = 0;
-      for (DAOMapField mField : map.getMapField()) {
-        if (mField.table == mTable) {
-          // Dependendo do dialeto no inclui as colunas de identifier, pois elas devem ser geradas sozinhas
-          if ("ID".equals(mField.column.toUpperCase()) && dialect.getSkipInsertIDColumn()) continue;
-          if (c > 0) sql.append(",");
-          sql.append(dialect.getQM()).append(mField.column).append(dialect.getQM());
-          c++;
+  /**
+   * Escreve o SQL de inserção do objeto e a lista de parâmetros na ordem em que devem ser aplicados no Statement.<br>
+   * O SQL depende apenas da tabela e das colunas mapeadas (mais a sortColumn, se houver), por isso é o mesmo para todos os objetos de um mesmo caminho e pode ser reaproveitado em lote pelo
+   * {@link DAOPersistBatch}.
+   *
+   * @param sql Buffer onde o SQL será escrito.
+   * @param statementParameters Lista onde os parâmetros serão adicionados.
+   * @param map Mapeamento do VO com as tabelas do banco.
+   * @param path caminho até o VO que está sendo inserido no banco.
+   * @param vo Objeto a ser inserido no banco de dados.
+   * @param sortColumn Nome da coluna onde é salvo o índice de ordem da Lista (se houver), ou Null caso não seja usado o recurso
+   * @param sortIndex Índice de indexação do item na lista.
+   * @param dialect
+   * @throws RFWException Lançado em caso de Erro.
+   */
+  static <VO extends RFWVO> void writeInsert(StringBuffer sql, LinkedList<Object> statementParameters, DAOMap map, String path, VO vo, String sortColumn, int sortIndex, SQLDialect dialect) throws RFWException {
+    final DAOMapTable mTable = map.getMapTableByPath(path);
+    final EntityMetadata entityMeta = EntityMetadata.get(vo.getClass());
+
+    // Objetos com controle de versão são inseridos com a versão inicial, caso ainda não tenham versão
+    final FieldDescriptor versionField = entityMeta.getVersionField();
+    if (versionField != null && versionField.get(vo) == null) versionField.set(vo, entityMeta.getNextVersion(vo));
+
+    sql.append("INSERT INTO ").append(dialect.getQM()).append(mTable.schema).append(dialect.getQM()).append(".").append(dialect.getQM()).append(mTable.table).append(dialect.getQM()).append(" (");
+
+    // Itera todos os campos em busca dos campos dessa tabela
+    int c = 0;
+    for (DAOMapField mField : map.getMapField()) {
+      if (mField.table == mTable) {
+        // Dependendo do dialeto não inclui as colunas de identifier, pois elas devem ser geradas sozinhas
+        // Com o gerador de IDs o ID já está definido e a coluna sempre é incluída
+        if ("ID".equals(mField.column.toUpperCase()) && dialect.getSkipInsertIDColumn() && !entityMeta.hasIDGenerator()) continue;
+        if (c > 0) sql.append(",");
+        sql.append(dialect.getQM()).append(mField.column).append(dialect.getQM());
+        c++;
 
-          // Salvamos o valor do objeto na lista de atributos.
-          Object value = RUReflex.getPropertyValue(vo, mField.field);
-
-          // Verificamos se o atributo tem um converter, se tiver ele ser usado para preparar os valores para o banco de dados
-          if (!"id".equals(mField.field)) { // No aceita as annotations no campo ID
-            final RFWDAOConverter convAnn = vo.getClass().getDeclaredField(mField.field).getAnnotation(RFWDAOConverter.class);
-            if (convAnn != null) {
-              final Object ni = convAnn.converterClass().newInstance();
-              if (!(ni instanceof RFWDAOConverterInterface)) throw new RFWCriticalException("A classe '${0}' definida no atributo '${1}' da classe '${2}' no  um RFWDAOConverterInterface vlido!", new String[] { convAnn.converterClass().getCanonicalName(), mField.field, vo.getClass().getCanonicalName() });
-              value = ((RFWDAOConverterInterface) ni).toDB(value);
-            } else {
-              // Verificamos se o atributo for do tipo String e tem a annotation RFWMetaEncrypt, para encriptarmos o contedo
-              if (value != null && (value instanceof String)) {
-                final RFWMetaEncrypt encAnn = vo.getClass().getDeclaredField(mField.field).getAnnotation(RFWMetaEncrypt.class);
-                if (encAnn != null) {
-                  value = RUEncrypter.encryptDES((String) value, encAnn.key());
-                }
-              }
-            }
+        // Salvamos o valor do objeto na lista de atributos.
+        statementParameters.add(toDBValue(map, entityMeta, vo, mField, entityMeta.getPropertyValue(vo, mField.field)));
+      }
+    }
+
+    // Se tiver uma coluna de Sort, incluímos ela agora no final dos campos
+    if (sortColumn != null) {
+      sql.append(",").append(dialect.getQM()).append(sortColumn).append(dialect.getQM());
+      statementParameters.add(new Integer(sortIndex));
+    }
+
+    sql.append(") VALUES (?");
+    for (int i = 1; i < statementParameters.size(); i++) {
+      sql.append(",?");
+    }
+    sql.append(")");
+  }
+
+  /**
+   * Escreve o SQL de inserção ou atualização (upsert) do objeto raiz e a lista de parâmetros na ordem em que devem ser aplicados no Statement.<br>
+   * No MySQL é gerado um INSERT ... ON DUPLICATE KEY UPDATE, com o "id=LAST_INSERT_ID(id)" para que o getGeneratedKeys() retorne o ID do registro existente quando ele for atualizado. No Derby é
+   * gerado um MERGE com a condição de igualdade das colunas de conflito. Nos dois casos as colunas de conflito e o ID não são alterados quando o registro já existe.<br>
+   * No MySQL 8.0.19 ou superior os novos valores são referenciados pelo alias da linha inserida ("INSERT ... AS rfw_new ON DUPLICATE KEY UPDATE col=rfw_new.col"), já que a função VALUES(col) está
+   * obsoleta desde o 8.0.20. Nas versões anteriores e no MariaDB, que não aceitam o alias, continua sendo utilizado o VALUES(col). Veja {@link #isUpsertRowAliasSupported(Connection, SQLDialect)}.<br>
+   * Assim como o {@link #writeInsert(StringBuffer, LinkedList, DAOMap, String, RFWVO, String, int, SQLDialect)}, o SQL depende apenas da tabela e das colunas, e pode ser reaproveitado em lote.
+   *
+   * @param sql Buffer onde o SQL será escrito.
+   * @param statementParameters Lista onde os parâmetros serão adicionados.
+   * @param map Mapeamento do VO com as tabelas do banco.
+   * @param vo Objeto a ser inserido ou atualizado.
+   * @param conflictFields Mapeamento das colunas que identificam o registro existente (chave única), todas da tabela raiz.
+   * @param rowAlias Indica se no MySQL os novos valores devem ser referenciados pelo alias da linha inserida, ao invés da função VALUES(col).
+   * @param dialect
+   * @throws RFWException Lançado em caso de Erro.
+   */
+  static <VO extends RFWVO> void writeUpsert(StringBuffer sql, LinkedList<Object> statementParameters, DAOMap map, VO vo, DAOMapField[] conflictFields, boolean rowAlias, SQLDialect dialect) throws RFWException {
+    final DAOMapTable mTable = map.getMapTableByPath("");
+    final EntityMetadata entityMeta = EntityMetadata.get(vo.getClass());
+    final String qM = dialect.getQM();
+
+    // Colunas que são atualizadas quando o registro já existe: todas da tabela raiz, exceto o ID e as colunas de conflito
+    final ArrayList<DAOMapField> updateFields = new ArrayList<>();
+    for (DAOMapField mField : map.getMapField()) {
+      if (mField.table == mTable && !"ID".equals(mField.column.toUpperCase()) && !Arrays.asList(conflictFields).contains(mField)) updateFields.add(mField);
+    }
+
+    switch (dialect) {
+      case MySQL: {
+        writeInsert(sql, statementParameters, map, "", vo, null, 0, dialect);
+        if (rowAlias) sql.append(" AS ").append(qM).append("rfw_new").append(qM);
+        sql.append(" ON DUPLICATE KEY UPDATE ").append(qM).append("id").append(qM).append("=LAST_INSERT_ID(").append(qM).append("id").append(qM).append(")");
+        for (DAOMapField mField : updateFields) {
+          if (rowAlias) {
+            sql.append(",").append(qM).append(mField.column).append(qM).append("=").append(qM).append("rfw_new").append(qM).append(".").append(qM).append(mField.column).append(qM);
+          } else {
+            sql.append(",").append(qM).append(mField.column).append(qM).append("=VALUES(").append(qM).append(mField.column).append(qM).append(")");
           }
-          statementParameters.add(value);
         }
       }
-
-      // Se tiver uma coluna de Sort, inclumos ela agora no final dos campos
-      if (sortColumn != null) {
-        sql.append(",").append(dialect.getQM()).append(sortColumn).append(dialect.getQM());
-        statementParameters.add(new Integer(sortIndex));
+        break;
+      case DerbyDB:
+      default: {
+        sql.append("MERGE INTO ").append(qM).append(mTable.schema).append(qM).append(".").append(qM).append(mTable.table).append(qM).append(" USING SYSIBM.SYSDUMMY1 ON ");
+        for (int i = 0; i < conflictFields.length; i++) {
+          if (i > 0) sql.append(" AND ");
+          sql.append(qM).append(conflictFields[i].column).append(qM).append("=?");
+          statementParameters.add(toDBValue(map, entityMeta, vo, conflictFields[i], entityMeta.getPropertyValue(vo, conflictFields[i].field)));
+        }
+        if (updateFields.size() > 0) {
+          sql.append(" WHEN MATCHED THEN UPDATE SET ");
+          for (int i = 0; i < updateFields.size(); i++) {
+            final DAOMapField mField = updateFields.get(i);
+            if (i > 0) sql.append(",");
+            sql.append(qM).append(mField.column).append(qM).append("=?");
+            statementParameters.add(toDBValue(map, entityMeta, vo, mField, entityMeta.getPropertyValue(vo, mField.field)));
+          }
+        }
+        final StringBuffer insert = new StringBuffer();
+        writeInsert(insert, statementParameters, map, "", vo, null, 0, dialect);
+        // Reaproveita a lista de colunas e valores do INSERT comum, sem o "INSERT INTO tabela"
+        sql.append(" WHEN NOT MATCHED THEN INSERT ").append(insert.substring(insert.indexOf("(")));
       }
+        break;
+    }
+  }
 
-      sql.append(") VALUES (?");
-      for (int i = 1; i < statementParameters.size(); i++) {
-        sql.append(",?");
+  /**
+   * Escreve o SQL de consulta dos IDs de registros a partir das colunas de conflito do upsert: SELECT id, c1, c2 FROM tabela WHERE (c1=? AND c2=?) OR (...).
+   *
+   * @param sql Buffer onde o SQL será escrito.
+   * @param map Mapeamento do VO com as tabelas do banco.
+   * @param conflictFields Mapeamento das colunas que identificam o registro, todas da tabela raiz.
+   * @param count Quantidade de registros procurados (quantidade de grupos de condições).
+   * @param dialect
+   */
+  static void writeUpsertKeySelect(StringBuffer sql, DAOMap map, DAOMapField[] conflictFields, int count, SQLDialect dialect) {
+    final DAOMapTable mTable = map.getMapTableByPath("");
+    final String qM = dialect.getQM();
+    sql.append("SELECT ").append(qM).append("id").append(qM);
+    for (DAOMapField mField : conflictFields) {
+      sql.append(",").append(qM).append(mField.column).append(qM);
+    }
+    sql.append(" FROM ").append(qM).append(mTable.schema).append(qM).append(".").append(qM).append(mTable.table).append(qM).append(" WHERE ");
+    for (int i = 0; i < count; i++) {
+      if (i > 0) sql.append(" OR ");
+      sql.append("(");
+      for (int c = 0; c < conflictFields.length; c++) {
+        if (c > 0) sql.append(" AND ");
+        sql.append(qM).append(conflictFields[c].column).append(qM).append("=?");
       }
       sql.append(")");
+    }
+  }
 
-      final String s = sql.toString();
-      // ATENO: NO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log no d certo!!!!
-      if (RFW.isDevelopmentEnvironment()) System.out.println(s);
-      PreparedStatement stmt = conn.prepareStatement(s, Statement.RETURN_GENERATED_KEYS);
-      writeStatementParameters(stmt, statementParameters);
-      return stmt;
+  /**
+   * Verifica se o upsert do MySQL pode referenciar os novos valores pelo alias da linha inserida ("INSERT ... AS alias ON DUPLICATE KEY UPDATE"), disponível a partir do MySQL 8.0.19. O MariaDB não
+   * aceita o alias e continua utilizando o VALUES(col).
+   *
+   * @param conn Conexão com o banco de dados.
+   * @param dialect Dialeto do banco de dados.
+   * @return true caso o dialeto seja o MySQL e o servidor aceite o alias. Em caso de falha ao identificar a versão do servidor retorna false.
+   */
+  static boolean isUpsertRowAliasSupported(Connection conn, SQLDialect dialect) {
+    if (dialect != SQLDialect.MySQL) return false;
+    try {
+      final String product = conn.getMetaData().getDatabaseProductName();
+      final String version = conn.getMetaData().getDatabaseProductVersion();
+      if (product == null || version == null || product.toLowerCase().contains("mariadb") || version.toLowerCase().contains("mariadb")) return false;
+      // Versão no formato "8.0.35" (podendo ter sufixos como "8.0.35-log")
+      final String[] parts = version.split("[^0-9]+");
+      final int major = parts.length > 0 && !parts[0].isEmpty() ? Integer.parseInt(parts[0]) : 0;
+      final int minor = parts.length > 1 ? Integer.parseInt(parts[1]) : 0;
+      final int patch = parts.length > 2 ? Integer.parseInt(parts[2]) : 0;
+      return major > 8 || (major == 8 && (minor > 0 || patch >= 19));
     } catch (Throwable e) {
-      throw new RFWCriticalException("RFW_ERR_000010", new String[] { sql.toString() }, e);
+      return false;
+    }
+  }
+
+  /**
+   * Recupera os valores das colunas de conflito do upsert, como são escritos no banco de dados.
+   *
+   * @param map Mapeamento do VO com as tabelas do banco.
+   * @param vo Objeto.
+   * @param conflictFields Mapeamento das colunas de conflito.
+   * @return Valores na mesma ordem de conflictFields.
+   * @throws RFWException Lançado em caso de falha na conversão dos valores.
+   */
+  static Object[] getUpsertKey(DAOMap map, RFWVO vo, DAOMapField[] conflictFields) throws RFWException {
+    final EntityMetadata entityMeta = EntityMetadata.get(vo.getClass());
+    final Object[] key = new Object[conflictFields.length];
+    for (int i = 0; i < conflictFields.length; i++) {
+      key[i] = toDBValue(map, entityMeta, vo, conflictFields[i], entityMeta.getPropertyValue(vo, conflictFields[i].field));
     }
+    return key;
   }
 
   /**
    * Cria o Statement SQL para inserir o dado de de um atributo anotado com {@link RFWMetaCollectionField} no banco de dados.
    *
-   * @param conn Conexo com o banco para criao do PreparedStatement.
+   * @param conn Conexão com o banco para criação do PreparedStatement.
    * @param map Mapeamento do VO com as tabelas do banco.
-   * @param path caminho at o VO que est sendo inserido no banco.
-   * @param items Lista de Item da Collection. Podendo ser um objeto qualquer em caso de List, ou uma List de Entry (que contm a chave e valor) no caso de Map.
+   * @param path caminho até o VO que está sendo inserido no banco.
+   * @param items Lista de Item da Collection. Podendo ser um objeto qualquer em caso de List, ou uma List de Entry (que contém a chave e valor) no caso de Map.
    * @param parentID ID do objeto pai para popular a coluna de FK.
    * @param dialect
    *
-   * @return PreparedStatemet pronto para realizar a operao no banco.
-   * @throws RFWException Lanado em caso de Erro.
+   * @return PreparedStatemet pronto para realizar a operação no banco.
+   * @throws RFWException Lançado em caso de Erro.
    */
-  public static <VO extends RFWVO> PreparedStatement createInsertCollectionStatement(Connection conn, DAOMap map, String path, List<?> items, Long parentID, SQLDialect dialect, RFWMetaCollectionField ann) throws RFWException {
+  public static <VO extends RFWVO> PreparedStatement createInsertCollectionStatement(Connection conn, DAOMap map, String path, List<?> items, Long parentID, SQLDialect dialect, CollectionDescriptor col) throws RFWException {
     final StringBuffer sql = new StringBuffer();
     final LinkedList<Object> statementParameters = new LinkedList<>();
     try {
@@ -1016,31 +1436,29 @@ class DAOMap {
         sql.append("(");
 
         c = 0;
-        for (DAOMapField mField : map.getMapField()) { // Reinitera as colunas para que fique na mesma ordem que a iterao acima que escreveu o nome das colunas
+        for (DAOMapField mField : map.getMapField()) { // Reinitera as colunas para que fique na mesma ordem que a iteração acima que escreveu o nome das colunas
           if (mField.table == mTable) {
             if (c > 0) sql.append(",");
             sql.append("?");
 
             Object value = null;
             // Verificamos o sufixo do path da coluna mapeada...
-            if (mField.field.endsWith("@fk")) { // ...Indica que  a coluna onde salvamos o ID do objeto pai
+            if (mField.field.endsWith("@fk")) { // ...Indica que é a coluna onde salvamos o ID do objeto pai
               value = parentID;
-            } else if (mField.field.endsWith("@keyColumn")) { // ...Indica que  a coluna onde salvamos a chave da Hash
+            } else if (mField.field.endsWith("@keyColumn")) { // ...Indica que é a coluna onde salvamos a chave da Hash
               if (!(item instanceof Entry<?, ?>)) {
-                throw new RFWCriticalException("Encontrado um atributo com keyColumn definido, mas o objeto recebido para persistir no  um Entry<?, ?>.", new String[] { path, item.getClass().getCanonicalName() });
+                throw new RFWCriticalException("Encontrado um atributo com keyColumn definido, mas o objeto recebido para persistir não é um Entry<?, ?>.", new String[] { path, item.getClass().getCanonicalName() });
               }
               value = ((Entry<?, ?>) item).getKey();
 
-              if (RFWDAOConverterInterface.class.isAssignableFrom(ann.keyConverterClass())) {
-                Object ni = ann.keyConverterClass().newInstance();
-                if (!(ni instanceof RFWDAOConverterInterface)) throw new RFWCriticalException("A classe '${0}' definida no atributo '${1}' da classe '${2}' no  um RFWDAOConverterInterface vlido!", new String[] { ann.keyConverterClass().getCanonicalName(), mField.field, mField.table.type.getCanonicalName() });
-                value = ((RFWDAOConverterInterface) ni).toDB(value);
+              if (col.keyConverterClass != null) {
+                value = DAOConverterRegistry.get(map.resolver, col.keyConverterClass, true, mField.field, mField.table.type).toDB(value);
               }
 
-            } else if (mField.field.endsWith("@sortColumn")) { // ...Indica que  a coluna onde salvamos o ndice de ordem do objeto
-              value = items.indexOf(item);
-            } else { // ..Se no  nenhuma das anteriores,  a coluna onde salvamos o contedo do objeto
-              value = item; // Em caso de lista o valor a ser salvo j  o item...
+            } else if (mField.field.endsWith("@sortColumn")) { // ...Indica que é a coluna onde salvamos o índice de ordem do objeto
+              value = i;
+            } else { // ..Se não é nenhuma das anteriores, é a coluna onde salvamos o conteúdo do objeto
+              value = item; // Em caso de lista o valor a ser salvo já é o item...
               if (item instanceof Entry<?, ?>) { // ...Mas caso seja um Entry de um Map, temos de trocar pelo valor da hash
                 value = ((Entry<?, ?>) item).getValue();
               }
@@ -1057,7 +1475,7 @@ class DAOMap {
       }
 
       final String s = sql.toString();
-      // ATENO: NO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log no d certo!!!!
+      // ATENÇÃO: NÃO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log não dá certo!!!!
       if (RFW.isDevelopmentEnvironment()) System.out.println(s);
       PreparedStatement stmt = conn.prepareStatement(s, Statement.RETURN_GENERATED_KEYS);
       writeStatementParameters(stmt, statementParameters);
@@ -1070,87 +1488,144 @@ class DAOMap {
   /**
    * Cria o Statement SQL para atualizar o objeto no banco de dados.
    *
-   * @param conn Conexo com o banco para criao do PreparedStatement.
+   * @param conn Conexão com o banco para criação do PreparedStatement.
    * @param map Mapeamento do VO com as tabelas do banco.
-   * @param path caminho at o VO que est sendo inserido no banco.
+   * @param path caminho até o VO que está sendo inserido no banco.
    * @param vo Objeto a ser inserido no banco de dados.
    * @param dialect
    *
-   * @return PreparedStatemet pronto para realizar a operao no banco.
-   * @throws RFWException Lanado em caso de Erro.
+   * @return PreparedStatemet pronto para realizar a operação no banco.
+   * @throws RFWException Lançado em caso de Erro.
    */
   public static <VO extends RFWVO> PreparedStatement createUpdateStatement(Connection conn, DAOMap map, String path, VO vo, SQLDialect dialect) throws RFWException {
     return createUpdateStatement(conn, map, path, vo, null, 0, dialect);
   }
 
   /**
-   * Cria o Statement SQL para atualizar o objeto no banco de dados, COM a atualizao da coluna de SortColumn. A sortcolumn  a coluna utilizada para salvar o ndice de um objeto em uma lista e dessa forma garantir que a lista ter a mesma ordem ao ser recuperada do banco de dados.<br>
-   *  necessrio um mtodo de criao especial pois a coluna de sort no deve fazer parte do objeto e  gerenciada pela classe do RFWDAO. Diferentemente da coluna da Hash que normalmente  algum atributo do prprio objeto.
+   * Cria o Statement SQL para atualizar o objeto no banco de dados, COM a atualização da coluna de SortColumn. A sortcolumn é a coluna utilizada para salvar o índice de um objeto em uma lista e dessa forma garantir que a lista terá a mesma ordem ao ser recuperada do banco de dados.<br>
+   * É necessário um método de criação especial pois a coluna de sort não deve fazer parte do objeto e é gerenciada pela classe do RFWDAO. Diferentemente da coluna da Hash que normalmente é algum atributo do próprio objeto.
    *
-   * @param conn Conexo com o banco para criao do PreparedStatement.
+   * @param conn Conexão com o banco para criação do PreparedStatement.
    * @param map Mapeamento do VO com as tabelas do banco.
-   * @param path caminho at o VO que est sendo inserido no banco.
+   * @param path caminho até o VO que está sendo inserido no banco.
    * @param vo Objeto a ser inserido no banco de dados.
-   * @param sortColumn Nome da coluna onde  salvo o ndice de ordem da Lista (se houver), ou Null caso no seja usado o recurso
-   * @param sortIndex ndice de indexao do item na lista.
+   * @param sortColumn Nome da coluna onde é salvo o índice de ordem da Lista (se houver), ou Null caso não seja usado o recurso
+   * @param sortIndex Índice de indexação do item na lista.
    * @param dialect
    *
-   * @return PreparedStatemet pronto para realizar a operao no banco.
-   * @throws RFWException Lanado em caso de Erro.
+   * @return PreparedStatemet pronto para realizar a operação no banco.
+   * @throws RFWException Lançado em caso de Erro.
    */
   public static <VO extends RFWVO> PreparedStatement createUpdateStatement(Connection conn, DAOMap map, String path, VO vo, String sortColumn, int sortIndex, SQLDialect dialect) throws RFWException {
     final StringBuffer sql = new StringBuffer();
     final LinkedList<Object> statementParameters = new LinkedList<>();
     try {
-      final DAOMapTable mTable = map.getMapTableByPath(path);
+      writeUpdate(sql, statementParameters, map, path, vo, sortColumn, sortIndex, dialect);
 
-      sql.append("UPDATE ").append(dialect.getQM()).append(mTable.schema).append(dialect.getQM()).append(".").append(dialect.getQM()).append(mTable.table).append(dialect.getQM()).append(" SET ");
+      final String s = sql.toString();
+      // ATENÇÃO: NÃO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log não dá certo!!!!
+      if (RFW.isDevelopmentEnvironment()) System.out.println(s);
+      PreparedStatement stmt = conn.prepareStatement(s);
+      writeStatementParameters(stmt, statementParameters);
+      return stmt;
+    } catch (Throwable e) {
+      throw new RFWCriticalException("RFW_ERR_000010", new String[] { sql.toString() }, e);
+    }
+  }
 
-      // Itera todos os campos em busca dos campos dessa tabela
-      int c = 0;
-      for (DAOMapField mField : map.getMapField()) {
-        if (mField.table == mTable) {
-          if (c > 0) sql.append(",");
-          if (!"id".equals(mField.column)) { // Pula a coluna ID para que ela no entre no corpo do UPDATE, s no WHERE abaixo.
-            sql.append(dialect.getQM()).append(mField.column).append(dialect.getQM()).append("=?");
-            c++;
+  /**
+   * Escreve o SQL de atualização do objeto e a lista de parâmetros na ordem em que devem ser aplicados no Statement. Assim como no {@link #writeInsert(StringBuffer, LinkedList, DAOMap, String, RFWVO, String, int, SQLDialect)}, o SQL é o mesmo para todos os objetos de um mesmo caminho.
+   *
+   * @param sql Buffer onde o SQL será escrito.
+   * @param statementParameters Lista onde os parâmetros serão adicionados.
+   * @param map Mapeamento do VO com as tabelas do banco.
+   * @param path caminho até o VO que está sendo atualizado no banco.
+   * @param vo Objeto a ser atualizado no banco de dados.
+   * @param sortColumn Nome da coluna onde é salvo o índice de ordem da Lista (se houver), ou Null caso não seja usado o recurso
+   * @param sortIndex Índice de indexação do item na lista.
+   * @param dialect
+   * @throws RFWException Lançado em caso de Erro.
+   */
+  static <VO extends RFWVO> void writeUpdate(StringBuffer sql, LinkedList<Object> statementParameters, DAOMap map, String path, VO vo, String sortColumn, int sortIndex, SQLDialect dialect) throws RFWException {
+    final DAOMapTable mTable = map.getMapTableByPath(path);
+    final EntityMetadata entityMeta = EntityMetadata.get(vo.getClass());
 
-            // Salvamos o valor do objeto na lista de atributos.
-            Object value = RUReflex.getPropertyValue(vo, mField.field);
-
-            // Verificamos se o atributo tem um converter, se tiver ele ser usado para preparar os valores para o banco de dados
-            if (!"id".equals(mField.field)) { // No acieta as annotations no campo ID
-              final RFWDAOConverter convAnn = vo.getClass().getDeclaredField(mField.field).getAnnotation(RFWDAOConverter.class);
-              if (convAnn != null) {
-                final Object ni = convAnn.converterClass().newInstance();
-                if (!(ni instanceof RFWDAOConverterInterface)) throw new RFWCriticalException("A classe '${0}' definida no atributo '${1}' da classe '${2}' no  um RFWDAOConverterInterface vlido!", new String[] { convAnn.converterClass().getCanonicalName(), mField.field, vo.getClass().getCanonicalName() });
-                value = ((RFWDAOConverterInterface) ni).toDB(value);
-              } else {
-                // Verificamos se o atributo for do tipo String e tem a annotation RFWMetaEncrypt, para encriptarmos o contedo
-                if (value != null && (value instanceof String)) {
-                  final RFWMetaEncrypt encAnn = vo.getClass().getDeclaredField(mField.field).getAnnotation(RFWMetaEncrypt.class);
-                  if (encAnn != null) {
-                    value = RUEncrypter.encryptDES((String) value, encAnn.key());
-                  }
-                }
-              }
-            }
-            statementParameters.add(value);
-          }
+    final String versionColumn = getVersionColumn(mTable, entityMeta);
+
+    sql.append("UPDATE ").append(dialect.getQM()).append(mTable.schema).append(dialect.getQM()).append(".").append(dialect.getQM()).append(mTable.table).append(dialect.getQM()).append(" SET ");
+
+    // Itera todos os campos em busca dos campos dessa tabela
+    int c = 0;
+    for (DAOMapField mField : map.getMapField()) {
+      if (mField.table == mTable) {
+        if (mField.column.equals(versionColumn)) continue; // A coluna de versão é escrita no final, com a próxima versão
+        if (c > 0) sql.append(",");
+        if (!"id".equals(mField.column)) { // Pula a coluna ID para que ela não entre no corpo do UPDATE, só no WHERE abaixo.
+          sql.append(dialect.getQM()).append(mField.column).append(dialect.getQM()).append("=?");
+          c++;
+
+          // Salvamos o valor do objeto na lista de atributos.
+          statementParameters.add(toDBValue(map, entityMeta, vo, mField, entityMeta.getPropertyValue(vo, mField.field)));
         }
       }
+    }
 
-      // Se tiver uma coluna de Sort, inclumos ela agora no final dos campos
-      if (sortColumn != null) {
-        sql.append(",").append(dialect.getQM()).append(sortColumn).append(dialect.getQM()).append("=?");
-        statementParameters.add(new Integer(sortIndex));
+    // Se tiver uma coluna de Sort, incluímos ela agora no final dos campos
+    if (sortColumn != null) {
+      sql.append(",").append(dialect.getQM()).append(sortColumn).append(dialect.getQM()).append("=?");
+      statementParameters.add(new Integer(sortIndex));
+    }
+
+    Object version = null;
+    if (versionColumn != null) {
+      version = entityMeta.getVersionField().get(vo);
+      if (c > 0 || sortColumn != null) sql.append(",");
+      sql.append(dialect.getQM()).append(versionColumn).append(dialect.getQM()).append("=?");
+      statementParameters.add(entityMeta.getNextVersion(vo));
+    }
+
+    sql.append(" WHERE ").append(dialect.getQM()).append("id").append(dialect.getQM()).append("=?");
+    statementParameters.add(vo.getId());
+
+    if (versionColumn != null) {
+      // A condição da versão faz com que nenhuma linha seja atualizada caso o registro tenha sido alterado por outra transação
+      sql.append(" AND ").append(dialect.getQM()).append(versionColumn).append(dialect.getQM());
+      if (version == null) {
+        sql.append(" IS NULL");
+      } else {
+        sql.append("=?");
+        statementParameters.add(version);
       }
+    }
+  }
+
+  /**
+   * Cria o Statement SQL para atualizar no banco de dados apenas as colunas do objeto que foram alteradas em relação ao objeto original.<br>
+   * Caso o objeto original não seja informado, todas as colunas são atualizadas como no {@link #createUpdateStatement(Connection, DAOMap, String, RFWVO, String, int, SQLDialect)}.
+   *
+   * @param conn Conexão com o banco para criação do PreparedStatement.
+   * @param map Mapeamento do VO com as tabelas do banco.
+   * @param path caminho até o VO que está sendo atualizado no banco.
+   * @param vo Objeto a ser atualizado no banco de dados.
+   * @param voOrig Objeto como está no banco de dados (obtido no findForUpdate), utilizado para comparação. Pode ser nulo.
+   * @param sortColumn Nome da coluna onde é salvo o índice de ordem da Lista (se houver), ou Null caso não seja usado o recurso
+   * @param sortIndex Índice de indexação do item na lista.
+   * @param sortIndexOrig Índice do objeto original na lista, ou -1 caso não seja conhecido.
+   * @param dialect
+   *
+   * @return PreparedStatemet pronto para realizar a operação no banco, ou nulo caso nenhuma coluna tenha sido alterada e a entidade não tenha controle de versão.
+   * @throws RFWException Lançado em caso de Erro.
+   */
+  public static <VO extends RFWVO> PreparedStatement createDirtyUpdateStatement(Connection conn, DAOMap map, String path, VO vo, VO voOrig, String sortColumn, int sortIndex, int sortIndexOrig, SQLDialect dialect) throws RFWException {
+    if (voOrig == null) return createUpdateStatement(conn, map, path, vo, sortColumn, sortIndex, dialect);
 
-      sql.append(" WHERE ").append(dialect.getQM()).append("id").append(dialect.getQM()).append("=?");
-      statementParameters.add(vo.getId());
+    final StringBuffer sql = new StringBuffer();
+    final LinkedList<Object> statementParameters = new LinkedList<>();
+    try {
+      if (!writeDirtyUpdate(sql, statementParameters, map, path, vo, voOrig, sortColumn, sortIndex, sortIndexOrig, dialect)) return null;
 
       final String s = sql.toString();
-      // ATENO: NO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log no d certo!!!!
+      // ATENÇÃO: NÃO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log não dá certo!!!!
       if (RFW.isDevelopmentEnvironment()) System.out.println(s);
       PreparedStatement stmt = conn.prepareStatement(s);
       writeStatementParameters(stmt, statementParameters);
@@ -1161,17 +1636,138 @@ class DAOMap {
   }
 
   /**
-   * Cria o Statement para atualiza vrios objetos de uma nica vez no banco de dados.
+   * Escreve o SQL de atualização apenas das colunas do objeto que foram alteradas em relação ao objeto original, e a lista de parâmetros na ordem em que devem ser aplicados no Statement.<br>
+   * A comparação é feita com os valores dos atributos do objeto, antes da aplicação dos conversores e da criptografia. A sortColumn é considerada alterada quando o índice do objeto na lista mudou.
    *
-   * @param conn Conexo com o banco para criao do PreparedStatement.
+   * @param sql Buffer onde o SQL será escrito.
+   * @param statementParameters Lista onde os parâmetros serão adicionados.
    * @param map Mapeamento do VO com as tabelas do banco.
-   * @param setValues Conjunto de valores a serem atualizados. Onde a chave do SET  o campo do VO. Geralmente gerado a partir dos Meta Objetos, e o contedo o valor a ser atribuido no campo.
-   * @param mo MatchObject para filtrar os objetos que sero atualizados.
+   * @param path caminho até o VO que está sendo atualizado no banco.
+   * @param vo Objeto a ser atualizado no banco de dados.
+   * @param voOrig Objeto como está no banco de dados, utilizado para comparação.
+   * @param sortColumn Nome da coluna onde é salvo o índice de ordem da Lista (se houver), ou Null caso não seja usado o recurso
+   * @param sortIndex Índice de indexação do item na lista.
+   * @param sortIndexOrig Índice do objeto original na lista, ou -1 caso não seja conhecido.
+   * @param dialect
+   * @return true caso alguma coluna tenha sido alterada ou a entidade tenha controle de versão (a versão é sempre incrementada), false caso o objeto não precise ser atualizado (nada é escrito no sql
+   *         nem nos parâmetros).
+   * @throws RFWException Lançado em caso de Erro.
+   */
+  static <VO extends RFWVO> boolean writeDirtyUpdate(StringBuffer sql, LinkedList<Object> statementParameters, DAOMap map, String path, VO vo, VO voOrig, String sortColumn, int sortIndex, int sortIndexOrig, SQLDialect dialect) throws RFWException {
+    final DAOMapTable mTable = map.getMapTableByPath(path);
+    final EntityMetadata entityMeta = EntityMetadata.get(vo.getClass());
+
+    final String versionColumn = getVersionColumn(mTable, entityMeta);
+    final LinkedList<String> columns = new LinkedList<>();
+    for (DAOMapField mField : map.getMapField()) {
+      if (mField.table == mTable && !"id".equals(mField.column) && !mField.column.equals(versionColumn)) {
+        final Object value = entityMeta.getPropertyValue(vo, mField.field);
+        if (isSameValue(value, entityMeta.getPropertyValue(voOrig, mField.field))) continue;
+        columns.add(mField.column);
+        statementParameters.add(toDBValue(map, entityMeta, vo, mField, value));
+      }
+    }
+    if (sortColumn != null && sortIndex != sortIndexOrig) {
+      columns.add(sortColumn);
+      statementParameters.add(new Integer(sortIndex));
+    }
+    // Entidades versionadas são sempre atualizadas, mesmo sem colunas alteradas (ex: quando só as composições mudaram), para que a versão seja incrementada e verificada
+    if (columns.isEmpty() && versionColumn == null) return false;
+    Object version = null;
+    if (versionColumn != null) {
+      version = entityMeta.getVersionField().get(vo);
+      columns.add(versionColumn);
+      statementParameters.add(entityMeta.getNextVersion(vo));
+    }
+    statementParameters.add(vo.getId());
+    if (version != null) statementParameters.add(version);
+
+    sql.append("UPDATE ").append(dialect.getQM()).append(mTable.schema).append(dialect.getQM()).append(".").append(dialect.getQM()).append(mTable.table).append(dialect.getQM()).append(" SET ");
+    int c = 0;
+    for (String column : columns) {
+      if (c++ > 0) sql.append(",");
+      sql.append(dialect.getQM()).append(column).append(dialect.getQM()).append("=?");
+    }
+    sql.append(" WHERE ").append(dialect.getQM()).append("id").append(dialect.getQM()).append("=?");
+    if (versionColumn != null) sql.append(" AND ").append(dialect.getQM()).append(versionColumn).append(dialect.getQM()).append(version == null ? " IS NULL" : "=?");
+    return true;
+  }
+
+  /**
+   * Recupera a coluna de versão ({@link br.eng.rodrigogml.rfw.orm.dao.annotations.dao.RFWDAOVersion}) da tabela do objeto.
+   *
+   * @return Nome da coluna, ou null caso a entidade não tenha controle de versão ou o atributo não esteja mapeado na tabela.
+   */
+  private static String getVersionColumn(DAOMapTable mTable, EntityMetadata entityMeta) {
+    final FieldDescriptor versionField = entityMeta.getVersionField();
+    if (versionField == null) return null;
+    for (DAOMapField mField : mTable.mappedFields) {
+      if (versionField.name.equals(mField.field)) return mField.column;
+    }
+    return null;
+  }
+
+  /**
+   * Valida o resultado do UPDATE de um objeto com controle de versão e, caso o registro tenha sido atualizado, passa o objeto para a próxima versão (a mesma escrita no banco de dados).<br>
+   * Para objetos sem controle de versão nada é feito.
+   *
+   * @param vo Objeto atualizado.
+   * @param count Quantidade de linhas atualizadas, retornada pelo executeUpdate(). Qualquer valor diferente de 1 (inclusive o {@link Statement#SUCCESS_NO_INFO} de um executeBatch()) é tratado como
+   *          conflito, já que não garante que a versão do registro foi validada.
+   * @throws RFWException Lançado o {@link RFWDAOConflictException} caso a atualização de exatamente uma linha não seja confirmada.
+   */
+  static void updateVersion(RFWVO vo, int count) throws RFWException {
+    final EntityMetadata entityMeta = EntityMetadata.get(vo.getClass());
+    final FieldDescriptor versionField = entityMeta.getVersionField();
+    if (versionField == null) return;
+    if (count != 1) throw new RFWDAOConflictException(vo.getClass(), vo.getId(), versionField.get(vo));
+    versionField.set(vo, entityMeta.getNextVersion(vo));
+  }
+
+  /**
+   * Compara o valor atual de um atributo com o valor original, para saber se a coluna precisa ser atualizada.<br>
+   * BigDecimal são comparados sem considerar a escala (1.0 = 1.00), datas pelo instante (um Timestamp recuperado do banco é igual ao Date de mesmo instante) e arrays de bytes pelo conteúdo.
+   */
+  private static boolean isSameValue(Object value, Object valueOrig) {
+    if (value == valueOrig) return true;
+    if (value == null || valueOrig == null) return false;
+    if (value instanceof BigDecimal && valueOrig instanceof BigDecimal) return ((BigDecimal) value).compareTo((BigDecimal) valueOrig) == 0;
+    if (value instanceof Date && valueOrig instanceof Date) return ((Date) value).getTime() == ((Date) valueOrig).getTime();
+    if (value instanceof byte[] && valueOrig instanceof byte[]) return Arrays.equals((byte[]) value, (byte[]) valueOrig);
+    return value.equals(valueOrig);
+  }
+
+  /**
+   * Prepara o valor do atributo para ser escrito no banco de dados, aplicando o conversor definido no atributo ou a criptografia do {@link RFWMetaEncrypt}.
+   */
+  private static Object toDBValue(DAOMap map, EntityMetadata entityMeta, RFWVO vo, DAOMapField mField, Object value) throws RFWException {
+    // Verificamos se o atributo tem um converter, se tiver ele será usado para preparar os valores para o banco de dados
+    if (!"id".equals(mField.field)) { // Não aceita as annotations no campo ID
+      final FieldDescriptor fd = entityMeta.getField(mField.field);
+      if (fd.converterClass != null) {
+        value = DAOConverterRegistry.get(map.resolver, fd.converterClass, fd.converterCacheable, mField.field, vo.getClass()).toDB(value);
+      } else {
+        // Verificamos se o atributo for do tipo String e tem a annotation RFWMetaEncrypt, para encriptarmos o conteúdo
+        if (value != null && (value instanceof String) && fd.encryptKey != null) {
+          value = RUEncrypter.encryptDES((String) value, fd.encryptKey);
+        }
+      }
+    }
+    return value;
+  }
+
+  /**
+   * Cria o Statement para atualiza vários objetos de uma única vez no banco de dados.
+   *
+   * @param conn Conexão com o banco para criação do PreparedStatement.
+   * @param map Mapeamento do VO com as tabelas do banco.
+   * @param setValues Conjunto de valores a serem atualizados. Onde a chave do SET é o campo do VO. Geralmente gerado a partir dos Meta Objetos, e o conteúdo o valor a ser atribuido no campo.
+   * @param mo MatchObject para filtrar os objetos que serão atualizados.
    * @param voClass Classe do objeto principal.
    * @param dialect
    *
-   * @return PreparedStatemet pronto para realizar a operao no banco.
-   * @throws RFWException Lanado em caso de Erro.
+   * @return PreparedStatemet pronto para realizar a operação no banco.
+   * @throws RFWException Lançado em caso de Erro.
    */
   public static <VO extends RFWVO> PreparedStatement createMassUpdateStatement(Connection conn, DAOMap map, Map<String, Object> setValues, RFWMO mo, Class<? extends RFWVO> voClass, SQLDialect dialect) throws RFWException {
     final StringBuffer sql = new StringBuffer();
@@ -1186,23 +1782,23 @@ class DAOMap {
 
       // ==> UPDATE
       {
-        // Comea incluindo o mapeamento raiz
+        // Começa incluindo o mapeamento raiz
         final DAOMapTable mTableRoot = map.mapTableByPath.get("");
         sql.append("UPDATE ").append(dialect.getQM()).append(mTableRoot.schema).append(dialect.getQM()).append(".").append(dialect.getQM()).append(mTableRoot.table).append(dialect.getQM()).append(" AS ").append(dialect.getQM()).append(mTableRoot.alias).append(dialect.getQM());
         // Itera as demais tabelas como Left Join
         for (DAOMapTable mTable : map.mapTableByPath.values()) {
-          // Evita a tabela raiz, j que ela j foi adicionada
+          // Evita a tabela raiz, já que ela já foi adicionada
           if (!"".equals(mTable.path)) {
             sql.append(" LEFT JOIN ").append(dialect.getQM()).append(mTable.schema).append(dialect.getQM()).append(".").append(dialect.getQM()).append(mTable.table).append(dialect.getQM()).append(" AS ").append(dialect.getQM()).append(mTable.alias).append(dialect.getQM()).append(" ON ").append(dialect.getQM()).append(mTable.joinAlias).append(dialect.getQM()).append(".").append(dialect.getQM()).append(mTable.joinColumn).append(dialect.getQM()).append(" = ").append(dialect.getQM()).append(mTable.alias).append(dialect.getQM()).append(".").append(dialect.getQM()).append(mTable.column).append(dialect.getQM());
           }
         }
       }
 
-      // Itera todos os campos que sero atualizados
+      // Itera todos os campos que serão atualizados
       sql.append(" SET ");
       int c = 0;
       for (String column : setValues.keySet()) {
-        if ("id".equals(column)) throw new RFWCriticalException("No  permitido atualizar a coluna ID no MassUpdate do RFWDAO!");
+        if ("id".equals(column)) throw new RFWCriticalException("Não é permitido atualizar a coluna ID no MassUpdate do RFWDAO!");
         DAOMapField mField = map.getMapFieldByPath(column);
 
         if (c > 0) sql.append(",");
@@ -1211,19 +1807,14 @@ class DAOMap {
         // Salvamos o valor da coluna na lista de atributos.
         Object value = setValues.get(column);
 
-        // Verificamos se o atributo tem um converter, se tiver ele ser usado para preparar os valores para o banco de dados
-        final RFWDAOConverter convAnn = voClass.getDeclaredField(mField.field).getAnnotation(RFWDAOConverter.class);
-        if (convAnn != null) {
-          final Object ni = convAnn.converterClass().newInstance();
-          if (!(ni instanceof RFWDAOConverterInterface)) throw new RFWCriticalException("A classe '${0}' definida no atributo '${1}' da classe '${2}' no  um RFWDAOConverterInterface vlido!", new String[] { convAnn.converterClass().getCanonicalName(), mField.field, voClass.getCanonicalName() });
-          value = ((RFWDAOConverterInterface) ni).toDB(value);
+        // Verificamos se o atributo tem um converter, se tiver ele será usado para preparar os valores para o banco de dados
+        final FieldDescriptor fd = EntityMetadata.get(mField.table.type).getField(mField.field);
+        if (fd.converterClass != null) {
+          value = DAOConverterRegistry.get(map.resolver, fd.converterClass, fd.converterCacheable, mField.field, voClass).toDB(value);
         } else {
-          // Verificamos se o atributo for do tipo String e tem a annotation RFWMetaEncrypt, para encriptarmos o contedo
-          if (value != null && (value instanceof String)) {
-            final RFWMetaEncrypt encAnn = voClass.getDeclaredField(mField.field).getAnnotation(RFWMetaEncrypt.class);
-            if (encAnn != null) {
-              value = RUEncrypter.encryptDES((String) value, encAnn.key());
-            }
+          // Verificamos se o atributo for do tipo String e tem a annotation RFWMetaEncrypt, para encriptarmos o conteúdo
+          if (value != null && (value instanceof String) && fd.encryptKey != null) {
+            value = RUEncrypter.encryptDES((String) value, fd.encryptKey);
           }
         }
         parameters.add(value);
@@ -1233,14 +1824,14 @@ class DAOMap {
       // ===> WHERE
       if (mo != null && mo.size() > 0) {
         final StringBuilder where = writeWhere(map, mo, parameters, dialect);
-        // As vezes temos MO, mas ele no gera nenhuma consulta (um MO em branco), neste caso no escrevemos o "WHERE" ou teremos um SQL invlido
+        // As vezes temos MO, mas ele não gera nenhuma consulta (um MO em branco), neste caso não escrevemos o "WHERE" ou teremos um SQL inválido
         if (where.length() > 0) sql.append(" WHERE").append(where);
       } else {
-        throw new RFWCriticalException("O RFWDAO MassUpdate no aceita uma atualizao com MO nulo ou sem parametro nenhum por segurana contra cagadas. Se sua inteno for mesmo atualizar todo o banco, crie uma condio como \"id > -1\" para passar por esta validao!");
+        throw new RFWCriticalException("O RFWDAO MassUpdate não aceita uma atualização com MO nulo ou sem parametro nenhum por segurança contra cagadas. Se sua intenção for mesmo atualizar todo o banco, crie uma condição como \"id > -1\" para passar por esta validação!");
       }
 
       final String s = sql.toString();
-      // ATENO: NO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log no d certo!!!!
+      // ATENÇÃO: NÃO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log não dá certo!!!!
       if (RFW.isDevelopmentEnvironment()) System.out.println(s);
       PreparedStatement stmt = conn.prepareStatement(s);
       writeStatementParameters(stmt, parameters);
@@ -1253,21 +1844,21 @@ class DAOMap {
   /**
    * Cria o Statement SQL para inserir o mapeamento entre dois objetos em uma tabela de joinAlias.
    *
-   * @param conn Conexo com o banco para criao do PreparedStatement.
+   * @param conn Conexão com o banco para criação do PreparedStatement.
    * @param map Mapeamento do VO com as tabelas do banco.
-   * @param path Caminho at o VO do objeto que est sendo associado no relacionamento N:N no banco.
+   * @param path Caminho até o VO do objeto que está sendo associado no relacionamento N:N no banco.
    * @param vo1 VO que estamos persistindo presente no mapeamento.
-   * @param vo2 VO do relacionamento ManyToMany que ser associado.
+   * @param vo2 VO do relacionamento ManyToMany que será associado.
    * @param dialect
    *
-   * @return PreparedStatemet pronto para realizar a operao no banco.
-   * @throws RFWException Lanado em caso de Erro.
+   * @return PreparedStatemet pronto para realizar a operação no banco.
+   * @throws RFWException Lançado em caso de Erro.
    */
   public static <VO extends RFWVO> PreparedStatement createManyToManyInsertStatement(Connection conn, DAOMap map, String path, VO vo1, VO vo2, SQLDialect dialect) throws RFWException {
     final StringBuffer sql = new StringBuffer();
     final LinkedList<Object> statementParameters = new LinkedList<>();
     try {
-      final DAOMapTable jTable = map.getMapTableByPath("." + path); // Obtem o mapeamento da tabela de joinAlias, que  colocada na Hash com mesmo caminho do path com o prefixo de "."
+      final DAOMapTable jTable = map.getMapTableByPath("." + path); // Obtem o mapeamento da tabela de joinAlias, que é colocada na Hash com mesmo caminho do path com o prefixo de "."
       final DAOMapTable mTable = map.getMapTableByPath(path);
 
       sql.append("INSERT INTO ").append(dialect.getQM()).append(jTable.schema).append(dialect.getQM()).append(".").append(dialect.getQM()).append(jTable.table);
@@ -1280,7 +1871,7 @@ class DAOMap {
       statementParameters.add(vo2.getId());
 
       final String s = sql.toString();
-      // ATENO: NO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log no d certo!!!!
+      // ATENÇÃO: NÃO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log não dá certo!!!!
       if (RFW.isDevelopmentEnvironment()) System.out.println(s);
       PreparedStatement stmt = conn.prepareStatement(s);
       writeStatementParameters(stmt, statementParameters);
@@ -1293,21 +1884,21 @@ class DAOMap {
   /**
    * Cria o Statement SQL para consutlar um mapeamento entre dois objetos em uma tabela de joinAlias.
    *
-   * @param conn Conexo com o banco para criao do PreparedStatement.
+   * @param conn Conexão com o banco para criação do PreparedStatement.
    * @param map Mapeamento do VO com as tabelas do banco.
-   * @param path Caminho at o VO do objeto que est sendo associado no relacionamento N:N no banco.
+   * @param path Caminho até o VO do objeto que está sendo associado no relacionamento N:N no banco.
    * @param vo1 VO que estamos persistindo presente no mapeamento.
-   * @param vo2 VO do relacionamento ManyToMany que ser associado.
+   * @param vo2 VO do relacionamento ManyToMany que será associado.
    * @param dialect
    *
-   * @return PreparedStatemet pronto para realizar a operao no banco.
-   * @throws RFWException Lanado em caso de Erro.
+   * @return PreparedStatemet pronto para realizar a operação no banco.
+   * @throws RFWException Lançado em caso de Erro.
    */
   public static <VO extends RFWVO> PreparedStatement createManyToManySelectStatement(Connection conn, DAOMap map, String path, VO vo1, VO vo2, SQLDialect dialect) throws RFWException {
     final StringBuffer sql = new StringBuffer();
     final LinkedList<Object> statementParameters = new LinkedList<>();
     try {
-      final DAOMapTable jTable = map.getMapTableByPath("." + path); // Obtem o mapeamento da tabela de joinAlias, que  colocada na Hash com mesmo caminho do path com o prefixo de "."
+      final DAOMapTable jTable = map.getMapTableByPath("." + path); // Obtem o mapeamento da tabela de joinAlias, que é colocada na Hash com mesmo caminho do path com o prefixo de "."
       final DAOMapTable mTable = map.getMapTableByPath(path);
 
       sql.append("SELECT * FROM ").append(dialect.getQM()).append(jTable.schema).append(dialect.getQM()).append(".").append(dialect.getQM()).append(jTable.table).append(dialect.getQM()).append(" WHERE ").append(dialect.getQM()).append(jTable.column).append(dialect.getQM()).append("=? AND ").append(dialect.getQM()).append(mTable.joinColumn).append(dialect.getQM()).append("=?");
@@ -1316,7 +1907,7 @@ class DAOMap {
       statementParameters.add(vo2.getId());
 
       final String s = sql.toString();
-      // ATENO: NO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log no d certo!!!!
+      // ATENÇÃO: NÃO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log não dá certo!!!!
       if (RFW.isDevelopmentEnvironment()) System.out.println(s);
       PreparedStatement stmt = conn.prepareStatement(s);
       writeStatementParameters(stmt, statementParameters);
@@ -1329,21 +1920,21 @@ class DAOMap {
   /**
    * Cria o Statement SQL para excluir um mapeamento entre dois objetos em uma tabela de joinAlias.
    *
-   * @param conn Conexo com o banco para criao do PreparedStatement.
+   * @param conn Conexão com o banco para criação do PreparedStatement.
    * @param map Mapeamento do VO com as tabelas do banco.
-   * @param path Caminho at o VO do objeto que est sendo associado no relacionamento N:N no banco.
+   * @param path Caminho até o VO do objeto que está sendo associado no relacionamento N:N no banco.
    * @param vo1 VO que estamos persistindo presente no mapeamento.
-   * @param vo2 VO do relacionamento ManyToMany que ser associado.
+   * @param vo2 VO do relacionamento ManyToMany que será associado.
    * @param dialect
    *
-   * @return PreparedStatemet pronto para realizar a operao no banco.
-   * @throws RFWException Lanado em caso de Erro.
+   * @return PreparedStatemet pronto para realizar a operação no banco.
+   * @throws RFWException Lançado em caso de Erro.
    */
   public static <VO extends RFWVO> PreparedStatement createManyToManyDeleteStatement(Connection conn, DAOMap map, String path, VO vo1, VO vo2, SQLDialect dialect) throws RFWException {
     final StringBuffer sql = new StringBuffer();
     final LinkedList<Object> statementParameters = new LinkedList<>();
     try {
-      final DAOMapTable jTable = map.getMapTableByPath("." + path); // Obtem o mapeamento da tabela de joinAlias, que  colocada na Hash com mesmo caminho do path com o prefixo de "."
+      final DAOMapTable jTable = map.getMapTableByPath("." + path); // Obtem o mapeamento da tabela de joinAlias, que é colocada na Hash com mesmo caminho do path com o prefixo de "."
       final DAOMapTable mTable = map.getMapTableByPath(path);
 
       sql.append("DELETE FROM ").append(dialect.getQM()).append(jTable.schema).append(dialect.getQM()).append(".").append(dialect.getQM()).append(jTable.table).append(dialect.getQM()).append(" WHERE ").append(dialect.getQM()).append(jTable.column).append(dialect.getQM()).append("=? AND ").append(dialect.getQM()).append(mTable.joinColumn).append(dialect.getQM()).append("=?");
@@ -1352,7 +1943,7 @@ class DAOMap {
       statementParameters.add(vo2.getId());
 
       final String s = sql.toString();
-      // ATENO: NO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log no d certo!!!!
+      // ATENÇÃO: NÃO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log não dá certo!!!!
       if (RFW.isDevelopmentEnvironment()) System.out.println(s);
       PreparedStatement stmt = conn.prepareStatement(s);
       writeStatementParameters(stmt, statementParameters);
@@ -1375,7 +1966,7 @@ class DAOMap {
       sql.append(")");
 
       final String s = sql.toString();
-      // ATENO: NO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log no d certo!!!!
+      // ATENÇÃO: NÃO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log não dá certo!!!!
       if (RFW.isDevelopmentEnvironment()) System.out.println(s);
       PreparedStatement stmt = conn.prepareStatement(s);
       for (int i = 0; i < ids.length; i++) {
@@ -1390,9 +1981,9 @@ class DAOMap {
   /**
    * Exclui todos os elementos de uma {@link RFWMetaCollectionField} associado a um objeto.
    *
-   * @param conn Conexo com o banco de dados.
+   * @param conn Conexão com o banco de dados.
    * @param map Mapeamento do Banco de dados.
-   * @param path Caminho da tabela onde esto os elementos. No Mapeamento o caminho  criado com o caminho do atributo prexecido de um ".".
+   * @param path Caminho da tabela onde estão os elementos. No Mapeamento o caminho é criado com o caminho do atributo prexecido de um ".".
    * @param id
    * @param dialect
    * @return Statement preparado para ser executado no Banco de dados.
@@ -1406,7 +1997,7 @@ class DAOMap {
       sql.append("DELETE FROM ").append(dialect.getQM()).append(mTable.schema).append(dialect.getQM()).append(".").append(dialect.getQM()).append(mTable.table).append(dialect.getQM()).append(" WHERE ").append(dialect.getQM()).append(mTable.column).append(dialect.getQM()).append("=?");
 
       final String s = sql.toString();
-      // ATENO: NO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log no d certo!!!!
+      // ATENÇÃO: NÃO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log não dá certo!!!!
       if (RFW.isDevelopmentEnvironment()) System.out.println(s);
       PreparedStatement stmt = conn.prepareStatement(s);
       stmt.setLong(1, id);
@@ -1417,11 +2008,11 @@ class DAOMap {
   }
 
   /**
-   * Este mtodo adiciona um RFWMO para as condies da clausula Where do SQL.
+   * Este método adiciona um RFWMO para as condições da clausula Where do SQL.
    *
    * @param map Descritor dos mapeamentos entre Objeto de Tabelas do Banco da dados.
-   * @param mo MO com as condies a serem usadas no Where
-   * @param statementParameters Lista onde sero armazenados os objetos para a posteriro troca dos '?' pelos valores
+   * @param mo MO com as condições a serem usadas no Where
+   * @param statementParameters Lista onde serão armazenados os objetos para a posteriro troca dos '?' pelos valores
    * @param dialect
    * @throws RFWException
    */
@@ -1432,7 +2023,7 @@ class DAOMap {
     // ==> Equals
     for (RFWMOData data : mo.getEqual()) {
       DAOMapField fMap = map.mapFieldByPath.get(data.getFieldname());
-      if (fMap == null) fMap = map.mapFieldByPath.get(data.getFieldname() + "@"); // se no encontrou, pode ser que o atributo seja uma Collection, tentamos encontrar com o '@' no final
+      if (fMap == null) fMap = map.mapFieldByPath.get(data.getFieldname() + "@"); // se não encontrou, pode ser que o atributo seja uma Collection, tentamos encontrar com o '@' no final
       RFWMetaEncrypt encAnn = null;
       if (fMap != null) encAnn = RUReflex.getRFWDAOEncryptAnnotation(fMap.table.type, fMap.field.replaceAll("\\@", ""));
       if (buff.length() > 0) {
@@ -1456,7 +2047,7 @@ class DAOMap {
     // ==> Not Equals
     for (RFWMOData data : mo.getNotEqual()) {
       DAOMapField fMap = map.mapFieldByPath.get(data.getFieldname());
-      if (fMap == null) fMap = map.mapFieldByPath.get(data.getFieldname() + "@"); // se no encontrou, pode ser que o atributo seja uma Collection, tentamos encontrar com o '@' no final
+      if (fMap == null) fMap = map.mapFieldByPath.get(data.getFieldname() + "@"); // se não encontrou, pode ser que o atributo seja uma Collection, tentamos encontrar com o '@' no final
       RFWMetaEncrypt encAnn = null;
       if (fMap != null) encAnn = RUReflex.getRFWDAOEncryptAnnotation(fMap.table.type, fMap.field.replaceAll("\\@", ""));
       if (buff.length() > 0) {
@@ -1480,7 +2071,7 @@ class DAOMap {
     // ==> Like
     for (RFWMOData data : mo.getLike()) {
       DAOMapField fMap = map.mapFieldByPath.get(data.getFieldname());
-      if (fMap == null) fMap = map.mapFieldByPath.get(data.getFieldname() + "@"); // se no encontrou, pode ser que o atributo seja uma Collection, tentamos encontrar com o '@' no final
+      if (fMap == null) fMap = map.mapFieldByPath.get(data.getFieldname() + "@"); // se não encontrou, pode ser que o atributo seja uma Collection, tentamos encontrar com o '@' no final
       RFWMetaEncrypt encAnn = null;
       if (fMap != null) encAnn = RUReflex.getRFWDAOEncryptAnnotation(fMap.table.type, fMap.field.replaceAll("\\@", ""));
       if (buff.length() > 0) {
@@ -1496,7 +2087,7 @@ class DAOMap {
       buff.append(" ").append(dialect.getQM()).append(fMap.table.alias).append(dialect.getQM()).append(".").append(dialect.getQM()).append(fMap.column).append(dialect.getQM()).append(" like ?");
       if (encAnn != null) {
         // statementParameters.add(RUEncrypter.encryptDES((String) data.getValue(), encAnn.key()));
-        throw new RFWCriticalException("No  possvel utilizar o operador 'like' em atributos que utilizam o valor criptografado no banco de dados. (${0}.${1}.${2})", new String[] { fMap.table.schema, fMap.table.table, fMap.column });
+        throw new RFWCriticalException("Não é possível utilizar o operador 'like' em atributos que utilizam o valor criptografado no banco de dados. (${0}.${1}.${2})", new String[] { fMap.table.schema, fMap.table.table, fMap.column });
       } else {
         statementParameters.add(data.getValue());
       }
@@ -1505,7 +2096,7 @@ class DAOMap {
     // ==> GreaterThenOrEqualTo
     for (RFWMOData data : mo.getGreaterThanOrEqualTo()) {
       DAOMapField fMap = map.mapFieldByPath.get(data.getFieldname());
-      if (fMap == null) fMap = map.mapFieldByPath.get(data.getFieldname() + "@"); // se no encontrou, pode ser que o atributo seja uma Collection, tentamos encontrar com o '@' no final
+      if (fMap == null) fMap = map.mapFieldByPath.get(data.getFieldname() + "@"); // se não encontrou, pode ser que o atributo seja uma Collection, tentamos encontrar com o '@' no final
       RFWMetaEncrypt encAnn = null;
       if (fMap != null) encAnn = RUReflex.getRFWDAOEncryptAnnotation(fMap.table.type, fMap.field.replaceAll("\\@", ""));
       if (buff.length() > 0) {
@@ -1520,7 +2111,7 @@ class DAOMap {
       }
       buff.append(" ").append(dialect.getQM()).append(fMap.table.alias).append(dialect.getQM()).append(".").append(dialect.getQM()).append(fMap.column).append(dialect.getQM()).append(" >= ?");
       if (encAnn != null) {
-        throw new RFWCriticalException("No  possvel utilizar o operador 'like' em atributos que utilizam o valor criptografado no banco de dados. (${0}.${1}.${2})", new String[] { fMap.table.schema, fMap.table.table, fMap.column });
+        throw new RFWCriticalException("Não é possível utilizar o operador 'like' em atributos que utilizam o valor criptografado no banco de dados. (${0}.${1}.${2})", new String[] { fMap.table.schema, fMap.table.table, fMap.column });
       } else {
         statementParameters.add(data.getValue());
       }
@@ -1529,7 +2120,7 @@ class DAOMap {
     // ==> GreaterThen
     for (RFWMOData data : mo.getGreaterThan()) {
       DAOMapField fMap = map.mapFieldByPath.get(data.getFieldname());
-      if (fMap == null) fMap = map.mapFieldByPath.get(data.getFieldname() + "@"); // se no encontrou, pode ser que o atributo seja uma Collection, tentamos encontrar com o '@' no final
+      if (fMap == null) fMap = map.mapFieldByPath.get(data.getFieldname() + "@"); // se não encontrou, pode ser que o atributo seja uma Collection, tentamos encontrar com o '@' no final
       RFWMetaEncrypt encAnn = null;
       if (fMap != null) encAnn = RUReflex.getRFWDAOEncryptAnnotation(fMap.table.type, fMap.field.replaceAll("\\@", ""));
       if (buff.length() > 0) {
@@ -1544,7 +2135,7 @@ class DAOMap {
       }
       buff.append(" ").append(dialect.getQM()).append(fMap.table.alias).append(dialect.getQM()).append(".").append(dialect.getQM()).append(fMap.column).append(dialect.getQM()).append(" > ?");
       if (encAnn != null) {
-        throw new RFWCriticalException("No  possvel utilizar o operador 'like' em atributos que utilizam o valor criptografado no banco de dados. (${0}.${1}.${2})", new String[] { fMap.table.schema, fMap.table.table, fMap.column });
+        throw new RFWCriticalException("Não é possível utilizar o operador 'like' em atributos que utilizam o valor criptografado no banco de dados. (${0}.${1}.${2})", new String[] { fMap.table.schema, fMap.table.table, fMap.column });
       } else {
         statementParameters.add(data.getValue());
       }
@@ -1553,7 +2144,7 @@ class DAOMap {
     // ==> LessThenOrEqualTo
     for (RFWMOData data : mo.getLessThanOrEqualTo()) {
       DAOMapField fMap = map.mapFieldByPath.get(data.getFieldname());
-      if (fMap == null) fMap = map.mapFieldByPath.get(data.getFieldname() + "@"); // se no encontrou, pode ser que o atributo seja uma Collection, tentamos encontrar com o '@' no final
+      if (fMap == null) fMap = map.mapFieldByPath.get(data.getFieldname() + "@"); // se não encontrou, pode ser que o atributo seja uma Collection, tentamos encontrar com o '@' no final
       RFWMetaEncrypt encAnn = null;
       if (fMap != null) encAnn = RUReflex.getRFWDAOEncryptAnnotation(fMap.table.type, fMap.field.replaceAll("\\@", ""));
       if (buff.length() > 0) {
@@ -1568,7 +2159,7 @@ class DAOMap {
       }
       buff.append(" ").append(dialect.getQM()).append(fMap.table.alias).append(dialect.getQM()).append(".").append(dialect.getQM()).append(fMap.column).append(dialect.getQM()).append(" <= ?");
       if (encAnn != null) {
-        throw new RFWCriticalException("No  possvel utilizar o operador 'like' em atributos que utilizam o valor criptografado no banco de dados. (${0}.${1}.${2})", new String[] { fMap.table.schema, fMap.table.table, fMap.column });
+        throw new RFWCriticalException("Não é possível utilizar o operador 'like' em atributos que utilizam o valor criptografado no banco de dados. (${0}.${1}.${2})", new String[] { fMap.table.schema, fMap.table.table, fMap.column });
       } else {
         statementParameters.add(data.getValue());
       }
@@ -1577,7 +2168,7 @@ class DAOMap {
     // ==> LessThen
     for (RFWMOData data : mo.getLessThan()) {
       DAOMapField fMap = map.mapFieldByPath.get(data.getFieldname());
-      if (fMap == null) fMap = map.mapFieldByPath.get(data.getFieldname() + "@"); // se no encontrou, pode ser que o atributo seja uma Collection, tentamos encontrar com o '@' no final
+      if (fMap == null) fMap = map.mapFieldByPath.get(data.getFieldname() + "@"); // se não encontrou, pode ser que o atributo seja uma Collection, tentamos encontrar com o '@' no final
       RFWMetaEncrypt encAnn = null;
       if (fMap != null) encAnn = RUReflex.getRFWDAOEncryptAnnotation(fMap.table.type, fMap.field.replaceAll("\\@", ""));
       if (buff.length() > 0) {
@@ -1592,7 +2183,7 @@ class DAOMap {
       }
       buff.append(" ").append(dialect.getQM()).append(fMap.table.alias).append(dialect.getQM()).append(".").append(dialect.getQM()).append(fMap.column).append(dialect.getQM()).append(" < ?");
       if (encAnn != null) {
-        throw new RFWCriticalException("No  possvel utilizar o operador 'like' em atributos que utilizam o valor criptografado no banco de dados. (${0}.${1}.${2})", new String[] { fMap.table.schema, fMap.table.table, fMap.column });
+        throw new RFWCriticalException("Não é possível utilizar o operador 'like' em atributos que utilizam o valor criptografado no banco de dados. (${0}.${1}.${2})", new String[] { fMap.table.schema, fMap.table.table, fMap.column });
       } else {
         statementParameters.add(data.getValue());
       }
@@ -1601,7 +2192,7 @@ class DAOMap {
     // ==> IsNull
     for (RFWMOData data : mo.getIsNull()) {
       DAOMapField fMap = map.mapFieldByPath.get(data.getFieldname());
-      if (fMap == null) fMap = map.mapFieldByPath.get(data.getFieldname() + "@"); // se no encontrou, pode ser que o atributo seja uma Collection, tentamos encontrar com o '@' no final
+      if (fMap == null) fMap = map.mapFieldByPath.get(data.getFieldname() + "@"); // se não encontrou, pode ser que o atributo seja uma Collection, tentamos encontrar com o '@' no final
 
       if (buff.length() > 0) {
         switch (mo.getAppendmethod()) {
@@ -1619,7 +2210,7 @@ class DAOMap {
     // ==> IsNotNull
     for (RFWMOData data : mo.getIsNotNull()) {
       DAOMapField fMap = map.mapFieldByPath.get(data.getFieldname());
-      if (fMap == null) fMap = map.mapFieldByPath.get(data.getFieldname() + "@"); // se no encontrou, pode ser que o atributo seja uma Collection, tentamos encontrar com o '@' no final
+      if (fMap == null) fMap = map.mapFieldByPath.get(data.getFieldname() + "@"); // se não encontrou, pode ser que o atributo seja uma Collection, tentamos encontrar com o '@' no final
 
       if (buff.length() > 0) {
         switch (mo.getAppendmethod()) {
@@ -1637,7 +2228,7 @@ class DAOMap {
     // ==> In
     for (RFWMOData data : mo.getIn()) {
       DAOMapField fMap = map.mapFieldByPath.get(data.getFieldname());
-      if (fMap == null) fMap = map.mapFieldByPath.get(data.getFieldname() + "@"); // se no encontrou, pode ser que o atributo seja uma Collection, tentamos encontrar com o '@' no final
+      if (fMap == null) fMap = map.mapFieldByPath.get(data.getFieldname() + "@"); // se não encontrou, pode ser que o atributo seja uma Collection, tentamos encontrar com o '@' no final
       RFWMetaEncrypt encAnn = null;
       if (fMap != null) encAnn = RUReflex.getRFWDAOEncryptAnnotation(fMap.table.type, fMap.field.replaceAll("\\@", ""));
       if (buff.length() > 0) {
@@ -1671,7 +2262,7 @@ class DAOMap {
     // ==> NotIn
     for (RFWMOData data : mo.getNotIn()) {
       DAOMapField fMap = map.mapFieldByPath.get(data.getFieldname());
-      if (fMap == null) fMap = map.mapFieldByPath.get(data.getFieldname() + "@"); // se no encontrou, pode ser que o atributo seja uma Collection, tentamos encontrar com o '@' no final
+      if (fMap == null) fMap = map.mapFieldByPath.get(data.getFieldname() + "@"); // se não encontrou, pode ser que o atributo seja uma Collection, tentamos encontrar com o '@' no final
       RFWMetaEncrypt encAnn = null;
       if (fMap != null) encAnn = RUReflex.getRFWDAOEncryptAnnotation(fMap.table.type, fMap.field.replaceAll("\\@", ""));
       if (buff.length() > 0) {
@@ -1705,7 +2296,7 @@ class DAOMap {
     // Fazemos agora o SubMO recursivamente
     for (RFWMO subMO : mo.getSubmo()) {
       final StringBuilder subWhere = writeWhere(map, subMO, statementParameters, dialect);
-      // O IF nos protege de termos um SUBMO vazio, assim no terminamos com uma SQL invlida.
+      // O IF nos protege de termos um SUBMO vazio, assim não terminamos com uma SQL inválida.
       if (subWhere.length() > 0) {
         if (buff.length() > 0) {
           switch (mo.getAppendmethod()) {
@@ -1732,7 +2323,7 @@ class DAOMap {
    *
    * @throws RFWException
    */
-  private static void writeStatementParameters(PreparedStatement stmt, LinkedList<Object> statementParameters) throws RFWException {
+  static void writeStatementParameters(PreparedStatement stmt, LinkedList<Object> statementParameters) throws RFWException {
     try {
       int i = 1;
       for (Object o : statementParameters) {
@@ -1744,8 +2335,8 @@ class DAOMap {
           stmt.setString(i, (String) o);
         } else if (o instanceof Date) {
           if (RFW.isDevelopmentEnvironment() && !RFW.isDevPropertyTrue("rfw.orm.dao.disableLocalDateTimeRecomendation")) {
-            // Se estiver no desenvolvimento imprime a exception com a mensagem de recomendao para que tenha o Stack da chamada completa, mas deixa o cdigo seguir normalmente
-            new RFWWarningException("O RFW no recomenda utilizar o 'java.util.Date'. Verifique a implementao e substitua adequadamente por LocalDate, LocalTime ou LocalDateTime.").printStackTrace();
+            // Se estiver no desenvolvimento imprime a exception com a mensagem de recomendação para que tenha o Stack da chamada completa, mas deixa o código seguir normalmente
+            new RFWWarningException("O RFW não recomenda utilizar o 'java.util.Date'. Verifique a implementação e substitua adequadamente por LocalDate, LocalTime ou LocalDateTime.").printStackTrace();
           }
           stmt.setTimestamp(i, new Timestamp(((Date) o).getTime()));
         } else if (o instanceof LocalDate) {
@@ -1781,7 +2372,7 @@ class DAOMap {
             stmt.setBlob(i, is);
           }
         } else if (RFWVO.class.isAssignableFrom(o.getClass())) {
-          // Sempre que  um RFWVO na verdade temos de definir seu ID, pois  o que associa o objeto  coluna
+          // Sempre que é um RFWVO na verdade temos de definir seu ID, pois é o que associa o objeto à coluna
           stmt.setLong(i, ((RFWVO) o).getId());
         } else {
           throw new RFWCriticalException("RFW_ERR_000012", new String[] { o.getClass().getCanonicalName() });
@@ -1794,13 +2385,13 @@ class DAOMap {
   }
 
   /**
-   * Cria um statement para atualizar a coluna de FK quando a coluna com a FK est no cadastro da contraparte.
+   * Cria um statement para atualizar a coluna de FK quando a coluna com a FK está no cadastro da contraparte.
    *
-   * @param conn Conexo
+   * @param conn Conexão
    * @param map Mapeamento Objeto x Tabelas.
-   * @param path Caminho para o objeto que ter a associao substituida.
-   * @param id ID do objeto que ter sua FK atualizada.
-   * @param newId Valor com o novo ID da coluna de FK. Pode ser NULL caso a associao esteja sendo desfeita.
+   * @param path Caminho para o objeto que terá a associação substituida.
+   * @param id ID do objeto que terá sua FK atualizada.
+   * @param newId Valor com o novo ID da coluna de FK. Pode ser NULL caso a associação esteja sendo desfeita.
    * @param dialect
    * @return Statement preparado para ser executado no Banco de dados.
    * @throws RFWCriticalException
@@ -1813,7 +2404,7 @@ class DAOMap {
       sql.append("UPDATE ").append(dialect.getQM()).append(mTable.schema).append(dialect.getQM()).append(".").append(dialect.getQM()).append(mTable.table).append(dialect.getQM()).append(" SET ").append(dialect.getQM()).append(mTable.column).append(dialect.getQM()).append("=? WHERE ").append(dialect.getQM()).append("id").append(dialect.getQM()).append("=?");
 
       final String s = sql.toString();
-      // ATENO: NO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log no d certo!!!!
+      // ATENÇÃO: NÃO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log não dá certo!!!!
       if (RFW.isDevelopmentEnvironment()) System.out.println(s);
       PreparedStatement stmt = conn.prepareStatement(s);
       if (newId != null) {
@@ -1830,14 +2421,31 @@ class DAOMap {
   }
 
   /**
-   * Cria um statement para atualizar a coluna de FK do prprio objeto (sem alterar mais nada). Utilizado quando deixamos o objeto para atualizar a FK posteriemente (casos do INNER_ASSOCIATION).
+   * Escreve o SQL de atualização da coluna de FK do próprio objeto. Os parâmetros são o novo ID da FK e o ID do objeto, nesta ordem.<br>
+   * O SQL depende apenas da tabela e da coluna, por isso é o mesmo para todos os objetos atualizados na mesma coluna e pode ser reaproveitado em lote.
+   *
+   * @param sql Buffer onde o SQL será escrito.
+   * @param map Mapeamento Objeto x Tabelas.
+   * @param path Caminho completo até o objeto que será atualizado.
+   * @param property Propriedade do objeto que tem a associação com a FK na própria tabela.
+   * @param dialect
+   */
+  static void writeUpdateInternalFK(StringBuffer sql, DAOMap map, String path, String property, SQLDialect dialect) {
+    final DAOMapField mField = map.getMapFieldByPath(path, property);
+    final DAOMapTable mTable = mField.table;
+
+    sql.append("UPDATE ").append(dialect.getQM()).append(mTable.schema).append(dialect.getQM()).append(".").append(dialect.getQM()).append(mTable.table).append(dialect.getQM()).append(" SET ").append(dialect.getQM()).append(mField.column).append(dialect.getQM()).append("=? WHERE ").append(dialect.getQM()).append("id").append(dialect.getQM()).append("=?");
+  }
+
+  /**
+   * Cria um statement para atualizar a coluna de FK do próprio objeto (sem alterar mais nada). Utilizado quando deixamos o objeto para atualizar a FK posteriemente (casos do INNER_ASSOCIATION).
    *
-   * @param conn Conexo
+   * @param conn Conexão
    * @param map Mapeamento Objeto x Tabelas.
-   * @param path Caminho completo at o objeto que ser atualizado.
-   * @param property Propriedade do objeto que tem a associao com a FK na prpria tabela.
-   * @param id ID do objeto que ter sua FK atualizada.
-   * @param newId Valor com o novo ID da coluna de FK. Pode ser NULL caso a associao esteja sendo desfeita.
+   * @param path Caminho completo até o objeto que será atualizado.
+   * @param property Propriedade do objeto que tem a associação com a FK na própria tabela.
+   * @param id ID do objeto que terá sua FK atualizada.
+   * @param newId Valor com o novo ID da coluna de FK. Pode ser NULL caso a associação esteja sendo desfeita.
    * @param dialect
    * @return Statement preparado para ser executado no Banco de dados.
    * @throws RFWCriticalException
@@ -1845,13 +2453,10 @@ class DAOMap {
   public static PreparedStatement createUpdateInternalFKStatement(Connection conn, DAOMap map, String path, String property, Long id, Long newId, SQLDialect dialect) throws RFWCriticalException {
     final StringBuffer sql = new StringBuffer();
     try {
-      final DAOMapField mField = map.getMapFieldByPath(path, property);
-      final DAOMapTable mTable = mField.table;
-
-      sql.append("UPDATE ").append(dialect.getQM()).append(mTable.schema).append(dialect.getQM()).append(".").append(dialect.getQM()).append(mTable.table).append(dialect.getQM()).append(" SET ").append(dialect.getQM()).append(mField.column).append(dialect.getQM()).append("=? WHERE ").append(dialect.getQM()).append("id").append(dialect.getQM()).append("=?");
+      writeUpdateInternalFK(sql, map, path, property, dialect);
 
       final String s = sql.toString();
-      // ATENO: NO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log no d certo!!!!
+      // ATENÇÃO: NÃO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log não dá certo!!!!
       if (RFW.isDevelopmentEnvironment()) System.out.println(s);
       PreparedStatement stmt = conn.prepareStatement(s);
       if (newId != null) {
@@ -1868,13 +2473,13 @@ class DAOMap {
   }
 
   /**
-   * Este mtodo cria um DAOMap a partir de um map completo. Utilizado para obter apenas parte da estrutura sem ter que reler toda a cadeia de RFWVO.<Br>
-   * O funcionamento deste mtodo segue as seguintes regras:<br>
+   * Este método cria um DAOMap a partir de um map completo. Utilizado para obter apenas parte da estrutura sem ter que reler toda a cadeia de RFWVO.<Br>
+   * O funcionamento deste método segue as seguintes regras:<br>
    * <li>Recebe uma {@link DAOMapTable} para indicar a partir de que ponto queremos a estrutura.
-   * <li>Todas as tabelas de joins feitos a essa tabela, ou tabelas subsequntes sero mantidos, todos os demais removidos.
-   * <li>Os Alias das tabelas continuaram sendo os mesmos (no voltar a contagem sequncial). Assim, deixaremos de ter qualquer mapeamento com alias t0, uma vez que alias t0  a raiz e qualquer subMap no o incluir.
-   * <li>A tabela passada como startTable automaticamente passar a ser a tabela raiz, e por tanto no ter mais a infomao de "joinTable".
-   * <li>Todos os "Paths" sero corrigidos. A nova tabela raiz passar a ter o path "", e as demais tero o caminho cortado, conforme o caminho inicial da tabela raiz. Deixando todos os caminhos relativos a nova tabela raiz.
+   * <li>Todas as tabelas de joins feitos a essa tabela, ou tabelas subsequêntes serão mantidos, todos os demais removidos.
+   * <li>Os Alias das tabelas continuaram sendo os mesmos (não voltará a contagem sequêncial). Assim, deixaremos de ter qualquer mapeamento com alias t0, uma vez que alias t0 é a raiz e qualquer subMap não o incluirá.
+   * <li>A tabela passada como startTable automaticamente passará a ser a tabela raiz, e por tanto não terá mais a infomação de "joinTable".
+   * <li>Todos os "Paths" serão corrigidos. A nova tabela raiz passará a ter o path "", e as demais terão o caminho cortado, conforme o caminho inicial da tabela raiz. Deixando todos os caminhos relativos a nova tabela raiz.
    *
    * @param startTable Tabela Inicial da Nova Estrutura de Mapeamento.
    * @return Nova estrutura de mapeamento a partir de determinado ponto da estrutura.
@@ -1882,8 +2487,9 @@ class DAOMap {
    */
   public DAOMap createSubMap(DAOMapTable startTable) throws RFWException {
     final DAOMap newMap = new DAOMap();
+    newMap.resolver = this.resolver;
 
-    if ("".equals(startTable.path)) throw new RFWCriticalException("No  permitido criar uma substrutura da prpria tabela raiz!");
+    if ("".equals(startTable.path)) throw new RFWCriticalException("Não é permitido criar uma substrutura da própria tabela raiz!");
 
     final int cutPath = startTable.path.length() + 1;
 
@@ -1915,8 +2521,132 @@ class DAOMap {
     return newMap;
   }
 
+  /**
+   * Cria uma cópia completa deste DAOMap, mantendo os mesmos alias, caminhos e a mesma ordem de criação das tabelas e campos.<br>
+   * Utilizado pelo {@link DAOMapCache} para entregar a cada chamada uma instância própria do template, já que alguns processos (como a persistência de objetos em árvore) alteram o mapeamento.
+   *
+   * @return Nova instância de DAOMap com o mesmo conteúdo deste objeto.
+   * @throws RFWException
+   */
+  DAOMap copy() throws RFWException {
+    final DAOMap newMap = new DAOMap();
+    // As tabelas são recriadas na mesma ordem em que foram criadas originalmente, garantindo que a tabela de join sempre exista antes da tabela que faz join nela.
+    for (DAOMapTable mTable : this.mapTableByPath.values()) {
+      newMap.createMapTable(mTable.type, mTable.path, mTable.schema, mTable.table, mTable.column, mTable.joinAlias, mTable.joinColumn, mTable.alias);
+    }
+    for (DAOMapField mField : this.mapFieldByPath.values()) {
+      newMap.createMapField(mField.path, mField.field, newMap.getMapTableByAlias(mField.table.alias), mField.column);
+    }
+    newMap.rowMapperRef = this.rowMapperRef;
+    newMap.resolver = this.resolver;
+    return newMap;
+  }
+
+  /**
+   * Habilita o compartilhamento do {@link DAORowMapper} entre este mapeamento e as cópias criadas a partir dele. Chamado pelo {@link DAOMapCache} nos templates que são armazenados.
+   */
+  void shareRowMapper() {
+    if (this.rowMapperRef == null) this.rowMapperRef = new AtomicReference<>();
+  }
+
+  /**
+   * Define o {@link DAOResolver} utilizado para obter as instâncias dos conversores na escrita dos valores.
+   */
+  void setResolver(DAOResolver resolver) {
+    this.resolver = resolver;
+  }
+
+  /**
+   * Recupera o {@link DAOResolver} utilizado para obter as instâncias dos conversores na escrita dos valores.
+   */
+  DAOResolver getResolver() {
+    return resolver;
+  }
+
+  /**
+   * Recupera o {@link DAORowMapper} compilado para este mapeamento, compilando-o no primeiro uso.
+   *
+   * @return Plano compilado, ou nulo caso o mapeamento não seja compartilhado ou não possa ser compilado. Nesses casos o interpretador deve ser utilizado.
+   */
+  DAORowMapper getRowMapper() {
+    final AtomicReference<DAORowMapper> ref = this.rowMapperRef;
+    if (ref == null) return null;
+    DAORowMapper mapper = ref.get();
+    if (mapper == null) {
+      mapper = DAORowMapper.compile(this);
+      if (!ref.compareAndSet(null, mapper)) mapper = ref.get();
+    }
+    return mapper == DAORowMapper.UNSUPPORTED ? null : mapper;
+  }
+
   public DAOMapTable getRootTable() {
     return rootTable;
   }
 
+  /**
+   * Recupera as tabelas onde começa cada ramo "para muitos" do mapeamento: as tabelas de Listas, Hashs, relacionamentos N:N e RFWMetaCollection que não estão dentro de outro ramo "para muitos".<br>
+   * Cada uma dessas tabelas multiplica as linhas do objeto raiz no JOIN. Com mais de um ramo, o SELECT único retorna o produto cartesiano entre eles.
+   *
+   * @return Tabelas de início de cada ramo, na ordem em que foram mapeadas.
+   * @throws RFWException
+   */
+  List<DAOMapTable> getToManyBranches() throws RFWException {
+    final ArrayList<DAOMapTable> branches = new ArrayList<>();
+    for (DAOMapTable mTable : this.mapTableByPath.values()) {
+      if ("".equals(mTable.path) || mTable.path.startsWith(".") || !isToMany(mTable)) continue;
+      // Só é o início do ramo se nenhuma tabela acima dela também for "para muitos"
+      boolean head = true;
+      DAOMapTable parent = getMapTableByAlias(mTable.joinAlias);
+      while (head && parent != null && !"".equals(parent.path)) {
+        if (!parent.path.startsWith(".") && isToMany(parent)) head = false;
+        parent = getMapTableByAlias(parent.joinAlias);
+      }
+      if (head) branches.add(mTable);
+    }
+    return branches;
+  }
+
+  /**
+   * Verifica se a tabela é de um relacionamento "para muitos" com a tabela a que faz JOIN.
+   */
+  private boolean isToMany(DAOMapTable mTable) throws RFWException {
+    if (mTable.path.startsWith("@")) return true; // RFWMetaCollection
+    final DAOMapTable parent = getMapTableByAlias(mTable.joinAlias);
+    if (parent.path.startsWith(".")) return true; // Tabela de joinAlias do N:N
+    final Class<?> rt = RUReflex.getPropertyTypeByType(parent.type, RUReflex.getLastPath(mTable.path));
+    return List.class.isAssignableFrom(rt) || Map.class.isAssignableFrom(rt);
+  }
+
+  /**
+   * Separa os atributos de acordo com o ramo "para muitos" (veja {@link #getToManyBranches()}) em que estão.
+   *
+   * @param attributes Atributos a serem separados, que devem estar mapeados neste DAOMap.
+   * @return Atributos agrupados pelo caminho da tabela de início do ramo. Os atributos fora de qualquer ramo (do objeto raiz e das associações para um único objeto) ficam na chave "", que sempre
+   *         existe e é a primeira da Hash.
+   * @throws RFWException
+   */
+  LinkedHashMap<String, List<String>> groupAttributesByBranch(String[] attributes) throws RFWException {
+    final LinkedHashMap<String, List<String>> groups = new LinkedHashMap<>();
+    groups.put("", new ArrayList<>());
+    final List<DAOMapTable> branches = getToManyBranches();
+    if (attributes != null) for (String attribute : attributes) {
+      String group = "";
+      for (DAOMapTable branch : branches) {
+        if (branch.path.startsWith("@")) {
+          final String collection = branch.path.substring(1);
+          if (attribute.equals(collection) || attribute.equals(collection + "@")) group = branch.path;
+        } else if (attribute.startsWith(branch.path + ".")) {
+          group = branch.path;
+        }
+      }
+      List<String> list = groups.get(group);
+      if (list == null) {
+        list = new ArrayList<>();
+        groups.put(group, list);
+      }
+      list.add(attribute);
+    }
+    return groups;
+  }
+
 }
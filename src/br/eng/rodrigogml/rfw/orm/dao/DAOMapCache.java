@@ -0,0 +1,238 @@
+package br.eng.rodrigogml.rfw.orm.dao;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVO;
+import br.eng.rodrigogml.rfw.orm.dao.interfaces.DAOResolver;
+
+/**
+ * Description: Cache compartilhado (entre todas as instâncias do {@link RFWDAO}) dos templates de {@link DAOMap}.<br>
+ * A montagem do {@link DAOMap} exige a leitura de todas as annotations das entidades envolvidas, e é repetida a cada chamada dos métodos do {@link RFWDAO}. Como as combinações de entidade e atributos
+ * solicitados se repetem muito, os mapeamentos já montados são mantidos aqui como templates.<br>
+ * <br>
+ * <b>ATENÇÃO:</b> Os templates armazenados nunca são entregues diretamente, pois o {@link DAOMap} é alterado durante algumas operações (como na persistência de objetos
+ * {@link br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaRelationshipField.RelationshipTypes#COMPOSITION_TREE}). Cada chamada ao {@link #get(Key, Loader)} recebe sua própria cópia do template.
+ *
+ * @author Rodrigo Leitão
+ * @since 10.0.0 (18 de out de 2026)
+ */
+final class DAOMapCache {
+
+  /**
+   * Tamanho máximo padrão do cache (quantidade de templates mantidos).
+   */
+  static final int DEFAULT_MAXSIZE = 512;
+
+  /**
+   * Chave de identificação de um template do {@link DAOMap}.<br>
+   * Composta pela entidade já resolvida, pelo conjunto normalizado de atributos (sem repetições e ordenado), pelo schema utilizado e pela identidade da instância do {@link DAOResolver}.
+   */
+  static final class Key {
+
+    /**
+     * Entidade raiz do mapeamento, já resolvida pelo {@link DAOResolver}.
+     */
+    private final Class<? extends RFWVO> entity;
+
+    /**
+     * Atributos normalizados: sem repetições e em ordem alfabética.
+     */
+    private final String[] attributes;
+
+    /**
+     * Schema definido na criação do {@link RFWDAO}. Pode ser nulo.
+     */
+    private final String schema;
+
+    /**
+     * Resolver utilizado na criação do {@link RFWDAO}. Comparado pela identidade do objeto, e não pelo equals, já que cada implementação pode resolver as entidades/tabelas de forma diferente.
+     */
+    private final DAOResolver resolver;
+
+    private final int hash;
+
+    Key(Class<? extends RFWVO> entity, String[] attributes, String schema, DAOResolver resolver) {
+      this.entity = entity;
+      this.attributes = normalizeAttributes(attributes);
+      this.schema = schema;
+      this.resolver = resolver;
+
+      int h = entity.hashCode();
+      h = 31 * h + Arrays.hashCode(this.attributes);
+      h = 31 * h + (schema == null ? 0 : schema.hashCode());
+      h = 31 * h + System.identityHashCode(resolver);
+      this.hash = h;
+    }
+
+    /**
+     * Recupera os atributos normalizados (sem repetições e ordenados) que compõem a chave.
+     */
+    String[] getAttributes() {
+      return attributes;
+    }
+
+    /**
+     * Recupera a entidade raiz do mapeamento.
+     */
+    Class<? extends RFWVO> getEntity() {
+      return entity;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) return true;
+      if (!(obj instanceof Key)) return false;
+      Key other = (Key) obj;
+      return this.hash == other.hash && this.entity == other.entity && this.resolver == other.resolver && (this.schema == null ? other.schema == null : this.schema.equals(other.schema)) && Arrays.equals(this.attributes, other.attributes);
+    }
+
+    private static String[] normalizeAttributes(String[] attributes) {
+      if (attributes == null || attributes.length == 0) return new String[0];
+      final TreeSet<String> set = new TreeSet<>();
+      for (String att : attributes) {
+        if (att != null) set.add(att);
+      }
+      return set.toArray(new String[0]);
+    }
+  }
+
+  /**
+   * Interface utilizada para montar o template do {@link DAOMap} quando ele não for encontrado no cache.
+   */
+  interface Loader {
+    DAOMap load(Key key) throws RFWException;
+  }
+
+  /**
+   * Templates mantidos no cache. Ordenados por acesso para permitir o descarte do template menos utilizado recentemente (LRU) quando o tamanho máximo for atingido.
+   */
+  private static final LinkedHashMap<Key, DAOMap> cache = new LinkedHashMap<Key, DAOMap>(64, 0.75f, true) {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Key, DAOMap> eldest) {
+      if (size() > maxSize) {
+        evictions.incrementAndGet();
+        return true;
+      }
+      return false;
+    }
+  };
+
+  private static final AtomicLong hits = new AtomicLong();
+  private static final AtomicLong misses = new AtomicLong();
+  private static final AtomicLong evictions = new AtomicLong();
+
+  private static volatile int maxSize = DEFAULT_MAXSIZE;
+
+  /**
+   * Construtor privado para classe estática.
+   */
+  private DAOMapCache() {
+  }
+
+  /**
+   * Recupera uma cópia do template do {@link DAOMap} para a chave informada. Caso o template ainda não exista ele é criado pelo loader e armazenado no cache.<br>
+   * O loader é executado fora do lock do cache, assim a montagem de um template não bloqueia as demais threads. Caso duas threads montem o mesmo template simultaneamente, o primeiro a ser
+   * registrado é mantido.
+   *
+   * @param key Chave do template.
+   * @param loader Objeto que montará o template caso ele não esteja no cache.
+   * @return Cópia do template, que pode ser livremente alterada pelo chamador.
+   * @throws RFWException
+   */
+  static DAOMap get(Key key, Loader loader) throws RFWException {
+    DAOMap template;
+    synchronized (cache) {
+      template = cache.get(key);
+    }
+    if (template != null) {
+      hits.incrementAndGet();
+    } else {
+      misses.incrementAndGet();
+      DAOMap newTemplate = loader.load(key);
+      if (newTemplate == null) throw new RFWCriticalException("O DAOMap não pode ser montado para a entidade '${0}'.", new String[] { key.getEntity().getCanonicalName() });
+      synchronized (cache) {
+        template = cache.get(key);
+        if (template == null) {
+          template = newTemplate;
+          if (maxSize > 0) {
+            template.shareRowMapper();
+            cache.put(key, template);
+          }
+        }
+      }
+    }
+    return template.copy();
+  }
+
+  /**
+   * Descarta todos os templates armazenados. Os contadores não são zerados.
+   */
+  static void clear() {
+    synchronized (cache) {
+      cache.clear();
+    }
+  }
+
+  /**
+   * Define o tamanho máximo do cache. Ao reduzir o tamanho, os templates menos utilizados recentemente são descartados imediatamente. Passe 0 para desabilitar o cache.
+   *
+   * @param size Quantidade máxima de templates mantidos.
+   */
+  static void setMaxSize(int size) {
+    if (size < 0) size = 0;
+    synchronized (cache) {
+      maxSize = size;
+      Iterator<Key> it = cache.keySet().iterator();
+      while (cache.size() > maxSize && it.hasNext()) {
+        it.next();
+        it.remove();
+        evictions.incrementAndGet();
+      }
+    }
+  }
+
+  static int getMaxSize() {
+    return maxSize;
+  }
+
+  static int size() {
+    synchronized (cache) {
+      return cache.size();
+    }
+  }
+
+  static long getHits() {
+    return hits.get();
+  }
+
+  static long getMisses() {
+    return misses.get();
+  }
+
+  static long getEvictions() {
+    return evictions.get();
+  }
+
+  /**
+   * Zera os contadores de acertos, falhas e descartes do cache.
+   */
+  static void resetCounters() {
+    hits.set(0);
+    misses.set(0);
+    evictions.set(0);
+  }
+}
@@ -0,0 +1,136 @@
+package br.eng.rodrigogml.rfw.orm.dao;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+
+/**
+ * Description: Executa em paralelo as consultas independentes de uma mesma operação do {@link RFWDAO}.<br>
+ * As tarefas são executadas em um pool de Threads compartilhado por todas as operações, criado no primeiro uso, e cada operação utiliza no máximo a quantidade de Threads informada. Cada tarefa deve
+ * utilizar sua própria conexão e suas próprias estruturas de montagem, já que nem as conexões nem os caches de objetos são thread-safe.
+ *
+ * @author Rodrigo Leitão
+ * @since 10.0.0 (18 de out de 2026)
+ */
+final class DAOParallel {
+
+  /**
+   * Quantidade máxima de Threads do pool compartilhado, somando todas as operações em andamento.<br>
+   * O valor pode ser definido pela propriedade de sistema "rfw.orm.dao.parallel.poolSize". Padrão: 16.
+   */
+  private static final int poolSize = Integer.parseInt(System.getProperty("rfw.orm.dao.parallel.poolSize", "16"));
+
+  private static final AtomicInteger threadCount = new AtomicInteger();
+
+  /**
+   * Pool de Threads compartilhado, criado no primeiro uso.
+   */
+  private static ThreadPoolExecutor executor = null;
+
+  private DAOParallel() {
+  }
+
+  /**
+   * Executa as tarefas e aguarda que todas terminem.<br>
+   * A Thread do chamador também executa as tarefas. Assim a operação sempre avança, mesmo que todas as Threads do pool estejam ocupadas (inclusive por operações que aguardam esta).
+   *
+   * @param tasks Tarefas a serem executadas.
+   * @param parallelism Quantidade máxima de tarefas executadas ao mesmo tempo. Com 1 (ou com uma única tarefa) as tarefas são executadas em sequência na própria Thread do chamador.
+   * @return Resultados das tarefas, na mesma ordem das tarefas.
+   * @throws RFWException Lançado com a falha da primeira tarefa (na ordem das tarefas) que falhou.
+   */
+  @SuppressWarnings("unchecked")
+  static <T> List<T> invokeAll(List<Callable<T>> tasks, int parallelism) throws RFWException {
+    final ArrayList<T> results = new ArrayList<>(tasks.size());
+    if (parallelism <= 1 || tasks.size() <= 1) {
+      for (Callable<T> task : tasks) {
+        results.add(call(task));
+      }
+      return results;
+    }
+
+    final Object[] values = new Object[tasks.size()];
+    final Throwable[] failures = new Throwable[tasks.size()];
+    final AtomicInteger nextTask = new AtomicInteger();
+    final CountDownLatch done = new CountDownLatch(tasks.size());
+    // Cada executor retira a próxima tarefa ainda não iniciada, até que não reste nenhuma
+    final Runnable worker = () -> {
+      int i;
+      while ((i = nextTask.getAndIncrement()) < tasks.size()) {
+        try {
+          values[i] = tasks.get(i).call();
+        } catch (Throwable e) {
+          failures[i] = e;
+        } finally {
+          done.countDown();
+        }
+      }
+    };
+
+    final ArrayList<Future<?>> workers = new ArrayList<>();
+    try {
+      final ThreadPoolExecutor pool = getExecutor();
+      for (int i = 1; i < Math.min(parallelism, tasks.size()); i++) {
+        workers.add(pool.submit(worker));
+      }
+    } catch (RejectedExecutionException e) {
+      // Sem espaço no pool as tarefas restantes são executadas pelos executores já iniciados e pelo próprio chamador
+    }
+    worker.run();
+    try {
+      done.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RFWCriticalException("A operação no banco de dados foi interrompida.", e);
+    } finally {
+      // Executores que ainda aguardam na fila não têm mais tarefas para executar
+      for (Future<?> future : workers) {
+        future.cancel(false);
+      }
+    }
+
+    for (int i = 0; i < values.length; i++) {
+      if (failures[i] instanceof RFWException) throw (RFWException) failures[i];
+      if (failures[i] != null) throw new RFWCriticalException("Falha ao executar a operação no banco de dados.", failures[i]);
+      results.add((T) values[i]);
+    }
+    return results;
+  }
+
+  private static <T> T call(Callable<T> task) throws RFWException {
+    try {
+      return task.call();
+    } catch (RFWException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new RFWCriticalException("Falha ao executar a operação no banco de dados.", e);
+    }
+  }
+
+  /**
+   * Recupera o pool de Threads compartilhado, criando-o no primeiro uso.<br>
+   * As Threads são daemon, para não impedir o encerramento da aplicação, e são encerradas depois de um minuto sem uso.
+   */
+  private static synchronized ThreadPoolExecutor getExecutor() {
+    if (executor == null) {
+      final int size = Math.max(poolSize, 1);
+      executor = new ThreadPoolExecutor(size, size, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+        final Thread t = new Thread(r, "RFWDAO-Parallel-" + threadCount.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+      });
+      executor.allowCoreThreadTimeOut(true);
+    }
+    return executor;
+  }
+}
@@ -0,0 +1,244 @@
+package br.eng.rodrigogml.rfw.orm.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+
+import br.eng.rodrigogml.rfw.kernel.RFW;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVO;
+import br.eng.rodrigogml.rfw.orm.dao.RFWDAO.SQLDialect;
+
+/**
+ * Description: Agrupa os INSERTs e UPDATEs dos objetos de uma composição para que sejam enviados ao banco de dados em lote (addBatch/executeBatch), ao invés de um executeUpdate por objeto.<br>
+ * Os comandos são agrupados pelo SQL gerado, que depende apenas da tabela e do conjunto de colunas. As atualizações dos objetos com controle de versão são executadas linha a linha, já que em lote
+ * o driver pode retornar {@link Statement#SUCCESS_NO_INFO} (como o MySQL com o rewriteBatchedStatements) ao invés da quantidade de linhas atualizadas, impedindo a detecção do conflito. Cada grupo utiliza um único PreparedStatement e é enviado em lotes de até {@link #batchSize}
+ * linhas. Nas inserções as chaves geradas são lidas do getGeneratedKeys() na ordem em que as linhas foram adicionadas e atribuídas aos objetos.<br>
+ * Quando o dialeto não suporta o retorno das chaves em lote ({@link SQLDialect#getBatchGeneratedKeys()}), ou quando o objeto já tem o ID definido para inserção, as inserções do grupo são feitas
+ * linha a linha, ainda reaproveitando o mesmo PreparedStatement. Nas entidades com gerador de IDs o ID é definido antes da inserção, e as inserções são sempre feitas em lote, sem a leitura
+ * das chaves geradas.<br>
+ * <br>
+ * <b>ATENÇÃO:</b> Não é thread-safe. Deve ser executado na mesma conexão/transação da persistência do objeto pai.
+ *
+ * @author Rodrigo Leitão
+ * @since 10.0.0 (18 de out de 2026)
+ */
+final class DAOPersistBatch {
+
+  /**
+   * Comandos com o mesmo SQL, executados no mesmo PreparedStatement.
+   */
+  private static final class Group {
+    private final String sql;
+    private final boolean insert;
+    private final boolean rowByRow;
+    /**
+     * Indica se as chaves geradas devem ser lidas. Falso nas inserções de objetos que já tem o ID definido pelo gerador de IDs da entidade.
+     */
+    private final boolean generatedKeys;
+    private final ArrayList<RFWVO> vos = new ArrayList<>();
+    private final ArrayList<LinkedList<Object>> parameters = new ArrayList<>();
+
+    private Group(String sql, boolean insert, boolean rowByRow, boolean generatedKeys) {
+      this.sql = sql;
+      this.insert = insert;
+      this.rowByRow = rowByRow;
+      this.generatedKeys = generatedKeys;
+    }
+  }
+
+  private final DAOMap map;
+  private final int batchSize;
+  private final SQLDialect dialect;
+
+  /**
+   * Grupos na ordem em que o primeiro comando de cada um foi adicionado.
+   */
+  private final LinkedHashMap<String, Group> groups = new LinkedHashMap<>();
+
+  /**
+   * @param map Mapeamento do VO com as tabelas do banco.
+   * @param batchSize Quantidade máxima de linhas enviadas em cada executeBatch().
+   * @param dialect Dialeto do banco de dados.
+   */
+  DAOPersistBatch(DAOMap map, int batchSize, SQLDialect dialect) {
+    this.map = map;
+    this.batchSize = batchSize;
+    this.dialect = dialect;
+  }
+
+  /**
+   * Adiciona a inserção do objeto. O ID gerado é atribuído ao objeto durante o {@link #execute(Connection)}.
+   *
+   * @param path caminho até o VO que está sendo inserido no banco.
+   * @param vo Objeto a ser inserido no banco de dados.
+   * @param sortColumn Nome da coluna onde é salvo o índice de ordem da Lista (se houver), ou Null caso não seja usado o recurso
+   * @param sortIndex Índice de indexação do item na lista.
+   * @throws RFWException Lançado em caso de falha ao montar o SQL.
+   */
+  void addInsert(String path, RFWVO vo, String sortColumn, int sortIndex) throws RFWException {
+    final StringBuffer sql = new StringBuffer();
+    final LinkedList<Object> statementParameters = new LinkedList<>();
+    DAOMap.writeInsert(sql, statementParameters, map, path, vo, sortColumn, sortIndex, dialect);
+    if (EntityMetadata.get(vo.getClass()).hasIDGenerator()) {
+      // Com o gerador de IDs o ID já foi definido antes da inserção, as chaves não precisam ser lidas e o lote independe do suporte do driver
+      add("K:" + sql, sql.toString(), true, false, false, vo, statementParameters);
+      return;
+    }
+    // Objetos inseridos com o ID já definido ficam em um grupo próprio, linha a linha, já que nem todos os drivers retornam a chave informada em uma inserção em lote
+    final boolean rowByRow = !dialect.getBatchGeneratedKeys() || vo.getId() != null;
+    add((rowByRow ? "R:" : "I:") + sql, sql.toString(), true, rowByRow, true, vo, statementParameters);
+  }
+
+  /**
+   * Adiciona a atualização do objeto.<br>
+   * Quando o objeto original é informado, apenas as colunas alteradas são atualizadas (os objetos com o mesmo conjunto de colunas alteradas ficam no mesmo grupo), e o objeto sem alterações não é
+   * adicionado (exceto quando tem controle de versão, que é sempre incrementada).
+   *
+   * @param path caminho até o VO que está sendo atualizado no banco.
+   * @param vo Objeto a ser atualizado no banco de dados.
+   * @param voOrig Objeto como está no banco de dados, para atualizar apenas as colunas alteradas. Nulo para atualizar todas as colunas.
+   * @param sortColumn Nome da coluna onde é salvo o índice de ordem da Lista (se houver), ou Null caso não seja usado o recurso
+   * @param sortIndex Índice de indexação do item na lista.
+   * @param sortIndexOrig Índice do objeto original na lista, ou -1 caso não seja conhecido.
+   * @throws RFWException Lançado em caso de falha ao montar o SQL.
+   */
+  void addUpdate(String path, RFWVO vo, RFWVO voOrig, String sortColumn, int sortIndex, int sortIndexOrig) throws RFWException {
+    final StringBuffer sql = new StringBuffer();
+    final LinkedList<Object> statementParameters = new LinkedList<>();
+    if (voOrig == null) {
+      DAOMap.writeUpdate(sql, statementParameters, map, path, vo, sortColumn, sortIndex, dialect);
+    } else if (!DAOMap.writeDirtyUpdate(sql, statementParameters, map, path, vo, voOrig, sortColumn, sortIndex, sortIndexOrig, dialect)) {
+      return;
+    }
+    // Com controle de versão cada UPDATE precisa retornar a quantidade real de linhas atualizadas, por isso o grupo é executado linha a linha
+    final boolean rowByRow = EntityMetadata.get(vo.getClass()).getVersionField() != null;
+    add((rowByRow ? "V:" : "U:") + sql, sql.toString(), false, rowByRow, false, vo, statementParameters);
+  }
+
+  private void add(String key, String sql, boolean insert, boolean rowByRow, boolean generatedKeys, RFWVO vo, LinkedList<Object> statementParameters) {
+    Group group = groups.get(key);
+    if (group == null) {
+      group = new Group(sql, insert, rowByRow, generatedKeys);
+      groups.put(key, group);
+    }
+    group.vos.add(vo);
+    group.parameters.add(statementParameters);
+  }
+
+  /**
+   * Indica se nenhum comando foi adicionado.
+   */
+  boolean isEmpty() {
+    return groups.isEmpty();
+  }
+
+  /**
+   * Executa todos os comandos adicionados, grupo a grupo, e descarta os grupos executados.
+   *
+   * @param conn Conexão com o banco de dados, a mesma utilizada na persistência do objeto pai.
+   * @throws RFWException Lançado em caso de falha no banco de dados ou caso o driver não retorne as chaves geradas de todas as linhas inseridas.
+   */
+  void execute(Connection conn) throws RFWException {
+    try {
+      for (Group group : groups.values()) {
+        // ATENÇÃO: NÃO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log não dá certo!!!!
+        if (RFW.isDevelopmentEnvironment()) System.out.println(group.sql + " [x" + group.vos.size() + "]");
+        if (group.insert && !group.generatedKeys) {
+          try (PreparedStatement stmt = conn.prepareStatement(group.sql)) {
+            executeBatch(stmt, group);
+          }
+        } else if (group.insert) {
+          try (PreparedStatement stmt = conn.prepareStatement(group.sql, Statement.RETURN_GENERATED_KEYS)) {
+            if (group.rowByRow) {
+              executeInsertRowByRow(stmt, group);
+            } else {
+              executeInsertBatch(stmt, group);
+            }
+          }
+        } else if (group.rowByRow) {
+          try (PreparedStatement stmt = conn.prepareStatement(group.sql)) {
+            for (int i = 0; i < group.vos.size(); i++) {
+              stmt.clearParameters();
+              DAOMap.writeStatementParameters(stmt, group.parameters.get(i));
+              DAOMap.updateVersion(group.vos.get(i), stmt.executeUpdate());
+            }
+          }
+        } else {
+          try (PreparedStatement stmt = conn.prepareStatement(group.sql)) {
+            int first = 0;
+            for (int i = 0; i < group.parameters.size(); i++) {
+              DAOMap.writeStatementParameters(stmt, group.parameters.get(i));
+              stmt.addBatch();
+              if (i + 1 - first == batchSize || i + 1 == group.parameters.size()) {
+                checkUpdateCounts(stmt.executeBatch(), group, first);
+                first = i + 1;
+              }
+            }
+          }
+        }
+      }
+      groups.clear();
+    } catch (RFWException e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new RFWCriticalException("Falha ao executar a operação no banco de dados.", e);
+    }
+  }
+
+  /**
+   * Valida a quantidade de linhas atualizadas por cada UPDATE do lote. Os objetos com controle de versão não são executados em lote, a chamada apenas mantém a validação caso isso mude.
+   */
+  private static void checkUpdateCounts(int[] counts, Group group, int first) throws RFWException {
+    for (int i = 0; i < counts.length; i++) {
+      DAOMap.updateVersion(group.vos.get(first + i), counts[i]);
+    }
+  }
+
+  private void executeBatch(PreparedStatement stmt, Group group) throws Throwable {
+    for (int i = 0; i < group.parameters.size(); i++) {
+      DAOMap.writeStatementParameters(stmt, group.parameters.get(i));
+      stmt.addBatch();
+      if ((i + 1) % batchSize == 0 || i + 1 == group.parameters.size()) stmt.executeBatch();
+    }
+  }
+
+  private void executeInsertBatch(PreparedStatement stmt, Group group) throws Throwable {
+    int first = 0;
+    while (first < group.vos.size()) {
+      final int last = Math.min(first + batchSize, group.vos.size());
+      for (int i = first; i < last; i++) {
+        DAOMap.writeStatementParameters(stmt, group.parameters.get(i));
+        stmt.addBatch();
+      }
+      stmt.executeBatch();
+      // As chaves são retornadas na mesma ordem em que as linhas foram adicionadas ao lote
+      int i = first;
+      try (ResultSet rs = stmt.getGeneratedKeys()) {
+        while (i < last && rs.next()) {
+          group.vos.get(i++).setId(rs.getLong(1));
+        }
+      }
+      if (i < last) throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. O banco de dados retornou ${1} IDs para ${2} objetos inseridos em lote. Verifique se o driver retorna as chaves geradas no executeBatch() ou desabilite a persistência em lote com o RFWDAO.setPersistBatchSize(0).", new String[] { group.vos.get(first).getClass().getCanonicalName(), "" + (i - first), "" + (last - first) });
+      first = last;
+    }
+  }
+
+  private void executeInsertRowByRow(PreparedStatement stmt, Group group) throws Throwable {
+    for (int i = 0; i < group.vos.size(); i++) {
+      final RFWVO vo = group.vos.get(i);
+      stmt.clearParameters();
+      DAOMap.writeStatementParameters(stmt, group.parameters.get(i));
+      stmt.executeUpdate();
+      try (ResultSet rs = stmt.getGeneratedKeys()) {
+        if (!rs.next()) throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. O ID não foi retornado pelo banco de dados. Verifique se a coluna 'id' gera as chaves automaticamente.", new String[] { vo.getClass().getCanonicalName() });
+        vo.setId(rs.getLong(1));
+      }
+    }
+  }
+}
@@ -0,0 +1,952 @@
+package br.eng.rodrigogml.rfw.orm.dao;
+
+import java.math.BigDecimal;
+import java.sql.Blob;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import br.eng.rodrigogml.rfw.kernel.RFW;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWWarningException;
+import br.eng.rodrigogml.rfw.kernel.logger.RFWLogger;
+import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaCollectionField;
+import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaRelationshipField.RelationshipTypes;
+import br.eng.rodrigogml.rfw.kernel.utils.RUEncrypter;
+import br.eng.rodrigogml.rfw.kernel.utils.RUReflex;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVO;
+import br.eng.rodrigogml.rfw.orm.dao.DAOMap.DAOMapField;
+import br.eng.rodrigogml.rfw.orm.dao.DAOMap.DAOMapTable;
+import br.eng.rodrigogml.rfw.orm.dao.EntityMetadata.FieldDescriptor;
+import br.eng.rodrigogml.rfw.orm.dao.EntityMetadata.RelationshipDescriptor;
+import br.eng.rodrigogml.rfw.orm.dao.interfaces.RFWDAOConverterInterface;
+
+/**
+ * Description: Plano "compilado" para montar os VOs a partir do ResultSet de um {@link DAOMap}.<br>
+ * O interpretador do {@link RFWDAO} (mountVO) percorre as tabelas e campos do {@link DAOMap} a cada linha do ResultSet, procurando colunas pelo nome, consultando annotations e decidindo o tipo de
+ * cada atributo. Esta classe faz todo esse trabalho uma única vez para cada "formato" de {@link DAOMap}: a ordem das tabelas, os leitores especializados por tipo de cada coluna, os setters já
+ * resolvidos e a forma de vincular cada objeto ao seu pai. Durante a montagem resta apenas um loop sobre arrays.<br>
+ * <br>
+ * As posições das colunas no ResultSet são resolvidas uma vez por consulta pelo {@link ResultSetColumnIndex}. Se alguma coluna necessária não for encontrada o método {@link #mount(RFWDAO, ResultSet, DAOMap, HashMap)} retorna nulo
+ * e a montagem deve ser feita pelo interpretador, que continua sendo a referência de comportamento.
+ *
+ * @author Rodrigo Leitão
+ * @since 10.0.0 (18 de out de 2026)
+ */
+final class DAORowMapper {
+
+  /**
+   * Instância utilizada para marcar os {@link DAOMap} que não puderam ser compilados, evitando que a compilação seja tentada novamente a cada consulta.
+   */
+  static final DAORowMapper UNSUPPORTED = new DAORowMapper();
+
+  /**
+   * Leitor especializado de uma coluna do ResultSet. Retorna nulo quando o valor da coluna é nulo.
+   */
+  @FunctionalInterface
+  interface ColumnReader {
+    Object read(ResultSet rs, int column) throws Exception;
+  }
+
+  /**
+   * Referência para uma coluna do ResultSet. A posição é resolvida uma vez por consulta.
+   */
+  private static final class ColumnRef {
+    final String schema;
+    final String table;
+    final String alias;
+    final String column;
+
+    ColumnRef(String schema, String table, String alias, String column) {
+      this.schema = schema;
+      this.table = table;
+      this.alias = alias;
+      this.column = column;
+    }
+  }
+
+  /**
+   * Referência para um conversor utilizado pelo plano. A instância é obtida uma vez por consulta, ou a cada conversão quando o conversor não puder ser reaproveitado.
+   */
+  private static final class ConverterRef {
+    final Class<?> type;
+    final boolean cacheable;
+    final String field;
+    final Class<?> owner;
+
+    ConverterRef(Class<?> type, boolean cacheable, String field, Class<?> owner) {
+      this.type = type;
+      this.cacheable = cacheable;
+      this.field = field;
+      this.owner = owner;
+    }
+  }
+
+  /**
+   * Plano de escrita de um atributo do VO.
+   */
+  private static final class FieldPlan {
+    /**
+     * Caminho completo do atributo, utilizado nas mensagens de erro.
+     */
+    final String fullPath;
+    final FieldDescriptor fd;
+    final int slot;
+    final ColumnReader reader;
+    /**
+     * Índice do converter no array de converters da consulta, ou -1 se o atributo não tiver converter. Quando houver converter o {@link #reader} é nulo, e a coluna é lida de acordo com o tipo
+     * informado pelo próprio converter.
+     */
+    final int converterIndex;
+
+    FieldPlan(String fullPath, FieldDescriptor fd, int slot, ColumnReader reader, int converterIndex) {
+      this.fullPath = fullPath;
+      this.fd = fd;
+      this.slot = slot;
+      this.reader = reader;
+      this.converterIndex = converterIndex;
+    }
+  }
+
+  /**
+   * Plano de montagem do objeto de uma tabela de entidade.
+   */
+  private static final class EntityPlan {
+    final int tableIndex;
+    final Class<? extends RFWVO> type;
+    final String keyPrefix;
+    final int idSlot;
+    final boolean root;
+    final FieldPlan[] fields;
+
+    EntityPlan(int tableIndex, Class<? extends RFWVO> type, int idSlot, boolean root, FieldPlan[] fields) {
+      this.tableIndex = tableIndex;
+      this.type = type;
+      this.keyPrefix = type.getCanonicalName() + ".";
+      this.idSlot = idSlot;
+      this.root = root;
+      this.fields = fields;
+    }
+  }
+
+  /**
+   * Plano de montagem de uma tabela de {@link RFWMetaCollectionField}.
+   */
+  private static final class CollectionPlan {
+    final String table;
+    final String column;
+    final String attribute;
+    final String parentTypeName;
+    final String parentKeyPrefix;
+    final FieldDescriptor parentFd;
+    final int fkSlot;
+    final int parentIdSlot;
+    final int contentSlot;
+    final ColumnReader contentReader;
+    final int containerKind;
+    final int sortSlot;
+    final int keySlot;
+    final int keyConverterIndex;
+
+    CollectionPlan(String table, String column, String attribute, Class<? extends RFWVO> parentType, FieldDescriptor parentFd, int fkSlot, int parentIdSlot, int contentSlot, ColumnReader contentReader, int containerKind, int sortSlot, int keySlot, int keyConverterIndex) {
+      this.table = table;
+      this.column = column;
+      this.attribute = attribute;
+      this.parentTypeName = parentType.getCanonicalName();
+      this.parentKeyPrefix = parentType.getCanonicalName() + ".";
+      this.parentFd = parentFd;
+      this.fkSlot = fkSlot;
+      this.parentIdSlot = parentIdSlot;
+      this.contentSlot = contentSlot;
+      this.contentReader = contentReader;
+      this.containerKind = containerKind;
+      this.sortSlot = sortSlot;
+      this.keySlot = keySlot;
+      this.keyConverterIndex = keyConverterIndex;
+    }
+  }
+
+  /**
+   * Plano de vínculo entre o objeto de uma tabela e o objeto pai (tabela de joinAlias).
+   */
+  private static final class LinkPlan {
+    final int tableIndex;
+    final int joinIndex;
+    /**
+     * Índice da tabela pai quando entre os objetos existe uma tabela de N:N. -1 caso contrário.
+     */
+    final int viaIndex;
+    final String joinAlias;
+    final String relativePath;
+    final String parentTypeName;
+    final FieldDescriptor parentFd;
+    final int kind;
+    final int sortSlot;
+    final boolean compositionTree;
+    final String keyMap;
+    final FieldDescriptor keyFd;
+
+    LinkPlan(int tableIndex, int joinIndex, int viaIndex, String joinAlias, String relativePath, Class<?> parentType, FieldDescriptor parentFd, int kind, int sortSlot, boolean compositionTree, String keyMap, FieldDescriptor keyFd) {
+      this.tableIndex = tableIndex;
+      this.joinIndex = joinIndex;
+      this.viaIndex = viaIndex;
+      this.joinAlias = joinAlias;
+      this.relativePath = relativePath;
+      this.parentTypeName = parentType.getCanonicalName();
+      this.parentFd = parentFd;
+      this.kind = kind;
+      this.sortSlot = sortSlot;
+      this.compositionTree = compositionTree;
+      this.keyMap = keyMap;
+      this.keyFd = keyFd;
+    }
+  }
+
+  private static final int KIND_VO = 0;
+  private static final int KIND_LIST = 1;
+  private static final int KIND_SET = 2;
+  private static final int KIND_MAP = 3;
+
+  /**
+   * Quantidade de tabelas do {@link DAOMap}.
+   */
+  private final int tableCount;
+
+  /**
+   * Planos das tabelas de entidade e de collection, na mesma ordem das tabelas no {@link DAOMap}. Cada item é um {@link EntityPlan} ou um {@link CollectionPlan}.
+   */
+  private final Object[] steps;
+
+  /**
+   * Planos de vínculo entre os objetos, na mesma ordem das tabelas no {@link DAOMap}.
+   */
+  private final LinkPlan[] links;
+
+  /**
+   * Colunas utilizadas pelo plano. Os slots dos planos são índices deste array.
+   */
+  private final ColumnRef[] columns;
+
+  /**
+   * Indica quais colunas são obrigatórias. As demais (coluna "id" das entidades e coluna de FK das collections) são usadas para identificar se a tabela foi ou não recuperada na consulta.
+   */
+  private final boolean[] requiredColumns;
+
+  /**
+   * Conversores utilizados pelo plano.
+   */
+  private final ConverterRef[] converters;
+
+  /**
+   * Indica se algum atributo é do tipo {@link Date}, para que a recomendação de uso das classes do java.time seja impressa (uma vez por consulta) em ambiente de desenvolvimento.
+   */
+  private final boolean hasLegacyDate;
+
+  private DAORowMapper() {
+    this.tableCount = 0;
+    this.steps = null;
+    this.links = null;
+    this.columns = null;
+    this.requiredColumns = null;
+    this.converters = null;
+    this.hasLegacyDate = false;
+  }
+
+  private DAORowMapper(int tableCount, Object[] steps, LinkPlan[] links, ColumnRef[] columns, boolean[] requiredColumns, ConverterRef[] converters, boolean hasLegacyDate) {
+    this.tableCount = tableCount;
+    this.steps = steps;
+    this.links = links;
+    this.columns = columns;
+    this.requiredColumns = requiredColumns;
+    this.converters = converters;
+    this.hasLegacyDate = hasLegacyDate;
+  }
+
+  /**
+   * Compila o plano de montagem para o {@link DAOMap} informado.
+   *
+   * @param map Mapeamento a ser compilado.
+   * @return Plano compilado, ou {@link #UNSUPPORTED} caso o mapeamento tenha alguma estrutura que só o interpretador sabe tratar.
+   */
+  static DAORowMapper compile(DAOMap map) {
+    try {
+      return new Compiler(map).compile();
+    } catch (Throwable e) {
+      RFWLogger.logDebug("DAOMap não pode ser compilado para montagem dos objetos, será utilizado o interpretador: " + e.getMessage());
+      return UNSUPPORTED;
+    }
+  }
+
+  /**
+   * Classe auxiliar que monta o plano.
+   */
+  private static final class Compiler {
+    private final DAOMap map;
+    private final HashMap<String, Integer> tableIndexByAlias = new HashMap<>();
+    private final ArrayList<ColumnRef> columns = new ArrayList<>();
+    private final ArrayList<Boolean> required = new ArrayList<>();
+    private final HashMap<String, Integer> slotByColumn = new HashMap<>();
+    private final ArrayList<ConverterRef> converters = new ArrayList<>();
+    private boolean hasLegacyDate = false;
+
+    Compiler(DAOMap map) {
+      this.map = map;
+    }
+
+    DAORowMapper compile() throws Exception {
+      int index = 0;
+      for (DAOMapTable mTable : map.getMapTable()) {
+        tableIndexByAlias.put(mTable.alias, index++);
+      }
+
+      final ArrayList<Object> steps = new ArrayList<>();
+      final ArrayList<LinkPlan> links = new ArrayList<>();
+      for (DAOMapTable mTable : map.getMapTable()) {
+        if (mTable.path.startsWith("@")) {
+          steps.add(compileCollection(mTable));
+        } else if (mTable.path.startsWith(".")) {
+          // Tabelas de N:N não tem objeto
+        } else {
+          steps.add(compileEntity(mTable));
+          if (mTable.joinAlias != null) links.add(compileLink(mTable));
+        }
+      }
+
+      final boolean[] req = new boolean[required.size()];
+      for (int i = 0; i < req.length; i++) {
+        req[i] = required.get(i);
+      }
+      return new DAORowMapper(index, steps.toArray(), links.toArray(new LinkPlan[0]), columns.toArray(new ColumnRef[0]), req, converters.toArray(new ConverterRef[0]), hasLegacyDate);
+    }
+
+    private int slot(DAOMapTable mTable, String column, boolean isRequired) {
+      final String key = mTable.alias + "." + column;
+      Integer slot = slotByColumn.get(key);
+      if (slot == null) {
+        slot = columns.size();
+        columns.add(new ColumnRef(mTable.schema, mTable.table, mTable.alias, column));
+        required.add(isRequired);
+        slotByColumn.put(key, slot);
+      } else if (isRequired) {
+        required.set(slot, true);
+      }
+      return slot;
+    }
+
+    private int converter(Class<?> converterClass, boolean cacheable, String field, Class<?> owner) {
+      converters.add(new ConverterRef(converterClass, cacheable, field, owner));
+      return converters.size() - 1;
+    }
+
+    private EntityPlan compileEntity(DAOMapTable mTable) throws Exception {
+      final EntityMetadata meta = EntityMetadata.get(mTable.type);
+      final ArrayList<FieldPlan> fields = new ArrayList<>();
+      for (DAOMapField mField : map.getMapField()) {
+        if (mField.table == mTable && !"id".equals(mField.field)) {
+          final FieldDescriptor fd = meta.getField(mField.field);
+          final String fullPath = mField.path + "." + mField.field;
+          if (fd.converterClass != null) {
+            fields.add(new FieldPlan(fullPath, fd, slot(mTable, mField.column, true), null, converter(fd.converterClass, fd.converterCacheable, mField.field, mTable.type)));
+          } else if (RFWVO.class.isAssignableFrom(fd.type) || List.class.isAssignableFrom(fd.type)) {
+            // Colunas de FK: o objeto associado é montado a partir da sua própria tabela, como no interpretador
+          } else {
+            fields.add(new FieldPlan(fullPath, fd, slot(mTable, mField.column, true), createReader(mTable, mField, fd), -1));
+          }
+        }
+      }
+      return new EntityPlan(tableIndexByAlias.get(mTable.alias), mTable.type, slot(mTable, "id", false), "".equals(mTable.path), fields.toArray(new FieldPlan[0]));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private ColumnReader createReader(DAOMapTable mTable, DAOMapField mField, FieldDescriptor fd) throws RFWException {
+      final Class<?> dataType = fd.type;
+      if (Long.class.isAssignableFrom(dataType)) {
+        return DAORowMapper::readLong;
+      } else if (String.class.isAssignableFrom(dataType)) {
+        if (fd.encryptKey != null) {
+          final String encryptKey = fd.encryptKey;
+          return (rs, col) -> {
+            final String s = rs.getString(col);
+            return rs.wasNull() ? null : RUEncrypter.decryptDES(s, encryptKey);
+          };
+        }
+        return DAORowMapper::readString;
+      } else if (Date.class.isAssignableFrom(dataType)) {
+        hasLegacyDate = true;
+        return (rs, col) -> {
+          final Timestamp t = rs.getTimestamp(col);
+          return rs.wasNull() ? null : new Date(t.getTime());
+        };
+      } else if (LocalDate.class.isAssignableFrom(dataType)) {
+        final String typeName = mTable.type.getCanonicalName();
+        final String field = mField.field;
+        final String column = mTable.table + "." + mField.column;
+        return (rs, col) -> {
+          final Object obj = rs.getObject(col);
+          if (rs.wasNull()) return null;
+          if (obj instanceof Timestamp) return ((Timestamp) obj).toLocalDateTime().toLocalDate();
+          if (obj instanceof java.sql.Date) return ((java.sql.Date) obj).toLocalDate();
+          throw new RFWCriticalException("Não foi possível identificar o objeto '" + obj.getClass().getCanonicalName() + "' recebido para o atributo '" + field + "' do VO: '" + typeName + "'. Tabela: '" + column + "'.");
+        };
+      } else if (LocalTime.class.isAssignableFrom(dataType)) {
+        return (rs, col) -> {
+          final Time t = rs.getTime(col);
+          return rs.wasNull() ? null : t.toLocalTime();
+        };
+      } else if (LocalDateTime.class.isAssignableFrom(dataType)) {
+        return (rs, col) -> {
+          final Timestamp t = rs.getTimestamp(col);
+          return rs.wasNull() ? null : t.toLocalDateTime();
+        };
+      } else if (Integer.class.isAssignableFrom(dataType)) {
+        return DAORowMapper::readInteger;
+      } else if (Float.class.isAssignableFrom(dataType)) {
+        return (rs, col) -> {
+          final float v = rs.getFloat(col);
+          return rs.wasNull() ? null : v;
+        };
+      } else if (Boolean.class.isAssignableFrom(dataType)) {
+        return (rs, col) -> {
+          final boolean v = rs.getBoolean(col);
+          return rs.wasNull() ? null : v;
+        };
+      } else if (BigDecimal.class.isAssignableFrom(dataType)) {
+        return DAORowMapper::readBigDecimal;
+      } else if (Enum.class.isAssignableFrom(dataType)) {
+        final Class<Enum> enumType = (Class<Enum>) dataType;
+        final String typeName = mTable.type.getCanonicalName();
+        final String field = mField.field;
+        return (rs, col) -> {
+          final String s = rs.getString(col);
+          if (rs.wasNull()) return null;
+          try {
+            return Enum.valueOf(enumType, s);
+          } catch (IllegalArgumentException e) {
+            throw new RFWCriticalException("RFW_ERR_000013", new String[] { s, enumType.getCanonicalName(), field, typeName });
+          }
+        };
+      } else if (byte[].class.isAssignableFrom(dataType)) {
+        return (rs, col) -> {
+          final Blob blob = rs.getBlob(col);
+          if (rs.wasNull()) return null;
+          final byte[] b = blob.getBytes(1, (int) blob.length());
+          blob.free();
+          return b;
+        };
+      }
+      throw new RFWCriticalException("O RFWDAO não escrever no VO dados do tipo '${0}'.", new String[] { dataType.getCanonicalName() });
+    }
+
+    private CollectionPlan compileCollection(DAOMapTable mTable) throws Exception {
+      final DAOMapTable parentTable = map.getMapTableByAlias(mTable.joinAlias);
+      final DAOMapField mField = map.getMapFieldByPath(mTable.path.substring(1) + "@");
+      final String attribute = mField.field.substring(0, mField.field.length() - 1);
+
+      final RFWMetaCollectionField ann = (RFWMetaCollectionField) RUReflex.getRFWMetaAnnotation(parentTable.type, attribute);
+      if (ann.targetRelationship() == null) throw new RFWCriticalException("Não foi possível encontrar o TargetRelationship da MetaCollection em '" + parentTable.type.getCanonicalName() + "' do método '" + attribute + "'.");
+
+      final ColumnReader contentReader;
+      if (String.class.isAssignableFrom(ann.targetRelationship())) {
+        contentReader = DAORowMapper::readString;
+      } else if (BigDecimal.class.isAssignableFrom(ann.targetRelationship())) {
+        contentReader = DAORowMapper::readBigDecimal;
+      } else if (Enum.class.isAssignableFrom(ann.targetRelationship())) {
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        final Class<Enum> enumType = (Class<Enum>) ann.targetRelationship();
+        contentReader = (rs, col) -> {
+          final String s = rs.getString(col);
+          return rs.wasNull() ? null : Enum.valueOf(enumType, s);
+        };
+      } else {
+        throw new RFWCriticalException("RFWDAO não preparado para tratar Collections com target do tipo '" + ann.targetRelationship().getCanonicalName() + "'!");
+      }
+
+      final Class<?> rt = RUReflex.getPropertyTypeByType(parentTable.type, attribute);
+      int containerKind;
+      int sortSlot = -1;
+      int keySlot = -1;
+      int keyConverterIndex = -1;
+      if (List.class.isAssignableFrom(rt)) {
+        containerKind = KIND_LIST;
+        final DAOMapField sortField = map.getMapFieldByPath(mTable.path.substring(1) + "@sortColumn");
+        if (sortField != null) sortSlot = slot(mTable, sortField.column, true);
+      } else if (HashSet.class.isAssignableFrom(rt)) {
+        containerKind = KIND_SET;
+      } else if (Map.class.isAssignableFrom(rt)) {
+        containerKind = KIND_MAP;
+        final DAOMapField keyField = map.getMapFieldByPath(mTable.path.substring(1) + "@keyColumn");
+        keySlot = slot(mTable, keyField.column, true);
+        if (RFWDAOConverterInterface.class.isAssignableFrom(ann.keyConverterClass())) keyConverterIndex = converter(ann.keyConverterClass(), true, mField.field, parentTable.type);
+      } else {
+        throw new RFWCriticalException("O tipo ${0} não é suportado pela RFWMetaCollection! Atributo '${1}' da classe '${2}'.", new String[] { rt.getCanonicalName(), attribute, parentTable.type.getCanonicalName() });
+      }
+
+      return new CollectionPlan(mTable.table, mTable.column, attribute, parentTable.type, EntityMetadata.get(parentTable.type).getField(attribute), slot(mTable, mTable.column, false), slot(parentTable, "id", true), slot(mTable, mField.column, true), contentReader, containerKind, sortSlot, keySlot, keyConverterIndex);
+    }
+
+    private LinkPlan compileLink(DAOMapTable mTable) throws Exception {
+      DAOMapTable parentTable = map.getMapTableByAlias(mTable.joinAlias);
+      int viaIndex = -1;
+      if (parentTable.path.startsWith(".")) {
+        // Entre este objeto e o objeto pai existe uma tabela de N:N, o objeto pai é o da tabela anterior
+        parentTable = map.getMapTableByAlias(parentTable.joinAlias);
+        viaIndex = tableIndexByAlias.get(parentTable.alias);
+      }
+      final Class<? extends RFWVO> parentType = parentTable.type;
+      final String relativePath = RUReflex.getLastPath(mTable.path);
+      final Class<?> rt = RUReflex.getPropertyTypeByType(parentType, relativePath);
+      final FieldDescriptor parentFd = EntityMetadata.get(parentType).getField(relativePath);
+
+      int kind;
+      int sortSlot = -1;
+      boolean compositionTree = false;
+      String keyMap = null;
+      FieldDescriptor keyFd = null;
+      if (RFWVO.class.isAssignableFrom(rt)) {
+        kind = KIND_VO;
+      } else if (List.class.isAssignableFrom(rt)) {
+        kind = KIND_LIST;
+        final RelationshipDescriptor rel = EntityMetadata.get(parentType).getRelationship(relativePath);
+        if (rel != null && rel.sortColumn != null) sortSlot = slot(mTable, rel.sortColumn, true);
+        compositionTree = rel != null && rel.relationship == RelationshipTypes.COMPOSITION_TREE;
+      } else if (Map.class.isAssignableFrom(rt)) {
+        kind = KIND_MAP;
+        keyMap = EntityMetadata.get(parentType).getRelationship(relativePath).keyMap;
+        // Chaves com propriedades aninhadas continuam sendo lidas pelo RUReflex
+        if (keyMap.indexOf('.') < 0) keyFd = EntityMetadata.get(mTable.type).getField(keyMap);
+      } else {
+        throw new RFWCriticalException("O RFWDAO não sabe montar mapeamento do tipo '${0}', presente no '${1}'.", new String[] { rt.getCanonicalName(), parentType.getCanonicalName() });
+      }
+      return new LinkPlan(tableIndexByAlias.get(mTable.alias), tableIndexByAlias.get(mTable.joinAlias), viaIndex, mTable.joinAlias, relativePath, parentType, parentFd, kind, sortSlot, compositionTree, keyMap, keyFd);
+    }
+  }
+
+  /**
+   * Monta os objetos a partir do ResultSet utilizando o plano compilado.<br>
+   * Segue exatamente as mesmas regras do interpretador do {@link RFWDAO}.
+   *
+   * @param dao Instância do {@link RFWDAO} que executou a consulta. Utilizada para criar as instâncias dos objetos e para completar os objetos de COMPOSITION_TREE.
+   * @param rs ResultSet da consulta.
+   * @param map Mapeamento utilizado na consulta.
+   * @param cache Cache com os objetos já criados. Passar NULL quando não houver.
+   * @param tree Objetos de COMPOSITION_TREE encontrados, que serão completados depois pelo {@link RFWDAO}.
+   * @return Lista dos objetos raiz montados, ou nulo caso o ResultSet não tenha alguma coluna necessária para o plano (neste caso nenhuma linha foi consumida do ResultSet).
+   * @throws RFWException
+   */
+  List<RFWVO> mount(RFWDAO<?> dao, ResultSet rs, DAOMap map, HashMap<String, RFWVO> cache, DAOCompositionTree tree) throws RFWException {
+    try {
+      final Cursor cursor = open(dao, rs, map, cache, tree);
+      if (cursor == null) return null;
+      while (rs.next()) {
+        cursor.mountRow();
+      }
+      cursor.cleanLists();
+      return cursor.vos;
+    } catch (RFWException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new RFWCriticalException("Falha ao montar objeto com os dados retornados do banco de dados.", e);
+    }
+  }
+
+  /**
+   * Prepara a montagem incremental dos objetos, entregando um objeto raiz de cada vez conforme o ResultSet é lido.<br>
+   * O ResultSet precisa estar ordenado de forma que todas as linhas de um mesmo objeto raiz sejam consecutivas (por exemplo terminando o ORDER BY no "t0.id").
+   *
+   * @param dao Instância do {@link RFWDAO} que executou a consulta.
+   * @param rs ResultSet da consulta, ainda não iniciado.
+   * @param map Mapeamento utilizado na consulta.
+   * @return Cursor para a leitura dos objetos, ou nulo caso o ResultSet não tenha alguma coluna necessária para o plano (neste caso nenhuma linha foi consumida do ResultSet).
+   * @throws RFWException
+   */
+  Cursor stream(RFWDAO<?> dao, ResultSet rs, DAOMap map) throws RFWException {
+    try {
+      return open(dao, rs, map, null, null);
+    } catch (RFWException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new RFWCriticalException("Falha ao montar objeto com os dados retornados do banco de dados.", e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private Cursor open(RFWDAO<?> dao, ResultSet rs, DAOMap map, HashMap<String, RFWVO> cache, DAOCompositionTree tree) throws Exception {
+    final int[] idx = bindColumns(new ResultSetColumnIndex(rs, dao.getDialect()));
+    if (idx == null) return null;
+
+    // Conversores e seus leitores, de acordo com o tipo que cada um espera receber do banco de dados
+    final RFWDAOConverterInterface<Object, Object>[] convs = new RFWDAOConverterInterface[converters.length];
+    final ColumnReader[] convReaders = new ColumnReader[converters.length];
+    for (int i = 0; i < convs.length; i++) {
+      final ConverterRef ref = converters[i];
+      convs[i] = dao.getConverter(ref.type, ref.cacheable, ref.field, ref.owner);
+      convReaders[i] = readerFor(convs[i].getDBType());
+    }
+
+    if (hasLegacyDate && RFW.isDevelopmentEnvironment() && !RFW.isDevPropertyTrue("rfw.orm.dao.disableLocalDateTimeRecomendation")) {
+      new RFWWarningException("O RFW não recomenda utilizar o 'java.util.Date'. Verifique a implementação e substitua adequadamente por LocalDate, LocalTime ou LocalDateTime.").printStackTrace();
+    }
+    return new Cursor(dao, rs, map, cache, tree, idx, convs, convReaders);
+  }
+
+  /**
+   * Estado da montagem dos objetos de um ResultSet.<br>
+   * Utilizado tanto na montagem completa ({@link DAORowMapper#mount(RFWDAO, ResultSet, DAOMap, HashMap, DAOCompositionTree)}), linha a linha, quanto na montagem incremental ({@link #next()}), que entrega cada objeto raiz
+   * assim que todas as suas linhas foram lidas e descarta as estruturas de montagem em seguida, mantendo a memória constante independente do tamanho do ResultSet.
+   */
+  final class Cursor {
+
+    private final RFWDAO<?> dao;
+    private final ResultSet rs;
+    private final DAOMap map;
+    private final int[] idx;
+    private final RFWDAOConverterInterface<Object, Object>[] convs;
+    private final ColumnReader[] convReaders;
+
+    // Mesmas estruturas do interpretador, trocando as hashs por alias por arrays indexados pela posição da tabela no DAOMap
+    private final ArrayList<RFWVO> vos = new ArrayList<>();
+    // A lista de objetos raiz é verificada por identidade: o cache garante uma única instância por classe + ID
+    private final Set<RFWVO> rootSet = Collections.newSetFromMap(new IdentityHashMap<RFWVO, Boolean>());
+    private final Set<List<?>> cleanLists = Collections.newSetFromMap(new IdentityHashMap<List<?>, Boolean>());
+    private final HashMap<String, RFWVO> objCache;
+    private final DAOCompositionTree tree;
+    private final RFWVO[] rowVOs = new RFWVO[tableCount];
+    private final boolean[] searched = new boolean[tableCount];
+
+    /**
+     * Coluna do ID do objeto raiz no ResultSet. Utilizada na montagem incremental para identificar a troca de objeto raiz.
+     */
+    private final int rootIdColumn;
+
+    /**
+     * Indica se o ResultSet já está posicionado na primeira linha do próximo objeto raiz (lida ao detectar o fim do objeto anterior).
+     */
+    private boolean positioned = false;
+
+    private boolean finished = false;
+
+    private Cursor(RFWDAO<?> dao, ResultSet rs, DAOMap map, HashMap<String, RFWVO> cache, DAOCompositionTree tree, int[] idx, RFWDAOConverterInterface<Object, Object>[] convs, ColumnReader[] convReaders) {
+      this.dao = dao;
+      this.rs = rs;
+      this.map = map;
+      this.idx = idx;
+      this.convs = convs;
+      this.convReaders = convReaders;
+      this.objCache = cache == null ? new HashMap<>() : cache;
+      this.tree = tree == null ? new DAOCompositionTree() : tree;
+      int rootIdColumn = -1;
+      for (Object step : steps) {
+        if (step instanceof EntityPlan && ((EntityPlan) step).root) rootIdColumn = idx[((EntityPlan) step).idSlot];
+      }
+      this.rootIdColumn = rootIdColumn;
+    }
+
+    /**
+     * Lê as linhas do ResultSet até completar o próximo objeto raiz.<br>
+     * O objeto é entregue quando a linha seguinte pertence a outro objeto raiz (ou o ResultSet termina). Em seguida o cache de objetos é descartado, por isso objetos associados a mais de um objeto
+     * raiz são instanciados novamente para cada um deles.
+     *
+     * @return Próximo objeto raiz completo, ou nulo quando não houver mais objetos.
+     * @throws RFWException
+     */
+    RFWVO next() throws RFWException {
+      try {
+        if (finished) return null;
+        if (!positioned && !rs.next()) {
+          finished = true;
+          return null;
+        }
+        positioned = false;
+
+        final long rootID = rs.getLong(rootIdColumn);
+        while (true) {
+          mountRow();
+          if (!rs.next()) {
+            finished = true;
+            break;
+          }
+          if (rs.getLong(rootIdColumn) != rootID) {
+            positioned = true;
+            break;
+          }
+        }
+        cleanLists();
+        dao.loadCompositionTree(tree, objCache); // Na montagem incremental a árvore é completada antes de entregar cada objeto raiz
+
+        final RFWVO vo = vos.isEmpty() ? null : vos.get(0);
+        // Descarta tudo o que foi criado para o objeto entregue
+        vos.clear();
+        rootSet.clear();
+        cleanLists.clear();
+        objCache.clear();
+        tree.clear();
+        return vo;
+      } catch (RFWException e) {
+        throw e;
+      } catch (Exception e) {
+        throw new RFWCriticalException("Falha ao montar objeto com os dados retornados do banco de dados.", e);
+      }
+    }
+
+    /**
+     * Monta os objetos da linha em que o ResultSet está posicionado.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private void mountRow() throws Exception {
+      Arrays.fill(rowVOs, null);
+      Arrays.fill(searched, false);
+
+      for (Object step : steps) {
+        if (step instanceof EntityPlan) {
+          final EntityPlan ep = (EntityPlan) step;
+          final int idCol = idx[ep.idSlot];
+          if (idCol < 0) continue; // Tabela não recuperada nesta consulta
+          final long idValue = rs.getLong(idCol);
+          if (rs.wasNull()) {
+            searched[ep.tableIndex] = true;
+            continue;
+          }
+          final Long id = idValue;
+          final String key = ep.keyPrefix + id;
+          RFWVO vo = objCache.get(key);
+          if (vo == null) {
+            vo = (RFWVO) dao.createNewInstance(ep.type);
+            vo.setId(id);
+            objCache.put(key, vo);
+            for (FieldPlan fp : ep.fields) {
+              try {
+                if (fp.converterIndex >= 0) {
+                  final ConverterRef ref = converters[fp.converterIndex];
+                  final RFWDAOConverterInterface<Object, Object> conv = ref.cacheable ? convs[fp.converterIndex] : dao.getConverter(ref.type, false, ref.field, ref.owner);
+                  fp.fd.set(vo, conv.toVO(convReaders[fp.converterIndex].read(rs, idx[fp.slot])));
+                } else {
+                  final Object value = fp.reader.read(rs, idx[fp.slot]);
+                  if (value != null) fp.fd.set(vo, value);
+                }
+              } catch (Throwable e) {
+                throw new RFWCriticalException("Falha ao montar objeto com os dados retornados do banco de dados.", new String[] { fp.fullPath }, e);
+              }
+            }
+          }
+          rowVOs[ep.tableIndex] = vo;
+          searched[ep.tableIndex] = true;
+          if (ep.root && rootSet.add(vo)) vos.add(vo);
+        } else {
+          mountCollection((CollectionPlan) step, rs, idx, convs, objCache, cleanLists, map);
+        }
+      }
+
+      // Com todos os objetos criados, só precisamos defini-los para montar a hierarquia. As Hashs são montadas só na segunda iteração, como no interpretador.
+      for (int iterationControl = 0; iterationControl < 2; iterationControl++) {
+        for (LinkPlan lp : links) {
+          RFWVO vo = rowVOs[lp.tableIndex];
+          if (vo == null && !searched[lp.tableIndex]) continue;
+
+          RFWVO join = rowVOs[lp.joinIndex];
+          if (join == null && lp.viaIndex >= 0) join = rowVOs[lp.viaIndex];
+
+          if (vo != null) {
+            if (join == null) throw new RFWCriticalException("Não foi possível encontrar o objeto pai para o atributo '${0}' da classe '${1}'.", new String[] { lp.relativePath, lp.parentTypeName });
+            switch (lp.kind) {
+              case KIND_VO:
+                if (iterationControl == 0) lp.parentFd.set(join, vo);
+                break;
+              case KIND_LIST:
+                if (iterationControl == 0) {
+                  List list = (List) lp.parentFd.get(join);
+                  if (list == null) list = new ArrayList<>();
+                  if (!list.contains(vo)) {
+                    Integer sortIndex = null;
+                    if (lp.sortSlot >= 0) sortIndex = readInteger(rs, idx[lp.sortSlot]);
+                    if (lp.compositionTree) tree.add(map, map.getMapTableByAlias(lp.joinAlias), vo);
+                    if (sortIndex == null) {
+                      list.add(vo);
+                    } else {
+                      if (list.size() == 0) cleanLists.add(list);
+                      while (list.size() <= sortIndex + 3)
+                        list.add(map);
+                      list.add(sortIndex, vo);
+                      list.remove(sortIndex + 1);
+                    }
+                    lp.parentFd.set(join, list);
+                  }
+                }
+                break;
+              case KIND_MAP:
+                if (iterationControl == 1) {
+                  Map hash = (Map) lp.parentFd.get(join);
+                  if (hash == null) hash = new LinkedHashMap<>();
+                  final Object key = lp.keyFd != null ? lp.keyFd.get(vo) : RUReflex.getPropertyValue(vo, lp.keyMap);
+                  if (!hash.containsKey(key)) {
+                    hash.put(key, vo);
+                    lp.parentFd.set(join, hash);
+                  }
+                }
+                break;
+            }
+          } else if (join != null) {
+            // Objeto procurado mas sem associação: garantimos a lista/hash vazia
+            if (lp.kind == KIND_LIST) {
+              if (lp.parentFd.get(join) == null) lp.parentFd.set(join, new ArrayList<>());
+            } else if (lp.kind == KIND_MAP) {
+              if (lp.parentFd.get(join) == null) lp.parentFd.set(join, new LinkedHashMap<>());
+            }
+          }
+        }
+      }
+    }
+
+    /**
+     * Limpamos as listas marcadas para limpeza
+     */
+    private void cleanLists() {
+      for (List<?> list : cleanLists) {
+        int size = -1;
+        while (size != list.size()) {
+          size = list.size();
+          list.remove(map);
+        }
+      }
+    }
+  }
+
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private void mountCollection(CollectionPlan cp, ResultSet rs, int[] idx, RFWDAOConverterInterface<Object, Object>[] convs, HashMap<String, RFWVO> objCache, Set<List<?>> cleanLists, DAOMap map) throws Exception {
+    if (idx[cp.fkSlot] < 0) return; // Collection não solicitada nesta consulta
+
+    final Long parentID = readLong(rs, idx[cp.parentIdSlot]);
+    if (parentID == null) return;
+
+    final RFWVO vo = objCache.get(cp.parentKeyPrefix + parentID);
+    if (vo == null) throw new RFWCriticalException("Não foi possível encontrar o pai para colocar os valores da RFWMetaCollection!", new String[] { cp.table, cp.column });
+
+    final Object content = cp.contentReader.read(rs, idx[cp.contentSlot]);
+    if (content == null) return;
+
+    switch (cp.containerKind) {
+      case KIND_LIST: {
+        final Integer sortIndex = cp.sortSlot >= 0 ? readInteger(rs, idx[cp.sortSlot]) : null;
+        List list = (List) cp.parentFd.get(vo);
+        if (list == null) list = new ArrayList<>();
+        if (!list.contains(content)) {
+          if (sortIndex == null) {
+            list.add(content);
+          } else {
+            if (list.size() == 0) cleanLists.add(list);
+            while (list.size() < sortIndex + 1)
+              list.add(map);
+            list.add(sortIndex, content);
+            list.remove(sortIndex + 1);
+          }
+          cp.parentFd.set(vo, list);
+        }
+        break;
+      }
+      case KIND_SET: {
+        HashSet set = (HashSet) cp.parentFd.get(vo);
+        if (set == null) set = new HashSet<>();
+        set.add(content);
+        cp.parentFd.set(vo, set);
+        break;
+      }
+      case KIND_MAP: {
+        Object keyValue = readString(rs, idx[cp.keySlot]);
+        if (cp.keyConverterIndex >= 0) keyValue = convs[cp.keyConverterIndex].toVO(keyValue);
+        Map hash = (Map) cp.parentFd.get(vo);
+        if (hash == null) hash = new LinkedHashMap<>();
+        if (!hash.containsKey(keyValue)) {
+          hash.put(keyValue, content);
+          cp.parentFd.set(vo, hash);
+        }
+        break;
+      }
+    }
+  }
+
+  /**
+   * Resolve a posição de cada coluna do plano no ResultSet.
+   *
+   * @return Posições das colunas (base 1), com -1 para as colunas não encontradas. Nulo se alguma coluna obrigatória não for encontrada.
+   */
+  private int[] bindColumns(ResultSetColumnIndex index) {
+    final int[] idx = new int[columns.length];
+    for (int i = 0; i < columns.length; i++) {
+      final ColumnRef ref = columns[i];
+      idx[i] = index.findColumn(ref.schema, ref.table, ref.alias, ref.column);
+      if (idx[i] < 0 && requiredColumns[i]) return null;
+    }
+    return idx;
+  }
+
+  /**
+   * Recupera o leitor da coluna para o tipo informado pelo {@link RFWDAOConverterInterface#getDBType()}.
+   *
+   * @param dbType Tipo esperado. Nulo, ou um tipo não suportado, resulta na leitura pelo getObject.
+   * @return Leitor da coluna.
+   */
+  static ColumnReader readerFor(Class<?> dbType) {
+    if (dbType == null) return DAORowMapper::readObject;
+    if (dbType == String.class) return DAORowMapper::readString;
+    if (dbType == Long.class) return DAORowMapper::readLong;
+    if (dbType == Integer.class) return DAORowMapper::readInteger;
+    if (dbType == BigDecimal.class) return DAORowMapper::readBigDecimal;
+    if (dbType == Float.class) return (rs, col) -> {
+      final float v = rs.getFloat(col);
+      return rs.wasNull() ? null : v;
+    };
+    if (dbType == Double.class) return (rs, col) -> {
+      final double v = rs.getDouble(col);
+      return rs.wasNull() ? null : v;
+    };
+    if (dbType == Boolean.class) return (rs, col) -> {
+      final boolean v = rs.getBoolean(col);
+      return rs.wasNull() ? null : v;
+    };
+    if (dbType == Timestamp.class) return (rs, col) -> rs.getTimestamp(col);
+    if (dbType == Time.class) return (rs, col) -> rs.getTime(col);
+    if (dbType == java.sql.Date.class) return (rs, col) -> rs.getDate(col);
+    if (dbType == byte[].class) return (rs, col) -> rs.getBytes(col);
+    return DAORowMapper::readObject;
+  }
+
+  private static Object readObject(ResultSet rs, int col) throws SQLException {
+    final Object v = rs.getObject(col);
+    return rs.wasNull() ? null : v;
+  }
+
+  private static Long readLong(ResultSet rs, int col) throws SQLException {
+    final long v = rs.getLong(col);
+    return rs.wasNull() ? null : v;
+  }
+
+  private static Integer readInteger(ResultSet rs, int col) throws SQLException {
+    final int v = rs.getInt(col);
+    return rs.wasNull() ? null : v;
+  }
+
+  private static String readString(ResultSet rs, int col) throws SQLException {
+    final String v = rs.getString(col);
+    return rs.wasNull() ? null : v;
+  }
+
+  private static BigDecimal readBigDecimal(ResultSet rs, int col) throws SQLException {
+    final BigDecimal v = rs.getBigDecimal(col);
+    return rs.wasNull() ? null : v;
+  }
+}
@@ -0,0 +1,148 @@
+package br.eng.rodrigogml.rfw.orm.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWMO;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWOrderBy;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVO;
+import br.eng.rodrigogml.rfw.orm.dao.RFWDAO.FindListStrategy;
+
+/**
+ * Description: Cursor de leitura contínua dos objetos de uma consulta, utilizado pelo {@link RFWDAO#forEach(RFWMO, RFWOrderBy, String[], Consumer)} e pelo
+ * {@link RFWDAO#findStream(RFWMO, RFWOrderBy, String[])}.<br>
+ * Quando o {@link DAORowMapper} está disponível para o mapeamento, mantém um único ResultSet aberto e monta um objeto raiz de cada vez. Caso contrário (plano não suportado ou desabilitado), recupera
+ * apenas os IDs e monta os objetos em blocos de {@link #FALLBACK_CHUNK_SIZE}, mantendo em memória apenas os IDs e o bloco corrente.<br>
+ * <br>
+ * <b>ATENÇÃO:</b> Enquanto o cursor estiver aberto a conexão com o banco de dados fica presa a ele. Não é thread-safe.
+ *
+ * @author Rodrigo Leitão
+ * @since 10.0.0 (18 de out de 2026)
+ */
+final class DAOStreamCursor<VO extends RFWVO> implements AutoCloseable {
+
+  /**
+   * Quantidade de objetos montados por consulta quando o cursor não consegue utilizar o {@link DAORowMapper}.
+   */
+  static final int FALLBACK_CHUNK_SIZE = 500;
+
+  private final Connection conn;
+  private final PreparedStatement stmt;
+  private final ResultSet rs;
+  private final DAORowMapper.Cursor cursor;
+
+  private final RFWDAO<VO> dao;
+  private final List<Long> ids;
+  private final RFWOrderBy orderBy;
+  private final String[] attributes;
+  private int idPosition = 0;
+  private Iterator<VO> chunk = null;
+
+  private boolean closed = false;
+
+  /**
+   * Cria o cursor sobre um ResultSet já aberto. O cursor passa a ser responsável por fechar o ResultSet, o Statement e a conexão.
+   */
+  DAOStreamCursor(Connection conn, PreparedStatement stmt, ResultSet rs, DAORowMapper.Cursor cursor) {
+    this.conn = conn;
+    this.stmt = stmt;
+    this.rs = rs;
+    this.cursor = cursor;
+    this.dao = null;
+    this.ids = null;
+    this.orderBy = null;
+    this.attributes = null;
+  }
+
+  /**
+   * Cria o cursor que monta os objetos em blocos a partir da lista de IDs.
+   */
+  DAOStreamCursor(RFWDAO<VO> dao, List<Long> ids, RFWOrderBy orderBy, String[] attributes) {
+    this.conn = null;
+    this.stmt = null;
+    this.rs = null;
+    this.cursor = null;
+    this.dao = dao;
+    this.ids = ids;
+    this.orderBy = orderBy;
+    this.attributes = attributes;
+  }
+
+  /**
+   * Recupera o próximo objeto.
+   *
+   * @return Próximo objeto, ou nulo quando não houver mais objetos.
+   * @throws RFWException Lançado em caso de falha na leitura ou montagem dos objetos.
+   */
+  @SuppressWarnings("unchecked")
+  VO next() throws RFWException {
+    if (closed) return null;
+    if (cursor != null) return (VO) cursor.next();
+
+    while (chunk == null || !chunk.hasNext()) {
+      if (idPosition >= ids.size()) return null;
+      final List<Long> chunkIDs = ids.subList(idPosition, Math.min(idPosition + FALLBACK_CHUNK_SIZE, ids.size()));
+      idPosition += chunkIDs.size();
+      final RFWMO mo = new RFWMO();
+      mo.in("id", chunkIDs);
+      // Os IDs já estão na ordem do orderBy, e a consulta do bloco reaplica a mesma ordenação
+      chunk = dao.findList(mo, orderBy, attributes, null, null, FindListStrategy.TWO_QUERIES).iterator();
+    }
+    return chunk.next();
+  }
+
+  /**
+   * Cria um Spliterator sobre o cursor, para uso na API de Stream.<br>
+   * Como a API de Stream não aceita exceções verificadas, as {@link RFWException} lançadas durante a iteração são encapsuladas em uma RuntimeException.
+   */
+  Spliterator<VO> spliterator() {
+    return new Spliterators.AbstractSpliterator<VO>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+      @Override
+      public boolean tryAdvance(Consumer<? super VO> action) {
+        final VO vo;
+        try {
+          vo = DAOStreamCursor.this.next();
+        } catch (RFWException e) {
+          throw new RuntimeException(e);
+        }
+        if (vo == null) return false;
+        action.accept(vo);
+        return true;
+      }
+    };
+  }
+
+  /**
+   * Fecha o ResultSet, o Statement e a conexão do cursor.
+   */
+  @Override
+  public void close() throws RFWException {
+    if (closed) return;
+    closed = true;
+    if (conn == null) return;
+    try (Connection c = conn; PreparedStatement s = stmt; ResultSet r = rs) {
+      // Apenas fecha os recursos, na ordem inversa da abertura
+    } catch (Throwable e) {
+      throw new RFWCriticalException("Falha ao executar a operação no banco de dados.", e);
+    }
+  }
+
+  /**
+   * Fecha o cursor encapsulando a {@link RFWException} em RuntimeException. Utilizado no onClose() do Stream.
+   */
+  void closeUnchecked() {
+    try {
+      close();
+    } catch (RFWException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
@@ -0,0 +1,482 @@
+package br.eng.rodrigogml.rfw.orm.dao;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaCollectionField;
+import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaEncrypt;
+import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaRelationshipField;
+import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaRelationshipField.RelationshipTypes;
+import br.eng.rodrigogml.rfw.kernel.utils.RUReflex;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVO;
+import br.eng.rodrigogml.rfw.orm.dao.RFWDAO.SQLDialect;
+import br.eng.rodrigogml.rfw.orm.dao.annotations.dao.RFWDAOAnnotation;
+import br.eng.rodrigogml.rfw.orm.dao.annotations.dao.RFWDAOConverter;
+import br.eng.rodrigogml.rfw.orm.dao.annotations.dao.RFWDAOVersion;
+import br.eng.rodrigogml.rfw.orm.dao.interfaces.RFWDAOConverterInterface;
+import br.eng.rodrigogml.rfw.orm.dao.interfaces.RFWDAOIDGenerator;
+
+/**
+ * Description: Registro das definições (annotations) de cada entidade utilizadas pelo {@link RFWDAO} e pelo {@link DAOMap}.<br>
+ * A leitura das annotations por reflexão é feita uma única vez por classe, e as informações ficam disponíveis em descritores imutáveis. Dessa forma a persistência de grafos grandes de objetos não
+ * precisa repetir a reflexão a cada objeto ou a cada coluna.
+ *
+ * @author Rodrigo Leitão
+ * @since 10.0.0 (18 de out de 2026)
+ */
+final class EntityMetadata {
+
+  /**
+   * Descritor de um atributo anotado com {@link RFWMetaRelationshipField}.<br>
+   * Os valores de column, columnMapped e joinTable são os definidos na annotation. Quando houver um {@link br.eng.rodrigogml.rfw.orm.dao.interfaces.DAOResolver} ele ainda deve ser consultado
+   * utilizando o {@link #field} e {@link #ann}.
+   */
+  static final class RelationshipDescriptor {
+    final Field field;
+    final String name;
+    final RFWMetaRelationshipField ann;
+    final RelationshipTypes relationship;
+    final boolean required;
+    final String column;
+    final String columnMapped;
+    final String joinTable;
+    /**
+     * Coluna de ordenação da lista, ou null caso não tenha sido definida na annotation.
+     */
+    final String sortColumn;
+    final String keyMap;
+
+    private RelationshipDescriptor(Field field, RFWMetaRelationshipField ann) {
+      this.field = field;
+      this.name = field.getName();
+      this.ann = ann;
+      this.relationship = ann.relationship();
+      this.required = ann.required();
+      this.column = ann.column();
+      this.columnMapped = ann.columnMapped();
+      this.joinTable = ann.joinTable();
+      this.sortColumn = "".equals(ann.sortColumn()) ? null : ann.sortColumn();
+      this.keyMap = ann.keyMap();
+    }
+  }
+
+  /**
+   * Descritor de um atributo anotado com {@link RFWMetaCollectionField}.
+   */
+  static final class CollectionDescriptor {
+    final Field field;
+    final String name;
+    final RFWMetaCollectionField ann;
+    final String table;
+    final String fkColumn;
+    final String column;
+    /**
+     * Coluna da chave da Map, ou null caso não tenha sido definida na annotation.
+     */
+    final String keyColumn;
+    /**
+     * Coluna de ordenação da lista, ou null caso não tenha sido definida na annotation.
+     */
+    final String sortColumn;
+    /**
+     * Classe do conversor da chave da Map, ou null caso a annotation não defina um {@link RFWDAOConverterInterface}.
+     */
+    final Class<?> keyConverterClass;
+
+    private CollectionDescriptor(Field field, RFWMetaCollectionField ann) {
+      this.field = field;
+      this.name = field.getName();
+      this.ann = ann;
+      this.table = ann.table();
+      this.fkColumn = ann.fkColumn();
+      this.column = ann.column();
+      this.keyColumn = "".equals(ann.keyColumn()) ? null : ann.keyColumn();
+      this.sortColumn = "".equals(ann.sortColumn()) ? null : ann.sortColumn();
+      this.keyConverterClass = RFWDAOConverterInterface.class.isAssignableFrom(ann.keyConverterClass()) ? ann.keyConverterClass() : null;
+    }
+  }
+
+  /**
+   * Descritor de um atributo simples da entidade, com as definições de conversão e criptografia utilizadas para ler e escrever o valor no banco de dados.<br>
+   * Também mantém os {@link MethodHandle} do getter e do setter do atributo, utilizados no lugar da reflexão por nome do {@link RUReflex} na leitura e escrita dos valores de cada coluna.<br>
+   * Os handles ficam em campos de instância do descritor, por isso o JIT não os trata como constantes: o ganho vem de evitar a busca do método por nome a cada chamada, não de inlining do acesso.
+   */
+  static final class FieldDescriptor {
+    final Field field;
+    final String name;
+    final Class<?> type;
+    /**
+     * Classe definida no {@link RFWDAOConverter}, ou null caso o atributo não tenha um conversor.
+     */
+    final Class<?> converterClass;
+    /**
+     * Valor de {@link RFWDAOConverter#cacheable()}: indica se a instância do conversor pode ser reaproveitada pelo {@link DAOConverterRegistry}.
+     */
+    final boolean converterCacheable;
+    /**
+     * Chave definida no {@link RFWMetaEncrypt}, ou null caso o atributo não seja criptografado.
+     */
+    final String encryptKey;
+    /**
+     * Classe da entidade a qual os handles se aplicam.
+     */
+    private final Class<?> ownerType;
+    /**
+     * Getter do atributo com a assinatura (Object)Object, ou null caso a entidade não tenha um getter público.
+     */
+    private final MethodHandle getter;
+    /**
+     * Setter do atributo com a assinatura (Object,Object)void, ou null caso a entidade não tenha um setter público.
+     */
+    private final MethodHandle setter;
+
+    private FieldDescriptor(Class<?> ownerType, Field field) {
+      this.field = field;
+      this.name = field.getName();
+      this.type = field.getType();
+      final RFWDAOConverter convAnn = field.getAnnotation(RFWDAOConverter.class);
+      this.converterClass = convAnn == null ? null : convAnn.converterClass();
+      this.converterCacheable = convAnn == null || convAnn.cacheable();
+      final RFWMetaEncrypt encAnn = field.getAnnotation(RFWMetaEncrypt.class);
+      this.encryptKey = encAnn == null ? null : encAnn.key();
+      this.ownerType = ownerType;
+      this.getter = createGetter(ownerType, field);
+      this.setter = createSetter(ownerType, field);
+    }
+
+    /**
+     * Lê o valor do atributo no objeto. Caso não tenha sido possível criar o handle do getter, ou o objeto não seja da classe esperada, utiliza o {@link RUReflex}.
+     *
+     * @param vo Objeto de onde o valor será lido.
+     * @return Valor do atributo.
+     * @throws RFWException
+     */
+    Object get(Object vo) throws RFWException {
+      if (this.getter == null || !this.ownerType.isInstance(vo)) return RUReflex.getPropertyValue(vo, this.name);
+      try {
+        return (Object) this.getter.invokeExact(vo);
+      } catch (Throwable e) {
+        throw new RFWCriticalException("Falha ao ler o atributo '${0}' da classe '${1}'.", new String[] { this.name, vo.getClass().getCanonicalName() }, e);
+      }
+    }
+
+    /**
+     * Escreve o valor do atributo no objeto. Caso não tenha sido possível criar o handle do setter, ou o objeto não seja da classe esperada, utiliza o {@link RUReflex}.<br>
+     * Valores nulos em atributos de tipo primitivo também são repassados ao {@link RUReflex}, mantendo o mesmo tratamento de antes dos handles (o handle lançaria NullPointerException no unboxing).
+     *
+     * @param vo Objeto onde o valor será escrito.
+     * @param value Valor a ser definido no atributo.
+     * @throws RFWException
+     */
+    void set(Object vo, Object value) throws RFWException {
+      if (this.setter == null || !this.ownerType.isInstance(vo) || (value == null && this.type.isPrimitive())) {
+        RUReflex.setPropertyValue(vo, this.name, value, false);
+        return;
+      }
+      try {
+        this.setter.invokeExact(vo, value);
+      } catch (Throwable e) {
+        throw new RFWCriticalException("Falha ao escrever o atributo '${0}' da classe '${1}'.", new String[] { this.name, vo.getClass().getCanonicalName() }, e);
+      }
+    }
+
+    private static MethodHandle createGetter(Class<?> ownerType, Field field) {
+      final String cap = capitalize(field.getName());
+      Method method = findMethod(ownerType, "get" + cap);
+      if (method == null && (field.getType() == Boolean.class || field.getType() == boolean.class)) method = findMethod(ownerType, "is" + cap);
+      if (method == null || method.getReturnType() == void.class) return null;
+      try {
+        method.setAccessible(true);
+        return LOOKUP.unreflect(method).asType(MethodType.methodType(Object.class, Object.class));
+      } catch (Throwable e) {
+        // Se não for possível criar o handle (como em casos de restrição de acesso), simplesmente deixamos o acesso por reflexão do RUReflex
+        return null;
+      }
+    }
+
+    private static MethodHandle createSetter(Class<?> ownerType, Field field) {
+      final Method method = findMethod(ownerType, "set" + capitalize(field.getName()), field.getType());
+      if (method == null) return null;
+      try {
+        method.setAccessible(true);
+        return LOOKUP.unreflect(method).asType(MethodType.methodType(void.class, Object.class, Object.class));
+      } catch (Throwable e) {
+        // Se não for possível criar o handle (como em casos de restrição de acesso), simplesmente deixamos o acesso por reflexão do RUReflex
+        return null;
+      }
+    }
+
+    private static Method findMethod(Class<?> ownerType, String name, Class<?>... parameterTypes) {
+      try {
+        return ownerType.getMethod(name, parameterTypes);
+      } catch (NoSuchMethodException e) {
+        return null;
+      }
+    }
+
+    private static String capitalize(String name) {
+      return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+  }
+
+  /**
+   * Registro das definições já lidas, indexadas pela classe da entidade.
+   */
+  private static final ConcurrentHashMap<Class<? extends RFWVO>, EntityMetadata> registry = new ConcurrentHashMap<>();
+
+  /**
+   * Instâncias dos geradores de IDs, compartilhadas entre todas as entidades que utilizam o mesmo gerador.
+   */
+  private static final ConcurrentHashMap<Class<? extends RFWDAOIDGenerator>, RFWDAOIDGenerator> idGenerators = new ConcurrentHashMap<>();
+
+  /**
+   * Lookup utilizado para criar os {@link MethodHandle} dos getters e setters.
+   */
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+  private final Class<? extends RFWVO> type;
+
+  /**
+   * Relacionamentos declarados diretamente na classe da entidade, na ordem de declaração.
+   */
+  private final List<RelationshipDescriptor> relationships;
+
+  /**
+   * Collections declaradas diretamente na classe da entidade, na ordem de declaração.
+   */
+  private final List<CollectionDescriptor> collections;
+
+  /**
+   * Relacionamentos indexados pelo nome do atributo.
+   */
+  private final HashMap<String, RelationshipDescriptor> relationshipByName;
+
+  /**
+   * Todos os atributos da entidade (incluindo os herdados) indexados pelo nome. Em caso de atributos com o mesmo nome, prevalece o declarado na classe mais específica.
+   */
+  private final HashMap<String, FieldDescriptor> fieldByName;
+
+  /**
+   * Atributo anotado com {@link RFWDAOVersion}, ou null caso a entidade não tenha controle de versão.
+   */
+  private final FieldDescriptor versionField;
+
+  /**
+   * Classe do gerador de IDs definido no {@link RFWDAOAnnotation#idGenerator()}, ou null caso os IDs sejam gerados pelo banco de dados.
+   */
+  private final Class<? extends RFWDAOIDGenerator> idGeneratorClass;
+
+  /**
+   * Nome do gerador de IDs definido no {@link RFWDAOAnnotation#idGeneratorName()}, ou null para utilizar o nome da tabela.
+   */
+  private final String idGeneratorName;
+
+  /**
+   * Quantidade de IDs reservados pelo gerador a cada acesso ao banco de dados.
+   */
+  private final int idBlockSize;
+
+  private EntityMetadata(Class<? extends RFWVO> type) {
+    this.type = type;
+
+    final ArrayList<RelationshipDescriptor> rels = new ArrayList<>();
+    final ArrayList<CollectionDescriptor> cols = new ArrayList<>();
+    this.relationshipByName = new HashMap<>();
+    // Mantemos a mesma regra utilizada na persistência: apenas os atributos declarados na própria classe são considerados como relacionamentos/collections
+    for (Field field : type.getDeclaredFields()) {
+      final RFWMetaRelationshipField relAnn = field.getAnnotation(RFWMetaRelationshipField.class);
+      if (relAnn != null) {
+        final RelationshipDescriptor rel = new RelationshipDescriptor(field, relAnn);
+        rels.add(rel);
+        this.relationshipByName.put(rel.name, rel);
+      }
+      final RFWMetaCollectionField colAnn = field.getAnnotation(RFWMetaCollectionField.class);
+      if (colAnn != null) cols.add(new CollectionDescriptor(field, colAnn));
+    }
+    rels.trimToSize();
+    cols.trimToSize();
+    this.relationships = Collections.unmodifiableList(rels);
+    this.collections = Collections.unmodifiableList(cols);
+
+    this.fieldByName = new HashMap<>();
+    FieldDescriptor version = null;
+    Class<?> clazz = type;
+    while (clazz != null && clazz != Object.class) {
+      for (Field field : clazz.getDeclaredFields()) {
+        if (!this.fieldByName.containsKey(field.getName())) {
+          final FieldDescriptor fd = new FieldDescriptor(type, field);
+          this.fieldByName.put(field.getName(), fd);
+          if (version == null && field.getAnnotation(RFWDAOVersion.class) != null) version = fd;
+        }
+      }
+      clazz = clazz.getSuperclass();
+    }
+    this.versionField = version;
+
+    final RFWDAOAnnotation daoAnn = type.getAnnotation(RFWDAOAnnotation.class);
+    if (daoAnn != null && daoAnn.idGenerator() != RFWDAOIDGenerator.class) {
+      this.idGeneratorClass = daoAnn.idGenerator();
+      this.idGeneratorName = "".equals(daoAnn.idGeneratorName()) ? null : daoAnn.idGeneratorName();
+      this.idBlockSize = daoAnn.idBlockSize();
+    } else {
+      this.idGeneratorClass = null;
+      this.idGeneratorName = null;
+      this.idBlockSize = 0;
+    }
+  }
+
+  /**
+   * Recupera as definições da entidade. As definições são lidas na primeira solicitação e reaproveitadas nas demais.
+   *
+   * @param type Classe da entidade.
+   * @return Definições da entidade.
+   */
+  static EntityMetadata get(Class<? extends RFWVO> type) {
+    EntityMetadata meta = registry.get(type);
+    if (meta == null) meta = registry.computeIfAbsent(type, EntityMetadata::new);
+    return meta;
+  }
+
+  /**
+   * Recupera a classe da entidade descrita.
+   */
+  Class<? extends RFWVO> getType() {
+    return type;
+  }
+
+  /**
+   * Recupera os relacionamentos declarados na classe da entidade, na ordem de declaração dos atributos.
+   */
+  List<RelationshipDescriptor> getRelationships() {
+    return relationships;
+  }
+
+  /**
+   * Recupera as collections ({@link RFWMetaCollectionField}) declaradas na classe da entidade, na ordem de declaração dos atributos.
+   */
+  List<CollectionDescriptor> getCollections() {
+    return collections;
+  }
+
+  /**
+   * Recupera o relacionamento de um atributo da entidade.
+   *
+   * @param name Nome do atributo.
+   * @return Descritor do relacionamento, ou null caso o atributo não exista ou não seja um relacionamento.
+   */
+  RelationshipDescriptor getRelationship(String name) {
+    return relationshipByName.get(name);
+  }
+
+  /**
+   * Recupera o atributo de controle de versão da entidade ({@link RFWDAOVersion}).
+   *
+   * @return Descritor do atributo, ou null caso a entidade não tenha controle de versão.
+   */
+  FieldDescriptor getVersionField() {
+    return versionField;
+  }
+
+  /**
+   * Indica se a entidade tem um gerador de IDs ({@link RFWDAOAnnotation#idGenerator()}), e portanto se os objetos sempre chegam na inserção com o ID definido.
+   */
+  boolean hasIDGenerator() {
+    return idGeneratorClass != null;
+  }
+
+  /**
+   * Gera o próximo ID da entidade com o gerador definido no {@link RFWDAOAnnotation#idGenerator()}.
+   *
+   * @param ds DataSource da entidade.
+   * @param dialect Dialeto do banco de dados.
+   * @param schema Schema da tabela da entidade.
+   * @param table Tabela da entidade, utilizada como nome do gerador quando o {@link RFWDAOAnnotation#idGeneratorName()} não é definido.
+   * @return ID para o objeto que será inserido.
+   * @throws RFWException Lançado caso o gerador não possa ser instanciado ou não consiga gerar o ID.
+   */
+  Long nextID(DataSource ds, SQLDialect dialect, String schema, String table) throws RFWException {
+    RFWDAOIDGenerator generator = idGenerators.get(idGeneratorClass);
+    if (generator == null) {
+      try {
+        generator = idGeneratorClass.newInstance();
+      } catch (Throwable e) {
+        throw new RFWCriticalException("RFW_000021", new String[] { idGeneratorClass.getCanonicalName() }, e);
+      }
+      final RFWDAOIDGenerator previous = idGenerators.putIfAbsent(idGeneratorClass, generator);
+      if (previous != null) generator = previous;
+    }
+    final Long id = generator.nextID(ds, dialect, schema, table, idGeneratorName == null ? table : idGeneratorName, idBlockSize);
+    if (id == null) throw new RFWCriticalException("O gerador de IDs '${0}' da entidade '${1}' não retornou um ID.", new String[] { idGeneratorClass.getCanonicalName(), type.getCanonicalName() });
+    return id;
+  }
+
+  /**
+   * Calcula a próxima versão do objeto, que será escrita no UPDATE: a versão atual + 1, ou a versão inicial caso o objeto ainda não tenha versão.
+   *
+   * @param vo Objeto com a versão atual.
+   * @return Próxima versão, no mesmo tipo do atributo.
+   * @throws RFWException Lançado caso o atributo de versão não seja do tipo Long ou Integer.
+   */
+  Object getNextVersion(RFWVO vo) throws RFWException {
+    final Object current = versionField.get(vo);
+    if (versionField.type == Long.class || versionField.type == long.class) return current == null ? 0L : (Long) current + 1;
+    if (versionField.type == Integer.class || versionField.type == int.class) return current == null ? 0 : (Integer) current + 1;
+    throw new RFWCriticalException("O atributo '${0}' da classe '${1}' está anotado com RFWDAOVersion, mas não é do tipo Long ou Integer.", new String[] { versionField.name, type.getCanonicalName() });
+  }
+
+  /**
+   * Recupera as definições de um atributo da entidade (incluindo os atributos herdados).
+   *
+   * @param name Nome do atributo.
+   * @return Descritor do atributo.
+   * @throws RFWException Lançado caso o atributo não exista na entidade.
+   */
+  FieldDescriptor getField(String name) throws RFWException {
+    final FieldDescriptor fd = fieldByName.get(name);
+    if (fd == null) throw new RFWCriticalException("O atributo '${0}' não foi encontrado na classe '${1}'.", new String[] { name, type.getCanonicalName() });
+    return fd;
+  }
+
+  /**
+   * Lê o valor de um atributo da entidade utilizando o getter já resolvido. Caso o atributo não seja encontrado nas definições, utiliza o {@link RUReflex}.
+   *
+   * @param vo Objeto de onde o valor será lido.
+   * @param name Nome do atributo (não aceita caminhos aninhados).
+   * @return Valor do atributo.
+   * @throws RFWException
+   */
+  Object getPropertyValue(Object vo, String name) throws RFWException {
+    final FieldDescriptor fd = fieldByName.get(name);
+    if (fd == null) return RUReflex.getPropertyValue(vo, name);
+    return fd.get(vo);
+  }
+
+  /**
+   * Escreve o valor de um atributo da entidade utilizando o setter já resolvido. Caso o atributo não seja encontrado nas definições, utiliza o {@link RUReflex}.
+   *
+   * @param vo Objeto onde o valor será escrito.
+   * @param name Nome do atributo (não aceita caminhos aninhados).
+   * @param value Valor a ser definido.
+   * @throws RFWException
+   */
+  void setPropertyValue(Object vo, String name, Object value) throws RFWException {
+    final FieldDescriptor fd = fieldByName.get(name);
+    if (fd == null) {
+      RUReflex.setPropertyValue(vo, name, value, false);
+    } else {
+      fd.set(vo, value);
+    }
+  }
+}
@@ -0,0 +1,152 @@
+package br.eng.rodrigogml.rfw.orm.dao;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Description: Conjunto de valores long primitivos que mantém a ordem de inserção.<br>
+ * Utilizado para eliminar os IDs repetidos retornados pelas consultas com LEFT JOIN sem criar um objeto Long para cada linha e sem a busca linear de uma lista (O(n²)). Os valores ficam em um array
+ * na ordem de inserção e a verificação de duplicidade é feita por uma tabela hash de endereçamento aberto que guarda apenas a posição de cada valor no array.<br>
+ * <br>
+ * <b>ATENÇÃO:</b> Não é thread-safe.
+ *
+ * @author Rodrigo Leitão
+ * @since 10.0.0 (18 de out de 2026)
+ */
+final class LongOrderedSet {
+
+  /**
+   * Valores na ordem em que foram adicionados.
+   */
+  private long[] values;
+
+  /**
+   * Tabela hash com a posição + 1 de cada valor em {@link #values}. Zero indica posição livre.
+   */
+  private int[] slots;
+
+  private int size = 0;
+
+  /**
+   * Cria o conjunto com a capacidade inicial padrão.
+   */
+  LongOrderedSet() {
+    this(16);
+  }
+
+  /**
+   * Cria o conjunto já dimensionado para a quantidade esperada de valores.
+   *
+   * @param expectedSize Quantidade de valores esperada.
+   */
+  LongOrderedSet(int expectedSize) {
+    this.values = new long[Math.max(expectedSize, 4)];
+    this.slots = new int[tableSizeFor(this.values.length)];
+  }
+
+  /**
+   * Adiciona um valor ao conjunto, caso ele ainda não esteja presente.
+   *
+   * @param value Valor a ser adicionado.
+   * @return true caso o valor tenha sido adicionado, false caso já existisse no conjunto.
+   */
+  boolean add(long value) {
+    final int mask = slots.length - 1;
+    int i = hash(value) & mask;
+    while (slots[i] != 0) {
+      if (values[slots[i] - 1] == value) return false;
+      i = (i + 1) & mask;
+    }
+    if (size == values.length) values = Arrays.copyOf(values, size << 1);
+    values[size++] = value;
+    slots[i] = size;
+    // Mantém a ocupação da tabela hash abaixo de 50% para que as colisões continuem curtas
+    if (size << 1 > slots.length) rehash(slots.length << 1);
+    return true;
+  }
+
+  /**
+   * Verifica se o valor está presente no conjunto.
+   *
+   * @param value Valor a ser procurado.
+   * @return true caso o valor já tenha sido adicionado.
+   */
+  boolean contains(long value) {
+    final int mask = slots.length - 1;
+    int i = hash(value) & mask;
+    while (slots[i] != 0) {
+      if (values[slots[i] - 1] == value) return true;
+      i = (i + 1) & mask;
+    }
+    return false;
+  }
+
+  /**
+   * Recupera o valor na posição informada, seguindo a ordem de inserção.
+   *
+   * @param index Posição do valor.
+   * @return Valor na posição.
+   */
+  long get(int index) {
+    if (index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    return values[index];
+  }
+
+  int size() {
+    return size;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Cria um array com os valores na ordem de inserção.
+   *
+   * @return Array com os valores.
+   */
+  long[] toArray() {
+    return Arrays.copyOf(values, size);
+  }
+
+  /**
+   * Cria uma lista com os valores na ordem de inserção. Utilizado quando os IDs precisam ser repassados para as APIs que trabalham com {@code List<Long>}, como o {@code RFWMO.in()}.
+   *
+   * @return Lista com os valores.
+   */
+  List<Long> toList() {
+    final ArrayList<Long> list = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      list.add(values[i]);
+    }
+    return list;
+  }
+
+  private void rehash(int newLength) {
+    final int[] newSlots = new int[newLength];
+    final int mask = newLength - 1;
+    for (int p = 0; p < size; p++) {
+      int i = hash(values[p]) & mask;
+      while (newSlots[i] != 0) {
+        i = (i + 1) & mask;
+      }
+      newSlots[i] = p + 1;
+    }
+    this.slots = newSlots;
+  }
+
+  private static int hash(long value) {
+    // Mesmo espalhamento do Long.hashCode() seguido da mistura de bits utilizada pelo HashMap, já que IDs sequenciais tendem a se concentrar nos bits baixos
+    final int h = (int) (value ^ (value >>> 32));
+    return h ^ (h >>> 16);
+  }
+
+  private static int tableSizeFor(int expectedSize) {
+    int n = 1;
+    while (n < expectedSize << 1) {
+      n <<= 1;
+    }
+    return n;
+  }
+}
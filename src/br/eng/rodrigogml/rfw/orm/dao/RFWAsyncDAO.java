@@ -0,0 +1,425 @@
+package br.eng.rodrigogml.rfw.orm.dao;
+
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.preprocess.PreProcess;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWField;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWMO;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWOrderBy;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVO;
+import br.eng.rodrigogml.rfw.orm.dao.RFWDAO.FindListStrategy;
+import br.eng.rodrigogml.rfw.orm.dao.RFWDAO.Page;
+import br.eng.rodrigogml.rfw.orm.dao.RFWDAO.PageToken;
+import br.eng.rodrigogml.rfw.orm.dao.RFWDAO.PersistAllResult;
+
+/**
+ * Description: Fachada assíncrona do {@link RFWDAO}. Cada método executa a operação equivalente do {@link RFWDAO} em um Executor e retorna imediatamente um {@link CompletableFuture} com o resultado,
+ * permitindo que várias consultas independentes sejam disparadas ao mesmo tempo sem que o chamador precise gerenciar suas próprias Threads:
+ *
+ * <pre>
+ * RFWAsyncDAO&lt;PedidoVO&gt; dao = new RFWAsyncDAO&lt;&gt;(pedidoDAO);
+ * CompletableFuture&lt;PedidoVO&gt; pedido = dao.findByIdAsync(id, attributes);
+ * CompletableFuture&lt;Long&gt; total = dao.countAsync(mo);
+ * </pre>
+ *
+ * Quando nenhum Executor é informado é utilizado um Executor compartilhado: uma Thread virtual por tarefa quando executado no Java 21 ou superior, ou um pool fixo de
+ * {@link #getDefaultPoolSize()} Threads nas versões anteriores.<br>
+ * Independente do Executor, a quantidade de operações executadas ao mesmo tempo em um mesmo DataSource é limitada por {@link #setMaxConcurrency(DataSource, int)}, protegendo o pool de conexões. As
+ * operações excedentes aguardam em uma fila do próprio DataSource e só são enviadas ao Executor quando uma vaga é liberada, assim não ocupam as Threads do Executor (nem bloqueiam as operações de
+ * outros DataSources) enquanto aguardam.<br>
+ * Em caso de falha o {@link CompletableFuture} é completado com a própria {@link RFWException} lançada pelo {@link RFWDAO}.<br>
+ * <br>
+ * <b>ATENÇÃO:</b> As operações são executadas em outras Threads, por isso não participam da {@link RFWDAOSession} que estiver aberta na Thread do chamador. Cada operação utiliza sua própria conexão
+ * e sua própria transação.
+ *
+ * @author Rodrigo Leitão
+ * @since 10.0.0 (18 de out de 2026)
+ */
+public final class RFWAsyncDAO<VO extends RFWVO> {
+
+  /**
+   * Operação do {@link RFWDAO} a ser executada no Executor.
+   */
+  @FunctionalInterface
+  private interface DAOCall<T> {
+    T call() throws RFWException;
+  }
+
+  /**
+   * Tamanho do pool de Threads do Executor padrão quando as Threads virtuais não estão disponíveis (Java anterior ao 21).<br>
+   * O valor pode ser definido pela propriedade de sistema "rfw.orm.dao.async.poolSize". Padrão: 16.
+   */
+  private static final int defaultPoolSize = Integer.parseInt(System.getProperty("rfw.orm.dao.async.poolSize", "16"));
+
+  /**
+   * Quantidade máxima de operações simultâneas em um DataSource que não teve um limite próprio definido.<br>
+   * O valor inicial pode ser definido pela propriedade de sistema "rfw.orm.dao.async.maxConcurrency". Padrão: 10.
+   */
+  private static volatile int defaultMaxConcurrency = Integer.parseInt(System.getProperty("rfw.orm.dao.async.maxConcurrency", "10"));
+
+  /**
+   * Controle das operações simultâneas de um DataSource. As operações só são enviadas ao Executor quando há uma vaga livre, as demais aguardam na fila na ordem em que foram solicitadas.
+   */
+  private static final class Limiter {
+
+    private final int maxConcurrency;
+
+    /**
+     * Quantidade de operações enviadas ao Executor e ainda não finalizadas.
+     */
+    private int running = 0;
+
+    /**
+     * Operações aguardando uma vaga.
+     */
+    private final ArrayDeque<Runnable> pending = new ArrayDeque<>();
+
+    private Limiter(int maxConcurrency) {
+      this.maxConcurrency = Math.max(maxConcurrency, 1);
+    }
+
+    /**
+     * Envia a operação imediatamente caso haja uma vaga livre, ou a coloca na fila.
+     *
+     * @param dispatch Rotina que envia a operação ao Executor. Ao terminar a operação deve obrigatoriamente chamar o {@link #release()}.
+     */
+    void dispatch(Runnable dispatch) {
+      synchronized (this) {
+        if (running >= maxConcurrency) {
+          pending.add(dispatch);
+          return;
+        }
+        running++;
+      }
+      dispatch.run();
+    }
+
+    /**
+     * Libera a vaga de uma operação finalizada, repassando-a diretamente para a próxima operação da fila, se houver.
+     */
+    void release() {
+      final Runnable next;
+      synchronized (this) {
+        next = pending.poll();
+        if (next == null) {
+          running--;
+          return;
+        }
+      }
+      next.run();
+    }
+  }
+
+  /**
+   * Limite de operações simultâneas de cada DataSource, indexados por identidade.
+   */
+  private static final IdentityHashMap<DataSource, Limiter> limiters = new IdentityHashMap<>();
+
+  private static final AtomicInteger threadCount = new AtomicInteger();
+
+  /**
+   * Executor padrão, criado no primeiro uso.
+   */
+  private static Executor defaultExecutor = null;
+
+  private final RFWDAO<VO> dao;
+
+  private final Executor executor;
+
+  /**
+   * Cria a fachada assíncrona utilizando o Executor padrão.
+   *
+   * @param dao DAO que executará as operações.
+   */
+  public RFWAsyncDAO(RFWDAO<VO> dao) {
+    this(dao, null);
+  }
+
+  /**
+   * Cria a fachada assíncrona utilizando um Executor próprio.
+   *
+   * @param dao DAO que executará as operações.
+   * @param executor Executor onde as operações serão executadas. Se nulo, utiliza o Executor padrão.
+   */
+  public RFWAsyncDAO(RFWDAO<VO> dao, Executor executor) {
+    this.dao = dao;
+    this.executor = executor == null ? getDefaultExecutor() : executor;
+  }
+
+  /**
+   * Recupera o {@link RFWDAO} utilizado por esta fachada.
+   */
+  public RFWDAO<VO> getDAO() {
+    return dao;
+  }
+
+  /**
+   * Versão assíncrona do {@link RFWDAO#findById(Long, String[])}.
+   */
+  public CompletableFuture<VO> findByIdAsync(Long id, String[] attributes) {
+    return submit(() -> dao.findById(id, attributes));
+  }
+
+  /**
+   * Versão assíncrona do {@link RFWDAO#findForUpdate(Long, String[])}.
+   */
+  public CompletableFuture<VO> findForUpdateAsync(Long id, String[] attributes) {
+    return submit(() -> dao.findForUpdate(id, attributes));
+  }
+
+  /**
+   * Versão assíncrona do {@link RFWDAO#findByIds(Collection, String[], boolean)}.
+   */
+  public CompletableFuture<List<VO>> findByIdsAsync(Collection<Long> ids, String[] attributes, boolean parallel) {
+    return submit(() -> dao.findByIds(ids, attributes, parallel));
+  }
+
+  /**
+   * Versão assíncrona do {@link RFWDAO#findByIdsMap(Collection, String[], boolean)}.
+   */
+  public CompletableFuture<Map<Long, VO>> findByIdsMapAsync(Collection<Long> ids, String[] attributes, boolean parallel) {
+    return submit(() -> dao.findByIdsMap(ids, attributes, parallel));
+  }
+
+  /**
+   * Versão assíncrona do {@link RFWDAO#findIDs(RFWMO, RFWOrderBy, Integer, Integer)}.
+   */
+  public CompletableFuture<List<Long>> findIDsAsync(RFWMO mo, RFWOrderBy orderBy, Integer offSet, Integer limit) {
+    return submit(() -> dao.findIDs(mo, orderBy, offSet, limit));
+  }
+
+  /**
+   * Versão assíncrona do {@link RFWDAO#count(RFWMO)}.
+   */
+  public CompletableFuture<Long> countAsync(RFWMO mo) {
+    return submit(() -> dao.count(mo));
+  }
+
+  /**
+   * Versão assíncrona do {@link RFWDAO#findDistinct(String, RFWMO)}.
+   */
+  public CompletableFuture<List<Object>> findDistinctAsync(String attribute, RFWMO mo) {
+    return submit(() -> dao.findDistinct(attribute, mo));
+  }
+
+  /**
+   * Versão assíncrona do {@link RFWDAO#findList(RFWMO, RFWOrderBy, String[])}.
+   */
+  public CompletableFuture<List<VO>> findListAsync(RFWMO mo, RFWOrderBy orderBy, String[] attributes) {
+    return submit(() -> dao.findList(mo, orderBy, attributes));
+  }
+
+  /**
+   * Versão assíncrona do {@link RFWDAO#findList(RFWMO, RFWOrderBy, String[], Integer, Integer)}.
+   */
+  public CompletableFuture<List<VO>> findListAsync(RFWMO mo, RFWOrderBy orderBy, String[] attributes, Integer offSet, Integer limit) {
+    return submit(() -> dao.findList(mo, orderBy, attributes, offSet, limit));
+  }
+
+  /**
+   * Versão assíncrona do {@link RFWDAO#findList(RFWMO, RFWOrderBy, String[], Integer, Integer, FindListStrategy)}.
+   */
+  public CompletableFuture<List<VO>> findListAsync(RFWMO mo, RFWOrderBy orderBy, String[] attributes, Integer offSet, Integer limit, FindListStrategy strategy) {
+    return submit(() -> dao.findList(mo, orderBy, attributes, offSet, limit, strategy));
+  }
+
+  /**
+   * Versão assíncrona do {@link RFWDAO#findPage(RFWMO, RFWOrderBy, String[], PageToken, int)}.
+   */
+  public CompletableFuture<Page<VO>> findPageAsync(RFWMO mo, RFWOrderBy orderBy, String[] attributes, PageToken after, int size) {
+    return submit(() -> dao.findPage(mo, orderBy, attributes, after, size));
+  }
+
+  /**
+   * Versão assíncrona do {@link RFWDAO#findListEspecial(RFWField[], RFWMO, RFWOrderBy, RFWField[], Integer, Integer)}.
+   */
+  public CompletableFuture<List<Object[]>> findListEspecialAsync(RFWField[] fields, RFWMO mo, RFWOrderBy orderBy, RFWField[] groupBy, Integer offSet, Integer limit) {
+    return submit(() -> dao.findListEspecial(fields, mo, orderBy, groupBy, offSet, limit));
+  }
+
+  /**
+   * Versão assíncrona do {@link RFWDAO#findUniqueMatch(RFWMO, String[])}.
+   */
+  public CompletableFuture<VO> findUniqueMatchAsync(RFWMO mo, String[] attributes) {
+    return submit(() -> dao.findUniqueMatch(mo, attributes));
+  }
+
+  /**
+   * Versão assíncrona do {@link RFWDAO#findUniqueMatchForUpdate(RFWMO, String[])}.
+   */
+  public CompletableFuture<VO> findUniqueMatchForUpdateAsync(RFWMO mo, String[] attributes) {
+    return submit(() -> dao.findUniqueMatchForUpdate(mo, attributes));
+  }
+
+  /**
+   * Versão assíncrona do {@link RFWDAO#persist(RFWVO)}.
+   */
+  public CompletableFuture<VO> persistAsync(VO vo) {
+    return submit(() -> dao.persist(vo));
+  }
+
+  /**
+   * Versão assíncrona do {@link RFWDAO#persist(RFWVO, boolean)}.
+   */
+  public CompletableFuture<VO> persistAsync(VO vo, boolean ignoreFullLoaded) {
+    return submit(() -> dao.persist(vo, ignoreFullLoaded));
+  }
+
+  /**
+   * Versão assíncrona do {@link RFWDAO#persistOptimistic(RFWVO, boolean)}.
+   */
+  public CompletableFuture<VO> persistOptimisticAsync(VO vo, boolean ignoreFullLoaded) {
+    return submit(() -> dao.persistOptimistic(vo, ignoreFullLoaded));
+  }
+
+  /**
+   * Versão assíncrona do {@link RFWDAO#persistAll(Collection, boolean)}.
+   */
+  public CompletableFuture<PersistAllResult<VO>> persistAllAsync(Collection<VO> vos, boolean ignoreFullLoaded) {
+    return submit(() -> dao.persistAll(vos, ignoreFullLoaded));
+  }
+
+  /**
+   * Versão assíncrona do {@link RFWDAO#upsert(RFWVO, String...)}.
+   */
+  public CompletableFuture<VO> upsertAsync(VO vo, String... conflictAttributes) {
+    return submit(() -> dao.upsert(vo, conflictAttributes));
+  }
+
+  /**
+   * Versão assíncrona do {@link RFWDAO#upsertAll(List, String...)}.
+   */
+  public CompletableFuture<List<VO>> upsertAllAsync(List<VO> vos, String... conflictAttributes) {
+    return submit(() -> dao.upsertAll(vos, conflictAttributes));
+  }
+
+  /**
+   * Versão assíncrona do {@link RFWDAO#delete(Long...)}.
+   */
+  public CompletableFuture<Void> deleteAsync(Long... ids) {
+    return submit(() -> {
+      dao.delete(ids);
+      return null;
+    });
+  }
+
+  /**
+   * Versão assíncrona do {@link RFWDAO#massUpdate(Map, RFWMO)}.
+   */
+  public CompletableFuture<Void> massUpdateAsync(Map<String, Object> setValues, RFWMO mo) {
+    return submit(() -> {
+      dao.massUpdate(setValues, mo);
+      return null;
+    });
+  }
+
+  /**
+   * Agenda a operação no Executor, respeitando o limite de operações simultâneas do DataSource do DAO. A vaga é obtida antes de enviar a operação ao Executor, assim nenhuma Thread do Executor fica
+   * bloqueada aguardando a liberação de uma vaga.
+   */
+  private <T> CompletableFuture<T> submit(DAOCall<T> call) {
+    final CompletableFuture<T> future = new CompletableFuture<>();
+    final Limiter limiter = getLimiter(dao.getOriginalDataSource());
+    limiter.dispatch(() -> {
+      if (future.isDone()) { // Cancelado enquanto aguardava na fila
+        limiter.release();
+        return;
+      }
+      try {
+        executor.execute(() -> {
+          try {
+            if (!future.isDone()) future.complete(call.call());
+          } catch (Throwable e) {
+            future.completeExceptionally(e);
+          } finally {
+            limiter.release();
+          }
+        });
+      } catch (RejectedExecutionException e) {
+        future.completeExceptionally(new RFWCriticalException("O Executor recusou a operação no banco de dados.", e));
+        limiter.release();
+      }
+    });
+    return future;
+  }
+
+  private static synchronized Limiter getLimiter(DataSource ds) {
+    Limiter limiter = limiters.get(ds);
+    if (limiter == null) {
+      limiter = new Limiter(defaultMaxConcurrency);
+      limiters.put(ds, limiter);
+    }
+    return limiter;
+  }
+
+  /**
+   * Define a quantidade máxima de operações assíncronas executadas ao mesmo tempo em um DataSource. As operações já em execução, ou aguardando na fila, não são afetadas.
+   *
+   * @param ds DataSource, o mesmo utilizado na criação dos {@link RFWDAO}.
+   * @param maxConcurrency Quantidade máxima de operações simultâneas. Valores menores que 1 são tratados como 1.
+   * @throws RFWException Lançado caso o DataSource seja nulo.
+   */
+  public static synchronized void setMaxConcurrency(DataSource ds, int maxConcurrency) throws RFWException {
+    PreProcess.requiredNonNull(ds);
+    limiters.put(ds, new Limiter(maxConcurrency));
+  }
+
+  /**
+   * Define a quantidade máxima de operações simultâneas dos DataSources que não tiveram um limite próprio definido por {@link #setMaxConcurrency(DataSource, int)}.
+   *
+   * @param maxConcurrency Quantidade máxima de operações simultâneas. Valores menores que 1 são tratados como 1.
+   */
+  public static void setDefaultMaxConcurrency(int maxConcurrency) {
+    defaultMaxConcurrency = maxConcurrency;
+  }
+
+  /**
+   * Recupera a quantidade máxima de operações simultâneas dos DataSources que não tiveram um limite próprio definido.
+   */
+  public static int getDefaultMaxConcurrency() {
+    return defaultMaxConcurrency;
+  }
+
+  /**
+   * Recupera o tamanho do pool de Threads do Executor padrão quando as Threads virtuais não estão disponíveis.
+   */
+  public static int getDefaultPoolSize() {
+    return defaultPoolSize;
+  }
+
+  /**
+   * Recupera o Executor padrão, criando-o no primeiro uso.<br>
+   * No Java 21 ou superior utiliza uma Thread virtual por tarefa. O método é obtido por reflexão para que a biblioteca continue compatível com as versões anteriores do Java, onde é utilizado um pool
+   * fixo de Threads.
+   */
+  public static synchronized Executor getDefaultExecutor() {
+    if (defaultExecutor == null) {
+      try {
+        final Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        defaultExecutor = (Executor) method.invoke(null);
+      } catch (Throwable e) {
+        // Java anterior ao 21, sem Threads virtuais
+        defaultExecutor = Executors.newFixedThreadPool(Math.max(defaultPoolSize, 1), r -> {
+          final Thread t = new Thread(r, "RFWAsyncDAO-" + threadCount.incrementAndGet());
+          t.setDaemon(true);
+          return t;
+        });
+      }
+    }
+    return defaultExecutor;
+  }
+}
@@ -1,29 +1,51 @@
 package br.eng.rodrigogml.rfw.orm.dao;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
 import java.sql.Blob;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Savepoint;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
 import javax.sql.DataSource;
 
 import br.eng.rodrigogml.rfw.kernel.RFW;
@@ -33,7 +55,6 @@ import br.eng.rodrigogml.rfw.kernel.exceptions.RFWValidationException;
 import br.eng.rodrigogml.rfw.kernel.exceptions.RFWWarningException;
 import br.eng.rodrigogml.rfw.kernel.preprocess.PreProcess;
 import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaCollectionField;
-import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaEncrypt;
 import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaRelationshipField;
 import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaRelationshipField.RelationshipTypes;
 import br.eng.rodrigogml.rfw.kernel.utils.RUArray;
@@ -44,18 +65,23 @@ import br.eng.rodrigogml.rfw.kernel.utils.RUString;
 import br.eng.rodrigogml.rfw.kernel.vo.RFWField;
 import br.eng.rodrigogml.rfw.kernel.vo.RFWMO;
 import br.eng.rodrigogml.rfw.kernel.vo.RFWOrderBy;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWOrderBy.RFWOrderbyItem;
 import br.eng.rodrigogml.rfw.kernel.vo.RFWVO;
 import br.eng.rodrigogml.rfw.orm.dao.DAOMap.DAOMapField;
 import br.eng.rodrigogml.rfw.orm.dao.DAOMap.DAOMapTable;
+import br.eng.rodrigogml.rfw.orm.dao.EntityMetadata.CollectionDescriptor;
+import br.eng.rodrigogml.rfw.orm.dao.EntityMetadata.FieldDescriptor;
+import br.eng.rodrigogml.rfw.orm.dao.EntityMetadata.RelationshipDescriptor;
 import br.eng.rodrigogml.rfw.orm.dao.annotations.dao.RFWDAOAnnotation;
-import br.eng.rodrigogml.rfw.orm.dao.annotations.dao.RFWDAOConverter;
+import br.eng.rodrigogml.rfw.orm.dao.annotations.dao.RFWDAOVersion;
 import br.eng.rodrigogml.rfw.orm.dao.interfaces.DAOResolver;
 import br.eng.rodrigogml.rfw.orm.dao.interfaces.RFWDAOConverterInterface;
+import br.eng.rodrigogml.rfw.orm.dao.interfaces.RFWDAOIDGenerator;
 
 /**
  * Description: Classe de DAO principal do Framework.<br>
  *
- * @author Rodrigo Leito
+ * @author Rodrigo Leitão
  * @since 10.0.0 (11 de jul de 2018)
  */
 public final class RFWDAO<VO extends RFWVO> {
@@ -64,7 +90,7 @@ public final class RFWDAO<VO extends RFWVO> {
    * Configura o RFWDAO para o dialeto conforme a base de dados.
    */
   public enum SQLDialect {
-    MySQL("`", false), DerbyDB("", true);
+    MySQL("`", false, Integer.MIN_VALUE, true, true), DerbyDB("", true, 1000, false, false);
 
     /**
      * QuotationMark: caracter utilizado como 'aspas' em volta dos nomes de tabelas e colunas. MySQL: ', Derby: nenhum.
@@ -72,14 +98,34 @@ public final class RFWDAO<VO extends RFWVO> {
     private final String qM;
 
     /**
-     * Indica se ao criar o statement de insert no escrever ID atribuindo valor igual a null.<br>
-     * No Derby, quando temos uma coluna de IDs gerada automaticamente ela no pode aparecer no statement.
+     * Indica se ao criar o statement de insert não escrever ID atribuindo valor igual a null.<br>
+     * No Derby, quando temos uma coluna de IDs gerada automaticamente ela não pode aparecer no statement.
      */
     private final boolean skipInsertIDColumn;
 
-    private SQLDialect(String quotationMark, boolean skipInsertIDColumn) {
+    /**
+     * FetchSize utilizado nas consultas de leitura contínua (streaming), para que o driver não carregue todo o ResultSet em memória.<br>
+     * MySQL: Integer.MIN_VALUE, única forma do driver entregar as linhas uma a uma sem o useCursorFetch. Derby: lotes de 1000 linhas.
+     */
+    private final int streamingFetchSize;
+
+    /**
+     * Indica se o banco ordena os valores nulos como menores que os demais (primeiro no ASC e por último no DESC). MySQL: true, Derby: false (os nulos são considerados maiores).
+     */
+    private final boolean nullsSortLow;
+
+    /**
+     * Indica se o driver retorna pelo getGeneratedKeys() as chaves de todas as linhas inseridas em um executeBatch(), na mesma ordem em que foram adicionadas.<br>
+     * MySQL: true. Derby: false (o driver não retorna as chaves geradas em lote), as inserções são feitas linha a linha reaproveitando o mesmo Statement.
+     */
+    private final boolean batchGeneratedKeys;
+
+    private SQLDialect(String quotationMark, boolean skipInsertIDColumn, int streamingFetchSize, boolean nullsSortLow, boolean batchGeneratedKeys) {
       this.qM = quotationMark;
       this.skipInsertIDColumn = skipInsertIDColumn;
+      this.streamingFetchSize = streamingFetchSize;
+      this.nullsSortLow = nullsSortLow;
+      this.batchGeneratedKeys = batchGeneratedKeys;
     }
 
     /**
@@ -92,27 +138,401 @@ public final class RFWDAO<VO extends RFWVO> {
     }
 
     /**
-     * # indica se ao criar o statement de insert no escrever ID atribuindo valor igual a null.<br>
-     * No Derby, quando temos uma coluna de IDs gerada automaticamente ela no pode aparecer no statement.
+     * # indica se ao criar o statement de insert não escrever ID atribuindo valor igual a null.<br>
+     * No Derby, quando temos uma coluna de IDs gerada automaticamente ela não pode aparecer no statement.
      *
-     * @return the indica se ao criar o statement de insert no escrever ID atribuindo valor igual a null
+     * @return the indica se ao criar o statement de insert não escrever ID atribuindo valor igual a null
      */
     public boolean getSkipInsertIDColumn() {
       return skipInsertIDColumn;
     }
 
+    /**
+     * # fetchSize utilizado nas consultas de leitura contínua (streaming), para que o driver não carregue todo o ResultSet em memória.
+     *
+     * @return the fetchSize utilizado nas consultas de leitura contínua (streaming)
+     */
+    public int getStreamingFetchSize() {
+      return streamingFetchSize;
+    }
+
+    /**
+     * # indica se o banco ordena os valores nulos como menores que os demais (primeiro no ASC e por último no DESC).
+     *
+     * @return the indica se o banco ordena os valores nulos como menores que os demais
+     */
+    public boolean getNullsSortLow() {
+      return nullsSortLow;
+    }
+
+    /**
+     * # indica se o driver retorna pelo getGeneratedKeys() as chaves de todas as linhas inseridas em um executeBatch(), na mesma ordem em que foram adicionadas.
+     *
+     * @return the indica se o driver retorna as chaves geradas em lote
+     */
+    public boolean getBatchGeneratedKeys() {
+      return batchGeneratedKeys;
+    }
+
+  }
+
+  /**
+   * Define como o {@link RFWDAO#findList(RFWMO, RFWOrderBy, String[], Integer, Integer, FindListStrategy)} consulta os objetos no banco de dados.
+   */
+  public enum FindListStrategy {
+    /**
+     * Uma primeira consulta recupera apenas os IDs do objeto raiz e uma segunda consulta recupera os objetos completos com um "IN" desses IDs.<br>
+     * Os IDs trafegam até a aplicação e voltam como parâmetros, por isso é indicado para páginas pequenas, onde a consulta por chave primária tem o plano de execução mais previsível.
+     */
+    TWO_QUERIES,
+    /**
+     * A página de IDs é colocada em uma tabela derivada dentro de um "IN (SELECT ...)" e o grafo completo é recuperado em uma única consulta.<br>
+     * Evita a segunda ida ao banco e a lista de parâmetros proporcional à quantidade de objetos, por isso é indicado para resultados grandes ou sem limite.
+     */
+    SINGLE_QUERY,
+    /**
+     * Uma primeira consulta recupera apenas os IDs do objeto raiz, em seguida o objeto raiz (com as associações para um único objeto) é recuperado em uma consulta e cada ramo "para muitos" (Listas,
+     * Hashs, N:N e RFWMetaCollection) em uma consulta própria, todas com um "IN" dos IDs. Os objetos de cada consulta são ligados aos mesmos objetos raiz pelo cache de objetos.<br>
+     * Evita o produto cartesiano que o JOIN de dois ou mais ramos "para muitos" em um mesmo SELECT produz (por exemplo os itens e os pagamentos de um pedido), por isso é indicado quando os atributos
+     * solicitados passam por mais de uma coleção.
+     */
+    SPLIT_QUERY,
+    /**
+     * Igual ao {@link #SPLIT_QUERY}, mas depois do objeto raiz os ramos "para muitos" são recuperados em paralelo, até {@link RFWDAO#getParallelism()} ramos ao mesmo tempo, cada um com sua própria
+     * conexão do DataSource. O tempo da consulta passa a ser limitado pelo ramo mais lento e não pela soma dos ramos.<br>
+     * Cada ramo é montado sobre as mesmas instâncias dos objetos raiz (e de suas associações para um único objeto). Ramos que montam objetos de uma mesma entidade são recuperados juntos, em
+     * sequência, para que cada objeto continue sendo uma única instância. Dentro de uma {@link RFWDAOSession} os ramos são recuperados em sequência, na conexão da sessão.
+     */
+    PARALLEL_SPLIT_QUERY,
+    /**
+     * Quando os atributos solicitados passam por mais de um ramo "para muitos" utiliza o {@link #SPLIT_QUERY}. Caso contrário escolhe entre {@link #TWO_QUERIES} e {@link #SINGLE_QUERY} pela estimativa
+     * do tamanho do resultado: o limit da consulta. Apenas consultas com limit maior que {@link RFWDAO#getFindListTwoQueriesMaxSize()} utilizam {@link #SINGLE_QUERY}, as demais (inclusive as sem
+     * limit) continuam com o {@link #TWO_QUERIES}.
+     */
+    AUTO
+  }
+
+  /**
+   * Posição de continuação da paginação do {@link RFWDAO#findPage(RFWMO, RFWOrderBy, String[], PageToken, int)}.<br>
+   * Guarda os valores das colunas de ordenação e o ID do último objeto da página. O conteúdo não deve ser interpretado pela aplicação: para transportá-lo (por exemplo até a interface do usuário)
+   * utilize o {@link #encode()} e o {@link #decode(String)}.<br>
+   * O token codificado contém apenas valores simples, cada um precedido de uma marca do seu tipo (String, Long, Integer, BigDecimal, Date, Timestamp, LocalDate, LocalDateTime ou nulo), e é
+   * assinado com HMAC-SHA256. Na decodificação a assinatura é validada antes de qualquer leitura e qualquer outro tipo é rejeitado, de forma que um token recebido de fora da aplicação nunca
+   * instancia outras classes.
+   */
+  public static final class PageToken {
+
+    /**
+     * Versão do formato do token codificado.
+     */
+    private static final byte FORMAT_VERSION = 1;
+
+    /**
+     * Algoritmo utilizado para assinar o token codificado.
+     */
+    private static final String SIGNATURE_ALGORITHM = "HmacSHA256";
+
+    /**
+     * Tamanho em bytes da assinatura do HMAC-SHA256.
+     */
+    private static final int SIGNATURE_SIZE = 32;
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_LONG = 2;
+    private static final byte TYPE_INTEGER = 3;
+    private static final byte TYPE_BIGDECIMAL = 4;
+    private static final byte TYPE_DATE = 5;
+    private static final byte TYPE_TIMESTAMP = 6;
+    private static final byte TYPE_LOCALDATE = 7;
+    private static final byte TYPE_LOCALDATETIME = 8;
+
+    /**
+     * Chave utilizada para assinar os tokens.<br>
+     * O valor inicial pode ser definido pela propriedade de sistema "rfw.orm.dao.pageTokenKey". Sem ela é gerada uma chave aleatória ao carregar a classe, e os tokens só são aceitos pela mesma JVM
+     * que os gerou. Em aplicações com mais de um servidor a mesma chave deve ser definida em todos eles.
+     */
+    private static volatile byte[] signingKey = createInitialSigningKey();
+
+    /**
+     * Assinatura da ordenação que gerou o token. Veja {@link RFWDAO#getOrderSignature(RFWOrderBy)}.
+     */
+    private final String orderSignature;
+
+    /**
+     * Valores do último objeto da página, na ordem das colunas do orderBy seguidos do ID.
+     */
+    private final Object[] values;
+
+    PageToken(String orderSignature, Object[] values) {
+      this.orderSignature = orderSignature;
+      this.values = values;
+    }
+
+    private static byte[] createInitialSigningKey() {
+      final String key = System.getProperty("rfw.orm.dao.pageTokenKey");
+      if (key != null && key.length() > 0) return key.getBytes(StandardCharsets.UTF_8);
+      final byte[] random = new byte[32];
+      new SecureRandom().nextBytes(random);
+      return random;
+    }
+
+    /**
+     * Define a chave utilizada para assinar e validar os tokens. Tokens gerados com outra chave passam a ser rejeitados.
+     *
+     * @param key Chave de assinatura.
+     * @throws RFWException Lançado caso a chave seja nula ou vazia.
+     */
+    public static void setSigningKey(String key) throws RFWException {
+      if (key == null || key.length() == 0) throw new RFWCriticalException("A chave de assinatura do PageToken não pode ser nula ou vazia.");
+      signingKey = key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Codifica o token em uma String (Base64 segura para URL) para ser transportada pela aplicação.
+     *
+     * @return Token codificado.
+     * @throws RFWException Lançado caso algum dos valores seja de um tipo não suportado pelo token.
+     */
+    public String encode() throws RFWException {
+      final byte[] data;
+      try (ByteArrayOutputStream out = new ByteArrayOutputStream(); DataOutputStream dos = new DataOutputStream(out)) {
+        dos.writeByte(FORMAT_VERSION);
+        dos.writeUTF(orderSignature);
+        dos.writeInt(values.length);
+        for (Object value : values) {
+          writeValue(dos, value);
+        }
+        dos.flush();
+        data = out.toByteArray();
+      } catch (RFWException e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new RFWCriticalException("Falha ao codificar o PageToken.", e);
+      }
+      final byte[] signature = sign(data);
+      final byte[] token = Arrays.copyOf(data, data.length + signature.length);
+      System.arraycopy(signature, 0, token, data.length, signature.length);
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(token);
+    }
+
+    /**
+     * Recupera o token a partir da String gerada pelo {@link #encode()}.
+     *
+     * @param token Token codificado.
+     * @return Token decodificado, ou nulo se o token recebido for nulo ou vazio.
+     * @throws RFWException Lançado caso o token seja inválido, tenha sido alterado ou tenha sido assinado com outra chave.
+     */
+    public static PageToken decode(String token) throws RFWException {
+      if (token == null || token.length() == 0) return null;
+      final byte[] bytes;
+      try {
+        bytes = Base64.getUrlDecoder().decode(token);
+      } catch (IllegalArgumentException e) {
+        throw new RFWValidationException("O PageToken informado é inválido.", e);
+      }
+      if (bytes.length <= SIGNATURE_SIZE) throw new RFWValidationException("O PageToken informado é inválido.");
+      final byte[] data = Arrays.copyOf(bytes, bytes.length - SIGNATURE_SIZE);
+      final byte[] signature = Arrays.copyOfRange(bytes, data.length, bytes.length);
+      if (!MessageDigest.isEqual(sign(data), signature)) throw new RFWValidationException("O PageToken informado é inválido.");
+
+      try (DataInputStream dis = new DataInputStream(new ByteArrayInputStream(data))) {
+        if (dis.readByte() != FORMAT_VERSION) throw new RFWValidationException("O PageToken informado é inválido.");
+        final String orderSignature = dis.readUTF();
+        final int count = dis.readInt();
+        if (count <= 0 || count > data.length) throw new RFWValidationException("O PageToken informado é inválido.");
+        final Object[] values = new Object[count];
+        for (int i = 0; i < count; i++) {
+          values[i] = readValue(dis);
+        }
+        if (dis.available() > 0) throw new RFWValidationException("O PageToken informado é inválido.");
+        return new PageToken(orderSignature, values);
+      } catch (RFWException e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new RFWValidationException("O PageToken informado é inválido.", e);
+      }
+    }
+
+    private static byte[] sign(byte[] data) throws RFWException {
+      try {
+        final Mac mac = Mac.getInstance(SIGNATURE_ALGORITHM);
+        mac.init(new SecretKeySpec(signingKey, SIGNATURE_ALGORITHM));
+        return mac.doFinal(data);
+      } catch (Throwable e) {
+        throw new RFWCriticalException("Falha ao assinar o PageToken.", e);
+      }
+    }
+
+    private static void writeValue(DataOutputStream dos, Object value) throws RFWException, IOException {
+      if (value == null) {
+        dos.writeByte(TYPE_NULL);
+      } else if (value instanceof String) {
+        dos.writeByte(TYPE_STRING);
+        dos.writeUTF((String) value);
+      } else if (value instanceof Long) {
+        dos.writeByte(TYPE_LONG);
+        dos.writeLong((Long) value);
+      } else if (value instanceof Integer) {
+        dos.writeByte(TYPE_INTEGER);
+        dos.writeInt((Integer) value);
+      } else if (value instanceof BigDecimal) {
+        dos.writeByte(TYPE_BIGDECIMAL);
+        dos.writeUTF(((BigDecimal) value).toString());
+      } else if (value instanceof Timestamp) {
+        dos.writeByte(TYPE_TIMESTAMP);
+        dos.writeLong(((Timestamp) value).getTime());
+        dos.writeInt(((Timestamp) value).getNanos());
+      } else if (value.getClass() == Date.class) {
+        dos.writeByte(TYPE_DATE);
+        dos.writeLong(((Date) value).getTime());
+      } else if (value instanceof LocalDate) {
+        dos.writeByte(TYPE_LOCALDATE);
+        dos.writeLong(((LocalDate) value).toEpochDay());
+      } else if (value instanceof LocalDateTime) {
+        dos.writeByte(TYPE_LOCALDATETIME);
+        dos.writeLong(((LocalDateTime) value).toLocalDate().toEpochDay());
+        dos.writeLong(((LocalDateTime) value).toLocalTime().toNanoOfDay());
+      } else {
+        throw new RFWCriticalException("O tipo '${0}' não é suportado nas colunas de ordenação da paginação por continuação.", new String[] { value.getClass().getCanonicalName() });
+      }
+    }
+
+    private static Object readValue(DataInputStream dis) throws RFWException, IOException {
+      final byte type = dis.readByte();
+      switch (type) {
+        case TYPE_NULL:
+          return null;
+        case TYPE_STRING:
+          return dis.readUTF();
+        case TYPE_LONG:
+          return dis.readLong();
+        case TYPE_INTEGER:
+          return dis.readInt();
+        case TYPE_BIGDECIMAL:
+          return new BigDecimal(dis.readUTF());
+        case TYPE_DATE:
+          return new Date(dis.readLong());
+        case TYPE_TIMESTAMP: {
+          final Timestamp timestamp = new Timestamp(dis.readLong());
+          timestamp.setNanos(dis.readInt());
+          return timestamp;
+        }
+        case TYPE_LOCALDATE:
+          return LocalDate.ofEpochDay(dis.readLong());
+        case TYPE_LOCALDATETIME:
+          return LocalDateTime.of(LocalDate.ofEpochDay(dis.readLong()), LocalTime.ofNanoOfDay(dis.readLong()));
+        default:
+          throw new RFWValidationException("O PageToken informado é inválido.");
+      }
+    }
+  }
+
+  /**
+   * Página de objetos retornada pelo {@link RFWDAO#findPage(RFWMO, RFWOrderBy, String[], PageToken, int)}.
+   */
+  public static final class Page<VO extends RFWVO> {
+
+    private final List<VO> items;
+
+    private final PageToken nextToken;
+
+    private Page(List<VO> items, PageToken nextToken) {
+      this.items = items;
+      this.nextToken = nextToken;
+    }
+
+    /**
+     * # objetos da página, na ordem definida na consulta.
+     *
+     * @return the objetos da página
+     */
+    public List<VO> getItems() {
+      return items;
+    }
+
+    /**
+     * # token para a consulta da próxima página. Nulo quando esta é a última página.
+     *
+     * @return the token para a consulta da próxima página
+     */
+    public PageToken getNextToken() {
+      return nextToken;
+    }
+
+    /**
+     * Indica se pode existir uma próxima página.
+     */
+    public boolean hasNext() {
+      return nextToken != null;
+    }
+  }
+
+  /**
+   * Resultado do {@link RFWDAO#persistAll(Collection)}: os objetos persistidos e os objetos que falharam, com a exception de cada um.
+   */
+  public static final class PersistAllResult<VO extends RFWVO> {
+
+    private final ArrayList<VO> persisted = new ArrayList<>();
+
+    private final ArrayList<VO> failed = new ArrayList<>();
+
+    private final IdentityHashMap<VO, RFWException> failures = new IdentityHashMap<>();
+
+    private PersistAllResult() {
+    }
+
+    private void addFailure(VO vo, RFWException e) {
+      failed.add(vo);
+      failures.put(vo, e);
+    }
+
+    /**
+     * # objetos persistidos com sucesso, na ordem em que foram recebidos.
+     *
+     * @return the objetos persistidos com sucesso
+     */
+    public List<VO> getPersisted() {
+      return persisted;
+    }
+
+    /**
+     * # objetos que não puderam ser persistidos, na ordem em que foram recebidos. Nenhuma alteração destes objetos foi mantida no banco de dados.
+     *
+     * @return the objetos que não puderam ser persistidos
+     */
+    public List<VO> getFailed() {
+      return failed;
+    }
+
+    /**
+     * Recupera a falha da persistência de um objeto.
+     *
+     * @param vo Objeto (a mesma instância) passado para o {@link RFWDAO#persistAll(Collection)}.
+     * @return Exception que impediu a persistência do objeto, ou null caso ele tenha sido persistido.
+     */
+    public RFWException getFailure(VO vo) {
+      return failures.get(vo);
+    }
+
+    /**
+     * Indica se algum objeto não pôde ser persistido.
+     */
+    public boolean hasFailures() {
+      return !failed.isEmpty();
+    }
   }
 
   /**
-   * Objeto utilizado para registrar pendncias de insero de objetos cruzados.<br>
-   * Por exemplo, o Framework precisa inserir um objeto que tem uma associao com outro que ainda no foi inserido (ainda no tem um ID).<br>
-   * Nestes caso a lgica de persistncia cria um objeto desses registrando que o objeto foi persistido, mas que  necessrio atualizar a associao quando o outro objeto estiver persistido tambm.<br>
-   * Esta estrutura  utilizada principalmente em casos do {@link RelationshipTypes#INNER_ASSOCIATION}.
+   * Objeto utilizado para registrar pendências de inserção de objetos cruzados.<br>
+   * Por exemplo, o Framework precisa inserir um objeto que tem uma associação com outro que ainda não foi inserido (ainda não tem um ID).<br>
+   * Nestes caso a lógica de persistência cria um objeto desses registrando que o objeto foi persistido, mas que é necessário atualizar a associação quando o outro objeto estiver persistido também.<br>
+   * Esta estrutura é utilizada principalmente em casos do {@link RelationshipTypes#INNER_ASSOCIATION}.
    */
   private static class RFWVOUpdatePending<RFWVOO> {
 
     /**
-     * Caminho desde o VO base at a o {@link #entityVO}.
+     * Caminho desde o VO base até a o {@link #entityVO}.
      */
     private final String path;
     /**
@@ -120,11 +540,11 @@ public final class RFWDAO<VO extends RFWVO> {
      */
     private final RFWVO entityVO;
     /**
-     * Propriedade da referncia que foi definida como NULL para que o objeto pudesse ser persistido.
+     * Propriedade da referência que foi definida como NULL para que o objeto pudesse ser persistido.
      */
     private final String property;
     /**
-     * VO que deve ganhar o ID at o final da persistncia, e ser redefinido em {@link #property} do {@link #entityVO} para terminar a persistncia.
+     * VO que deve ganhar o ID até o final da persistência, e ser redefinido em {@link #property} do {@link #entityVO} para terminar a persistência.
      */
     private final RFWVO fieldValueVO;
 
@@ -145,27 +565,27 @@ public final class RFWDAO<VO extends RFWVO> {
     }
 
     /**
-     * # propriedade da referncia que foi definida como NULL para que o objeto pudesse ser persistido.
+     * # propriedade da referência que foi definida como NULL para que o objeto pudesse ser persistido.
      *
-     * @return the propriedade da referncia que foi definida como NULL para que o objeto pudesse ser persistido
+     * @return the propriedade da referência que foi definida como NULL para que o objeto pudesse ser persistido
      */
     public String getProperty() {
       return property;
     }
 
     /**
-     * # vO que deve ganhar o ID at o final da persistncia, e ser redefinido em {@link #property} do {@link #entityVO} para terminar a persistncia.
+     * # vO que deve ganhar o ID até o final da persistência, e ser redefinido em {@link #property} do {@link #entityVO} para terminar a persistência.
      *
-     * @return the vO que deve ganhar o ID at o final da persistncia, e ser redefinido em {@link #property} do {@link #entityVO} para terminar a persistncia
+     * @return the vO que deve ganhar o ID até o final da persistência, e ser redefinido em {@link #property} do {@link #entityVO} para terminar a persistência
      */
     public RFWVO getFieldValueVO() {
       return fieldValueVO;
     }
 
     /**
-     * # caminho desde o VO base at a o {@link #entityVO}.
+     * # caminho desde o VO base até a o {@link #entityVO}.
      *
-     * @return the caminho desde o VO base at a o {@link #entityVO}
+     * @return the caminho desde o VO base até a o {@link #entityVO}
      */
     public String getPath() {
       return path;
@@ -173,8 +593,8 @@ public final class RFWDAO<VO extends RFWVO> {
   }
 
   /**
-   * Dialeto utilizado na criao dos SQLs.<br>
-   * Valor Padro MySQL.
+   * Dialeto utilizado na criação dos SQLs.<br>
+   * Valor Padrão MySQL.
    */
   private final SQLDialect dialect;
 
@@ -189,30 +609,89 @@ public final class RFWDAO<VO extends RFWVO> {
   private final Class<VO> type;
 
   /**
-   * Schema a ser utilizado no SQL. Se no for definido, ser utilizado o schema que estiver definido na Entidade.
+   * Schema a ser utilizado no SQL. Se não for definido, será utilizado o schema que estiver definido na Entidade.
    */
   private final String schema;
 
   /**
-   * Interface utilizada pela aplicao apra resolver informaes sobre a entidade.
+   * Interface utilizada pela aplicação apra resolver informações sobre a entidade.
    */
   private final DAOResolver resolver;
 
   /**
-   * Cria um RFWDAO que fora a utilizao de um determinado Schema, ao invs de utilizar o schema da sesso do usurio. <br>
-   * Este construtor permite passar um DataSource especfico. Podendo inclusive ser implementado manualmente para retornar conexes com o banco de dados de forma Local.<br>
+   * Define se os objetos devem ser montados pelo {@link DAORowMapper} (plano compilado uma vez para cada formato de {@link DAOMap}) ou pelo interpretador original.<br>
+   * O valor inicial pode ser definido pela propriedade de sistema "rfw.orm.dao.compiledRowMapper". Padrão: true.
+   */
+  private static volatile boolean compiledRowMapperEnabled = Boolean.parseBoolean(System.getProperty("rfw.orm.dao.compiledRowMapper", "true"));
+
+  /**
+   * Estratégia utilizada pelo {@link #findList(RFWMO, RFWOrderBy, String[], Integer, Integer)} quando nenhuma é informada na chamada.<br>
+   * O valor inicial pode ser definido pela propriedade de sistema "rfw.orm.dao.findListStrategy". Padrão: {@link FindListStrategy#AUTO}.
+   */
+  private static volatile FindListStrategy defaultFindListStrategy = FindListStrategy.valueOf(System.getProperty("rfw.orm.dao.findListStrategy", FindListStrategy.AUTO.name()));
+
+  /**
+   * Maior limit para o qual o {@link FindListStrategy#AUTO} escolhe o {@link FindListStrategy#TWO_QUERIES}.
+   */
+  private static volatile int findListTwoQueriesMaxSize = 100;
+
+  /**
+   * Quantidade máxima de linhas enviadas em cada executeBatch() na persistência dos objetos de composição 1:N. Valores menores ou iguais a 1 desabilitam a persistência em lote.<br>
+   * O valor inicial pode ser definido pela propriedade de sistema "rfw.orm.dao.persistBatchSize". Padrão: 100.
+   */
+  private static volatile int persistBatchSize = Integer.parseInt(System.getProperty("rfw.orm.dao.persistBatchSize", "100"));
+
+  /**
+   * Define se na atualização dos objetos eles são comparados com o objeto original (obtido do banco de dados) para que apenas as colunas alteradas sejam escritas, e os objetos sem alteração não
+   * gerem UPDATE algum.<br>
+   * O valor inicial pode ser definido pela propriedade de sistema "rfw.orm.dao.dirtyCheck". Padrão: true.
+   */
+  private static volatile boolean dirtyCheckEnabled = Boolean.parseBoolean(System.getProperty("rfw.orm.dao.dirtyCheck", "true"));
+
+  /**
+   * Quantidade máxima de valores em uma única condição IN gerada pelo próprio RFWDAO (como nas leituras de vários objetos pelo ID). Listas maiores são divididas em várias consultas.<br>
+   * O valor inicial pode ser definido pela propriedade de sistema "rfw.orm.dao.inClauseMaxSize". Padrão: 1000.
+   */
+  private static volatile int inClauseMaxSize = Integer.parseInt(System.getProperty("rfw.orm.dao.inClauseMaxSize", "1000"));
+
+  /**
+   * Quantidade máxima de consultas executadas ao mesmo tempo (cada uma com sua própria conexão) pelas leituras em paralelo, como no {@link #findByIds(Collection, String[], boolean)} e no {@link FindListStrategy#PARALLEL_SPLIT_QUERY}.<br>
+   * As consultas são executadas em um pool de Threads compartilhado por todas as leituras em paralelo, limitado pela propriedade de sistema "rfw.orm.dao.parallel.poolSize" (Padrão: 16).<br>
+   * O valor inicial pode ser definido pela propriedade de sistema "rfw.orm.dao.parallelism". Padrão: 4.
+   */
+  private static volatile int parallelism = Integer.parseInt(System.getProperty("rfw.orm.dao.parallelism", "4"));
+
+  /**
+   * Quantidade total de FKs pendentes (INNER_ASSOCIATION) atualizadas depois da persistência dos objetos.
+   */
+  private static final AtomicLong fkFixUps = new AtomicLong();
+
+  /**
+   * Quantidade de persistências que precisaram atualizar alguma FK pendente.
+   */
+  private static final AtomicLong fkFixUpPersists = new AtomicLong();
+
+  /**
+   * Quantidade de FKs pendentes atualizadas na última persistência realizada por esta instância em cada Thread. Mantida por Thread já que a mesma instância pode ser utilizada em várias Threads ao
+   * mesmo tempo (como pelo {@link RFWAsyncDAO}).
+   */
+  private final ThreadLocal<Integer> lastFKFixUpCount = new ThreadLocal<>();
+
+  /**
+   * Cria um RFWDAO que força a utilização de um determinado Schema, ao invés de utilizar o schema da sessão do usuário. <br>
+   * Este construtor permite passar um DataSource específico. Podendo inclusive ser implementado manualmente para retornar conexões com o banco de dados de forma Local.<br>
    * <br>
-   * <b>Ateno:</b> Note que algumas informaes, com o schema a ser utilizado, podem ser definidas de vrias maneiras: na Entidade, no {@link RFWDAO}, pelo {@link DAOResolver}.<Br>
-   * Nesses casos, o {@link RFWDAO} usar a informao conforme disponibilidade de acordo com a seguinte hierarquia:
-   * <li>solicita {@link DAOResolver}, se este no existir ou retornar nulo;
-   * <li>solicita informao do RFWDAO, se este no tiver a informao ou estiver nula;
-   * <li>Verificamos a definio da annotation {@link br.eng.rodrigogml.rfw.base.dao.annotations.dao.RFWDAO} da entidade. Se esta no tiver, resultar em Exception
+   * <b>Atenção:</b> Note que algumas informações, com o schema a ser utilizado, podem ser definidas de várias maneiras: na Entidade, no {@link RFWDAO}, pelo {@link DAOResolver}.<Br>
+   * Nesses casos, o {@link RFWDAO} usará a informação conforme disponibilidade de acordo com a seguinte hierarquia:
+   * <li>solicita {@link DAOResolver}, se este não existir ou retornar nulo;
+   * <li>solicita informação do RFWDAO, se este não tiver a informação ou estiver nula;
+   * <li>Verificamos a definição da annotation {@link br.eng.rodrigogml.rfw.base.dao.annotations.dao.RFWDAO} da entidade. Se esta não tiver, resultará em Exception
    *
-   * @param type Objeto que ser manipulado no banco de dados.
+   * @param type Objeto que será manipulado no banco de dados.
    * @param schema Schema a ser utilizado.
-   * @param ds DataSource responsvel por entregar conexes sob demanda.
-   * @param dialect Defina o dialeto do banco de dados. Embora o comando SQL seja nico, cada banco possui diferenas que interferem no funcionamento da classe.
-   * @param resolver interface para deixar o {@link RFWDAO} mais dinmico. Entre as informaes est o prprio Schema e tabela de cada entidade. Caso nenhum {@link DAOResolver} seja passado, ou este retorne nulo nas suas informaes, as informaes passardas no RFWDAO passam a ser utilizadas.
+   * @param ds DataSource responsável por entregar conexões sob demanda.
+   * @param dialect Defina o dialeto do banco de dados. Embora o comando SQL seja único, cada banco possui diferenças que interferem no funcionamento da classe.
+   * @param resolver interface para deixar o {@link RFWDAO} mais dinâmico. Entre as informações está o próprio Schema e tabela de cada entidade. Caso nenhum {@link DAOResolver} seja passado, ou este retorne nulo nas suas informações, as informações passardas no RFWDAO passam a ser utilizadas.
    * @throws RFWException
    */
   public RFWDAO(Class<VO> type, String schema, DataSource ds, SQLDialect dialect, DAOResolver resolver) throws RFWException {
@@ -223,24 +702,45 @@ public final class RFWDAO<VO extends RFWVO> {
     this.resolver = resolver;
   }
 
+  /**
+   * Recupera o DataSource a ser utilizado nas operações: o da {@link RFWDAOSession} aberta para o DataSource deste DAO na Thread corrente, ou o próprio DataSource quando não houver sessão.
+   */
+  private DataSource getDataSource() {
+    return RFWDAOSession.resolve(ds);
+  }
+
+  /**
+   * Recupera o DataSource original deste DAO, para o qual ele foi criado, independente de existir uma {@link RFWDAOSession} aberta.
+   */
+  DataSource getOriginalDataSource() {
+    return ds;
+  }
+
+  /**
+   * Recupera o dialeto do banco de dados utilizado por este DAO.
+   */
+  SQLDialect getDialect() {
+    return dialect;
+  }
+
   /**
    * Exclui uma entidade do banco de dados.
    *
-   * @param ids ID do objeto a ser excludo
+   * @param ids ID do objeto a ser excluído
    * @throws RFWException
    *           <li>RFW_ERR_000006 - Critical em caso de falha de Constraint.
    */
   public void delete(Long... ids) throws RFWException {
-    // A excluso  focada apenas na excluso do objeto principal, uma vez que a restio quando o objeto est em uso ou de objetos de composio deve estar implementada adequadamente no banco de dados.
+    // A exclusão é focada apenas na exclusão do objeto principal, uma vez que a restição quando o objeto está em uso ou de objetos de composição deve estar implementada adequadamente no banco de dados.
     final DAOMap map = createDAOMap(this.type, null);
 
-    try (Connection conn = ds.getConnection(); PreparedStatement stmt = DAOMap.createDeleteStatement(conn, map, "", dialect, ids)) {
+    try (Connection conn = getDataSource().getConnection(); PreparedStatement stmt = DAOMap.createDeleteStatement(conn, map, "", dialect, ids)) {
       stmt.executeUpdate();
     } catch (java.sql.SQLIntegrityConstraintViolationException e) {
-      // Se a deleo falha por motivos de constraints  possvel que o objeto no possa ser apagado. Neste caso h mtodos do CRUD que ao invs de excluir o objeto o desativam, por isso enviamos uma exception diferente
+      // Se a deleção falha por motivos de constraints é possível que o objeto não possa ser apagado. Neste caso há métodos do CRUD que ao invés de excluir o objeto o desativam, por isso enviamos uma exception diferente
       throw new RFWCriticalException("RFW_ERR_000006", e);
     } catch (Throwable e) {
-      throw new RFWCriticalException("Falha ao executar a operao no banco de dados.", e);
+      throw new RFWCriticalException("Falha ao executar a operação no banco de dados.", e);
     }
   }
 
@@ -249,7 +749,7 @@ public final class RFWDAO<VO extends RFWVO> {
     updateAttributes = RUArray.concatAll(updateAttributes, mo.getAttributes().toArray(new String[0]));
     final DAOMap map = createDAOMap(this.type, updateAttributes);
 
-    try (Connection conn = ds.getConnection(); PreparedStatement stmt = DAOMap.createMassUpdateStatement(conn, map, setValues, mo, this.type, dialect)) {
+    try (Connection conn = getDataSource().getConnection(); PreparedStatement stmt = DAOMap.createMassUpdateStatement(conn, map, setValues, mo, this.type, dialect)) {
       stmt.executeUpdate();
     } catch (Throwable e) {
       throw new RFWCriticalException("Falha ao atualizar em massa os elementos no banco de dados!", e);
@@ -257,7 +757,7 @@ public final class RFWDAO<VO extends RFWVO> {
   }
 
   /**
-   * Mtodo utilizado para persistir um objeto. Objetos com ID sero atualizados, objetos sem ID  considerado para insero.
+   * Método utilizado para persistir um objeto. Objetos com ID serão atualizados, objetos sem ID é considerado para inserção.
    *
    * @param vo Objeto a ser persistido.
    * @return Objeto com todos os IDs criados.
@@ -268,10 +768,12 @@ public final class RFWDAO<VO extends RFWVO> {
   }
 
   /**
-   * Mtodo utilizado para persistir um objeto. Objetos com ID sero atualizados, objetos sem ID  considerado para insero.
+   * Método utilizado para persistir um objeto. Objetos com ID serão atualizados, objetos sem ID é considerado para inserção.<br>
+   * Toda a persistência do objeto (inclusive composições, associações e collections) é feita em uma única conexão e transação: ou todo o objeto é persistido, ou nada é alterado. Caso exista uma
+   * {@link RFWDAOSession} aberta para o DataSource na Thread corrente, a persistência participa da transação dela e a confirmação fica a cargo da sessão.
    *
    * @param vo Objeto a ser persistido.
-   * @param ignoreFullLoaded Permite ignorar a verificao se um objeto que ser persistido no foi recuperado completamente para atualizao. Essa opo s deve ser utilizada em casos muito especficos e preferencialmente quando for possvel aplicar outra soluo, no utilizar essa, utilizar o {@link #findForUpdate(Long, String[])} sempre que possvel.
+   * @param ignoreFullLoaded Permite ignorar a verificação se um objeto que será persistido não foi recuperado completamente para atualização. Essa opção só deve ser utilizada em casos muito específicos e preferencialmente quando for possível aplicar outra solução, não utilizar essa, utilizar o {@link #findForUpdate(Long, String[])} sempre que possível.
    * @return Objeto com todos os IDs criados.
    * @throws RFWException
    */
@@ -279,60 +781,576 @@ public final class RFWDAO<VO extends RFWVO> {
   public VO persist(VO vo, boolean ignoreFullLoaded) throws RFWException {
     boolean isNew = vo.getId() == null || vo.isInsertWithID();
 
-    // Para garantir que no vamos estragar objetos pq o desenvolvedor est enviando objetos incompletos para persistncia (fazendo com que o RFWDAO exclusi composies e associaes, por exemplo) obrigados que o objeto sendo persistido tenha sido obtido atravs "findForUpdate()" ou similares.
-    // Esta  uma medida de segurana para evitar que dados sejam estragador por alguma parte do sistema que no tenha sido atualizada depois que a estrutura de algum objeto tenha sido alterada.
-    // NO REMOVER, NEM NUNCA DEFINIR MANUALMENTE O VALOR DE ISFULLLOADED FORA DO RFWDAO!!!
-    if (!ignoreFullLoaded && !isNew && !vo.isFullLoaded()) throw new RFWCriticalException("O RFWDAO s aceita persistir objetos que foram completamente carregados para edio!");
+    // Para garantir que não vamos estragar objetos pq o desenvolvedor está enviando objetos incompletos para persistência (fazendo com que o RFWDAO exclusi composições e associações, por exemplo) obrigados que o objeto sendo persistido tenha sido obtido através "findForUpdate()" ou similares.
+    // Esta é uma medida de segurança para evitar que dados sejam estragador por alguma parte do sistema que não tenha sido atualizada depois que a estrutura de algum objeto tenha sido alterada.
+    // NÃO REMOVER, NEM NUNCA DEFINIR MANUALMENTE O VALOR DE ISFULLLOADED FORA DO RFWDAO!!!
+    if (!ignoreFullLoaded && !isNew && !vo.isFullLoaded()) throw new RFWCriticalException("O RFWDAO só aceita persistir objetos que foram completamente carregados para edição!");
+
+    return persist(vo, isNew, false);
+  }
+
+  /**
+   * Mesmo que o {@link #persistOptimistic(RFWVO, boolean)} com o ignoreFullLoaded = false.
+   *
+   * @param vo Objeto a ser persistido.
+   * @return Objeto com todos os IDs criados e as versões atualizadas.
+   * @throws RFWException Lançado o {@link RFWDAOConflictException} caso o objeto, ou algum objeto de composição com controle de versão, tenha sido alterado por outra transação.
+   */
+  public VO persistOptimistic(VO vo) throws RFWException {
+    return persistOptimistic(vo, false);
+  }
+
+  /**
+   * Persiste o objeto com controle de concorrência otimista, sem a leitura completa do objeto original.<br>
+   * Na persistência comum o objeto é todo recuperado com o {@link #findForUpdate(Long, String[])} (todas as colunas de todas as tabelas) apenas para descobrir os objetos de composição e associações
+   * que deixaram de existir. Neste modo é feita uma única consulta que recupera apenas os IDs de cada caminho de composição/associação, e a partir deles os objetos são classificados entre
+   * inseridos, atualizados e excluídos.<br>
+   * A entidade raiz precisa ter um atributo anotado com {@link RFWDAOVersion}. Todo UPDATE de um objeto com controle de versão é feito com a condição WHERE id=? AND version=?, e caso o registro
+   * tenha sido alterado ou excluído por outra transação a persistência é desfeita e o {@link RFWDAOConflictException} é lançado. Ao terminar, os objetos atualizados estão com a nova versão.<br>
+   * <br>
+   * <b>Observações:</b>
+   * <ul>
+   * <li>Como o objeto original só tem os IDs, a comparação de colunas alteradas ({@link #setDirtyCheckEnabled(boolean)}) não é utilizada e todos os objetos existentes são atualizados.
+   * <li>Os objetos de COMPOSITION_TREE continuam sendo recuperados por completo, assim como no {@link #findForUpdate(Long, String[])}.
+   * </ul>
+   *
+   * @param vo Objeto a ser persistido.
+   * @param ignoreFullLoaded Permite ignorar a verificação se um objeto que será persistido não foi recuperado completamente para atualização. Mesmas considerações do {@link #persist(RFWVO, boolean)}.
+   * @return Objeto com todos os IDs criados e as versões atualizadas.
+   * @throws RFWException Lançado o {@link RFWDAOConflictException} caso o objeto, ou algum objeto de composição com controle de versão, tenha sido alterado por outra transação.
+   */
+  @SuppressWarnings("deprecation")
+  public VO persistOptimistic(VO vo, boolean ignoreFullLoaded) throws RFWException {
+    boolean isNew = vo.getId() == null || vo.isInsertWithID();
+
+    if (EntityMetadata.get(vo.getClass()).getVersionField() == null) throw new RFWCriticalException("A persistência otimista exige que a entidade '${0}' tenha um atributo anotado com RFWDAOVersion.", new String[] { vo.getClass().getCanonicalName() });
+    if (!ignoreFullLoaded && !isNew && !vo.isFullLoaded()) throw new RFWCriticalException("O RFWDAO só aceita persistir objetos que foram completamente carregados para edição!");
+
+    return persist(vo, isNew, true);
+  }
 
+  /**
+   * Executa a persistência do objeto raiz em uma única transação.
+   *
+   * @param vo Objeto a ser persistido.
+   * @param isNew Indica se o objeto deve ser inserido.
+   * @param optimistic Caso true o objeto original é recuperado apenas com os IDs ({@link #findIDSkeleton(DAOMap, Long)}), caso false com o {@link #findForUpdate(Long, String[])}.
+   * @return Objeto com todos os IDs criados.
+   * @throws RFWException
+   */
+  @SuppressWarnings("deprecation")
+  private VO persist(VO vo, boolean isNew, boolean optimistic) throws RFWException {
     final String[] updateAttributes = RUReflex.getRFWVOUpdateAttributes(vo.getClass());
     final DAOMap map = createDAOMap(this.type, updateAttributes);
 
-    final HashMap<String, VO> persistedCache = new HashMap<>(); // Cache para armazenas os objetos que j foram persistidos. Evitando assim cair em loop ou mltiplas atualizaes no banco de dados.
+    try (RFWDAOSession session = RFWDAOSession.begin(ds)) {
+      // Todas as operações, inclusive a leitura do objeto original, passam pela conexão da sessão
+      final DataSource sessionDS = session.getDataSource();
+
+      VO originalVO = null;
+      if (!isNew) {
+        if (optimistic) {
+          originalVO = findIDSkeleton(map, vo.getId());
+          // Se o objeto nem existe mais, ele foi excluído por outra transação
+          if (originalVO == null) throw new RFWDAOConflictException(vo.getClass(), vo.getId(), EntityMetadata.get(vo.getClass()).getVersionField().get(vo));
+        } else {
+          originalVO = findForUpdate(vo.getId(), null);
+        }
+      }
+
+      // O objeto original recuperado no modo otimista só tem os IDs, por isso não pode ser utilizado na comparação das colunas alteradas
+      lastFKFixUpCount.set(persistRoot(sessionDS, map, vo, originalVO, isNew, !optimistic && dirtyCheckEnabled));
+      session.commit();
+    }
+    vo.setInsertWithID(false); // Garante que o objeto não vai retornar com a flag em true. Um objeto que tenha ID mas que tenha essa flag em true é considerado pelo sistema como um objeto que não está no banco de dados.
+    return vo;
+  }
 
-    VO originalVO = null;
-    if (!isNew) originalVO = findForUpdate(vo.getId(), null);
+  /**
+   * Persiste o objeto raiz e completa as FKs que ficaram pendentes (INNER_ASSOCIATION), dentro da transação já aberta.
+   *
+   * @param sessionDS DataSource da sessão.
+   * @param map Mapeamento criado com os atributos de atualização da entidade.
+   * @param vo Objeto a ser persistido.
+   * @param originalVO Objeto como está no banco de dados, ou nulo em caso de inserção.
+   * @param isNew Indica se o objeto deve ser inserido.
+   * @param dirtyCheck Indica se o objeto original pode ser utilizado para atualizar apenas as colunas alteradas.
+   * @return Quantidade de FKs pendentes que precisaram ser atualizadas.
+   * @throws RFWException
+   */
+  private int persistRoot(DataSource sessionDS, DAOMap map, VO vo, VO originalVO, boolean isNew, boolean dirtyCheck) throws RFWException {
+    final HashMap<String, VO> persistedCache = new HashMap<>(); // Cache para armazenas os objetos que já foram persistidos. Evitando assim cair em loop ou múltiplas atualizações no banco de dados.
 
     HashMap<RFWVO, List<RFWVOUpdatePending<RFWVO>>> updatePendings = new HashMap<RFWVO, List<RFWVOUpdatePending<RFWVO>>>();
-    persist(ds, map, isNew, vo, originalVO, "", persistedCache, null, 0, updatePendings, dialect);
+    persist(sessionDS, map, isNew, vo, originalVO, "", persistedCache, null, 0, -1, updatePendings, dirtyCheck, dialect);
 
+    int fixUps = 0;
     if (updatePendings.size() > 0) {
+      // As FKs pendentes são agrupadas pelo SQL (tabela e coluna) e atualizadas em lote
+      final LinkedHashMap<String, List<Long[]>> groups = new LinkedHashMap<>();
       for (List<RFWVOUpdatePending<RFWVO>> pendList : updatePendings.values()) {
         for (RFWVOUpdatePending<RFWVO> pendBean : pendList) {
           if (pendBean.getFieldValueVO().getId() == null) {
-            throw new RFWCriticalException("Falha ao completar os objetos pendentes! Mesmo deixando para atualizar a referncia depois do objeto persistido, alguns objetos continuaram sem IDs para validar as FKs.");
+            throw new RFWCriticalException("Falha ao completar os objetos pendentes! Mesmo deixando para atualizar a referência depois do objeto persistido, alguns objetos continuaram sem IDs para validar as FKs.");
           }
-          updateInternalFK(ds, map, pendBean.getPath(), pendBean.getProperty(), pendBean.getEntityVO().getId(), pendBean.getFieldValueVO().getId(), dialect);
+          final StringBuffer sql = new StringBuffer();
+          DAOMap.writeUpdateInternalFK(sql, map, pendBean.getPath(), pendBean.getProperty(), dialect);
+          groups.computeIfAbsent(sql.toString(), k -> new ArrayList<>()).add(new Long[] { pendBean.getFieldValueVO().getId(), pendBean.getEntityVO().getId() });
+          fixUps++;
         }
       }
+      updateInternalFKs(sessionDS, groups);
+      fkFixUps.addAndGet(fixUps);
+      fkFixUpPersists.incrementAndGet();
     }
-    vo.setInsertWithID(false); // Garante que o objeto no vai retornar com a flag em true. Um objeto que tenha ID mas que tenha essa flag em true  considerado pelo sistema como um objeto que no est no banco de dados.
-    return vo;
+    return fixUps;
   }
 
   /**
-   * Este mtodo permite que apenas os atributos passados sejam atualizados no banco de dados.<br>
-   * O mtodo produt o objeto no banco de acordo com sua classe e 'id' definidos, e copia os valores dos atributos definidos em 'attributes' do VO recebido para o objeto obtido do banco de dados, garantindo assim que apenas os valores selecionados sero atualizados.<Br>
-   * <bR>
-   * <B>Observao de Usos:</b> Propriedades aninhadas podem ser utilizadas, mas apenas em casos bem especficos:
-   * <ul>
-   * <li>Cuidado ao definir propriedades aninhadas, este mtodo no inicaliza os objetos se eles vierem nulos do banco de dados, pois nesses casos  necessrio enviar o objeto completo e validado.
-   * <li>Apenas o objeto principal ser persistido no banco de dados, assim, definir propriedades aninhadas em objetos com relacionamento de associao ou parent_association, por exemplo, no far com que o valor seja atualizado.
-   * </ul>
+   * Atualiza as colunas de FK que ficaram pendentes (INNER_ASSOCIATION), com um PreparedStatement por grupo e em lotes de até {@link #getPersistBatchSize()} linhas.
    *
-   * @param vo Objeto com o id de identificao e os valores que devem ser atualizados.
-   * @param attributes Array com os atributos que devem ser copiados para o objeto original antes de ser persistido.
-   * @return
+   * @param ds Data Source da conexão.
+   * @param groups Parâmetros (novo ID da FK e ID do objeto) indexados pelo SQL de atualização de cada coluna. Veja {@link DAOMap#writeUpdateInternalFK(StringBuffer, DAOMap, String, String, SQLDialect)}.
    * @throws RFWException
-   * @Deprecated Este mtodo foi criado para retrocompatibilidade com o BIS2 e deve ser apagado em breve. A alternativa desse mtodo  utilizar o {@link #massUpdate(Map, RFWMO)} com um filtro pelo ID.<br>
-   *             Ou podemos criar um novo mtodo chamado algo como 'simpleUpdate' ou 'uniqueUpdate', que ao invs do MO receba o ID direto do objeto (e internamente direciona o para o massUpdate.
    */
-  @Deprecated
-  public VO persist(VO vo, String[] attributes) throws RFWException {
-    PreProcess.requiredNonNull(vo);
-    PreProcess.requiredNonNull(vo.getId());
-    PreProcess.requiredNonEmptyCritical(attributes);
+  private static void updateInternalFKs(DataSource ds, LinkedHashMap<String, List<Long[]>> groups) throws RFWException {
+    final int batchSize = Math.max(persistBatchSize, 1);
+    try (Connection conn = ds.getConnection()) {
+      for (Map.Entry<String, List<Long[]>> group : groups.entrySet()) {
+        // ATENÇÃO: NÃO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log não dá certo!!!!
+        if (RFW.isDevelopmentEnvironment()) System.out.println(group.getKey() + " [x" + group.getValue().size() + "]");
+        try (PreparedStatement stmt = conn.prepareStatement(group.getKey())) {
+          int pending = 0;
+          for (Long[] params : group.getValue()) {
+            stmt.setLong(1, params[0]);
+            stmt.setLong(2, params[1]);
+            stmt.addBatch();
+            if (++pending == batchSize) {
+              stmt.executeBatch();
+              pending = 0;
+            }
+          }
+          if (pending > 0) stmt.executeBatch();
+        }
+      }
+    } catch (Throwable e) {
+      throw new RFWCriticalException("Falha ao corrigir FK de associação do objeto no banco de dados!", e);
+    }
+  }
 
-    VO dbVO = findForUpdate(vo.getId(), attributes);
+  /**
+   * Mesmo que o {@link #persistAll(Collection, boolean)} com o ignoreFullLoaded = false.
+   *
+   * @param vos Objetos a serem persistidos.
+   * @return Resultado com os objetos persistidos e as falhas de cada objeto que não pôde ser persistido.
+   * @throws RFWException Lançado apenas em caso de falha que impeça a continuidade da operação como um todo (conexão, transação, etc.).
+   */
+  public PersistAllResult<VO> persistAll(Collection<VO> vos) throws RFWException {
+    return persistAll(vos, false);
+  }
+
+  /**
+   * Persiste uma coleção de objetos raiz em uma única transação. Objetos com ID serão atualizados, objetos sem ID serão inseridos.<br>
+   * Ao contrário de chamar o {@link #persist(RFWVO, boolean)} em um loop, o DAOMap é criado uma única vez para todos os objetos, todas as operações utilizam a mesma conexão, e os objetos originais
+   * dos que serão atualizados são recuperados em lotes, com uma única consulta (IN) para cada {@link #getInClauseMaxSize()} objetos. Os objetos de composição continuam sendo enviados em lote
+   * ({@link #setPersistBatchSize(int)}).<br>
+   * A falha de um objeto não interrompe os demais: cada objeto é persistido depois de um Savepoint, e em caso de falha apenas as suas alterações são desfeitas e a exception é registrada no
+   * {@link PersistAllResult}. Ao final, as alterações dos objetos persistidos com sucesso são confirmadas (ou ficam a cargo da {@link RFWDAOSession} aberta na Thread corrente).<br>
+   * <br>
+   * <b>ATENÇÃO:</b> Os objetos que falharem voltam com o mesmo ID (e versão) que tinham antes da persistência, mas seus objetos de composição podem ter ficado com os IDs atribuídos durante a tentativa. Eles
+   * devem ser recarregados antes de uma nova tentativa.
+   *
+   * @param vos Objetos a serem persistidos.
+   * @param ignoreFullLoaded Permite ignorar a verificação se um objeto que será persistido não foi recuperado completamente para atualização. Mesmas considerações do {@link #persist(RFWVO, boolean)}.
+   * @return Resultado com os objetos persistidos e as falhas de cada objeto que não pôde ser persistido.
+   * @throws RFWException Lançado apenas em caso de falha que impeça a continuidade da operação como um todo (conexão, transação, etc.).
+   */
+  @SuppressWarnings("deprecation")
+  public PersistAllResult<VO> persistAll(Collection<VO> vos, boolean ignoreFullLoaded) throws RFWException {
+    final PersistAllResult<VO> result = new PersistAllResult<>();
+    if (vos.isEmpty()) return result;
+
+    final String[] updateAttributes = RUReflex.getRFWVOUpdateAttributes(this.type);
+    // O mapeamento da persistência é completado dinamicamente nas COMPOSITION_TREE, por isso a leitura dos originais utiliza um mapeamento próprio
+    final DAOMap map = createDAOMap(this.type, updateAttributes);
+    final DAOMap readMap = createDAOMap(this.type, updateAttributes);
+    final int chunkSize = Math.max(inClauseMaxSize, 1);
+
+    try (RFWDAOSession session = RFWDAOSession.begin(ds)) {
+      final DataSource sessionDS = session.getDataSource();
+      final Connection conn = session.getConnection();
+
+      final ArrayList<VO> chunk = new ArrayList<>(Math.min(chunkSize, vos.size()));
+      final Iterator<VO> it = vos.iterator();
+      while (it.hasNext()) {
+        chunk.clear();
+        while (chunk.size() < chunkSize && it.hasNext()) {
+          chunk.add(it.next());
+        }
+        final HashMap<Long, VO> originals = findForUpdate(readMap, updateAttributes, chunk);
+
+        for (VO vo : chunk) {
+          final boolean isNew = vo.getId() == null || vo.isInsertWithID();
+          VO originalVO = null;
+          if (!isNew) {
+            if (!ignoreFullLoaded && !vo.isFullLoaded()) {
+              result.addFailure(vo, new RFWCriticalException("O RFWDAO só aceita persistir objetos que foram completamente carregados para edição!"));
+              continue;
+            }
+            originalVO = originals.get(vo.getId());
+            if (originalVO == null) {
+              result.addFailure(vo, new RFWCriticalException("O objeto '${0}' com o ID '${1}' não foi encontrado no banco de dados para ser atualizado.", new String[] { vo.getClass().getCanonicalName(), "" + vo.getId() }));
+              continue;
+            }
+          }
+
+          // ID e versão são restaurados em caso de falha, já que as alterações no banco de dados serão desfeitas
+          final Long id = vo.getId();
+          final FieldDescriptor versionField = EntityMetadata.get(vo.getClass()).getVersionField();
+          final Object version = versionField == null ? null : versionField.get(vo);
+          final Savepoint savepoint = setSavepoint(conn);
+          try {
+            lastFKFixUpCount.set(persistRoot(sessionDS, map, vo, originalVO, isNew, dirtyCheckEnabled));
+            releaseSavepoint(conn, savepoint);
+            vo.setInsertWithID(false); // Mesma garantia do persist(), o objeto não retorna com a flag em true.
+            result.persisted.add(vo);
+          } catch (Throwable e) {
+            rollbackSavepoint(conn, savepoint);
+            vo.setId(id);
+            if (versionField != null) versionField.set(vo, version);
+            result.addFailure(vo, e instanceof RFWException ? (RFWException) e : new RFWCriticalException("Falha ao executar a operação no banco de dados.", e));
+          }
+        }
+      }
+      session.commit();
+    }
+    return result;
+  }
+
+  private static Savepoint setSavepoint(Connection conn) throws RFWException {
+    try {
+      return conn.setSavepoint();
+    } catch (Throwable e) {
+      throw new RFWCriticalException("Falha ao criar o Savepoint da transação. O banco de dados precisa suportar Savepoints para o persistAll().", e);
+    }
+  }
+
+  private static void releaseSavepoint(Connection conn, Savepoint savepoint) {
+    try {
+      conn.releaseSavepoint(savepoint);
+    } catch (Throwable e) {
+      // Nem todos os drivers suportam a liberação explícita, o Savepoint é descartado no fim da transação
+    }
+  }
+
+  private static void rollbackSavepoint(Connection conn, Savepoint savepoint) throws RFWException {
+    try {
+      conn.rollback(savepoint);
+    } catch (Throwable e) {
+      throw new RFWCriticalException("Falha ao desfazer as alterações do objeto até o Savepoint da transação.", e);
+    }
+  }
+
+  /**
+   * Insere o objeto, ou atualiza o registro existente identificado pelos atributos de conflito, em um único comando no banco de dados.<br>
+   * Indicado para a ingestão idempotente de registros que podem ou não existir, sem a consulta prévia (e sem a janela de concorrência entre a consulta e a persistência). No MySQL é utilizado o
+   * INSERT ... ON DUPLICATE KEY UPDATE (com o alias da linha inserida a partir do MySQL 8.0.19, ou o VALUES(col) nas versões anteriores e no MariaDB), e no Derby o MERGE.<br>
+   * <br>
+   * <b>Observações:</b>
+   * <ul>
+   * <li>Apenas as colunas da tabela da entidade raiz são escritas. Composições, collections e relacionamentos N:N não são persistidos.
+   * <li>Os atributos de conflito devem ser colunas da tabela raiz com um índice único, e não podem estar nulos. No MySQL o ON DUPLICATE KEY é disparado por qualquer chave única da tabela.
+   * <li>Quando o registro já existe, o ID e as colunas de conflito não são alterados e o objeto recebe o ID do registro existente.
+   * <li>Entidades com controle de versão ({@link RFWDAOVersion}) não são aceitas, já que o upsert não valida a versão do registro existente.
+   * <li>Em entidades com gerador de IDs ({@link RFWDAOAnnotation#idGenerator()}) os registros existentes são consultados antes do upsert, e apenas os objetos novos recebem um ID do gerador.
+   * </ul>
+   *
+   * @param vo Objeto a ser inserido ou atualizado.
+   * @param conflictAttributes Atributos que identificam o registro existente.
+   * @return Objeto recebido, com o ID do registro inserido ou atualizado.
+   * @throws RFWException
+   */
+  public VO upsert(VO vo, String... conflictAttributes) throws RFWException {
+    PreProcess.requiredNonNull(vo);
+    final ArrayList<VO> vos = new ArrayList<>(1);
+    vos.add(vo);
+    upsertAll(vos, conflictAttributes);
+    return vo;
+  }
+
+  /**
+   * Versão em lote do {@link #upsert(RFWVO, String...)}: os comandos são enviados com addBatch/executeBatch em lotes de até {@link #getPersistBatchSize()} objetos, e os IDs são recuperados depois
+   * com uma consulta pelas colunas de conflito para cada {@link #getInClauseMaxSize()} valores. Todos os objetos são persistidos em uma única transação.<br>
+   * Objetos repetidos (com os mesmos valores de conflito) são aplicados na ordem da lista e recebem o mesmo ID.
+   *
+   * @param vos Objetos a serem inseridos ou atualizados.
+   * @param conflictAttributes Atributos que identificam os registros existentes.
+   * @return Lista recebida, com os IDs dos registros inseridos ou atualizados.
+   * @throws RFWException
+   */
+  public List<VO> upsertAll(List<VO> vos, String... conflictAttributes) throws RFWException {
+    PreProcess.requiredNonNull(vos);
+    PreProcess.requiredNonEmptyCritical(conflictAttributes);
+    if (vos.isEmpty()) return vos;
+
+    final DAOMap map = createDAOMap(this.type, RUReflex.getRFWVOUpdateAttributes(this.type));
+    final DAOMapTable rootTable = map.getMapTableByPath("");
+    final DAOMapField[] conflictFields = new DAOMapField[conflictAttributes.length];
+    for (int i = 0; i < conflictAttributes.length; i++) {
+      conflictFields[i] = map.getMapFieldByPath(conflictAttributes[i]);
+      if (conflictFields[i] == null || conflictFields[i].table != rootTable || "id".equals(conflictFields[i].field)) throw new RFWCriticalException("O atributo '${0}' não pode ser utilizado como conflito do upsert da entidade '${1}'. Os atributos de conflito devem ser colunas da tabela da própria entidade.", new String[] { conflictAttributes[i], this.type.getCanonicalName() });
+    }
+
+    // Valida e prepara os objetos antes de abrir a transação
+    final ArrayList<Object[]> keys = new ArrayList<>(vos.size());
+    for (VO vo : vos) {
+      final EntityMetadata entityMeta = EntityMetadata.get(vo.getClass());
+      if (entityMeta.getVersionField() != null) throw new RFWCriticalException("O upsert não pode ser utilizado na entidade '${0}', pois ela tem controle de versão (RFWDAOVersion).", new String[] { vo.getClass().getCanonicalName() });
+      final Object[] key = DAOMap.getUpsertKey(map, vo, conflictFields);
+      for (int i = 0; i < key.length; i++) {
+        if (key[i] == null) throw new RFWCriticalException("O atributo de conflito '${0}' do upsert da entidade '${1}' está nulo.", new String[] { conflictAttributes[i], vo.getClass().getCanonicalName() });
+      }
+      keys.add(key);
+    }
+
+    try (RFWDAOSession session = RFWDAOSession.begin(ds)) {
+      final Connection conn = session.getConnection();
+      // No MySQL o getGeneratedKeys() já retorna o ID do registro inserido ou atualizado (LAST_INSERT_ID). Em lote, ou no MERGE do Derby, os IDs são consultados depois pelas colunas de conflito
+      if (vos.size() == 1 && dialect == SQLDialect.MySQL && !EntityMetadata.get(vos.get(0).getClass()).hasIDGenerator()) {
+        upsertSingle(conn, map, vos.get(0), conflictFields);
+      } else {
+        assignUpsertGeneratedIDs(conn, map, vos, keys, conflictFields);
+        upsertBatch(conn, map, vos, conflictFields);
+        resolveUpsertIDs(conn, map, vos, keys, conflictFields);
+      }
+      session.commit();
+    }
+    for (VO vo : vos) {
+      vo.setInsertWithID(false); // Mesma garantia do persist(), o objeto não retorna com a flag em true.
+    }
+    return vos;
+  }
+
+  private void upsertSingle(Connection conn, DAOMap map, VO vo, DAOMapField[] conflictFields) throws RFWException {
+    final StringBuffer sql = new StringBuffer();
+    final LinkedList<Object> statementParameters = new LinkedList<>();
+    DAOMap.writeUpsert(sql, statementParameters, map, vo, conflictFields, DAOMap.isUpsertRowAliasSupported(conn, dialect), dialect);
+    final String s = sql.toString();
+    // ATENÇÃO: NÃO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log não dá certo!!!!
+    if (RFW.isDevelopmentEnvironment()) System.out.println(s);
+    try (PreparedStatement stmt = conn.prepareStatement(s, Statement.RETURN_GENERATED_KEYS)) {
+      DAOMap.writeStatementParameters(stmt, statementParameters);
+      stmt.executeUpdate();
+      try (ResultSet rs = stmt.getGeneratedKeys()) {
+        if (!rs.next()) throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. O ID não foi retornado pelo banco de dados.", new String[] { vo.getClass().getCanonicalName() });
+        vo.setId(rs.getLong(1));
+      }
+    } catch (RFWException e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new RFWCriticalException("Falha ao executar a operação no banco de dados.", e);
+    }
+  }
+
+  private void upsertBatch(Connection conn, DAOMap map, List<VO> vos, DAOMapField[] conflictFields) throws RFWException {
+    final int batchSize = Math.max(persistBatchSize, 1);
+    // Os comandos são agrupados pelo SQL gerado, que só muda se a lista tiver objetos de classes diferentes
+    final LinkedHashMap<String, List<LinkedList<Object>>> groups = new LinkedHashMap<>();
+    final boolean rowAlias = DAOMap.isUpsertRowAliasSupported(conn, dialect);
+    for (VO vo : vos) {
+      final StringBuffer sql = new StringBuffer();
+      final LinkedList<Object> statementParameters = new LinkedList<>();
+      DAOMap.writeUpsert(sql, statementParameters, map, vo, conflictFields, rowAlias, dialect);
+      groups.computeIfAbsent(sql.toString(), k -> new ArrayList<>()).add(statementParameters);
+    }
+    try {
+      for (Map.Entry<String, List<LinkedList<Object>>> group : groups.entrySet()) {
+        // ATENÇÃO: NÃO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log não dá certo!!!!
+        if (RFW.isDevelopmentEnvironment()) System.out.println(group.getKey() + " [x" + group.getValue().size() + "]");
+        try (PreparedStatement stmt = conn.prepareStatement(group.getKey())) {
+          int pending = 0;
+          for (LinkedList<Object> statementParameters : group.getValue()) {
+            DAOMap.writeStatementParameters(stmt, statementParameters);
+            stmt.addBatch();
+            if (++pending == batchSize) {
+              stmt.executeBatch();
+              pending = 0;
+            }
+          }
+          if (pending > 0) stmt.executeBatch();
+        }
+      }
+    } catch (Throwable e) {
+      throw new RFWCriticalException("Falha ao executar a operação no banco de dados.", e);
+    }
+  }
+
+  /**
+   * Recupera os IDs dos registros inseridos ou atualizados pelo upsert em lote, consultando pelas colunas de conflito.<br>
+   * Os registros retornados são associados aos objetos comparando os valores de conflito na aplicação. Como o banco pode considerar iguais valores que a aplicação considera diferentes (collations
+   * que ignoram maiúsculas e minúsculas ou os espaços no final, por exemplo), os objetos que não encontrarem seu registro nesta comparação são consultados um a um, deixando que o próprio banco
+   * compare os valores da mesma forma que o índice único.
+   */
+  private void resolveUpsertIDs(Connection conn, DAOMap map, List<VO> vos, List<Object[]> keys, DAOMapField[] conflictFields) throws RFWException {
+    final HashMap<String, List<VO>> byKey = findUpsertIDs(conn, map, vos, keys, conflictFields, true);
+    if (!byKey.isEmpty()) throw new RFWCriticalException("Falha ao recuperar o ID de ${0} objeto(s) da entidade '${1}' depois do upsert. Verifique se os atributos de conflito correspondem a uma chave única da tabela.", new String[] { "" + byKey.size(), this.type.getCanonicalName() });
+  }
+
+  /**
+   * Atribui os IDs gerados pelo {@link RFWDAOIDGenerator} aos objetos do upsert que ainda não existem no banco de dados.<br>
+   * Os objetos que já existem recebem o ID do registro existente, para que o gerador não seja consumido por objetos que serão apenas atualizados, e os objetos repetidos na lista (com os mesmos valores
+   * de conflito) compartilham o mesmo ID gerado. Um ID só é desperdiçado se outra transação inserir o mesmo registro entre esta consulta e o upsert.
+   */
+  private void assignUpsertGeneratedIDs(Connection conn, DAOMap map, List<VO> vos, List<Object[]> keys, DAOMapField[] conflictFields) throws RFWException {
+    final ArrayList<VO> newVOs = new ArrayList<>();
+    final ArrayList<Object[]> newKeys = new ArrayList<>();
+    for (int i = 0; i < vos.size(); i++) {
+      final VO vo = vos.get(i);
+      if (vo.getId() == null && EntityMetadata.get(vo.getClass()).hasIDGenerator()) {
+        newVOs.add(vo);
+        newKeys.add(keys.get(i));
+      }
+    }
+    if (newVOs.isEmpty()) return;
+
+    final DAOMapTable rootTable = map.getMapTableByPath("");
+    for (List<VO> group : findUpsertIDs(conn, map, newVOs, newKeys, conflictFields, false).values()) {
+      final Long id = EntityMetadata.get(group.get(0).getClass()).nextID(this.ds, dialect, rootTable.schema, rootTable.table);
+      for (VO vo : group) {
+        vo.setId(id);
+      }
+    }
+  }
+
+  /**
+   * Consulta os IDs dos registros existentes pelas colunas de conflito e os atribui aos objetos.
+   *
+   * @param useDBComparison Caso TRUE, os objetos que não encontrarem seu registro na comparação feita na aplicação são consultados um a um, deixando que o banco compare os valores.
+   * @return Objetos que não tiveram o registro encontrado, agrupados pela chave de comparação dos valores de conflito.
+   */
+  private HashMap<String, List<VO>> findUpsertIDs(Connection conn, DAOMap map, List<VO> vos, List<Object[]> keys, DAOMapField[] conflictFields, boolean useDBComparison) throws RFWException {
+    final HashMap<String, List<VO>> byKey = new HashMap<>();
+    for (int i = 0; i < vos.size(); i++) {
+      byKey.computeIfAbsent(getUpsertKeyString(keys.get(i)), k -> new ArrayList<>()).add(vos.get(i));
+    }
+    final ArrayList<String> pending = new ArrayList<>(byKey.keySet());
+    final HashMap<String, Object[]> keyValues = new HashMap<>();
+    for (Object[] key : keys) {
+      keyValues.putIfAbsent(getUpsertKeyString(key), key);
+    }
+
+    final int chunkSize = Math.max(inClauseMaxSize / conflictFields.length, 1);
+    try {
+      for (int first = 0; first < pending.size(); first += chunkSize) {
+        final List<String> chunk = pending.subList(first, Math.min(first + chunkSize, pending.size()));
+        final StringBuffer sql = new StringBuffer();
+        DAOMap.writeUpsertKeySelect(sql, map, conflictFields, chunk.size(), dialect);
+        final LinkedList<Object> statementParameters = new LinkedList<>();
+        for (String key : chunk) {
+          statementParameters.addAll(Arrays.asList(keyValues.get(key)));
+        }
+        final String s = sql.toString();
+        // ATENÇÃO: NÃO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log não dá certo!!!!
+        if (RFW.isDevelopmentEnvironment()) System.out.println(s);
+        try (PreparedStatement stmt = conn.prepareStatement(s)) {
+          DAOMap.writeStatementParameters(stmt, statementParameters);
+          try (ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+              final Object[] key = new Object[conflictFields.length];
+              for (int i = 0; i < key.length; i++) {
+                key[i] = rs.getObject(i + 2);
+              }
+              final List<VO> found = byKey.remove(getUpsertKeyString(key));
+              if (found != null) {
+                for (VO vo : found) {
+                  vo.setId(rs.getLong(1));
+                }
+              }
+            }
+          }
+        }
+      }
+      if (useDBComparison && !byKey.isEmpty()) {
+        final StringBuffer sql = new StringBuffer();
+        DAOMap.writeUpsertKeySelect(sql, map, conflictFields, 1, dialect);
+        final String s = sql.toString();
+        // ATENÇÃO: NÃO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log não dá certo!!!!
+        if (RFW.isDevelopmentEnvironment()) System.out.println(s + " [x" + byKey.size() + "]");
+        try (PreparedStatement stmt = conn.prepareStatement(s)) {
+          for (Iterator<Map.Entry<String, List<VO>>> it = byKey.entrySet().iterator(); it.hasNext();) {
+            final Map.Entry<String, List<VO>> entry = it.next();
+            final LinkedList<Object> statementParameters = new LinkedList<>(Arrays.asList(keyValues.get(entry.getKey())));
+            DAOMap.writeStatementParameters(stmt, statementParameters);
+            try (ResultSet rs = stmt.executeQuery()) {
+              // Mais de um registro indica que as colunas de conflito não formam uma chave única, o objeto continua pendente e a falha é lançada abaixo
+              if (rs.next()) {
+                final long id = rs.getLong(1);
+                if (!rs.next()) {
+                  for (VO vo : entry.getValue()) {
+                    vo.setId(id);
+                  }
+                  it.remove();
+                }
+              }
+            }
+          }
+        }
+      }
+    } catch (Throwable e) {
+      throw new RFWCriticalException("Falha ao executar a operação no banco de dados.", e);
+    }
+    return byKey;
+  }
+
+  /**
+   * Monta uma chave de comparação dos valores de conflito, para que os valores escritos pela aplicação e os lidos do banco de dados (que podem vir em outro tipo Java) sejam considerados iguais.
+   */
+  private static String getUpsertKeyString(Object[] values) {
+    final StringBuilder b = new StringBuilder();
+    for (Object value : values) {
+      if (value instanceof LocalDateTime) {
+        value = Timestamp.valueOf((LocalDateTime) value).getTime();
+      } else if (value instanceof LocalDate) {
+        value = java.sql.Date.valueOf((LocalDate) value).getTime();
+      } else if (value instanceof LocalTime) {
+        value = Time.valueOf((LocalTime) value).getTime();
+      } else if (value instanceof Date) {
+        value = ((Date) value).getTime();
+      } else if (value instanceof Boolean) {
+        value = ((Boolean) value) ? 1 : 0;
+      } else if (value instanceof Enum<?>) {
+        value = ((Enum<?>) value).name();
+      }
+      if (value instanceof Number) value = new BigDecimal(value.toString()).stripTrailingZeros().toPlainString();
+      b.append(value).append('\u0000');
+    }
+    return b.toString();
+  }
+
+  /**
+   * Este método permite que apenas os atributos passados sejam atualizados no banco de dados.<br>
+   * O método produt o objeto no banco de acordo com sua classe e 'id' definidos, e copia os valores dos atributos definidos em 'attributes' do VO recebido para o objeto obtido do banco de dados, garantindo assim que apenas os valores selecionados serão atualizados.<Br>
+   * <bR>
+   * <B>Observação de Usos:</b> Propriedades aninhadas podem ser utilizadas, mas apenas em casos bem específicos:
+   * <ul>
+   * <li>Cuidado ao definir propriedades aninhadas, este método não inicaliza os objetos se eles vierem nulos do banco de dados, pois nesses casos é necessário enviar o objeto completo e validado.
+   * <li>Apenas o objeto principal será persistido no banco de dados, assim, definir propriedades aninhadas em objetos com relacionamento de associação ou parent_association, por exemplo, não fará com que o valor seja atualizado.
+   * </ul>
+   *
+   * @param vo Objeto com o id de identificação e os valores que devem ser atualizados.
+   * @param attributes Array com os atributos que devem ser copiados para o objeto original antes de ser persistido.
+   * @return
+   * @throws RFWException
+   * @Deprecated Este método foi criado para retrocompatibilidade com o BIS2 e deve ser apagado em breve. A alternativa desse método é utilizar o {@link #massUpdate(Map, RFWMO)} com um filtro pelo ID.<br>
+   *             Ou podemos criar um novo método chamado algo como 'simpleUpdate' ou 'uniqueUpdate', que ao invés do MO receba o ID direto do objeto (e internamente direciona o para o massUpdate.
+   */
+  @Deprecated
+  public VO persist(VO vo, String[] attributes) throws RFWException {
+    PreProcess.requiredNonNull(vo);
+    PreProcess.requiredNonNull(vo.getId());
+    PreProcess.requiredNonEmptyCritical(attributes);
+
+    VO dbVO = findForUpdate(vo.getId(), attributes);
 
     for (String att : attributes) {
       Object value = RUReflex.getPropertyValue(vo, att);
@@ -342,689 +1360,742 @@ public final class RFWDAO<VO extends RFWVO> {
     return persist(dbVO);
   }
 
+  private void persist(DataSource ds, DAOMap daoMap, boolean isNew, VO entityVO, VO entityVOOrig, String path, HashMap<String, VO> persistedCache, String sortColumn, int sortIndex, int sortIndexOrig, HashMap<RFWVO, List<RFWVOUpdatePending<RFWVO>>> updatePendings, boolean dirtyCheck, SQLDialect dialect) throws RFWException {
+    if (!persistPrepare(ds, daoMap, isNew, entityVO, entityVOOrig, path, persistedCache, updatePendings, dialect)) return;
+
+    // ===> INSERIMOS O OBJETO NO BANCO <===
+    try (Connection conn = ds.getConnection()) {
+      if (isNew) {
+        try (PreparedStatement stmt = DAOMap.createInsertStatement(conn, daoMap, path, entityVO, sortColumn, sortIndex, dialect)) {
+          stmt.executeUpdate();
+          // Com o gerador de IDs o objeto já chega com o ID definido
+          if (!EntityMetadata.get(entityVO.getClass()).hasIDGenerator()) {
+            try (ResultSet rs = stmt.getGeneratedKeys()) {
+              Long id = null;
+              if (rs.next()) {
+                id = rs.getLong(1);
+              } else {
+                throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. O ID não foi retornado pelo banco de dados. Verifique se a coluna 'id' gera as chaves automaticamente.", new String[] { entityVO.getClass().getCanonicalName() });
+              }
+              entityVO.setId(id);
+            }
+          }
+        }
+      } else {
+        // Com o dirty check habilitado apenas as colunas alteradas são atualizadas, e se nada mudou o Statement não é criado (exceto nos objetos com controle de versão, que sempre têm a versão incrementada)
+        try (PreparedStatement stmt = DAOMap.createDirtyUpdateStatement(conn, daoMap, path, entityVO, dirtyCheck ? entityVOOrig : null, sortColumn, sortIndex, sortIndexOrig, dialect)) {
+          // Nos objetos com controle de versão, nenhuma linha atualizada indica que o registro foi alterado por outra transação
+          if (stmt != null) DAOMap.updateVersion(entityVO, stmt.executeUpdate());
+        }
+      }
+
+      persistedCache.put(entityVO.getClass().getCanonicalName() + "." + entityVO.getId(), entityVO);
+
+    } catch (RFWException e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new RFWCriticalException("Falha ao executar a operação no banco de dados.", e);
+    }
+
+    persistRelationships(ds, daoMap, isNew, entityVO, entityVOOrig, path, persistedCache, updatePendings, dirtyCheck, dialect);
+  }
+
+  /**
+   * Executa o tratamento dos relacionamentos que precisa ser feito antes do objeto ser inserido ou atualizado no banco de dados: validações, exclusão das composições que deixaram de existir e
+   * registro das INNER_ASSOCIATION que só podem ser atualizadas depois que o objeto associado tiver ID.
+   *
+   * @return true caso o objeto deva ser persistido, false caso ele já tenha sido persistido nesta operação.
+   * @throws RFWException
+   */
   @SuppressWarnings({ "unchecked", "rawtypes", "deprecation" })
-  private void persist(DataSource ds, DAOMap daoMap, boolean isNew, VO entityVO, VO entityVOOrig, String path, HashMap<String, VO> persistedCache, String sortColumn, int sortIndex, HashMap<RFWVO, List<RFWVOUpdatePending<RFWVO>>> updatePendings, SQLDialect dialect) throws RFWException {
+  private boolean persistPrepare(DataSource ds, DAOMap daoMap, boolean isNew, VO entityVO, VO entityVOOrig, String path, HashMap<String, VO> persistedCache, HashMap<RFWVO, List<RFWVOUpdatePending<RFWVO>>> updatePendings, SQLDialect dialect) throws RFWException {
     if (isNew && entityVO.getId() != null && !entityVO.isInsertWithID()) {
-      throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. A entidade j veio com o ID definido para insero.", new String[] { entityVO.getClass().getCanonicalName() });
-    }
-    if (isNew || !persistedCache.containsKey(entityVO.getClass().getCanonicalName() + "." + entityVO.getId())) {
-      int parentCount = 0;
-      boolean needParent = false; // Flag para indicar se encontramos algum PARENT_ASSOCIATION. Se o objeto tiver algum objeto com relacionamento do tipo Parent, torna-se obrigatrio ter um parent deifnido
-      // ===> TRATAMENTO DO RELACIONAMENTO ANTES DE INSERIR O OBJETO <===
-      for (Field field : entityVO.getClass().getDeclaredFields()) {
-        final RFWMetaRelationshipField ann = field.getAnnotation(RFWMetaRelationshipField.class);
-        if (ann != null) {
-          // Verificamos o tipo de relacionamento para validar e saber como proceder.
-          switch (ann.relationship()) {
-            case WEAK_ASSOCIATION:
-              // Nada para fazer, esse tipo de associao  como se no existisse para o RFWDAO.
-              break;
-            case PARENT_ASSOCIATION: {
-              needParent = true;
-              final Object fieldValue = RUReflex.getPropertyValue(entityVO, field.getName());
-
-              // DELETE: Atributos de parentAssociation no h nada para fazer em relao a excluso, j que quem nunca exclumos o pai, pelo contrrio,  ele quem nos exclu.
-              // PERSISTENCE: nada a fazer com o objeto pai alm da validao abaixo
-              // VALIDA: Cada objeto de composio s pode ter 1 pai (Um objeto pode ser reutilizado como filho de outro objeto, mas ele s pode ter um objeto pai definido).
-              if (fieldValue != null) parentCount++;
-              if (parentCount > 1) throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. Encontramos mais de um relacionamento marcado como \"Parent Association\". Cada objeto de composio s pode ter 1 pai.", new String[] { entityVO.getClass().getCanonicalName() });
-
-              // VALIDA: Se o objeto pai for obrigatrio, se j tem ID
-              if (fieldValue == null) {
-                // Parent Association se for obrigatrio
-                if (ann.required()) throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. O atributo '${1}' trouxe uma associao de pai com objeto nulo ou sem ID!", new String[] { entityVO.getClass().getCanonicalName(), field.getName() });
-              } else {
-                if (RFWVO.class.isAssignableFrom(fieldValue.getClass())) {
-                  RFWVO fieldValueVO = (RFWVO) fieldValue;
-                  // Nos casos de Parent_Association, no precisamos fazer nada pq o pai j deve ter sido inserido e ter o seu ID pronto antes do filho ser chamado para insero. S validamos isso
-                  if (fieldValueVO.getId() == null) throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. O atributo '${1}' trouxe uma associao de pai com objeto nulo ou sem ID!", new String[] { entityVO.getClass().getCanonicalName(), field.getName() });
-                } else {
-                  // Parent Association no pode ter nada que no seja um RFWVO
-                  throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. No  possvel persistir o atributo '${1}' por ser do tipo '${2}'.", new String[] { entityVO.getClass().getCanonicalName(), field.getName(), fieldValue.getClass().getCanonicalName() });
+      throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. A entidade já veio com o ID definido para inserção.", new String[] { entityVO.getClass().getCanonicalName() });
+    }
+    if (!isNew && persistedCache.containsKey(entityVO.getClass().getCanonicalName() + "." + entityVO.getId())) return false;
+
+    final EntityMetadata entityMeta = EntityMetadata.get((Class<? extends RFWVO>) entityVO.getClass());
+    if (isNew && entityVO.getId() == null && entityMeta.hasIDGenerator()) {
+      // Entidades com gerador de IDs recebem o ID antes da inserção, para que os INSERTs não dependam das chaves geradas pelo banco
+      final DAOMapTable mTable = daoMap.getMapTableByPath(path);
+      entityVO.setId(entityMeta.nextID(this.ds, dialect, mTable.schema, mTable.table));
+    }
+
+    int parentCount = 0;
+    boolean needParent = false; // Flag para indicar se encontramos algum PARENT_ASSOCIATION. Se o objeto tiver algum objeto com relacionamento do tipo Parent, torna-se obrigatório ter um parent deifnido
+    // ===> TRATAMENTO DO RELACIONAMENTO ANTES DE INSERIR O OBJETO <===
+    for (RelationshipDescriptor rel : entityMeta.getRelationships()) {
+      final Field field = rel.field;
+      final RFWMetaRelationshipField ann = rel.ann;
+      // Verificamos o tipo de relacionamento para validar e saber como proceder.
+      switch (rel.relationship) {
+        case WEAK_ASSOCIATION:
+          // Nada para fazer, esse tipo de associação é como se não existisse para o RFWDAO.
+          break;
+        case PARENT_ASSOCIATION: {
+          needParent = true;
+          final Object fieldValue = entityMeta.getPropertyValue(entityVO, field.getName());
+
+          // DELETE: Atributos de parentAssociation não há nada para fazer em relação a exclusão, já que quem nunca excluímos o pai, pelo contrário, é ele quem nos excluí.
+          // PERSISTENCE: nada a fazer com o objeto pai além da validação abaixo
+          // VALIDA: Cada objeto de composição só pode ter 1 pai (Um objeto pode ser reutilizado como filho de outro objeto, mas ele só pode ter um objeto pai definido).
+          if (fieldValue != null) parentCount++;
+          if (parentCount > 1) throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. Encontramos mais de um relacionamento marcado como \"Parent Association\". Cada objeto de composição só pode ter 1 pai.", new String[] { entityVO.getClass().getCanonicalName() });
+
+          // VALIDA: Se o objeto pai for obrigatório, se já tem ID
+          if (fieldValue == null) {
+            // Parent Association se for obrigatório
+            if (rel.required) throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. O atributo '${1}' trouxe uma associação de pai com objeto nulo ou sem ID!", new String[] { entityVO.getClass().getCanonicalName(), field.getName() });
+          } else {
+            if (RFWVO.class.isAssignableFrom(fieldValue.getClass())) {
+              RFWVO fieldValueVO = (RFWVO) fieldValue;
+              // Nos casos de Parent_Association, não precisamos fazer nada pq o pai já deve ter sido inserido e ter o seu ID pronto antes do filho ser chamado para inserção. Só validamos isso
+              if (fieldValueVO.getId() == null) throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. O atributo '${1}' trouxe uma associação de pai com objeto nulo ou sem ID!", new String[] { entityVO.getClass().getCanonicalName(), field.getName() });
+            } else {
+              // Parent Association não pode ter nada que não seja um RFWVO
+              throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. Não é possível persistir o atributo '${1}' por ser do tipo '${2}'.", new String[] { entityVO.getClass().getCanonicalName(), field.getName(), fieldValue.getClass().getCanonicalName() });
+            }
+          }
+        }
+        case INNER_ASSOCIATION: {
+          // VALIDAÇÃO: No caso de INNER_ASSOCIATION, ou o atributo column ou columnMapped devem estar preenchidos
+          if ("".equals(getMetaRelationColumnMapped(field, ann)) && "".equals(getMetaRelationColumn(field, ann))) throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. O atributo '${1}' está marcado como relacionamento 'Inner Association', este tipo de relacionamento deve ter os atirbutos 'column' ou 'columnMapped' preenchidos.", new String[] { entityVO.getClass().getCanonicalName(), field.getName() });
+
+          // DELETE: quando o ID está neste objeto, sendo ele excluído ou a associação desfeita o ID tudo se resolve ao excluir ou atualizar este objeto. No caso de estar na tabela da contraparte, vamos atualizar ela depois que excluírmos esse objeto.
+          // PERSISTÊNCIA: na persistência, por ser um objeto que está sendo persistido agora, pode ser que já tenhamos o ID, pode ser que não. Se já tiver o ID, deixa seguir, se não tiver, vamos limpar a associação para que se possa inserir o objeto sem a associação. e colocar o objeto na lista de pendências para atualizar a associação depois que tudo tiver sido persistido.
+          final Object fieldValue = entityMeta.getPropertyValue(entityVO, field.getName());
+          if (fieldValue != null) {
+            if (RFWVO.class.isAssignableFrom(fieldValue.getClass())) {
+              VO fieldValueVO = (VO) fieldValue;
+              if (fieldValueVO.getId() == null) {
+                entityMeta.setPropertyValue(entityVO, field.getName(), null);
+                List<RFWVOUpdatePending<RFWVO>> pendList = updatePendings.get(fieldValueVO);
+                if (pendList == null) {
+                  pendList = new LinkedList<RFWDAO.RFWVOUpdatePending<RFWVO>>();
+                  updatePendings.put(fieldValueVO, pendList);
                 }
+                pendList.add(new RFWVOUpdatePending(path, entityVO, field.getName(), fieldValueVO));
               }
-            }
-            case INNER_ASSOCIATION: {
-              // VALIDAO: No caso de INNER_ASSOCIATION, ou o atributo column ou columnMapped devem estar preenchidos
-              if ("".equals(getMetaRelationColumnMapped(field, ann)) && "".equals(getMetaRelationColumn(field, ann))) throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. O atributo '${1}' est marcado como relacionamento 'Inner Association', este tipo de relacionamento deve ter os atirbutos 'column' ou 'columnMapped' preenchidos.", new String[] { entityVO.getClass().getCanonicalName(), field.getName() });
-
-              // DELETE: quando o ID est neste objeto, sendo ele excludo ou a associao desfeita o ID tudo se resolve ao excluir ou atualizar este objeto. No caso de estar na tabela da contraparte, vamos atualizar ela depois que exclurmos esse objeto.
-              // PERSISTNCIA: na persistncia, por ser um objeto que est sendo persistido agora, pode ser que j tenhamos o ID, pode ser que no. Se j tiver o ID, deixa seguir, se no tiver, vamos limpar a associao para que se possa inserir o objeto sem a associao. e colocar o objeto na lista de pendncias para atualizar a associao depois que tudo tiver sido persistido.
-              final Object fieldValue = RUReflex.getPropertyValue(entityVO, field.getName());
-              if (fieldValue != null) {
-                if (RFWVO.class.isAssignableFrom(fieldValue.getClass())) {
-                  VO fieldValueVO = (VO) fieldValue;
-                  if (fieldValueVO.getId() == null) {
-                    RUReflex.setPropertyValue(entityVO, field.getName(), null, false);
-                    List<RFWVOUpdatePending<RFWVO>> pendList = updatePendings.get(fieldValueVO);
-                    if (pendList == null) {
-                      pendList = new LinkedList<RFWDAO.RFWVOUpdatePending<RFWVO>>();
-                      updatePendings.put(fieldValueVO, pendList);
-                    }
-                    pendList.add(new RFWVOUpdatePending(path, entityVO, field.getName(), fieldValueVO));
-                  }
-                } else if (List.class.isAssignableFrom(fieldValue.getClass())) {
-                  List list = (List) fieldValue;
-                  for (Object item : list) {
-                    VO fieldValueVO = (VO) item;
-                    if (fieldValueVO.getId() == null) {
-                      RUReflex.setPropertyValue(entityVO, field.getName(), null, false);
-                      List<RFWVOUpdatePending<RFWVO>> pendList = updatePendings.get(fieldValueVO);
-                      if (pendList == null) {
-                        pendList = new LinkedList<RFWDAO.RFWVOUpdatePending<RFWVO>>();
-                        updatePendings.put(fieldValueVO, pendList);
-                      }
-                      pendList.add(new RFWVOUpdatePending(path, entityVO, field.getName(), fieldValueVO));
-                    }
+            } else if (List.class.isAssignableFrom(fieldValue.getClass())) {
+              List list = (List) fieldValue;
+              for (Object item : list) {
+                VO fieldValueVO = (VO) item;
+                if (fieldValueVO.getId() == null) {
+                  entityMeta.setPropertyValue(entityVO, field.getName(), null);
+                  List<RFWVOUpdatePending<RFWVO>> pendList = updatePendings.get(fieldValueVO);
+                  if (pendList == null) {
+                    pendList = new LinkedList<RFWDAO.RFWVOUpdatePending<RFWVO>>();
+                    updatePendings.put(fieldValueVO, pendList);
                   }
-                } else if (Map.class.isAssignableFrom(fieldValue.getClass())) {
-                  Map map = (Map) fieldValue;
-                  for (Object item : map.values()) {
-                    VO fieldValueVO = (VO) item;
-                    if (fieldValueVO.getId() == null) {
-                      RUReflex.setPropertyValue(entityVO, field.getName(), null, false);
-                      List<RFWVOUpdatePending<RFWVO>> pendList = updatePendings.get(fieldValueVO);
-                      if (pendList == null) {
-                        pendList = new LinkedList<RFWDAO.RFWVOUpdatePending<RFWVO>>();
-                        updatePendings.put(fieldValueVO, pendList);
-                      }
-                      pendList.add(new RFWVOUpdatePending(path, entityVO, field.getName(), fieldValueVO));
-                    }
+                  pendList.add(new RFWVOUpdatePending(path, entityVO, field.getName(), fieldValueVO));
+                }
+              }
+            } else if (Map.class.isAssignableFrom(fieldValue.getClass())) {
+              Map map = (Map) fieldValue;
+              for (Object item : map.values()) {
+                VO fieldValueVO = (VO) item;
+                if (fieldValueVO.getId() == null) {
+                  entityMeta.setPropertyValue(entityVO, field.getName(), null);
+                  List<RFWVOUpdatePending<RFWVO>> pendList = updatePendings.get(fieldValueVO);
+                  if (pendList == null) {
+                    pendList = new LinkedList<RFWDAO.RFWVOUpdatePending<RFWVO>>();
+                    updatePendings.put(fieldValueVO, pendList);
                   }
-                } else {
-                  throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. No  possvel persistir o atributo '${1}' por ser do tipo '${2}'.", new String[] { entityVO.getClass().getCanonicalName(), field.getName(), fieldValue.getClass().getCanonicalName() });
+                  pendList.add(new RFWVOUpdatePending(path, entityVO, field.getName(), fieldValueVO));
                 }
               }
+            } else {
+              throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. Não é possível persistir o atributo '${1}' por ser do tipo '${2}'.", new String[] { entityVO.getClass().getCanonicalName(), field.getName(), fieldValue.getClass().getCanonicalName() });
             }
-              break;
-            case COMPOSITION: {
-              // PERSISTNCIA: Em caso de composio, no fazemos nada aqui no pr-processamento, pois os objetos compostos sero persistidos depois do objeto pai.
-              // DELETE: Relacionamento de Composio, precisamos verificar se ele existia antes e deixou de existir, ou em caso de 1:N verifica quais objetos deixaram de existir.
-              // ATENO: No aceita as colees nulas pq, por definio, objeto nulo indica que no foi recuperado, a ausncia de objetos relacionados deve ser sempre simbolizada por uma lista vazia.
-              final Object fieldValue = RUReflex.getPropertyValue(entityVO, field.getName());
-              if (fieldValue != null) {
-                if (RFWVO.class.isAssignableFrom(fieldValue.getClass())) {
-                  if (entityVOOrig != null) {
-                    RFWVO fieldValueVO = (RFWVO) fieldValue;
-                    RFWVO fieldValueVOOrig = (RFWVO) RUReflex.getPropertyValue(entityVOOrig, field.getName());
-                    if (fieldValueVOOrig != null && (fieldValueVO == null || fieldValueVO.getId() == null)) {
-                      // Se o objeto no banco existir e o objeto atual for diferente ou no tiver ID, temos de excluir o objeto atual pq o objeto mudou.
-                      delete(ds, daoMap, fieldValueVOOrig, RUReflex.addPath(path, field.getName()), dialect);
-                    }
-                  }
-                } else if (List.class.isAssignableFrom(fieldValue.getClass())) {
-                  if (entityVOOrig != null) {
-                    List list = (List) fieldValue;
-                    List listOrig = (List) RUReflex.getPropertyValue(entityVOOrig, field.getName());
-                    if ((list == null || list.size() == 0) && (listOrig != null && listOrig.size() > 0)) {
-                      // Se no temos mais objetos relacionados, mas antes tinhamos, apagamos todos os itens da lista anterior.
-                      for (Object item : listOrig) {
-                        delete(ds, daoMap, (VO) item, RUReflex.addPath(path, field.getName()), dialect);
-                      }
-                    } else if ((listOrig != null && listOrig.size() >= 0) && (list != null && list.size() >= 0)) {
-                      // Se temos as duas listas, temos que comprar as duas e descobrir os objetos que sumiram, assim iteramos uma dentro da outra para ver os objetos que sumiram comparando seus IDs
-                      for (Object itemOrig : listOrig) {
-                        VO itemOrigVO = (VO) itemOrig;
-                        boolean found = false;
-                        for (Object item : list) {
-                          VO itemVO = (VO) item;
-                          if (itemOrigVO.getId().equals(itemVO.getId())) {
-                            found = true;
-                            break;
-                          }
-                        }
-                        if (!found) delete(ds, daoMap, itemOrigVO, RUReflex.addPath(path, field.getName()), dialect);
-                      }
-                    } else if ((listOrig == null || listOrig.size() == 0) && (list == null || list.size() == 0)) {
-                      // Se no temos lista agora, e j no tinhamos, nada a fazer. O IF s previne cair no else e lanar a Exception de "preveno de falha de lgica".
-                    } else {
-                      throw new RFWCriticalException("Falha ao detectar a condio de comparao entre listas do novo objeto e do objeto anterior! Atributo '${0}' da Classe '${1}'.", new String[] { field.getName(), entityVO.getClass().getCanonicalName() });
-                    }
+          }
+        }
+          break;
+        case COMPOSITION: {
+          // PERSISTÊNCIA: Em caso de composição, não fazemos nada aqui no pré-processamento, pois os objetos compostos serão persistidos depois do objeto pai.
+          // DELETE: Relacionamento de Composição, precisamos verificar se ele existia antes e deixou de existir, ou em caso de 1:N verifica quais objetos deixaram de existir.
+          // ATENÇÃO: Não aceita as coleções nulas pq, por definição, objeto nulo indica que não foi recuperado, a ausência de objetos relacionados deve ser sempre simbolizada por uma lista vazia.
+          final Object fieldValue = entityMeta.getPropertyValue(entityVO, field.getName());
+          if (fieldValue != null) {
+            if (RFWVO.class.isAssignableFrom(fieldValue.getClass())) {
+              if (entityVOOrig != null) {
+                RFWVO fieldValueVO = (RFWVO) fieldValue;
+                RFWVO fieldValueVOOrig = (RFWVO) entityMeta.getPropertyValue(entityVOOrig, field.getName());
+                if (fieldValueVOOrig != null && (fieldValueVO == null || fieldValueVO.getId() == null)) {
+                  // Se o objeto no banco existir e o objeto atual for diferente ou não tiver ID, temos de excluir o objeto atual pq o objeto mudou.
+                  delete(ds, daoMap, fieldValueVOOrig, RUReflex.addPath(path, field.getName()), dialect);
+                }
+              }
+            } else if (List.class.isAssignableFrom(fieldValue.getClass())) {
+              if (entityVOOrig != null) {
+                List list = (List) fieldValue;
+                List listOrig = (List) entityMeta.getPropertyValue(entityVOOrig, field.getName());
+                if ((list == null || list.size() == 0) && (listOrig != null && listOrig.size() > 0)) {
+                  // Se não temos mais objetos relacionados, mas antes tinhamos, apagamos todos os itens da lista anterior.
+                  for (Object item : listOrig) {
+                    delete(ds, daoMap, (VO) item, RUReflex.addPath(path, field.getName()), dialect);
                   }
-                } else if (Map.class.isAssignableFrom(fieldValue.getClass())) {
-                  if (entityVOOrig != null) {
-                    Map hash = (Map) fieldValue;
-                    Map hashOrig = (Map) RUReflex.getPropertyValue(entityVOOrig, field.getName());
-                    if (hash.size() == 0 && hashOrig.size() > 0) {
-                      // Se no temos mais objetos relacionados, mas antes tinhamos, apagamos todos os itens da lista anterior.
-                      for (Object itemOrig : hashOrig.values()) {
-                        delete(ds, daoMap, (VO) itemOrig, RUReflex.addPath(path, field.getName()), dialect);
-                      }
-                    } else if (hashOrig.size() > 0 && hash.size() > 0) {
-                      // Se temos as duas listas, temos que comprar as duas e descobrir os objetos que sumiram, assim iteramos uma dentro da outra para ver os objetos que sumiram comparando seus IDs
-                      for (Object itemOrig : hashOrig.values()) {
-                        VO itemOrigVO = (VO) itemOrig;
-                        boolean found = false;
-                        for (Object item : hash.values()) {
-                          VO itemVO = (VO) item;
-                          if (itemOrigVO.getId().equals(itemVO.getId())) {
-                            found = true;
-                            break;
-                          }
-                        }
-                        if (!found) delete(ds, daoMap, itemOrigVO, RUReflex.addPath(path, field.getName()), dialect);
+                } else if ((listOrig != null && listOrig.size() >= 0) && (list != null && list.size() >= 0)) {
+                  // Se temos as duas listas, temos que comprar as duas e descobrir os objetos que sumiram, assim iteramos uma dentro da outra para ver os objetos que sumiram comparando seus IDs
+                  for (Object itemOrig : listOrig) {
+                    VO itemOrigVO = (VO) itemOrig;
+                    boolean found = false;
+                    for (Object item : list) {
+                      VO itemVO = (VO) item;
+                      if (itemOrigVO.getId().equals(itemVO.getId())) {
+                        found = true;
+                        break;
                       }
                     }
+                    if (!found) delete(ds, daoMap, itemOrigVO, RUReflex.addPath(path, field.getName()), dialect);
                   }
+                } else if ((listOrig == null || listOrig.size() == 0) && (list == null || list.size() == 0)) {
+                  // Se não temos lista agora, e já não tinhamos, nada a fazer. O IF só previne cair no else e lançar a Exception de "prevenção de falha de lógica".
                 } else {
-                  throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. No  possvel persistir o atributo '${1}' por ser do tipo '${2}'.", new String[] { entityVO.getClass().getCanonicalName(), field.getName(), fieldValue.getClass().getCanonicalName() });
+                  throw new RFWCriticalException("Falha ao detectar a condição de comparação entre listas do novo objeto e do objeto anterior! Atributo '${0}' da Classe '${1}'.", new String[] { field.getName(), entityVO.getClass().getCanonicalName() });
                 }
-              } else {
-                // Se no existe no objeto atual, verificamos se existe no objeto original
-                if (entityVOOrig != null) {
-                  final Object fieldValueOrig = RUReflex.getPropertyValue(entityVOOrig, field.getName());
-                  if (fieldValueOrig != null) {
-                    if (RFWVO.class.isAssignableFrom(fieldValueOrig.getClass())) {
-                      // Se o objeto no banco existir e o objeto atual no, temos de excluir o objeto atual pq a composio mudou.
-                      delete(ds, daoMap, (VO) fieldValueOrig, RUReflex.addPath(path, field.getName()), dialect);
-                    } else if (List.class.isAssignableFrom(fieldValueOrig.getClass())) {
-                      // Se no temos mais objetos relacionados, mas antes tinhamos, apagamos todos os itens da lista anterior.
-                      for (Object item : (List) fieldValueOrig) {
-                        delete(ds, daoMap, (VO) item, RUReflex.addPath(path, field.getName()), dialect);
-                      }
-                    } else if (Map.class.isAssignableFrom(fieldValueOrig.getClass())) {
-                      // Se no temos mais objetos relacionados, mas antes tinhamos, apagamos todos os itens da lista anterior.
-                      for (Object itemOrig : ((Map) fieldValueOrig).values()) {
-                        delete(ds, daoMap, (VO) itemOrig, RUReflex.addPath(path, field.getName()), dialect);
+              }
+            } else if (Map.class.isAssignableFrom(fieldValue.getClass())) {
+              if (entityVOOrig != null) {
+                Map hash = (Map) fieldValue;
+                Map hashOrig = (Map) entityMeta.getPropertyValue(entityVOOrig, field.getName());
+                if (hash.size() == 0 && hashOrig.size() > 0) {
+                  // Se não temos mais objetos relacionados, mas antes tinhamos, apagamos todos os itens da lista anterior.
+                  for (Object itemOrig : hashOrig.values()) {
+                    delete(ds, daoMap, (VO) itemOrig, RUReflex.addPath(path, field.getName()), dialect);
+                  }
+                } else if (hashOrig.size() > 0 && hash.size() > 0) {
+                  // Se temos as duas listas, temos que comprar as duas e descobrir os objetos que sumiram, assim iteramos uma dentro da outra para ver os objetos que sumiram comparando seus IDs
+                  for (Object itemOrig : hashOrig.values()) {
+                    VO itemOrigVO = (VO) itemOrig;
+                    boolean found = false;
+                    for (Object item : hash.values()) {
+                      VO itemVO = (VO) item;
+                      if (itemOrigVO.getId().equals(itemVO.getId())) {
+                        found = true;
+                        break;
                       }
                     }
+                    if (!found) delete(ds, daoMap, itemOrigVO, RUReflex.addPath(path, field.getName()), dialect);
                   }
                 }
               }
+            } else {
+              throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. Não é possível persistir o atributo '${1}' por ser do tipo '${2}'.", new String[] { entityVO.getClass().getCanonicalName(), field.getName(), fieldValue.getClass().getCanonicalName() });
             }
-              break;
-            case COMPOSITION_TREE: {
-              // PERSISTNCIA: Em caso de composio, no fazemos nada aqui no pr-processamento, pois os objetos compostos sero persistidos depois do objeto pai.
-              // DELETE: Relacionamento de Composio, precisamos verificar se ele existia antes e deixou de existir. Se ele deixou de existir, precisamos excluir todas sua hierarquia.
-              // ATENO: No aceita as colees nulas pq, por definio, objeto nulo indica que no foi recuperado, a ausncia de objetos relacionados deve ser sempre simbolizada por uma lista vazia.
-              final Object fieldValue = RUReflex.getPropertyValue(entityVO, field.getName());
-              if (fieldValue != null) {
-                if (RFWVO.class.isAssignableFrom(fieldValue.getClass())) {
-                  throw new RFWValidationException("Encontrado a definio 'COMPOSITION_TREE' em um relacionamento 1:1. Essa definio s pode ser utilizado em colees para indicar os 'filhos' do relacionamento hierarquico. Classe: ${0} / Field: ${1} / FieldClass: ${2}.", new String[] { entityVO.getClass().getCanonicalName(), field.getName(), fieldValue.getClass().getCanonicalName() });
-                } else if (List.class.isAssignableFrom(fieldValue.getClass())) {
-                  if (entityVOOrig != null) {
-                    List list = (List) fieldValue;
-                    List listOrig = (List) RUReflex.getPropertyValue(entityVOOrig, field.getName());
-                    if ((list == null || list.size() == 0) && (listOrig != null && listOrig.size() > 0)) {
-                      // Se no temos mais objetos relacionados, mas antes tinhamos, apagamos todos os itens da lista anterior.
-                      for (Object item : listOrig) {
-                        String destPath = RUReflex.addPath(path, field.getName());
-                        // Se no tivermos o caminho temos de completar dianimicamente no DAOMap
-                        if (daoMap.getMapTableByPath(destPath) == null) daoMap.createMapTableForCompositionTree(path, destPath, "id", getMetaRelationColumnMapped(field, ann));
-                        delete(ds, daoMap, (VO) item, destPath, dialect);
-                      }
-                    } else if ((listOrig != null && listOrig.size() >= 0) && (list != null && list.size() >= 0)) {
-                      // Se temos as duas listas, temos que comprar as duas e descobrir os objetos que sumiram, assim iteramos uma dentro da outra para ver os objetos que sumiram comparando seus IDs
-                      for (Object itemOrig : listOrig) {
-                        VO itemOrigVO = (VO) itemOrig;
-                        boolean found = false;
-                        for (Object item : list) {
-                          VO itemVO = (VO) item;
-                          if (itemOrigVO.getId().equals(itemVO.getId())) {
-                            found = true;
-                            break;
-                          }
-                        }
-                        if (!found) delete(ds, daoMap, itemOrigVO, RUReflex.addPath(path, field.getName()), dialect);
-                      }
-                    } else if ((listOrig == null || listOrig.size() == 0) && (list == null || list.size() == 0)) {
-                      // Se no temos lista agora, e j no tinhamos, nada a fazer. O IF s previne cair no else e lanar a Exception de "preveno de falha de lgica".
-                    } else {
-                      throw new RFWCriticalException("Falha ao detectar a condio de comparao entre listas do novo objeto e do objeto anterior! Atributo '${0}' da Classe '${1}'.", new String[] { field.getName(), entityVO.getClass().getCanonicalName() });
-                    }
+          } else {
+            // Se não existe no objeto atual, verificamos se existe no objeto original
+            if (entityVOOrig != null) {
+              final Object fieldValueOrig = entityMeta.getPropertyValue(entityVOOrig, field.getName());
+              if (fieldValueOrig != null) {
+                if (RFWVO.class.isAssignableFrom(fieldValueOrig.getClass())) {
+                  // Se o objeto no banco existir e o objeto atual não, temos de excluir o objeto atual pq a composição mudou.
+                  delete(ds, daoMap, (VO) fieldValueOrig, RUReflex.addPath(path, field.getName()), dialect);
+                } else if (List.class.isAssignableFrom(fieldValueOrig.getClass())) {
+                  // Se não temos mais objetos relacionados, mas antes tinhamos, apagamos todos os itens da lista anterior.
+                  for (Object item : (List) fieldValueOrig) {
+                    delete(ds, daoMap, (VO) item, RUReflex.addPath(path, field.getName()), dialect);
                   }
-                } else if (Map.class.isAssignableFrom(fieldValue.getClass())) {
-                  if (entityVOOrig != null) {
-                    Map hash = (Map) fieldValue;
-                    Map hashOrig = (Map) RUReflex.getPropertyValue(entityVOOrig, field.getName());
-                    if (hash.size() == 0 && hashOrig.size() > 0) {
-                      // Se no temos mais objetos relacionados, mas antes tinhamos, apagamos todos os itens da lista anterior.
-                      for (Object itemOrig : hashOrig.values()) {
-                        delete(ds, daoMap, (VO) itemOrig, RUReflex.addPath(path, field.getName()), dialect);
-                      }
-                    } else if (hashOrig.size() > 0 && hash.size() > 0) {
-                      // Se temos as duas listas, temos que comprar as duas e descobrir os objetos que sumiram, assim iteramos uma dentro da outra para ver os objetos que sumiram comparando seus IDs
-                      for (Object itemOrig : hashOrig.values()) {
-                        VO itemOrigVO = (VO) itemOrig;
-                        boolean found = false;
-                        for (Object item : hash.values()) {
-                          VO itemVO = (VO) item;
-                          if (itemOrigVO.getId().equals(itemVO.getId())) {
-                            found = true;
-                            break;
-                          }
-                        }
-                        if (!found) delete(ds, daoMap, itemOrigVO, RUReflex.addPath(path, field.getName()), dialect);
-                      }
-                    }
+                } else if (Map.class.isAssignableFrom(fieldValueOrig.getClass())) {
+                  // Se não temos mais objetos relacionados, mas antes tinhamos, apagamos todos os itens da lista anterior.
+                  for (Object itemOrig : ((Map) fieldValueOrig).values()) {
+                    delete(ds, daoMap, (VO) itemOrig, RUReflex.addPath(path, field.getName()), dialect);
                   }
-                } else {
-                  throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. No  possvel persistir o atributo '${1}' por ser do tipo '${2}'.", new String[] { entityVO.getClass().getCanonicalName(), field.getName(), fieldValue.getClass().getCanonicalName() });
                 }
               }
             }
-              break;
-            case ASSOCIATION: {
-              // VALIDAO: No caso de associao, ou o atributo column ou columnMapped devem estar preenchidos
-              if ("".equals(getMetaRelationColumnMapped(field, ann)) && "".equals(getMetaRelationColumn(field, ann))) throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. O atributo '${1}' est marcado como relacionamento 'Association', este tipo de relacionamento deve ter os atirbutos 'column' ou 'columnMapped' preenchidos.", new String[] { entityVO.getClass().getCanonicalName(), field.getName() });
-
-              // DELETE: nos casos de associao, quando o ID est na nossa tabela, ele ser definido como null ao atualizar o objeto e no devemos apagar a contra-parte. No caso do ID estar na tabela da contra-parte, vamos defini-lo como nulo depois do persistir o objeto atualizado
-              // PERSISTNCIA: Nos casos de associao  esperado que o objeto associado j tenha um ID definido, j que  um objeto a parte
-              final Object fieldValue = RUReflex.getPropertyValue(entityVO, field.getName());
-              if (fieldValue != null) {
-                if (RFWVO.class.isAssignableFrom(fieldValue.getClass())) {
-                  VO fieldValueVO = (VO) fieldValue;
-                  if (fieldValueVO.getId() == null) throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. O atributo '${1}' trouxe uma associao sem ID!", new String[] { entityVO.getClass().getCanonicalName(), field.getName() });
-                } else if (List.class.isAssignableFrom(fieldValue.getClass())) {
-                  List list = (List) fieldValue;
-                  for (Object item : list) {
-                    if (((VO) item).getId() == null) throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. O atributo '${1}' trouxe uma associao sem ID!", new String[] { entityVO.getClass().getCanonicalName(), field.getName() });
+          }
+        }
+          break;
+        case COMPOSITION_TREE: {
+          // PERSISTÊNCIA: Em caso de composição, não fazemos nada aqui no pré-processamento, pois os objetos compostos serão persistidos depois do objeto pai.
+          // DELETE: Relacionamento de Composição, precisamos verificar se ele existia antes e deixou de existir. Se ele deixou de existir, precisamos excluir todas sua hierarquia.
+          // ATENÇÃO: Não aceita as coleções nulas pq, por definição, objeto nulo indica que não foi recuperado, a ausência de objetos relacionados deve ser sempre simbolizada por uma lista vazia.
+          final Object fieldValue = entityMeta.getPropertyValue(entityVO, field.getName());
+          if (fieldValue != null) {
+            if (RFWVO.class.isAssignableFrom(fieldValue.getClass())) {
+              throw new RFWValidationException("Encontrado a definição 'COMPOSITION_TREE' em um relacionamento 1:1. Essa definição só pode ser utilizado em coleções para indicar os 'filhos' do relacionamento hierarquico. Classe: ${0} / Field: ${1} / FieldClass: ${2}.", new String[] { entityVO.getClass().getCanonicalName(), field.getName(), fieldValue.getClass().getCanonicalName() });
+            } else if (List.class.isAssignableFrom(fieldValue.getClass())) {
+              if (entityVOOrig != null) {
+                List list = (List) fieldValue;
+                List listOrig = (List) entityMeta.getPropertyValue(entityVOOrig, field.getName());
+                if ((list == null || list.size() == 0) && (listOrig != null && listOrig.size() > 0)) {
+                  // Se não temos mais objetos relacionados, mas antes tinhamos, apagamos todos os itens da lista anterior.
+                  for (Object item : listOrig) {
+                    String destPath = RUReflex.addPath(path, field.getName());
+                    // Se não tivermos o caminho temos de completar dianimicamente no DAOMap
+                    if (daoMap.getMapTableByPath(destPath) == null) daoMap.createMapTableForCompositionTree(path, destPath, "id", getMetaRelationColumnMapped(field, ann));
+                    delete(ds, daoMap, (VO) item, destPath, dialect);
                   }
-                } else if (Map.class.isAssignableFrom(fieldValue.getClass())) {
-                  Map map = (Map) fieldValue;
-                  for (Object item : map.values()) {
-                    if (((VO) item).getId() == null) throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. O atributo '${1}' trouxe uma associao sem ID!", new String[] { entityVO.getClass().getCanonicalName(), field.getName() });
+                } else if ((listOrig != null && listOrig.size() >= 0) && (list != null && list.size() >= 0)) {
+                  // Se temos as duas listas, temos que comprar as duas e descobrir os objetos que sumiram, assim iteramos uma dentro da outra para ver os objetos que sumiram comparando seus IDs
+                  for (Object itemOrig : listOrig) {
+                    VO itemOrigVO = (VO) itemOrig;
+                    boolean found = false;
+                    for (Object item : list) {
+                      VO itemVO = (VO) item;
+                      if (itemOrigVO.getId().equals(itemVO.getId())) {
+                        found = true;
+                        break;
+                      }
+                    }
+                    if (!found) delete(ds, daoMap, itemOrigVO, RUReflex.addPath(path, field.getName()), dialect);
                   }
+                } else if ((listOrig == null || listOrig.size() == 0) && (list == null || list.size() == 0)) {
+                  // Se não temos lista agora, e já não tinhamos, nada a fazer. O IF só previne cair no else e lançar a Exception de "prevenção de falha de lógica".
                 } else {
-                  throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. No  possvel persistir o atributo '${1}' por ser do tipo '${2}'.", new String[] { entityVO.getClass().getCanonicalName(), field.getName(), fieldValue.getClass().getCanonicalName() });
+                  throw new RFWCriticalException("Falha ao detectar a condição de comparação entre listas do novo objeto e do objeto anterior! Atributo '${0}' da Classe '${1}'.", new String[] { field.getName(), entityVO.getClass().getCanonicalName() });
                 }
               }
-            }
-              break;
-            case MANY_TO_MANY:
-              // DELETE: os relacionamentos N:N sero excludos depois da atualizao do objeto
-              // PERSISTNCIA: Nos casos de ManyToMany a coluna de FK no est na tabela do objeto (e sim na tabela de joinAlias). Por isso tudo o que temos que fazer  validar se todos os objetos tem um ID para a posterior insero.
-              // PERSISTNCIA: Note que ManyToMany deve sempre estar dentro de algum tipo de coleo/lista/hash/etc por ser mltiplos objetos.
-              final Object fieldValue = RUReflex.getPropertyValue(entityVO, field.getName());
-              if (fieldValue == null) {
-                // Por ser esperado sempre uma Lista nas associaes ManyToMany, um objeto recebido nulo  um erro, j que nulo indica que no foi carregado enquanto que uma coleo vazia indica a ausncia de associaes.
-                throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. No atributo '${1}' recebemos uma coleo vazia. A ausncia de relacionamento deve sempre ser indicada por uma coleo vazia, o atributo nulo  indicativo de que ele no foi carredo do banco de dados.", new String[] { entityVO.getClass().getCanonicalName(), field.getName() });
-              } else {
-                if (List.class.isAssignableFrom(fieldValue.getClass())) {
-                  List list = (List) fieldValue;
-                  for (Object item : list) {
-                    if (((VO) item).getId() == null) throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. O atributo '${1}' trouxe uma associao sem ID!", new String[] { entityVO.getClass().getCanonicalName(), field.getName() });
+            } else if (Map.class.isAssignableFrom(fieldValue.getClass())) {
+              if (entityVOOrig != null) {
+                Map hash = (Map) fieldValue;
+                Map hashOrig = (Map) entityMeta.getPropertyValue(entityVOOrig, field.getName());
+                if (hash.size() == 0 && hashOrig.size() > 0) {
+                  // Se não temos mais objetos relacionados, mas antes tinhamos, apagamos todos os itens da lista anterior.
+                  for (Object itemOrig : hashOrig.values()) {
+                    delete(ds, daoMap, (VO) itemOrig, RUReflex.addPath(path, field.getName()), dialect);
                   }
-                } else if (Map.class.isAssignableFrom(fieldValue.getClass())) {
-                  Map hash = (Map) fieldValue;
-                  for (Object item : hash.values()) {
-                    if (((VO) item).getId() == null) throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. O atributo '${1}' trouxe uma associao sem ID!", new String[] { entityVO.getClass().getCanonicalName(), field.getName() });
+                } else if (hashOrig.size() > 0 && hash.size() > 0) {
+                  // Se temos as duas listas, temos que comprar as duas e descobrir os objetos que sumiram, assim iteramos uma dentro da outra para ver os objetos que sumiram comparando seus IDs
+                  for (Object itemOrig : hashOrig.values()) {
+                    VO itemOrigVO = (VO) itemOrig;
+                    boolean found = false;
+                    for (Object item : hash.values()) {
+                      VO itemVO = (VO) item;
+                      if (itemOrigVO.getId().equals(itemVO.getId())) {
+                        found = true;
+                        break;
+                      }
+                    }
+                    if (!found) delete(ds, daoMap, itemOrigVO, RUReflex.addPath(path, field.getName()), dialect);
                   }
-                } else {
-                  throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. No  possvel persistir o atributo '${1}' por ser do tipo '${2}'.", new String[] { entityVO.getClass().getCanonicalName(), field.getName(), fieldValue.getClass().getCanonicalName() });
                 }
               }
-              break;
+            } else {
+              throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. Não é possível persistir o atributo '${1}' por ser do tipo '${2}'.", new String[] { entityVO.getClass().getCanonicalName(), field.getName(), fieldValue.getClass().getCanonicalName() });
+            }
           }
         }
-        final RFWMetaCollectionField colAnn = field.getAnnotation(RFWMetaCollectionField.class);
-        if (colAnn != null) {
-          // No caso de lista, temos de excluir todos os objetos anteriores do banco para inserir os novos depois. No temos como comparar pq no utilizamos IDs nesses objetos. Assim, se o objeto original existir exclumos todos os itens associados anteriormente de uma nica vez.
-          if (entityVOOrig != null) {
-            deleteCollection(ds, daoMap, entityVOOrig, "@" + RUReflex.addPath(path, field.getName()), dialect);
+          break;
+        case ASSOCIATION: {
+          // VALIDAÇÃO: No caso de associação, ou o atributo column ou columnMapped devem estar preenchidos
+          if ("".equals(getMetaRelationColumnMapped(field, ann)) && "".equals(getMetaRelationColumn(field, ann))) throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. O atributo '${1}' está marcado como relacionamento 'Association', este tipo de relacionamento deve ter os atirbutos 'column' ou 'columnMapped' preenchidos.", new String[] { entityVO.getClass().getCanonicalName(), field.getName() });
+
+          // DELETE: nos casos de associação, quando o ID está na nossa tabela, ele será definido como null ao atualizar o objeto e não devemos apagar a contra-parte. No caso do ID estar na tabela da contra-parte, vamos defini-lo como nulo depois do persistir o objeto atualizado
+          // PERSISTÊNCIA: Nos casos de associação é esperado que o objeto associado já tenha um ID definido, já que é um objeto a parte
+          final Object fieldValue = entityMeta.getPropertyValue(entityVO, field.getName());
+          if (fieldValue != null) {
+            if (RFWVO.class.isAssignableFrom(fieldValue.getClass())) {
+              VO fieldValueVO = (VO) fieldValue;
+              if (fieldValueVO.getId() == null) throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. O atributo '${1}' trouxe uma associação sem ID!", new String[] { entityVO.getClass().getCanonicalName(), field.getName() });
+            } else if (List.class.isAssignableFrom(fieldValue.getClass())) {
+              List list = (List) fieldValue;
+              for (Object item : list) {
+                if (((VO) item).getId() == null) throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. O atributo '${1}' trouxe uma associação sem ID!", new String[] { entityVO.getClass().getCanonicalName(), field.getName() });
+              }
+            } else if (Map.class.isAssignableFrom(fieldValue.getClass())) {
+              Map map = (Map) fieldValue;
+              for (Object item : map.values()) {
+                if (((VO) item).getId() == null) throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. O atributo '${1}' trouxe uma associação sem ID!", new String[] { entityVO.getClass().getCanonicalName(), field.getName() });
+              }
+            } else {
+              throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. Não é possível persistir o atributo '${1}' por ser do tipo '${2}'.", new String[] { entityVO.getClass().getCanonicalName(), field.getName(), fieldValue.getClass().getCanonicalName() });
+            }
           }
         }
-      }
-
-      if (needParent && parentCount == 0) throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. H relacionamentos do tipo 'PARENT_ASSOCIATION', o que indica que o objeto  dependente de outro, mas nenhum relacionamento desse tipo foi definido!", new String[] { entityVO.getClass().getCanonicalName() });
-
-      // ===> INSERIMOS O OBJETO NO BANCO <===
-      try (Connection conn = ds.getConnection()) {
-        if (isNew) {
-          try (PreparedStatement stmt = DAOMap.createInsertStatement(conn, daoMap, path, entityVO, sortColumn, sortIndex, dialect)) {
-            stmt.executeUpdate();
-            try (ResultSet rs = stmt.getGeneratedKeys()) {
-              Long id = null;
-              if (rs.next()) {
-                id = rs.getLong(1);
-              } else {
-                throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. O ID no foi retornado pelo banco de dados. Verifique se a coluna 'id' gera as chaves automaticamente.", new String[] { entityVO.getClass().getCanonicalName() });
+          break;
+        case MANY_TO_MANY:
+          // DELETE: os relacionamentos N:N serão excluídos depois da atualização do objeto
+          // PERSISTÊNCIA: Nos casos de ManyToMany a coluna de FK não está na tabela do objeto (e sim na tabela de joinAlias). Por isso tudo o que temos que fazer é validar se todos os objetos tem um ID para a posterior inserção.
+          // PERSISTÊNCIA: Note que ManyToMany deve sempre estar dentro de algum tipo de coleção/lista/hash/etc por ser múltiplos objetos.
+          final Object fieldValue = entityMeta.getPropertyValue(entityVO, field.getName());
+          if (fieldValue == null) {
+            // Por ser esperado sempre uma Lista nas associações ManyToMany, um objeto recebido nulo é um erro, já que nulo indica que não foi carregado enquanto que uma coleção vazia indica a ausência de associações.
+            throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. No atributo '${1}' recebemos uma coleção vazia. A ausência de relacionamento deve sempre ser indicada por uma coleção vazia, o atributo nulo é indicativo de que ele não foi carredo do banco de dados.", new String[] { entityVO.getClass().getCanonicalName(), field.getName() });
+          } else {
+            if (List.class.isAssignableFrom(fieldValue.getClass())) {
+              List list = (List) fieldValue;
+              for (Object item : list) {
+                if (((VO) item).getId() == null) throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. O atributo '${1}' trouxe uma associação sem ID!", new String[] { entityVO.getClass().getCanonicalName(), field.getName() });
               }
-              entityVO.setId(id);
+            } else if (Map.class.isAssignableFrom(fieldValue.getClass())) {
+              Map hash = (Map) fieldValue;
+              for (Object item : hash.values()) {
+                if (((VO) item).getId() == null) throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. O atributo '${1}' trouxe uma associação sem ID!", new String[] { entityVO.getClass().getCanonicalName(), field.getName() });
+              }
+            } else {
+              throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. Não é possível persistir o atributo '${1}' por ser do tipo '${2}'.", new String[] { entityVO.getClass().getCanonicalName(), field.getName(), fieldValue.getClass().getCanonicalName() });
             }
           }
-        } else {
-          try (PreparedStatement stmt = DAOMap.createUpdateStatement(conn, daoMap, path, entityVO, sortColumn, sortIndex, dialect)) {
-            stmt.executeUpdate();
-          }
-        }
-
-        persistedCache.put(entityVO.getClass().getCanonicalName() + "." + entityVO.getId(), entityVO);
-
-      } catch (Throwable e) {
-        throw new RFWCriticalException("Falha ao executar a operao no banco de dados.", e);
+          break;
       }
+    }
+    if (needParent && parentCount == 0) throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. Há relacionamentos do tipo 'PARENT_ASSOCIATION', o que indica que o objeto é dependente de outro, mas nenhum relacionamento desse tipo foi definido!", new String[] { entityVO.getClass().getCanonicalName() });
+    return true;
+  }
 
-      // ===> PROCESSAMENTO DOS RELACIONAMENTOS PS INSERO DO OBJETO
-      for (Field field : entityVO.getClass().getDeclaredFields()) {
-        final RFWMetaRelationshipField ann = field.getAnnotation(RFWMetaRelationshipField.class);
-        if (ann != null) {
-          // Verificamos o tipo de relacionamento para validar e saber como proceder.
-          switch (ann.relationship()) {
-            case WEAK_ASSOCIATION:
-              // Nada para fazer, esse tipo de associao  como se no existisse para o RFWDAO.
-              break;
-            case ASSOCIATION:
-              // No caso de associao e a FK estar na tabela do outro objeto, temos atualizar a coluna do outro objeto. (Se estiver na tabela do objeto sendo editado o valor j foi definido)
-              if (!"".equals(getMetaRelationColumnMapped(field, ann))) {
-                // Verificamos se houve alterao entre a associao atual e a associao existente no banco de dados para saber se precisamos atualizar a tabels
-                final Object fieldValue = RUReflex.getPropertyValue(entityVO, field.getName());
-                if (fieldValue != null) { // Atualmente temos um relacionamento
-                  if (RFWVO.class.isAssignableFrom(fieldValue.getClass())) {
-                    RFWVO fieldValueVO = (RFWVO) fieldValue;
-                    RFWVO fieldValueVOOrig = null;
-                    if (entityVOOrig != null) fieldValueVOOrig = (RFWVO) RUReflex.getPropertyValue(entityVOOrig, field.getName());
-                    if (fieldValueVOOrig != null && !fieldValueVO.getId().equals(fieldValueVOOrig.getId())) {
-                      // Se tambm temos um relacionamento no VO original e eles tem IDs diferentes, precisamos remover a associao do objeto anterior antes de incluir a nova associao (se tem o mesmo ID no precisamos fazer nada pois j esto certos)
-                      updateExternalFK(ds, daoMap, RUReflex.addPath(path, field.getName()), fieldValueVOOrig.getId(), null, dialect); // Exclui a associao do objeto anterior
-                    }
-                    // Agora que j removemos as associaes do objeto que no esto mais em uso, vamos atualizar as novas associaes.
-                    updateExternalFK(ds, daoMap, RUReflex.addPath(path, field.getName()), fieldValueVO.getId(), entityVO.getId(), dialect); // Inclui a associao do novo Objeto
-                  } else if (Map.class.isAssignableFrom(fieldValue.getClass())) {
-                    Map fieldValueMap = (Map) fieldValue;
-                    Map fieldValueMapOrig = null;
-                    if (entityVOOrig != null) fieldValueMapOrig = (Map) RUReflex.getPropertyValue(entityVOOrig, field.getName());
-
-                    if (fieldValueMapOrig != null && fieldValueMapOrig.size() > 0) {
-                      // Se tambm temos um relacionamento no VO original, iteramos seus objetos para comparao...
-                      for (Object key : fieldValueMapOrig.keySet()) {
-                        RFWVO fieldValueVOOrig = (RFWVO) fieldValueMapOrig.get(key);
-                        RFWVO fieldValueVO = (RFWVO) fieldValueMap.get(key);
-                        if (fieldValueVO == null || !fieldValueVO.getId().equals(fieldValueVOOrig.getId())) {
-                          // ..., temos o objeto para as mesma chavez, mas eles tem IDs diferentes, precisamos remover a associao antiga (a nova associao  feita depois) (se tem o mesmo ID no precisamos fazer nada pois j esto certos)
-                          updateExternalFK(ds, daoMap, RUReflex.addPath(path, field.getName()), fieldValueVOOrig.getId(), null, dialect); // Exclui a associao do objeto anterior na tabela
-                        }
-                      }
-                    }
-                    // Tendo ou no removido associaes dos objetos que no esto mais associados, atualizamos os novos objetos associados
-                    for (Object obj : fieldValueMap.values()) {
-                      RFWVO fieldValueVO = (RFWVO) obj;
-                      updateExternalFK(ds, daoMap, RUReflex.addPath(path, field.getName()), fieldValueVO.getId(), entityVO.getId(), dialect); // Atualiza a associao na tabela do objeto associado.
-                    }
-                  } else if (List.class.isAssignableFrom(fieldValue.getClass())) {
-                    List list = (List) fieldValue;
-                    List listOriginal = null;
-                    if (entityVOOrig != null) listOriginal = (List) RUReflex.getPropertyValue(entityVOOrig, field.getName());
-
-                    if (listOriginal != null && listOriginal.size() > 0) {
-                      // Se tambm temos um relacionamento no VO original, iteramos seus objetos para comparao...
-                      for (Object itemOriginal : listOriginal) {
-                        RFWVO itemVOOrig = (RFWVO) itemOriginal;
-                        RFWVO itemVO = null;
-                        if (list != null) {
-                          // Se temos uma lista do objeto atual, vamos tentar encontrar o objeto para atualizao
-                          for (Object item : list) {
-                            if (itemVOOrig.getId().equals(((VO) item).getId())) { // ItemOriginal sempre tem um ID pois veio do banco de dados.
-                              itemVO = (VO) item;
-                              break;
-                            }
-                          }
-                        }
-
-                        if (itemVO == null || !itemVOOrig.getId().equals(itemVO.getId())) {
-                          // ..., temos o objeto em ambas a lista, mas eles tem IDs diferentes, precisamos remover a associao antiga (a nova associao  feita depois) (se tem o mesmo ID no precisamos fazer nada pois j esto certos)
-                          updateExternalFK(ds, daoMap, RUReflex.addPath(path, field.getName()), itemVOOrig.getId(), null, dialect); // Exclui a associao do objeto anterior na tabela
-                        }
-                      }
-                    }
-                    // Tendo ou no removido associaes dos objetos que no esto mais associados, atualizamos os novos objetos associados
-                    for (Object item : list) {
-                      RFWVO itemVO = (RFWVO) item;
-                      updateExternalFK(ds, daoMap, RUReflex.addPath(path, field.getName()), itemVO.getId(), entityVO.getId(), dialect); // Atualiza a associao na tabela do objeto associado.
-                    }
-                  } else {
-                    throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. No  possvel persistir o atributo '${1}' por ser do tipo '${2}'.", new String[] { entityVO.getClass().getCanonicalName(), field.getName(), fieldValue.getClass().getCanonicalName() });
-                  }
-                } else {
-                  // Se no temos uma associao no objeto atual, temos que remover da antiga caso exista
-                  Object fieldValueOrig = null;
-                  if (entityVOOrig != null) fieldValueOrig = RUReflex.getPropertyValue(entityVOOrig, field.getName());
-                  if (fieldValueOrig != null) {
-                    if (RFWVO.class.isAssignableFrom(fieldValueOrig.getClass())) {
-                      RFWVO fieldValueOrigVO = (RFWVO) fieldValueOrig;
-                      updateExternalFK(ds, daoMap, RUReflex.addPath(path, field.getName()), fieldValueOrigVO.getId(), null, dialect); // Exclui a associao na tabela do objeto anterior
-                    } else if (List.class.isAssignableFrom(fieldValueOrig.getClass())) {
-                      // Caso no objeto original tenha uma list lanamos erro. Pois o objeto sendo persistido no deve ter as collections nulas e sim vazias para indicar a ausncia de associaes. Uma collection nula provavelmente indica que o objeto no foi bem inicializado, ou mal recuperado do banco em caso de atualizao.
-                      throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. No atributo '${1}' recebemos uma coleo vazia. A ausncia de relacionamento deve sempre ser indicada por uma coleo vazia, o atributo nulo  indicativo de que ele no foi carredo do banco de dados.", new String[] { entityVO.getClass().getCanonicalName(), field.getName() });
-                    } else if (Map.class.isAssignableFrom(fieldValueOrig.getClass())) {
-                      // Caso no objeto original tenha uma hash lanamos erro. Pois o objeto sendo persistido no deve ter as collections nulas e sim vazias para indicar a ausncia de associaes. Uma collection nula provavelmente indica que o objeto no foi bem inicializado, ou mal recuperado do banco em caso de atualizao.
-                      throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. No atributo '${1}' recebemos uma coleo vazia. A ausncia de relacionamento deve sempre ser indicada por uma coleo vazia, o atributo nulo  indicativo de que ele no foi carredo do banco de dados.", new String[] { entityVO.getClass().getCanonicalName(), field.getName() });
+  /**
+   * Executa o tratamento dos relacionamentos depois que o objeto já foi inserido ou atualizado no banco de dados, e por isso já tem o ID: persistência das composições, atualização das
+   * associações mapeadas na tabela do outro objeto, das tabelas de ManyToMany e das collections.
+   *
+   * @throws RFWException
+   */
+  @SuppressWarnings({ "unchecked", "rawtypes", "deprecation" })
+  private void persistRelationships(DataSource ds, DAOMap daoMap, boolean isNew, VO entityVO, VO entityVOOrig, String path, HashMap<String, VO> persistedCache, HashMap<RFWVO, List<RFWVOUpdatePending<RFWVO>>> updatePendings, boolean dirtyCheck, SQLDialect dialect) throws RFWException {
+    final EntityMetadata entityMeta = EntityMetadata.get((Class<? extends RFWVO>) entityVO.getClass());
+    // ===> PROCESSAMENTO DOS RELACIONAMENTOS PÓS INSERÇÃO DO OBJETO
+    for (RelationshipDescriptor rel : entityMeta.getRelationships()) {
+      final Field field = rel.field;
+      final RFWMetaRelationshipField ann = rel.ann;
+      // Verificamos o tipo de relacionamento para validar e saber como proceder.
+      switch (rel.relationship) {
+        case WEAK_ASSOCIATION:
+          // Nada para fazer, esse tipo de associação é como se não existisse para o RFWDAO.
+          break;
+        case ASSOCIATION:
+          // No caso de associação e a FK estar na tabela do outro objeto, temos atualizar a coluna do outro objeto. (Se estiver na tabela do objeto sendo editado o valor já foi definido)
+          if (!"".equals(getMetaRelationColumnMapped(field, ann))) {
+            // Verificamos se houve alteração entre a associação atual e a associação existente no banco de dados para saber se precisamos atualizar a tabels
+            final Object fieldValue = entityMeta.getPropertyValue(entityVO, field.getName());
+            if (fieldValue != null) { // Atualmente temos um relacionamento
+              if (RFWVO.class.isAssignableFrom(fieldValue.getClass())) {
+                RFWVO fieldValueVO = (RFWVO) fieldValue;
+                RFWVO fieldValueVOOrig = null;
+                if (entityVOOrig != null) fieldValueVOOrig = (RFWVO) entityMeta.getPropertyValue(entityVOOrig, field.getName());
+                if (fieldValueVOOrig != null && !fieldValueVO.getId().equals(fieldValueVOOrig.getId())) {
+                  // Se também temos um relacionamento no VO original e eles tem IDs diferentes, precisamos remover a associação do objeto anterior antes de incluir a nova associação (se tem o mesmo ID não precisamos fazer nada pois já estão certos)
+                  updateExternalFK(ds, daoMap, RUReflex.addPath(path, field.getName()), fieldValueVOOrig.getId(), null, dialect); // Exclui a associação do objeto anterior
+                }
+                // Agora que já removemos as associações do objeto que não estão mais em uso, vamos atualizar as novas associações.
+                updateExternalFK(ds, daoMap, RUReflex.addPath(path, field.getName()), fieldValueVO.getId(), entityVO.getId(), dialect); // Inclui a associação do novo Objeto
+              } else if (Map.class.isAssignableFrom(fieldValue.getClass())) {
+                Map fieldValueMap = (Map) fieldValue;
+                Map fieldValueMapOrig = null;
+                if (entityVOOrig != null) fieldValueMapOrig = (Map) entityMeta.getPropertyValue(entityVOOrig, field.getName());
+
+                if (fieldValueMapOrig != null && fieldValueMapOrig.size() > 0) {
+                  // Se também temos um relacionamento no VO original, iteramos seus objetos para comparação...
+                  for (Object key : fieldValueMapOrig.keySet()) {
+                    RFWVO fieldValueVOOrig = (RFWVO) fieldValueMapOrig.get(key);
+                    RFWVO fieldValueVO = (RFWVO) fieldValueMap.get(key);
+                    if (fieldValueVO == null || !fieldValueVO.getId().equals(fieldValueVOOrig.getId())) {
+                      // ..., temos o objeto para as mesma chavez, mas eles tem IDs diferentes, precisamos remover a associação antiga (a nova associação é feita depois) (se tem o mesmo ID não precisamos fazer nada pois já estão certos)
+                      updateExternalFK(ds, daoMap, RUReflex.addPath(path, field.getName()), fieldValueVOOrig.getId(), null, dialect); // Exclui a associação do objeto anterior na tabela
                     }
                   }
                 }
-              }
-              break;
-            case COMPOSITION: {
-              // PERSISTNCIA: Em caso de composio, temos agora que persistir todos os objetos filhos
-              final Object fieldValue = RUReflex.getPropertyValue(entityVO, field.getName());
-              if (fieldValue != null) {
-                if (RFWVO.class.isAssignableFrom(fieldValue.getClass())) {
-                  VO fieldValueVOOrig = null;
-                  if (entityVOOrig != null) fieldValueVOOrig = (VO) RUReflex.getPropertyValue(entityVOOrig, field.getName());
-                  // Passamos isNew como true sempre que o objeto atual (objeto pai) for novo, isso pq objetos de composio no podem ter ID definido antes do prprio pai, provavelmente isso  um erro. No entanto, o pai pode ser "velho" (em update) e o objeto da composio novo (em insert).
-                  persist(ds, daoMap, (isNew || ((VO) fieldValue).getId() == null), (VO) fieldValue, fieldValueVOOrig, RUReflex.addPath(path, field.getName()), persistedCache, null, 0, updatePendings, dialect);
-                } else if (List.class.isAssignableFrom(fieldValue.getClass())) {
-                  List list = (List) fieldValue;
-                  List listOriginal = null;
-                  if (entityVOOrig != null) listOriginal = (List) RUReflex.getPropertyValue(entityVOOrig, field.getName());
-
-                  // Se  uma lista, verificamos se tem o atributo "sortColumn" definido na Annotation. Nestes casos temos de criar esse atributo para ser salvo junto
-                  String sColumn = null;
-                  if (!"".equals(ann.sortColumn())) sColumn = ann.sortColumn();
-
-                  int countIndex = 0; // Contador de indice. Usado para saber o ndice do item na lista. Utilizado quando o sortColumn  definido para garantir a ordem da lista.
-                  for (Object item : list) {
-                    VO itemVO = (VO) item;
-                    VO itemVOOrig = null;
-                    if (listOriginal != null) {
-                      // Se temos uma lista do objeto original, vamos tentar encontrar o objeto para passar como objeto original para comparao
-                      for (Object itemOriginal : listOriginal) {
-                        if (((VO) itemOriginal).getId().equals(itemVO.getId())) { // ItemOriginal sempre tem um ID pois veio do banco de dados.
-                          itemVOOrig = (VO) itemOriginal;
+                // Tendo ou não removido associações dos objetos que não estão mais associados, atualizamos os novos objetos associados
+                for (Object obj : fieldValueMap.values()) {
+                  RFWVO fieldValueVO = (RFWVO) obj;
+                  updateExternalFK(ds, daoMap, RUReflex.addPath(path, field.getName()), fieldValueVO.getId(), entityVO.getId(), dialect); // Atualiza a associação na tabela do objeto associado.
+                }
+              } else if (List.class.isAssignableFrom(fieldValue.getClass())) {
+                List list = (List) fieldValue;
+                List listOriginal = null;
+                if (entityVOOrig != null) listOriginal = (List) entityMeta.getPropertyValue(entityVOOrig, field.getName());
+
+                if (listOriginal != null && listOriginal.size() > 0) {
+                  // Se também temos um relacionamento no VO original, iteramos seus objetos para comparação...
+                  for (Object itemOriginal : listOriginal) {
+                    RFWVO itemVOOrig = (RFWVO) itemOriginal;
+                    RFWVO itemVO = null;
+                    if (list != null) {
+                      // Se temos uma lista do objeto atual, vamos tentar encontrar o objeto para atualização
+                      for (Object item : list) {
+                        if (itemVOOrig.getId().equals(((VO) item).getId())) { // ItemOriginal sempre tem um ID pois veio do banco de dados.
+                          itemVO = (VO) item;
                           break;
                         }
                       }
                     }
 
-                    // Passamos isNew como true sempre que o objeto atual (objeto pai) for novo, isso pq objetos de composio no podem ter ID definido antes do prprio pai, provavelmente isso  um erro. No entanto, o pai pode ser "velho" (em update) e o objeto da composio novo (em insert).
-                    persist(ds, daoMap, (isNew || itemVO.getId() == null), itemVO, itemVOOrig, RUReflex.addPath(path, field.getName()), persistedCache, sColumn, countIndex, updatePendings, dialect);
-
-                    countIndex++;
-                  }
-                } else if (Map.class.isAssignableFrom(fieldValue.getClass())) {
-                  Map hash = (Map) fieldValue;
-                  Map hashOriginal = null;
-                  if (entityVOOrig != null) hashOriginal = (Map) RUReflex.getPropertyValue(entityVOOrig, field.getName());
-                  for (Object key : hash.keySet()) {
-                    VO itemVO = (VO) hash.get(key);
-                    VO itemVOOrig = null;
-                    if (hashOriginal != null) itemVOOrig = (VO) hashOriginal.get(key);
-                    // Passamos isNew como true sempre que o objeto atual (objeto pai) for novo, isso pq objetos de composio no podem ter ID definido antes do prprio pai, provavelmente isso  um erro. No entanto, o pai pode ser "velho" (em update) e o objeto da composio novo (em insert).
-                    persist(ds, daoMap, (isNew || itemVO.getId() == null), itemVO, itemVOOrig, RUReflex.addPath(path, field.getName()), persistedCache, null, 0, updatePendings, dialect);
+                    if (itemVO == null || !itemVOOrig.getId().equals(itemVO.getId())) {
+                      // ..., temos o objeto em ambas a lista, mas eles tem IDs diferentes, precisamos remover a associação antiga (a nova associação é feita depois) (se tem o mesmo ID não precisamos fazer nada pois já estão certos)
+                      updateExternalFK(ds, daoMap, RUReflex.addPath(path, field.getName()), itemVOOrig.getId(), null, dialect); // Exclui a associação do objeto anterior na tabela
+                    }
                   }
-                } else {
-                  throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. No  possvel persistir o atributo '${1}' por ser do tipo '${2}'.", new String[] { entityVO.getClass().getCanonicalName(), field.getName(), fieldValue.getClass().getCanonicalName() });
                 }
+                // Tendo ou não removido associações dos objetos que não estão mais associados, atualizamos os novos objetos associados
+                for (Object item : list) {
+                  RFWVO itemVO = (RFWVO) item;
+                  updateExternalFK(ds, daoMap, RUReflex.addPath(path, field.getName()), itemVO.getId(), entityVO.getId(), dialect); // Atualiza a associação na tabela do objeto associado.
+                }
+              } else {
+                throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. Não é possível persistir o atributo '${1}' por ser do tipo '${2}'.", new String[] { entityVO.getClass().getCanonicalName(), field.getName(), fieldValue.getClass().getCanonicalName() });
               }
-            }
-              break;
-            case COMPOSITION_TREE: {
-              // PERSISTNCIA: Em caso de composio de rvore, temos agora que persistir todos os objetos filhos
-              final Object fieldValue = RUReflex.getPropertyValue(entityVO, field.getName());
-              if (fieldValue != null) {
-                if (RFWVO.class.isAssignableFrom(fieldValue.getClass())) {
-                  throw new RFWValidationException("Encontrado a definio 'COMPOSITION_TREE' em um relacionamento 1:1. Essa definio s pode ser utilizado em colees para indicar os 'filhos' do relacionamento hierarquico. Classe: ${0} / Field: ${1} / FieldClass: ${2}.", new String[] { entityVO.getClass().getCanonicalName(), field.getName(), fieldValue.getClass().getCanonicalName() });
-                } else if (List.class.isAssignableFrom(fieldValue.getClass())) {
-                  List list = (List) fieldValue;
-                  List listOriginal = null;
-                  if (entityVOOrig != null) listOriginal = (List) RUReflex.getPropertyValue(entityVOOrig, field.getName());
-
-                  // Se  uma lista, verificamos se tem o atributo "sortColumn" definido na Annotation. Nestes casos temos de criar esse atributo para ser salvo junto
-                  String sColumn = null;
-                  if (!"".equals(ann.sortColumn())) sColumn = ann.sortColumn();
-
-                  int countIndex = 0; // Contador de indice. Usado para saber o ndice do item na lista. Utilizado quando o sortColumn  definido para garantir a ordem da lista.
-                  for (Object item : list) {
-                    VO itemVO = (VO) item;
-                    VO itemVOOrig = null;
-                    if (listOriginal != null) {
-                      // Se temos uma lista do objeto original, vamos tentar encontrar o objeto para passar como objeto original para comparao
-                      for (Object itemOriginal : listOriginal) {
-                        if (((VO) itemOriginal).getId().equals(itemVO.getId())) { // ItemOriginal sempre tem um ID pois veio do banco de dados.
-                          itemVOOrig = (VO) itemOriginal;
-                          break;
-                        }
-                      }
-                    }
-
-                    // Antes de passar para os objetos filhos em "esquema de rvore". Precisamos completar o DAOMap, isso pq quando ele  feito limitamos o mapeamento de estruturas hierarquicas por tender ao infinito. Vamos duplicando o mapeamento aqui, dinamicamente
-                    String destPath = RUReflex.addPath(path, field.getName());
-                    // System.out.println(dumpDAOMap(daoMap));
-                    // Se no tivermos o caminho temos de completar dianimicamente no DAOMap
-                    daoMap.createMapTableForCompositionTree(path, destPath, "id", getMetaRelationColumnMapped(field, ann));
-                    // Passamos isNew como true sempre que o objeto atual (objeto pai) for novo, isso pq objetos de composio no podem ter ID definido antes do prprio pai, provavelmente isso  um erro. No entanto, o pai pode ser "velho" (em update) e o objeto da composio novo (em insert).
-                    persist(ds, daoMap, (isNew || itemVO.getId() == null), itemVO, itemVOOrig, destPath, persistedCache, sColumn, countIndex, updatePendings, dialect);
-
-                    countIndex++;
-                  }
-                } else if (Map.class.isAssignableFrom(fieldValue.getClass())) {
-                  Map hash = (Map) fieldValue;
-                  Map hashOriginal = null;
-                  if (entityVOOrig != null) hashOriginal = (Map) RUReflex.getPropertyValue(entityVOOrig, field.getName());
-                  for (Object key : hash.keySet()) {
-                    VO itemVO = (VO) hash.get(key);
-                    VO itemVOOrig = null;
-                    if (hashOriginal != null) itemVOOrig = (VO) hashOriginal.get(key);
-                    // Passamos isNew como true sempre que o objeto atual (objeto pai) for novo, isso pq objetos de composio no podem ter ID definido antes do prprio pai, provavelmente isso  um erro. No entanto, o pai pode ser "velho" (em update) e o objeto da composio novo (em insert).
-                    persist(ds, daoMap, (isNew || itemVO.getId() == null), itemVO, itemVOOrig, RUReflex.addPath(path, field.getName()), persistedCache, null, 0, updatePendings, dialect);
-                  }
-                } else {
-                  throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. No  possvel persistir o atributo '${1}' por ser do tipo '${2}'.", new String[] { entityVO.getClass().getCanonicalName(), field.getName(), fieldValue.getClass().getCanonicalName() });
+            } else {
+              // Se não temos uma associação no objeto atual, temos que remover da antiga caso exista
+              Object fieldValueOrig = null;
+              if (entityVOOrig != null) fieldValueOrig = entityMeta.getPropertyValue(entityVOOrig, field.getName());
+              if (fieldValueOrig != null) {
+                if (RFWVO.class.isAssignableFrom(fieldValueOrig.getClass())) {
+                  RFWVO fieldValueOrigVO = (RFWVO) fieldValueOrig;
+                  updateExternalFK(ds, daoMap, RUReflex.addPath(path, field.getName()), fieldValueOrigVO.getId(), null, dialect); // Exclui a associação na tabela do objeto anterior
+                } else if (List.class.isAssignableFrom(fieldValueOrig.getClass())) {
+                  // Caso no objeto original tenha uma list lançamos erro. Pois o objeto sendo persistido não deve ter as collections nulas e sim vazias para indicar a ausência de associações. Uma collection nula provavelmente indica que o objeto não foi bem inicializado, ou mal recuperado do banco em caso de atualização.
+                  throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. No atributo '${1}' recebemos uma coleção vazia. A ausência de relacionamento deve sempre ser indicada por uma coleção vazia, o atributo nulo é indicativo de que ele não foi carredo do banco de dados.", new String[] { entityVO.getClass().getCanonicalName(), field.getName() });
+                } else if (Map.class.isAssignableFrom(fieldValueOrig.getClass())) {
+                  // Caso no objeto original tenha uma hash lançamos erro. Pois o objeto sendo persistido não deve ter as collections nulas e sim vazias para indicar a ausência de associações. Uma collection nula provavelmente indica que o objeto não foi bem inicializado, ou mal recuperado do banco em caso de atualização.
+                  throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. No atributo '${1}' recebemos uma coleção vazia. A ausência de relacionamento deve sempre ser indicada por uma coleção vazia, o atributo nulo é indicativo de que ele não foi carredo do banco de dados.", new String[] { entityVO.getClass().getCanonicalName(), field.getName() });
                 }
               }
             }
-              break;
-            case INNER_ASSOCIATION:
-              // Neste caso no h nada para fazer neste ponto.
-              break;
-            case PARENT_ASSOCIATION:
-              // No caso de um relacionamento com o objeto pai, no temos de fazer nada, pois tanto o pai quando o ID do pai j deve ter sido persistido
-              break;
-            case MANY_TO_MANY: {
-              // Os relacionamentos ManyToMany precisam ter os inserts da tabela de Join realizados para "linkar" os dois objetos
-              final Object fieldValue = RUReflex.getPropertyValue(entityVO, field.getName());
-              if (fieldValue != null) {
-                if (List.class.isAssignableFrom(fieldValue.getClass())) {
-                  for (Object item : (List) fieldValue) {
-                    try (Connection conn = ds.getConnection(); PreparedStatement stmt = DAOMap.createManyToManySelectStatement(conn, daoMap, RUReflex.addPath(path, field.getName()), entityVO, (VO) item, dialect); ResultSet rs = stmt.executeQuery()) {
-                      if (!rs.next()) {
-                        // Se no tem um resultado prximo, criamos a insero, se no deixa quieto que j foi feito
-                        try (PreparedStatement stmt2 = DAOMap.createManyToManyInsertStatement(conn, daoMap, RUReflex.addPath(path, field.getName()), entityVO, (VO) item, dialect)) {
-                          stmt2.executeUpdate();
-                        }
-                      }
-                    } catch (Throwable e) {
-                      throw new RFWCriticalException("Falha ao executar a operao no banco de dados.", e);
-                    }
-                  }
-                } else if (Map.class.isAssignableFrom(fieldValue.getClass())) {
-                  for (Object item : ((Map) fieldValue).values()) {
-                    try (Connection conn = ds.getConnection(); PreparedStatement stmt = DAOMap.createManyToManySelectStatement(conn, daoMap, RUReflex.addPath(path, field.getName()), entityVO, (VO) item, dialect); ResultSet rs = stmt.executeQuery()) {
-                      if (!rs.next()) {
-                        // Se no tem um resultado prximo, criamos a insero, se no deixa quieto que j foi feito
-                        try (PreparedStatement stmt2 = DAOMap.createManyToManyInsertStatement(conn, daoMap, RUReflex.addPath(path, field.getName()), entityVO, (VO) item, dialect)) {
-                          stmt2.executeUpdate();
-                        }
-                      }
-                    } catch (Throwable e) {
-                      throw new RFWCriticalException("Falha ao executar a operao no banco de dados.", e);
+          }
+          break;
+        case COMPOSITION: {
+          // PERSISTÊNCIA: Em caso de composição, temos agora que persistir todos os objetos filhos
+          final Object fieldValue = entityMeta.getPropertyValue(entityVO, field.getName());
+          if (fieldValue != null) {
+            if (RFWVO.class.isAssignableFrom(fieldValue.getClass())) {
+              VO fieldValueVOOrig = null;
+              if (entityVOOrig != null) fieldValueVOOrig = (VO) entityMeta.getPropertyValue(entityVOOrig, field.getName());
+              // Passamos isNew como true sempre que o objeto atual (objeto pai) for novo, isso pq objetos de composição não podem ter ID definido antes do próprio pai, provavelmente isso é um erro. No entanto, o pai pode ser "velho" (em update) e o objeto da composição novo (em insert).
+              persist(ds, daoMap, (isNew || ((VO) fieldValue).getId() == null), (VO) fieldValue, fieldValueVOOrig, RUReflex.addPath(path, field.getName()), persistedCache, null, 0, -1, updatePendings, dirtyCheck, dialect);
+            } else if (List.class.isAssignableFrom(fieldValue.getClass())) {
+              List list = (List) fieldValue;
+              List listOriginal = null;
+              if (entityVOOrig != null) listOriginal = (List) entityMeta.getPropertyValue(entityVOOrig, field.getName());
+
+              // Se é uma lista, verificamos se tem o atributo "sortColumn" definido na Annotation. Nestes casos temos de criar esse atributo para ser salvo junto
+              final String sColumn = rel.sortColumn;
+
+              final ArrayList<VO> items = new ArrayList<>(list.size());
+              final ArrayList<VO> itemsOrig = new ArrayList<>(list.size());
+              final int[] itemsOrigIndex = new int[list.size()]; // Índice de cada item na lista original, que é o valor salvo na sortColumn. -1 para os itens que não existiam.
+              for (Object item : list) {
+                VO itemVO = (VO) item;
+                VO itemVOOrig = null;
+                int itemOrigIndex = -1;
+                if (listOriginal != null) {
+                  // Se temos uma lista do objeto original, vamos tentar encontrar o objeto para passar como objeto original para comparação
+                  int origIndex = 0;
+                  for (Object itemOriginal : listOriginal) {
+                    if (((VO) itemOriginal).getId().equals(itemVO.getId())) { // ItemOriginal sempre tem um ID pois veio do banco de dados.
+                      itemVOOrig = (VO) itemOriginal;
+                      itemOrigIndex = origIndex;
+                      break;
                     }
+                    origIndex++;
                   }
-                } else {
-                  throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. No  possvel persistir o atributo '${1}' por ser do tipo '${2}'.", new String[] { entityVO.getClass().getCanonicalName(), field.getName(), fieldValue.getClass().getCanonicalName() });
                 }
+                itemsOrigIndex[items.size()] = itemOrigIndex;
+                items.add(itemVO);
+                itemsOrig.add(itemVOOrig);
               }
-              // Se existir uma lista no objeto original, precisamos apagar todos os mapeamentos que no existem mais, caso contrrio as desassociaes no deixaro de existir
-              if (entityVOOrig != null) {
-                final Object fieldValueOrig = RUReflex.getPropertyValue(entityVOOrig, field.getName());
-                if (fieldValueOrig != null) {
-                  if (List.class.isAssignableFrom(fieldValueOrig.getClass())) {
-                    List listOrig = (List) fieldValueOrig;
-                    for (Object itemOrig : listOrig) {
-                      boolean found = false;
-                      // Vamos iterar a lista de objetos atual para ver se encontramos o objeto. se no encontrar excluimos o link entre os objetos
-                      if (fieldValue != null) {
-                        for (Object item : (List) fieldValue) {
-                          if (((VO) itemOrig).getId().equals(((VO) item).getId())) {
-                            found = true;
-                            break;
-                          }
-                        }
-                      }
-                      if (!found) {
-                        try (Connection conn = ds.getConnection(); PreparedStatement stmt = DAOMap.createManyToManyDeleteStatement(conn, daoMap, RUReflex.addPath(path, field.getName()), entityVO, (VO) itemOrig, dialect)) {
-                          stmt.executeUpdate();
-                        } catch (Throwable e) {
-                          throw new RFWCriticalException("Falha ao executar a operao no banco de dados.", e);
-                        }
-                      }
-                    }
-                  } else if (Map.class.isAssignableFrom(fieldValueOrig.getClass())) {
-                    Map hashOrig = (Map) fieldValueOrig;
-                    for (Object itemOrig : hashOrig.values()) {
-                      boolean found = false;
-                      // Vamos iterar a lista de objetos atual para ver se encontramos o objeto. se no encontrar excluimos o link entre os objetos
-                      if (fieldValue != null) {
-                        for (Object item : ((Map) fieldValue).values()) {
-                          if (((VO) itemOrig).getId().equals(((VO) item).getId())) {
-                            found = true;
-                            break;
-                          }
-                        }
-                      }
-                      if (!found) {
-                        try (Connection conn = ds.getConnection(); PreparedStatement stmt = DAOMap.createManyToManyDeleteStatement(conn, daoMap, RUReflex.addPath(path, field.getName()), entityVO, (VO) itemOrig, dialect)) {
-                          stmt.executeUpdate();
-                        } catch (Throwable e) {
-                          throw new RFWCriticalException("Falha ao executar a operao no banco de dados.", e);
-                        }
-                      }
+              // O índice de cada item na lista é utilizado como valor da sortColumn, garantindo a mesma ordem ao recuperar a lista do banco de dados
+              persistComposition(ds, daoMap, isNew, items, itemsOrig, itemsOrigIndex, RUReflex.addPath(path, field.getName()), persistedCache, sColumn, updatePendings, dirtyCheck, dialect);
+            } else if (Map.class.isAssignableFrom(fieldValue.getClass())) {
+              Map hash = (Map) fieldValue;
+              Map hashOriginal = null;
+              if (entityVOOrig != null) hashOriginal = (Map) entityMeta.getPropertyValue(entityVOOrig, field.getName());
+              final ArrayList<VO> items = new ArrayList<>(hash.size());
+              final ArrayList<VO> itemsOrig = new ArrayList<>(hash.size());
+              // O objeto original é localizado pelo ID e não pela chave, já que o objeto pode ter sido movido para outra chave
+              final HashMap<Long, VO> origByID = indexByID(hashOriginal);
+              for (Object key : hash.keySet()) {
+                final VO itemVO = (VO) hash.get(key);
+                items.add(itemVO);
+                itemsOrig.add(itemVO.getId() == null ? null : origByID.get(itemVO.getId()));
+              }
+              persistComposition(ds, daoMap, isNew, items, itemsOrig, null, RUReflex.addPath(path, field.getName()), persistedCache, null, updatePendings, dirtyCheck, dialect);
+            } else {
+              throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. Não é possível persistir o atributo '${1}' por ser do tipo '${2}'.", new String[] { entityVO.getClass().getCanonicalName(), field.getName(), fieldValue.getClass().getCanonicalName() });
+            }
+          }
+        }
+          break;
+        case COMPOSITION_TREE: {
+          // PERSISTÊNCIA: Em caso de composição de árvore, temos agora que persistir todos os objetos filhos
+          final Object fieldValue = entityMeta.getPropertyValue(entityVO, field.getName());
+          if (fieldValue != null) {
+            if (RFWVO.class.isAssignableFrom(fieldValue.getClass())) {
+              throw new RFWValidationException("Encontrado a definição 'COMPOSITION_TREE' em um relacionamento 1:1. Essa definição só pode ser utilizado em coleções para indicar os 'filhos' do relacionamento hierarquico. Classe: ${0} / Field: ${1} / FieldClass: ${2}.", new String[] { entityVO.getClass().getCanonicalName(), field.getName(), fieldValue.getClass().getCanonicalName() });
+            } else if (List.class.isAssignableFrom(fieldValue.getClass())) {
+              List list = (List) fieldValue;
+              List listOriginal = null;
+              if (entityVOOrig != null) listOriginal = (List) entityMeta.getPropertyValue(entityVOOrig, field.getName());
+
+              // Se é uma lista, verificamos se tem o atributo "sortColumn" definido na Annotation. Nestes casos temos de criar esse atributo para ser salvo junto
+              final String sColumn = rel.sortColumn;
+
+              final ArrayList<VO> items = new ArrayList<>(list.size());
+              final ArrayList<VO> itemsOrig = new ArrayList<>(list.size());
+              final int[] itemsOrigIndex = new int[list.size()]; // Índice de cada item na lista original, que é o valor salvo na sortColumn. -1 para os itens que não existiam.
+              for (Object item : list) {
+                VO itemVO = (VO) item;
+                VO itemVOOrig = null;
+                int itemOrigIndex = -1;
+                if (listOriginal != null) {
+                  // Se temos uma lista do objeto original, vamos tentar encontrar o objeto para passar como objeto original para comparação
+                  int origIndex = 0;
+                  for (Object itemOriginal : listOriginal) {
+                    if (((VO) itemOriginal).getId().equals(itemVO.getId())) { // ItemOriginal sempre tem um ID pois veio do banco de dados.
+                      itemVOOrig = (VO) itemOriginal;
+                      itemOrigIndex = origIndex;
+                      break;
                     }
-                  } else {
-                    throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. No  possvel persistir o atributo '${1}' por ser do tipo '${2}'.", new String[] { entityVO.getClass().getCanonicalName(), field.getName(), fieldValueOrig.getClass().getCanonicalName() });
+                    origIndex++;
                   }
                 }
+                itemsOrigIndex[items.size()] = itemOrigIndex;
+                items.add(itemVO);
+                itemsOrig.add(itemVOOrig);
+              }
+
+              if (items.size() > 0) {
+                // Antes de passar para os objetos filhos em "esquema de árvore". Precisamos completar o DAOMap, isso pq quando ele é feito limitamos o mapeamento de estruturas hierarquicas por tender ao infinito. Vamos duplicando o mapeamento aqui, dinamicamente
+                String destPath = RUReflex.addPath(path, field.getName());
+                // Se não tivermos o caminho temos de completar dianimicamente no DAOMap
+                daoMap.createMapTableForCompositionTree(path, destPath, "id", getMetaRelationColumnMapped(field, ann));
+                // O índice de cada item na lista é utilizado como valor da sortColumn, garantindo a mesma ordem ao recuperar a lista do banco de dados
+                persistComposition(ds, daoMap, isNew, items, itemsOrig, itemsOrigIndex, destPath, persistedCache, sColumn, updatePendings, dirtyCheck, dialect);
               }
+            } else if (Map.class.isAssignableFrom(fieldValue.getClass())) {
+              Map hash = (Map) fieldValue;
+              Map hashOriginal = null;
+              if (entityVOOrig != null) hashOriginal = (Map) entityMeta.getPropertyValue(entityVOOrig, field.getName());
+              final ArrayList<VO> items = new ArrayList<>(hash.size());
+              final ArrayList<VO> itemsOrig = new ArrayList<>(hash.size());
+              // O objeto original é localizado pelo ID e não pela chave, já que o objeto pode ter sido movido para outra chave
+              final HashMap<Long, VO> origByID = indexByID(hashOriginal);
+              for (Object key : hash.keySet()) {
+                final VO itemVO = (VO) hash.get(key);
+                items.add(itemVO);
+                itemsOrig.add(itemVO.getId() == null ? null : origByID.get(itemVO.getId()));
+              }
+              persistComposition(ds, daoMap, isNew, items, itemsOrig, null, RUReflex.addPath(path, field.getName()), persistedCache, null, updatePendings, dirtyCheck, dialect);
+            } else {
+              throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. Não é possível persistir o atributo '${1}' por ser do tipo '${2}'.", new String[] { entityVO.getClass().getCanonicalName(), field.getName(), fieldValue.getClass().getCanonicalName() });
             }
-              break;
           }
         }
-        final RFWMetaCollectionField colAnn = field.getAnnotation(RFWMetaCollectionField.class);
-        if (colAnn != null) {
-          // Se temos uma collection para persistir, vamos iterar cada um dos itens e persisti-lo na tabela agora que certezamente temos um ID no objeto pai
-          Object colValue = RUReflex.getPropertyValue(entityVO, field.getName());
-          if (colValue != null) {
-            if (colValue instanceof List<?>) {
-              if (((List<?>) colValue).size() > 0) insertCollection(ds, daoMap, "@" + RUReflex.addPath(path, field.getName()), (List<?>) colValue, entityVO.getId(), dialect, colAnn);
-            } else if (colValue instanceof HashSet<?>) {
-              if (((HashSet<?>) colValue).size() > 0) insertCollection(ds, daoMap, "@" + RUReflex.addPath(path, field.getName()), new LinkedList<Object>((HashSet<?>) colValue), entityVO.getId(), dialect, colAnn);
-            } else if (colValue instanceof Map<?, ?>) {
-              if (((Map<?, ?>) colValue).size() > 0) insertCollection(ds, daoMap, "@" + RUReflex.addPath(path, field.getName()), new LinkedList<Object>(((Map<?, ?>) colValue).entrySet()), entityVO.getId(), dialect, colAnn);
-            } else {
-              throw new RFWCriticalException("O RFWDAO no sabe persistir uma RFWMetaCollectionField com o objeto do tipo '" + colValue.getClass().getCanonicalName() + "'");
+          break;
+        case INNER_ASSOCIATION:
+          // Neste caso não há nada para fazer neste ponto.
+          break;
+        case PARENT_ASSOCIATION:
+          // No caso de um relacionamento com o objeto pai, não temos de fazer nada, pois tanto o pai quando o ID do pai já deve ter sido persistido
+          break;
+        case MANY_TO_MANY: {
+          // Os relacionamentos ManyToMany precisam ter os inserts da tabela de Join realizados para "linkar" os dois objetos
+          final Object fieldValue = entityMeta.getPropertyValue(entityVO, field.getName());
+          final List<Long> ids = getManyToManyIDs(entityVO, field, fieldValue);
+          // Se existir uma lista no objeto original, precisamos apagar todos os mapeamentos que não existem mais, caso contrário as desassociações não deixarão de existir
+          final List<Long> idsOrig = entityVOOrig == null ? null : getManyToManyIDs(entityVO, field, entityMeta.getPropertyValue(entityVOOrig, field.getName()));
+          if (ids != null || idsOrig != null) {
+            try (Connection conn = ds.getConnection()) {
+              DAOManyToManySync.sync(conn, daoMap, RUReflex.addPath(path, field.getName()), entityVO.getId(), ids == null ? new ArrayList<Long>(0) : ids, idsOrig, isNew, persistBatchSize, dialect);
+            } catch (RFWException e) {
+              throw e;
+            } catch (Throwable e) {
+              throw new RFWCriticalException("Falha ao executar a operação no banco de dados.", e);
             }
           }
         }
+          break;
       }
     }
+    for (CollectionDescriptor col : entityMeta.getCollections()) {
+      // Se temos uma collection para persistir, vamos iterar cada um dos itens e persisti-lo na tabela agora que certezamente temos um ID no objeto pai
+      Object colValue = entityMeta.getPropertyValue(entityVO, col.name);
+      if (entityVOOrig != null) {
+        // Objeto já existente: comparamos com as linhas atuais e enviamos apenas as diferenças, ao invés de excluir e inserir todos os elementos novamente
+        syncCollection(ds, daoMap, "@" + RUReflex.addPath(path, col.name), col, colValue, entityVO.getId(), dialect);
+      } else if (colValue != null) {
+        if (colValue instanceof List<?>) {
+          if (((List<?>) colValue).size() > 0) insertCollection(ds, daoMap, "@" + RUReflex.addPath(path, col.name), (List<?>) colValue, entityVO.getId(), dialect, col);
+        } else if (colValue instanceof HashSet<?>) {
+          if (((HashSet<?>) colValue).size() > 0) insertCollection(ds, daoMap, "@" + RUReflex.addPath(path, col.name), new LinkedList<Object>((HashSet<?>) colValue), entityVO.getId(), dialect, col);
+        } else if (colValue instanceof Map<?, ?>) {
+          if (((Map<?, ?>) colValue).size() > 0) insertCollection(ds, daoMap, "@" + RUReflex.addPath(path, col.name), new LinkedList<Object>(((Map<?, ?>) colValue).entrySet()), entityVO.getId(), dialect, col);
+        } else {
+          throw new RFWCriticalException("O RFWDAO não sabe persistir uma RFWMetaCollectionField com o objeto do tipo '" + colValue.getClass().getCanonicalName() + "'");
+        }
+      }
+    }
+  }
+
+  /**
+   * Persiste os objetos de uma composição 1:N (List ou Map).<br>
+   * Com a persistência em lote habilitada ({@link #setPersistBatchSize(int)}), primeiro é feito o tratamento de relacionamentos de todos os itens, depois os INSERTs e UPDATEs são enviados em lote
+   * pelo {@link DAOPersistBatch} e só então são persistidos os relacionamentos de cada item (que dependem do ID gerado). Caso contrário cada item é persistido por completo, um de cada vez.
+   *
+   * @param isNew Indica se o objeto pai é novo. Neste caso todos os itens são considerados novos.
+   * @param items Itens da composição, na ordem da coleção.
+   * @param itemsOrig Objeto original de cada item (mesma posição de items), ou nulo quando o item não existia no banco de dados.
+   * @param itemsOrigIndex Índice de cada item na lista original (mesma posição de items), ou -1 quando o item não existia. Nulo quando a composição não é uma lista.
+   * @param path Caminho da composição.
+   * @param sortColumn Coluna onde é salvo o índice do item na lista, ou nulo se não utilizada.
+   * @throws RFWException
+   */
+  private void persistComposition(DataSource ds, DAOMap daoMap, boolean isNew, List<VO> items, List<VO> itemsOrig, int[] itemsOrigIndex, String path, HashMap<String, VO> persistedCache, String sortColumn, HashMap<RFWVO, List<RFWVOUpdatePending<RFWVO>>> updatePendings, boolean dirtyCheck, SQLDialect dialect) throws RFWException {
+    final int batchSize = persistBatchSize;
+    if (batchSize <= 1 || items.size() <= 1) {
+      for (int i = 0; i < items.size(); i++) {
+        final VO itemVO = items.get(i);
+        // Passamos isNew como true sempre que o objeto atual (objeto pai) for novo, isso pq objetos de composição não podem ter ID definido antes do próprio pai, provavelmente isso é um erro. No entanto, o pai pode ser "velho" (em update) e o objeto da composição novo (em insert).
+        persist(ds, daoMap, (isNew || itemVO.getId() == null), itemVO, itemsOrig.get(i), path, persistedCache, sortColumn, i, itemsOrigIndex == null ? -1 : itemsOrigIndex[i], updatePendings, dirtyCheck, dialect);
+      }
+      return;
+    }
+
+    final DAOPersistBatch batch = new DAOPersistBatch(daoMap, batchSize, dialect);
+    final boolean[] persisted = new boolean[items.size()];
+    final boolean[] inserted = new boolean[items.size()];
+    for (int i = 0; i < items.size(); i++) {
+      final VO itemVO = items.get(i);
+      inserted[i] = isNew || itemVO.getId() == null;
+      if (persistPrepare(ds, daoMap, inserted[i], itemVO, itemsOrig.get(i), path, persistedCache, updatePendings, dialect)) {
+        persisted[i] = true;
+        if (inserted[i]) {
+          batch.addInsert(path, itemVO, sortColumn, i);
+        } else {
+          batch.addUpdate(path, itemVO, dirtyCheck ? itemsOrig.get(i) : null, sortColumn, i, itemsOrigIndex == null ? -1 : itemsOrigIndex[i]);
+          // Já colocamos no cache para que o mesmo objeto não seja adicionado duas vezes no lote
+          persistedCache.put(itemVO.getClass().getCanonicalName() + "." + itemVO.getId(), itemVO);
+        }
+      }
+    }
+    if (!batch.isEmpty()) {
+      try (Connection conn = ds.getConnection()) {
+        batch.execute(conn);
+      } catch (RFWException e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new RFWCriticalException("Falha ao executar a operação no banco de dados.", e);
+      }
+    }
+    for (int i = 0; i < items.size(); i++) {
+      if (persisted[i]) {
+        final VO itemVO = items.get(i);
+        if (inserted[i]) persistedCache.put(itemVO.getClass().getCanonicalName() + "." + itemVO.getId(), itemVO);
+        persistRelationships(ds, daoMap, inserted[i], itemVO, itemsOrig.get(i), path, persistedCache, updatePendings, dirtyCheck, dialect);
+      }
+    }
+  }
 
+  /**
+   * Indexa pelo ID os objetos de uma composição em Map recuperada do banco de dados.
+   *
+   * @param hash Map com os objetos originais. Pode ser nulo.
+   * @return Objetos indexados pelo ID.
+   */
+  @SuppressWarnings("unchecked")
+  private static <VO extends RFWVO> HashMap<Long, VO> indexByID(Map<?, ?> hash) {
+    final HashMap<Long, VO> index = new HashMap<>();
+    if (hash != null) {
+      for (Object item : hash.values()) {
+        index.put(((VO) item).getId(), (VO) item);
+      }
+    }
+    return index;
   }
 
   /**
-   * Recupera a definio do atributo "column" da Annotation {@link RFWMetaRelationshipField}, com a possibilidade de interveno do {@link DAOResolver}.
+   * Recupera a definição do atributo "column" da Annotation {@link RFWMetaRelationshipField}, com a possibilidade de intervenção do {@link DAOResolver}.
    *
    * @param field Field do objeto que estamos tratando, e procurando o valor da coluna para terminar o mapeamento.
-   * @param ann referncia para a {@link RFWMetaRelationshipField} encontrada.
+   * @param ann referência para a {@link RFWMetaRelationshipField} encontrada.
    * @return Retorna o nome da coluna a ser utilizada no mapeamento.
    * @throws RFWException
    */
@@ -1040,10 +2111,10 @@ public final class RFWDAO<VO extends RFWVO> {
   }
 
   /**
-   * Recupera a definio do atributo "column" da Annotation {@link RFWMetaRelationshipField}, com a possibilidade de interveno do {@link DAOResolver}.
+   * Recupera a definição do atributo "column" da Annotation {@link RFWMetaRelationshipField}, com a possibilidade de intervenção do {@link DAOResolver}.
    *
    * @param field Field do objeto que estamos tratando, e procurando o valor da coluna para terminar o mapeamento.
-   * @param ann referncia para a {@link RFWMetaRelationshipField} encontrada.
+   * @param ann referência para a {@link RFWMetaRelationshipField} encontrada.
    * @return Retorna o nome da coluna a ser utilizada no mapeamento.
    * @throws RFWException
    */
@@ -1059,10 +2130,10 @@ public final class RFWDAO<VO extends RFWVO> {
   }
 
   /**
-   * Recupera a definio do atributo "columnMapped" da Annotation {@link RFWMetaRelationshipField}, com a possibilidade de interveno do {@link DAOResolver}.
+   * Recupera a definição do atributo "columnMapped" da Annotation {@link RFWMetaRelationshipField}, com a possibilidade de intervenção do {@link DAOResolver}.
    *
    * @param field Field do objeto que estamos tratando, e procurando o valor da coluna para terminar o mapeamento.
-   * @param ann referncia para a {@link RFWMetaRelationshipField} encontrada.
+   * @param ann referência para a {@link RFWMetaRelationshipField} encontrada.
    * @return Retorna o nome da coluna a ser utilizada no mapeamento.
    * @throws RFWException
    */
@@ -1078,13 +2149,13 @@ public final class RFWDAO<VO extends RFWVO> {
   }
 
   /**
-   * Atualiza uma associao quando a coluna de FK est na tabela do objento associado, e no na tabela da entidade sendo atualizada.
+   * Atualiza uma associação quando a coluna de FK está na tabela do objento associado, e não na tabela da entidade sendo atualizada.
    *
-   * @param ds Data Source da conexo.
+   * @param ds Data Source da conexão.
    * @param map Mapeamento Objeto x Tabelas
    * @param path Caminho completo do atributo que contem o objeto associado.
-   * @param id ID do objeto associado (para identificao na tabela que ser atualizada).
-   * @param newID ID que ser colocado na tabela. Normalmente o ID do objeto sendo editado pelo RFWDAO ou null caso estejamos eliminando a associao.
+   * @param id ID do objeto associado (para identificação na tabela que será atualizada).
+   * @param newID ID que será colocado na tabela. Normalmente o ID do objeto sendo editado pelo RFWDAO ou null caso estejamos eliminando a associação.
    * @throws RFWException
    */
   private static <VO extends RFWVO> void updateExternalFK(DataSource ds, DAOMap map, String path, Long id, Long newID, SQLDialect dialect) throws RFWException {
@@ -1096,37 +2167,42 @@ public final class RFWDAO<VO extends RFWVO> {
   }
 
   /**
-   * Atualiza uma associao quando a coluna de FK est na tabela do prprio objeto (sem alterar mais dada do objeto.
+   * Recupera os IDs dos objetos de um atributo ManyToMany (List ou Map).
    *
-   * @param ds Data Source da conexo.
-   * @param map Mapeamento Objeto x Tabelas
-   * @param path Caminho completo at o objeto que ser atualizado.
-   * @param property Propriedade do objeto que tem a associao com a FK na prpria tabela.
-   * @param id ID do objeto (para identificao na tabela que ser atualizada).
-   * @param newID ID que ser colocado na tabela. Normalmente o ID do objeto sendo editado pelo RFWDAO ou null caso estejamos eliminando a associao.
-   * @throws RFWException
+   * @return IDs dos objetos, ou nulo caso o atributo esteja nulo.
    */
-  private static <VO extends RFWVO> void updateInternalFK(DataSource ds, DAOMap map, String path, String property, Long id, Long newID, SQLDialect dialect) throws RFWException {
-    try (Connection conn = ds.getConnection(); PreparedStatement stmt = DAOMap.createUpdateInternalFKStatement(conn, map, path, property, id, newID, dialect)) {
-      stmt.executeUpdate();
-    } catch (Throwable e) {
-      throw new RFWCriticalException("Falha ao corrigir FK de associao do objeto no banco de dados!", e);
+  private static List<Long> getManyToManyIDs(RFWVO entityVO, Field field, Object fieldValue) throws RFWException {
+    if (fieldValue == null) return null;
+    final Collection<?> items;
+    if (fieldValue instanceof List<?>) {
+      items = (List<?>) fieldValue;
+    } else if (fieldValue instanceof Map<?, ?>) {
+      items = ((Map<?, ?>) fieldValue).values();
+    } else {
+      throw new RFWCriticalException("Falha ao persistir o objeto '${0}'. Não é possível persistir o atributo '${1}' por ser do tipo '${2}'.", new String[] { entityVO.getClass().getCanonicalName(), field.getName(), fieldValue.getClass().getCanonicalName() });
     }
+    final ArrayList<Long> ids = new ArrayList<>(items.size());
+    for (Object item : items) {
+      ids.add(((RFWVO) item).getId());
+    }
+    return ids;
   }
 
   /**
-   * Este mtodo  utilizado para excluir do banco todos os elementos de um atributo anotado com a {@link RFWMetaCollectionField}.
+   * Este método é utilizado para sincronizar no banco os elementos de um atributo anotado com a {@link RFWMetaCollectionField} de um objeto já existente. Veja {@link DAOCollectionSync}.
    */
-  private static <VO extends RFWVO> void deleteCollection(DataSource ds, DAOMap map, VO vo, String path, SQLDialect dialect) throws RFWException {
-    try (Connection conn = ds.getConnection(); PreparedStatement stmt = DAOMap.createDeleteCollectionStatement(conn, map, path, vo.getId(), dialect)) {
-      stmt.executeUpdate();
+  private static void syncCollection(DataSource ds, DAOMap map, String path, CollectionDescriptor col, Object colValue, Long parentID, SQLDialect dialect) throws RFWException {
+    try (Connection conn = ds.getConnection()) {
+      DAOCollectionSync.sync(conn, map, path, col, colValue, parentID, persistBatchSize, dialect);
+    } catch (RFWException e) {
+      throw e;
     } catch (Throwable e) {
-      throw new RFWCriticalException("Falha ao excluir os elementos de uma Collection no banco de dados!", e);
+      throw new RFWCriticalException("Falha ao sincronizar os elementos de uma Collection no banco de dados!", e);
     }
   }
 
-  private static <VO extends RFWVO> void insertCollection(DataSource ds, DAOMap map, String path, List<?> items, Long parentID, SQLDialect dialect, RFWMetaCollectionField ann) throws RFWException {
-    try (Connection conn = ds.getConnection(); PreparedStatement stmt = DAOMap.createInsertCollectionStatement(conn, map, path, items, parentID, dialect, ann)) {
+  private static <VO extends RFWVO> void insertCollection(DataSource ds, DAOMap map, String path, List<?> items, Long parentID, SQLDialect dialect, CollectionDescriptor col) throws RFWException {
+    try (Connection conn = ds.getConnection(); PreparedStatement stmt = DAOMap.createInsertCollectionStatement(conn, map, path, items, parentID, dialect, col)) {
       stmt.executeUpdate();
     } catch (Throwable e) {
       throw new RFWCriticalException("Falha ao inserir os elementos de uma Collection no banco de dados!", e);
@@ -1137,7 +2213,7 @@ public final class RFWDAO<VO extends RFWVO> {
     try (Connection conn = ds.getConnection(); PreparedStatement stmt = DAOMap.createDeleteStatement(conn, map, path, dialect, vo.getId())) {
       stmt.executeUpdate();
     } catch (Throwable e) {
-      throw new RFWCriticalException("Falha ao executar a operao no banco de dados.", e);
+      throw new RFWCriticalException("Falha ao executar a operação no banco de dados.", e);
     }
   }
 
@@ -1146,8 +2222,8 @@ public final class RFWDAO<VO extends RFWVO> {
    *
    * @param id ID do objeto a ser encontrado no banco de dados.
    * @param attributes Atributos da entidade que devem ser recuperados.
-   * @return Objeto montado caso seja encontrado, null caso contrrio.
-   * @throws RFWException Lanado caso ocorra algum problema para montar ou obter o objeto
+   * @return Objeto montado caso seja encontrado, null caso contrário.
+   * @throws RFWException Lançado caso ocorra algum problema para montar ou obter o objeto
    */
   @SuppressWarnings("unchecked")
   public VO findById(Long id, String[] attributes) throws RFWException {
@@ -1155,11 +2231,11 @@ public final class RFWDAO<VO extends RFWVO> {
 
     final DAOMap map = createDAOMap(this.type, attributes);
 
-    // Cria a condio do ID
+    // Cria a condição do ID
     RFWMO mo = new RFWMO();
     mo.equal("id", id);
 
-    try (Connection conn = ds.getConnection(); PreparedStatement stmt = DAOMap.createSelectStatement(conn, map, attributes, true, mo, null, null, null, null, dialect); ResultSet rs = stmt.executeQuery()) {
+    try (Connection conn = getDataSource().getConnection(); PreparedStatement stmt = DAOMap.createSelectStatement(conn, map, attributes, true, mo, null, null, null, null, dialect); ResultSet rs = stmt.executeQuery()) {
       final List<RFWVO> list = mountVO(rs, map, null);
 
       if (list.size() > 1) {
@@ -1168,18 +2244,133 @@ public final class RFWDAO<VO extends RFWVO> {
         return (VO) list.get(0);
       }
     } catch (Throwable e) {
-      throw new RFWCriticalException("Falha ao executar a operao no banco de dados.", e);
+      throw new RFWCriticalException("Falha ao executar a operação no banco de dados.", e);
     }
     return null;
   }
 
   /**
-   * Busca a entidade a partir do seu ID para Atualizao.
+   * Busca várias entidades a partir dos seus IDs.<br>
+   * Os IDs são divididos em blocos de até {@link #getInClauseMaxSize()} IDs, e cada bloco é recuperado com uma única consulta (IN), utilizando o mesmo DAOMap e a mesma conexão.
+   *
+   * @param ids IDs dos objetos a serem encontrados no banco de dados. IDs nulos ou repetidos são ignorados.
+   * @param attributes Atributos da entidade que devem ser recuperados.
+   * @return Objetos encontrados, na ordem dos IDs recebidos. Os IDs não encontrados não têm objeto na lista.
+   * @throws RFWException Lançado caso ocorra algum problema para montar ou obter os objetos
+   */
+  public List<VO> findByIds(Collection<Long> ids, String[] attributes) throws RFWException {
+    return findByIds(ids, attributes, false);
+  }
+
+  /**
+   * Busca várias entidades a partir dos seus IDs.<br>
+   * Veja {@link #findByIds(Collection, String[])}.
+   *
+   * @param parallel Caso TRUE, os blocos são recuperados em paralelo, até {@link #getParallelism()} blocos ao mesmo tempo, cada um com sua própria conexão. Objetos associados a entidades de blocos
+   *          diferentes passam a ser instâncias diferentes. Dentro de uma {@link RFWDAOSession} os blocos são sempre recuperados em sequência, na conexão da sessão.
+   */
+  public List<VO> findByIds(Collection<Long> ids, String[] attributes, boolean parallel) throws RFWException {
+    return new ArrayList<>(findByIdsMap(ids, attributes, parallel).values());
+  }
+
+  /**
+   * Busca várias entidades a partir dos seus IDs.<br>
+   * Veja {@link #findByIds(Collection, String[])}.
+   *
+   * @return Hash com os objetos encontrados indexados pelo ID, na ordem dos IDs recebidos. Os IDs não encontrados não são incluídos.
+   */
+  public Map<Long, VO> findByIdsMap(Collection<Long> ids, String[] attributes) throws RFWException {
+    return findByIdsMap(ids, attributes, false);
+  }
+
+  /**
+   * Busca várias entidades a partir dos seus IDs.<br>
+   * Veja {@link #findByIds(Collection, String[], boolean)}.
+   *
+   * @return Hash com os objetos encontrados indexados pelo ID, na ordem dos IDs recebidos. Os IDs não encontrados não são incluídos.
+   */
+  @SuppressWarnings("unchecked")
+  public Map<Long, VO> findByIdsMap(Collection<Long> ids, String[] attributes, boolean parallel) throws RFWException {
+    PreProcess.requiredNonNull(ids);
+
+    final LongOrderedSet distinct = new LongOrderedSet(ids.size());
+    for (Long id : ids) {
+      if (id != null) distinct.add(id);
+    }
+    final LinkedHashMap<Long, VO> result = new LinkedHashMap<>();
+    if (distinct.isEmpty()) return result;
+
+    final List<Long> idList = distinct.toList();
+    final int chunkSize = Math.max(inClauseMaxSize, 1);
+    final ArrayList<List<Long>> chunks = new ArrayList<>();
+    for (int i = 0; i < idList.size(); i += chunkSize) {
+      chunks.add(idList.subList(i, Math.min(i + chunkSize, idList.size())));
+    }
+
+    final HashMap<Long, RFWVO> found = new HashMap<>(idList.size());
+    if (parallel && chunks.size() > 1 && RFWDAOSession.current(ds) == null) {
+      final ArrayList<Callable<List<RFWVO>>> tasks = new ArrayList<>(chunks.size());
+      for (List<Long> chunk : chunks) {
+        // Cada bloco tem sua própria conexão, seu próprio DAOMap e seu próprio cache de objetos, já que nenhum deles é thread-safe
+        tasks.add(() -> {
+          final DAOMap map = createDAOMap(this.type, attributes);
+          try (Connection conn = getDataSource().getConnection()) {
+            return findByIdsChunk(conn, map, chunk, attributes, null);
+          }
+        });
+      }
+      for (List<RFWVO> list : DAOParallel.invokeAll(tasks, parallelism)) {
+        for (RFWVO vo : list) {
+          found.put(vo.getId(), vo);
+        }
+      }
+    } else {
+      final DAOMap map = createDAOMap(this.type, attributes);
+      final HashMap<String, RFWVO> objCache = new HashMap<>();
+      try (Connection conn = getDataSource().getConnection()) {
+        for (List<Long> chunk : chunks) {
+          for (RFWVO vo : findByIdsChunk(conn, map, chunk, attributes, objCache)) {
+            found.put(vo.getId(), vo);
+          }
+        }
+      } catch (RFWException e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new RFWCriticalException("Falha ao executar a operação no banco de dados.", e);
+      }
+    }
+
+    for (Long id : idList) {
+      final RFWVO vo = found.get(id);
+      if (vo != null) result.put(id, (VO) vo);
+    }
+    return result;
+  }
+
+  /**
+   * Recupera um bloco de objetos do {@link #findByIdsMap(Collection, String[], boolean)} com uma única consulta.
+   *
+   * @param cache Cache de objetos compartilhado entre os blocos. Nulo para utilizar um cache só para este bloco.
+   */
+  private List<RFWVO> findByIdsChunk(Connection conn, DAOMap map, List<Long> ids, String[] attributes, HashMap<String, RFWVO> cache) throws RFWException {
+    final RFWMO mo = new RFWMO();
+    mo.in("id", ids);
+    try (PreparedStatement stmt = DAOMap.createSelectStatement(conn, map, attributes, true, mo, null, null, null, null, dialect); ResultSet rs = stmt.executeQuery()) {
+      return mountVO(rs, map, cache);
+    } catch (RFWException e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new RFWCriticalException("Falha ao executar a operação no banco de dados.", e);
+    }
+  }
+
+  /**
+   * Busca a entidade a partir do seu ID para Atualização.
    *
    * @param id ID do objeto a ser encontrado no banco de dados.
-   * @param attributes Atributos da entidade que devem ser recuperados. Atributos de associao e composio so recuperados automaticamente.
-   * @return Objeto montado caso seja encontrado, null caso contrrio.
-   * @throws RFWException Lanado caso ocorra algum problema para montar ou obter o objeto
+   * @param attributes Atributos da entidade que devem ser recuperados. Atributos de associação e composição são recuperados automaticamente.
+   * @return Objeto montado caso seja encontrado, null caso contrário.
+   * @throws RFWException Lançado caso ocorra algum problema para montar ou obter o objeto
    */
   @SuppressWarnings({ "deprecation", "unchecked" }) // attributes = new String[0];
   public VO findForUpdate(Long id, String[] attributes) throws RFWException {
@@ -1190,11 +2381,11 @@ public final class RFWDAO<VO extends RFWVO> {
 
     final DAOMap map = createDAOMap(this.type, attributes);
 
-    // Cria a condio do ID
+    // Cria a condição do ID
     RFWMO mo = new RFWMO();
     mo.equal("id", id);
 
-    try (Connection conn = ds.getConnection(); PreparedStatement stmt = DAOMap.createSelectStatement(conn, map, attributes, true, mo, null, null, null, null, dialect); ResultSet rs = stmt.executeQuery()) {
+    try (Connection conn = getDataSource().getConnection(); PreparedStatement stmt = DAOMap.createSelectStatement(conn, map, attributes, true, mo, null, null, null, null, dialect); ResultSet rs = stmt.executeQuery()) {
       final List<RFWVO> list = mountVO(rs, map, null);
 
       if (list.size() > 1) {
@@ -1205,71 +2396,141 @@ public final class RFWDAO<VO extends RFWVO> {
         return v;
       }
     } catch (Throwable e) {
-      throw new RFWCriticalException("Falha ao executar a operao no banco de dados.", e);
+      throw new RFWCriticalException("Falha ao executar a operação no banco de dados.", e);
     }
     return null;
   }
 
   /**
-   * Busca uma lista IDs dos VOs baseado em um critrio de "search".
+   * Busca os objetos para atualização a partir dos seus IDs, em uma única consulta.
+   *
+   * @param map Mapeamento criado com os atributos de atualização da entidade.
+   * @param attributes Atributos de atualização da entidade.
+   * @param vos Objetos que serão persistidos. Os objetos sem ID, ou marcados para inserção com ID, são ignorados.
+   * @return Objetos encontrados, indexados pelo ID.
+   * @throws RFWException
+   */
+  @SuppressWarnings({ "deprecation", "unchecked" })
+  private HashMap<Long, VO> findForUpdate(DAOMap map, String[] attributes, List<VO> vos) throws RFWException {
+    final HashMap<Long, VO> originals = new HashMap<>();
+    final ArrayList<Long> ids = new ArrayList<>(vos.size());
+    for (VO vo : vos) {
+      if (vo.getId() != null && !vo.isInsertWithID()) ids.add(vo.getId());
+    }
+    if (ids.isEmpty()) return originals;
+
+    RFWMO mo = new RFWMO();
+    mo.in("id", ids);
+
+    try (Connection conn = getDataSource().getConnection(); PreparedStatement stmt = DAOMap.createSelectStatement(conn, map, attributes, true, mo, null, null, null, null, dialect); ResultSet rs = stmt.executeQuery()) {
+      for (RFWVO vo : mountVO(rs, map, null)) {
+        vo.setFullLoaded(true);
+        originals.put(vo.getId(), (VO) vo);
+      }
+    } catch (Throwable e) {
+      throw new RFWCriticalException("Falha ao executar a operação no banco de dados.", e);
+    }
+    return originals;
+  }
+
+  /**
+   * Recupera o "esqueleto" do objeto para a persistência otimista: apenas os IDs do objeto e de cada objeto relacionado mapeado no DAOMap de atualização (mais o atributo utilizado como chave nas
+   * composições em Map), em uma única consulta. É o suficiente para que a persistência descubra quais objetos foram incluídos, mantidos ou removidos.
+   *
+   * @param map Mapeamento criado com os atributos de atualização da entidade ({@link RUReflex#getRFWVOUpdateAttributes(Class)}).
+   * @param id ID do objeto raiz.
+   * @return Objeto montado apenas com os IDs, ou null caso não seja encontrado.
+   * @throws RFWException
+   */
+  @SuppressWarnings("unchecked")
+  private VO findIDSkeleton(DAOMap map, Long id) throws RFWException {
+    final ArrayList<String> fields = new ArrayList<>();
+    for (DAOMapTable mTable : map.getMapTable()) {
+      // Ignora a tabela raiz (o id sempre é recuperado), as tabelas de join do N:N e as tabelas de RFWMetaCollection, que são apenas excluídas pelo ID do objeto pai
+      if (mTable.path == null || "".equals(mTable.path) || mTable.path.startsWith("@")) continue;
+      fields.add(mTable.path + ".id");
+      final int dot = mTable.path.lastIndexOf('.');
+      final DAOMapTable parentTable = map.getMapTableByPath(dot < 0 ? "" : mTable.path.substring(0, dot));
+      if (parentTable != null) {
+        final RelationshipDescriptor rel = EntityMetadata.get(parentTable.type).getRelationship(mTable.path.substring(dot + 1));
+        if (rel != null && rel.keyMap != null && !"".equals(rel.keyMap)) fields.add(mTable.path + "." + rel.keyMap);
+      }
+    }
+
+    RFWMO mo = new RFWMO();
+    mo.equal("id", id);
+
+    try (Connection conn = getDataSource().getConnection(); PreparedStatement stmt = DAOMap.createSelectStatement(conn, map, fields.toArray(new String[0]), false, mo, null, null, null, null, dialect); ResultSet rs = stmt.executeQuery()) {
+      final List<RFWVO> list = mountVO(rs, map, null);
+      if (list.size() > 1) throw new RFWCriticalException("Encontrado mais de um objeto em uma busca por ID.", new String[] { "" + id });
+      return list.size() == 1 ? (VO) list.get(0) : null;
+    } catch (RFWException e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new RFWCriticalException("Falha ao executar a operação no banco de dados.", e);
+    }
+  }
+
+  /**
+   * Busca uma lista IDs dos VOs baseado em um critério de "search".
    *
    * @param mo Match Object para realizar o filtro no banco de dados.
-   * @param orderBy Objeto para definir a ordenao da lista
-   * @return Lista com os objetos que respeitam o critrio estabelecido e na ordem desejada.
-   * @throws RFWException Lanado em caso de erro.
+   * @param orderBy Objeto para definir a ordenação da lista
+   * @return Lista com os objetos que respeitam o critério estabelecido e na ordem desejada.
+   * @throws RFWException Lançado em caso de erro.
    */
   public List<Long> findIDs(RFWMO mo, RFWOrderBy orderBy) throws RFWException {
     return findIDs(mo, orderBy, null, null);
   }
 
   /**
-   * Busca uma lista IDs dos VOs baseado em um critrio de "search".
+   * Busca uma lista IDs dos VOs baseado em um critério de "search".
    *
    * @param mo Match Object para realizar o filtro no banco de dados.
-   * @param orderBy Objeto para definir a ordenao da lista
-   * @param offSet Define quantos registros a partir do comeo devemos pular (no retornar), por exemplo, um offSet de 0, retorna desde o primeiro (index 0).
-   * @param limit Define quantos registros devemos retornar da lista. Define a quantidade e no o index como o "offSet". Se ambos forem combinados, ex: offset = 5 e limit = 10, retorna os registros desde o index 5 at o idnex 15, ou seja da 6 linha at a 15.
-   * @return Lista com os objetos que respeitam o critrio estabelecido e na ordem desejada.
-   * @throws RFWException Lanado em caso de erro.
+   * @param orderBy Objeto para definir a ordenação da lista
+   * @param offSet Define quantos registros a partir do começo devemos pular (não retornar), por exemplo, um offSet de 0, retorna desde o primeiro (index 0).
+   * @param limit Define quantos registros devemos retornar da lista. Define a quantidade e não o index como o "offSet". Se ambos forem combinados, ex: offset = 5 e limit = 10, retorna os registros desde o index 5 até o idnex 15, ou seja da 6ª linha até a 15ª.
+   * @return Lista com os objetos que respeitam o critério estabelecido e na ordem desejada.
+   * @throws RFWException Lançado em caso de erro.
    */
   public List<Long> findIDs(RFWMO mo, RFWOrderBy orderBy, Integer offSet, Integer limit) throws RFWException {
-    // Primeiro vamos buscar apenas os ids do objeto raiz que satisfazem as condies
+    // Primeiro vamos buscar apenas os ids do objeto raiz que satisfazem as condições
     String[] moAtt = new String[0];
     if (mo != null) moAtt = RUArray.concatAll(moAtt, mo.getAttributes().toArray(new String[0]));
     if (orderBy != null) moAtt = RUArray.concatAll(moAtt, orderBy.getAttributes().toArray(new String[0]));
 
     final DAOMap map = createDAOMap(this.type, moAtt);
 
-    try (Connection conn = ds.getConnection()) {
+    try (Connection conn = getDataSource().getConnection()) {
       // conn.setAutoCommit(false);
       try (PreparedStatement stmt = DAOMap.createSelectStatement(conn, map, new String[] { "id" }, false, mo, orderBy, offSet, limit, null, dialect)) {
         stmt.setFetchSize(1000);
         try (ResultSet rs = stmt.executeQuery()) {
-          // Ao usar o LinkedHashSet ele no aceita valores iguais (ele os sobrepe automaticamente na Hash) fazendo com que no final s tenhamos uma lista de objetos distintos.
-          // Precisamos utilizar o LinkedHashSet ao invs do habitual HashSet para que ele mantenha a ordem dos objetos na sada.
-          final LinkedHashSet<Long> ids = new LinkedHashSet<>();
+          // O LongOrderedSet não aceita valores iguais, fazendo com que no final só tenhamos uma lista de objetos distintos, e mantém a ordem dos objetos na saída.
+          final LongOrderedSet ids = new LongOrderedSet(limit != null ? limit : 16);
           DAOMapTable mTable = map.getMapTableByPath("");
+          final ResultSetColumnIndex index = new ResultSetColumnIndex(rs, dialect);
+          final int idColumn = index.getColumn(mTable.schema, mTable.table, mTable.alias, "id");
           while (rs.next())
-            ids.add(getRSLong(rs, mTable.schema, mTable.table, mTable.alias, "id", dialect)); // ids.add(rs.getLong("id"));
+            ids.add(rs.getLong(idColumn)); // ids.add(rs.getLong("id"));
 
           if (dialect == SQLDialect.DerbyDB) conn.commit(); // Derby Exisge o commit
 
-          ArrayList<Long> list = new ArrayList<Long>(ids);
-          return list;
+          return ids.toList();
         }
       }
     } catch (Throwable e) {
-      throw new RFWCriticalException("Falha ao executar a operao no banco de dados.", e);
+      throw new RFWCriticalException("Falha ao executar a operação no banco de dados.", e);
     }
   }
 
   /**
-   * Busca a quantidade de itens que uma busca por filtro {@link RFWMO} retornar.<br>
-   * Esta busca faz uma query do tipo 'SELECT COUNT(*)...' trazendo do banco apenas o total, sem carregar qualquer outro tipo de objeto, o que melhora a performance quando o desejado  apenas o total de itens.
+   * Busca a quantidade de itens que uma busca por filtro {@link RFWMO} retornará.<br>
+   * Esta busca faz uma query do tipo 'SELECT COUNT(*)...' trazendo do banco apenas o total, sem carregar qualquer outro tipo de objeto, o que melhora a performance quando o desejado é apenas o total de itens.
    *
    * @param mo Match Object para realizar o filtro no banco de dados.
    * @return Long com a quantidade de itens encontrados. Zero se a query retornou vazia.
-   * @throws RFWException Lanaado em caso de erro.
+   * @throws RFWException Lanaçado em caso de erro.
    */
   public Long count(RFWMO mo) throws RFWException {
     RFWField[] fields = new RFWField[1];
@@ -1285,7 +2546,7 @@ public final class RFWDAO<VO extends RFWVO> {
    *
    * @param attribute nome do atributo (ou caminho) para realizar a consulta de valores distintos no banco de dados.
    * @param mo Match Object para realizar o filtro no banco de dados.
-   * @return Lista com os valores distintos da coluna/propriedade solicitada. Os objetos tendem a ser equivalente ao tipo de dado no banco de dados. Pois so criados a partir do mtodo .getObject() do ResultSet, e sem interveno do RFWDAO.
+   * @return Lista com os valores distintos da coluna/propriedade solicitada. Os objetos tendem a ser equivalente ao tipo de dado no banco de dados. Pois são criados a partir do método .getObject() do ResultSet, e sem intervenção do RFWDAO.
    * @throws RFWException
    */
   public List<Object> findDistinct(String attribute, RFWMO mo) throws RFWException {
@@ -1304,69 +2565,453 @@ public final class RFWDAO<VO extends RFWVO> {
   }
 
   /**
-   * Busca uma lista de VOs baseado em um critrio de "search".
+   * Busca uma lista de VOs baseado em um critério de "search".
    *
    * @param mo Match Object para realizar o filtro no banco de dados.
-   * @param orderBy Objeto para definir a ordenao da lista
+   * @param orderBy Objeto para definir a ordenação da lista
    * @param attributes Atributos que devem ser recuperados em cada objeto.
-   * @return Lista com os objetos que respeitam o critrio estabelecido e na ordem desejada.
-   * @throws RFWException Lanado em caso de erro.
+   * @return Lista com os objetos que respeitam o critério estabelecido e na ordem desejada.
+   * @throws RFWException Lançado em caso de erro.
    */
   public List<VO> findList(RFWMO mo, RFWOrderBy orderBy, String[] attributes) throws RFWException {
     return findList(mo, orderBy, attributes, null, null);
   }
 
   /**
-   * Busca uma lista de VOs baseado em um critrio de "search".
+   * Busca uma lista de VOs baseado em um critério de "search".
    *
    * @param mo Match Object para realizar o filtro no banco de dados.
-   * @param orderBy Objeto para definir a ordenao da lista
+   * @param orderBy Objeto para definir a ordenação da lista
    * @param attributes Atributos que devem ser recuperados em cada objeto.
-   * @param offSet Define quantos registros a partir do comeo devemos pular (no retornar), por exemplo, um offSet de 0, retorna desde o primeiro (index 0).
-   * @param limit Define quantos registros devemos retornar da lista. Define a quantidade e no o index como o "offSet". Se ambos forem combinados, ex: offset = 5 e limit = 10, retorna os registros desde o index 5 at o idnex 15, ou seja da 6 linha at a 15.
-   * @return Lista com os objetos que respeitam o critrio estabelecido e na ordem desejada.
-   * @throws RFWException Lanado em caso de erro.
+   * @param offSet Define quantos registros a partir do começo devemos pular (não retornar), por exemplo, um offSet de 0, retorna desde o primeiro (index 0).
+   * @param limit Define quantos registros devemos retornar da lista. Define a quantidade e não o index como o "offSet". Se ambos forem combinados, ex: offset = 5 e limit = 10, retorna os registros desde o index 5 até o idnex 15, ou seja da 6ª linha até a 15ª.
+   * @return Lista com os objetos que respeitam o critério estabelecido e na ordem desejada.
+   * @throws RFWException Lançado em caso de erro.
    */
-  @SuppressWarnings("unchecked")
   public List<VO> findList(RFWMO mo, RFWOrderBy orderBy, String[] attributes, Integer offSet, Integer limit) throws RFWException {
+    return findList(mo, orderBy, attributes, offSet, limit, null);
+  }
+
+  /**
+   * Busca uma lista de VOs baseado em um critério de "search".
+   *
+   * @param mo Match Object para realizar o filtro no banco de dados.
+   * @param orderBy Objeto para definir a ordenação da lista
+   * @param attributes Atributos que devem ser recuperados em cada objeto.
+   * @param offSet Define quantos registros a partir do começo devemos pular (não retornar), por exemplo, um offSet de 0, retorna desde o primeiro (index 0).
+   * @param limit Define quantos registros devemos retornar da lista. Define a quantidade e não o index como o "offSet". Se ambos forem combinados, ex: offset = 5 e limit = 10, retorna os registros desde o index 5 até o idnex 15, ou seja da 6ª linha até a 15ª.
+   * @param strategy Estratégia de consulta. Se nulo, utiliza a estratégia padrão definida em {@link #setDefaultFindListStrategy(FindListStrategy)}.
+   * @return Lista com os objetos que respeitam o critério estabelecido e na ordem desejada.
+   * @throws RFWException Lançado em caso de erro.
+   */
+  @SuppressWarnings("unchecked")
+  public List<VO> findList(RFWMO mo, RFWOrderBy orderBy, String[] attributes, Integer offSet, Integer limit, FindListStrategy strategy) throws RFWException {
     if (mo == null) mo = new RFWMO();
-    // Primeiro vamos buscar apenas os ids do objeto raiz que satisfazem as condies
+    if (strategy == null) strategy = defaultFindListStrategy;
+
+    // Primeiro vamos buscar apenas os ids do objeto raiz que satisfazem as condições
     String[] atts = RUArray.concatAll(new String[0], mo.getAttributes().toArray(new String[0]), attributes);
     if (orderBy != null) atts = RUArray.concatAll(atts, orderBy.getAttributes().toArray(new String[0]));
     final DAOMap map = createDAOMap(this.type, atts);
 
-    try (Connection conn = ds.getConnection(); PreparedStatement stmt = DAOMap.createSelectStatement(conn, map, new String[] { "id" }, false, mo, orderBy, offSet, limit, null, dialect); ResultSet rs = stmt.executeQuery()) {
-      final LinkedList<Long> ids = new LinkedList<>();
+    if (strategy == FindListStrategy.AUTO || strategy == FindListStrategy.SPLIT_QUERY || strategy == FindListStrategy.PARALLEL_SPLIT_QUERY) {
+      // Além do grupo do objeto raiz, que sempre existe, cada ramo "para muitos" solicitado forma um grupo
+      final LinkedHashMap<String, List<String>> groups = map.groupAttributesByBranch(attributes);
+      if (strategy != FindListStrategy.AUTO || groups.size() > 2) return findListSplit(mo, orderBy, offSet, limit, groups, strategy == FindListStrategy.PARALLEL_SPLIT_QUERY);
+      strategy = limit != null && limit > findListTwoQueriesMaxSize ? FindListStrategy.SINGLE_QUERY : FindListStrategy.TWO_QUERIES;
+    }
+
+    // A página de IDs do SINGLE_QUERY é selecionada apenas com as tabelas do MO e do orderBy, para que as listas solicitadas não multipliquem as linhas contadas pelo LIMIT/offSet
+    DAOMap idMap = null;
+    if (strategy == FindListStrategy.SINGLE_QUERY) {
+      String[] idAtts = mo.getAttributes().toArray(new String[0]);
+      if (orderBy != null) idAtts = RUArray.concatAll(idAtts, orderBy.getAttributes().toArray(new String[0]));
+      idMap = createDAOMap(this.type, idAtts);
+      if (!DAOMap.isPageIDSelectSupported(idMap, orderBy)) strategy = FindListStrategy.TWO_QUERIES;
+    }
+
+    // Refazemos apenas os atributos que queremos selecionar e os do OrderBy.
+    if (orderBy != null) {
+      if (attributes == null) {
+        atts = orderBy.getAttributes().toArray(new String[0]);
+      } else {
+        atts = RUArray.concatAll(attributes, orderBy.getAttributes().toArray(new String[0]));
+      }
+    } else {
+      atts = attributes;
+    }
+
+    if (strategy == FindListStrategy.SINGLE_QUERY) {
+      // A página de IDs é resolvida pelo próprio banco dentro do SELECT completo, não precisamos trazer os IDs antes
+      try (Connection conn = getDataSource().getConnection(); PreparedStatement stmt = DAOMap.createSelectPageStatement(conn, map, idMap, atts, mo, orderBy, offSet, limit, dialect); ResultSet rs = stmt.executeQuery()) {
+        List<VO> list = (List<VO>) mountVO(rs, map, null);
+        return list;
+      } catch (Throwable e) {
+        throw new RFWCriticalException("Falha ao executar a operação no banco de dados.", e);
+      }
+    }
+
+    try (Connection conn = getDataSource().getConnection(); PreparedStatement stmt = DAOMap.createSelectStatement(conn, map, new String[] { "id" }, false, mo, orderBy, offSet, limit, null, dialect); ResultSet rs = stmt.executeQuery()) {
+      final LongOrderedSet ids = new LongOrderedSet(limit != null ? limit : 16);
       DAOMapTable mTable = map.getMapTableByPath("");
+      final ResultSetColumnIndex index = new ResultSetColumnIndex(rs, dialect);
+      final int idColumn = index.getColumn(mTable.schema, mTable.table, mTable.alias, "id");
       while (rs.next()) {
-        final long id = getRSInteger(rs, mTable.schema, mTable.table, mTable.alias, "id", dialect);// rs.getLong("id");
-        if (!ids.contains(id)) ids.add(id); // No permite colocar duplicado, dependendo das conexes utilizadas nos LeftJoins, o mesmo ID pode retornar mltiplas vezes
+        ids.add(rs.getLong(idColumn)); // Não permite colocar duplicado, dependendo das conexões utilizadas nos LeftJoins, o mesmo ID pode retornar múltiplas vezes
       }
 
-      // Se no temos um ID para procurar,  pq o objeto no foi encontrado, simplesmente retorna a lista vazia
-      if (ids.size() == 0) return new LinkedList<>();
+      // Se não temos um ID para procurar, é pq o objeto não foi encontrado, simplesmente retorna a lista vazia
+      if (ids.isEmpty()) return new LinkedList<>();
 
-      // Com base nos IDs retornados, montar um RFWMO para retornar todos os objetos com os IDs, e neste caso j passamos as colunas que queremos montar no objeto
+      // Com base nos IDs retornados, montar um RFWMO para retornar todos os objetos com os IDs, e neste caso já passamos as colunas que queremos montar no objeto
       RFWMO moIDs = new RFWMO();
-      moIDs.in("id", ids);
+      moIDs.in("id", ids.toList());
 
-      // Refazemos apenas os atributos que queremos selecionar e os do OrderBy.
-      if (orderBy != null) {
-        if (attributes == null) {
-          atts = orderBy.getAttributes().toArray(new String[0]);
-        } else {
-          atts = RUArray.concatAll(attributes, orderBy.getAttributes().toArray(new String[0]));
-        }
-      } else {
-        atts = attributes;
-      }
-      try (PreparedStatement stmt2 = DAOMap.createSelectStatement(conn, map, atts, true, moIDs, orderBy, offSet, limit, null, dialect); ResultSet rs2 = stmt2.executeQuery()) {
+      // O offSet e o limit já foram aplicados na consulta dos IDs. Se aplicados novamente sobre as linhas do JOIN pulariam os próprios objetos da página e cortariam suas coleções.
+      try (PreparedStatement stmt2 = DAOMap.createSelectStatement(conn, map, atts, true, moIDs, orderBy, null, null, null, dialect); ResultSet rs2 = stmt2.executeQuery()) {
         List<VO> list = (List<VO>) mountVO(rs2, map, null);
         return list;
       }
-    } catch (Throwable e) {
-      throw new RFWCriticalException("Falha ao executar a operao no banco de dados.", e);
+    } catch (Throwable e) {
+      throw new RFWCriticalException("Falha ao executar a operação no banco de dados.", e);
+    }
+  }
+
+  /**
+   * Implementação do {@link FindListStrategy#SPLIT_QUERY} e do {@link FindListStrategy#PARALLEL_SPLIT_QUERY}: recupera os IDs da página e em seguida o objeto raiz e cada ramo "para muitos" em
+   * consultas separadas, ligando os objetos pelo cache.
+   *
+   * @param mo Match Object para realizar o filtro no banco de dados.
+   * @param orderBy Objeto para definir a ordenação da lista
+   * @param offSet Define quantos registros a partir do começo devemos pular.
+   * @param limit Define quantos registros devemos retornar da lista.
+   * @param groups Atributos solicitados agrupados por ramo, conforme {@link DAOMap#groupAttributesByBranch(String[])}.
+   * @param parallel Caso TRUE, os ramos são recuperados em paralelo depois do objeto raiz.
+   * @return Lista com os objetos que respeitam o critério estabelecido e na ordem desejada.
+   * @throws RFWException Lançado em caso de erro.
+   */
+  @SuppressWarnings("unchecked")
+  private List<VO> findListSplit(RFWMO mo, RFWOrderBy orderBy, Integer offSet, Integer limit, LinkedHashMap<String, List<String>> groups, boolean parallel) throws RFWException {
+    // A ordem, o offSet e o limit são aplicados apenas na consulta dos IDs, as demais consultas só completam os objetos da página
+    final List<Long> ids = findIDs(mo, orderBy, offSet, limit);
+    if (ids.isEmpty()) return new LinkedList<>();
+
+    final ArrayList<List<String>> branches = new ArrayList<>(groups.values());
+    final List<String> rootGroup = branches.remove(0); // O grupo do objeto raiz é o primeiro, os ramos apenas completam as instâncias já criadas por ele
+    parallel = parallel && branches.size() > 1 && RFWDAOSession.current(ds) == null;
+
+    final HashMap<String, RFWVO> objCache = new HashMap<>();
+    final DAOCompositionTree tree = new DAOCompositionTree();
+    try (Connection conn = getDataSource().getConnection()) {
+      findListSplitGroup(conn, rootGroup, ids, objCache, tree);
+      if (!parallel) {
+        for (List<String> branch : branches) {
+          findListSplitGroup(conn, branch, ids, objCache, tree);
+        }
+      }
+    } catch (RFWException e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new RFWCriticalException("Falha ao executar a operação no banco de dados.", e);
+    }
+    loadCompositionTree(tree, objCache);
+
+    if (parallel) {
+      // Cada tarefa recebe uma cópia do cache com os objetos já montados pela consulta do objeto raiz, assim liga seus objetos às mesmas instâncias sem compartilhar o cache (que não é thread-safe)
+      // entre as Threads. Ramos que montam objetos de uma mesma entidade são executados juntos, na mesma tarefa, para que um mesmo objeto nunca seja criado em duas instâncias diferentes.
+      final ArrayList<Callable<HashMap<String, RFWVO>>> tasks = new ArrayList<>();
+      for (List<List<String>> taskBranches : groupSplitBranches(rootGroup, branches)) {
+        tasks.add(() -> {
+          final HashMap<String, RFWVO> branchCache = new HashMap<>(objCache);
+          final DAOCompositionTree branchTree = new DAOCompositionTree();
+          try (Connection conn = getDataSource().getConnection()) {
+            for (List<String> branch : taskBranches) {
+              findListSplitGroup(conn, branch, ids, branchCache, branchTree);
+            }
+          }
+          loadCompositionTree(branchTree, branchCache);
+          return branchCache;
+        });
+      }
+      // Os objetos montados por cada tarefa voltam para o cache principal. Os objetos que já estavam no cache são as mesmas instâncias em todas as tarefas
+      for (HashMap<String, RFWVO> branchCache : DAOParallel.invokeAll(tasks, parallelism)) {
+        for (Map.Entry<String, RFWVO> entry : branchCache.entrySet()) {
+          objCache.putIfAbsent(entry.getKey(), entry.getValue());
+        }
+      }
+    }
+
+    // Entregamos os objetos na ordem dos IDs, que já vieram ordenados pelo orderBy
+    final String keyPrefix = getEntity(this.type).getCanonicalName() + ".";
+    final ArrayList<VO> list = new ArrayList<>(ids.size());
+    for (Long id : ids) {
+      final RFWVO vo = objCache.get(keyPrefix + id);
+      if (vo != null) list.add((VO) vo);
+    }
+    return list;
+  }
+
+  /**
+   * Agrupa os ramos do {@link #findListSplit(RFWMO, RFWOrderBy, Integer, Integer, LinkedHashMap, boolean)} paralelo em tarefas. Ramos que montam objetos de uma mesma entidade (além dos objetos já
+   * montados pelo grupo do objeto raiz) ficam na mesma tarefa, já que poderiam montar o mesmo objeto em caches diferentes.
+   *
+   * @param rootGroup Atributos do grupo do objeto raiz.
+   * @param branches Atributos de cada ramo.
+   * @return Ramos de cada tarefa.
+   * @throws RFWException
+   */
+  private List<List<List<String>>> groupSplitBranches(List<String> rootGroup, List<List<String>> branches) throws RFWException {
+    final HashSet<String> rootPaths = new HashSet<>();
+    for (DAOMapTable mTable : createDAOMap(this.type, rootGroup.toArray(new String[0])).getMapTable()) {
+      rootPaths.add(mTable.path);
+    }
+    final ArrayList<HashSet<Class<?>>> taskTypes = new ArrayList<>();
+    final ArrayList<List<List<String>>> taskBranches = new ArrayList<>();
+    for (List<String> branch : branches) {
+      final HashSet<Class<?>> types = new HashSet<>();
+      for (DAOMapTable mTable : createDAOMap(this.type, branch.toArray(new String[0])).getMapTable()) {
+        // Tabelas de join ("."), de RFWMetaCollectionField ("@") e do grupo raiz não criam novos objetos no cache
+        if (mTable.type != null && !mTable.path.startsWith(".") && !mTable.path.startsWith("@") && !rootPaths.contains(mTable.path)) types.add(mTable.type);
+      }
+      final ArrayList<List<String>> merged = new ArrayList<>();
+      for (int i = taskTypes.size() - 1; i >= 0; i--) {
+        if (!Collections.disjoint(taskTypes.get(i), types)) {
+          types.addAll(taskTypes.remove(i));
+          merged.addAll(0, taskBranches.remove(i));
+        }
+      }
+      merged.add(branch);
+      taskTypes.add(types);
+      taskBranches.add(merged);
+    }
+    return taskBranches;
+  }
+
+  /**
+   * Recupera um dos grupos de atributos do {@link #findListSplit(RFWMO, RFWOrderBy, Integer, Integer, LinkedHashMap, boolean)} para todos os IDs, com uma consulta para cada
+   * {@link #getInClauseMaxSize()} IDs.
+   */
+  private void findListSplitGroup(Connection conn, List<String> group, List<Long> ids, HashMap<String, RFWVO> objCache, DAOCompositionTree tree) throws RFWException {
+    final String[] atts = group.toArray(new String[0]);
+    final DAOMap map = createDAOMap(this.type, atts);
+    final int chunkSize = Math.max(inClauseMaxSize, 1);
+    for (int i = 0; i < ids.size(); i += chunkSize) {
+      final RFWMO moIDs = new RFWMO();
+      moIDs.in("id", ids.subList(i, Math.min(i + chunkSize, ids.size())));
+      try (PreparedStatement stmt = DAOMap.createSelectStatement(conn, map, atts, true, moIDs, null, null, null, null, dialect); ResultSet rs = stmt.executeQuery()) {
+        mountVO(rs, map, objCache, tree);
+      } catch (RFWException e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new RFWCriticalException("Falha ao executar a operação no banco de dados.", e);
+      }
+    }
+  }
+
+  /**
+   * Percorre os VOs que satisfazem um critério de "search" sem carregar toda a lista em memória.<br>
+   * Os objetos são montados e entregues ao consumer um de cada vez, assim que todas as suas linhas forem lidas do banco de dados, e descartados das estruturas de montagem em seguida. Desta forma o
+   * consumo de memória é constante, independente da quantidade de objetos retornados.<br>
+   * <br>
+   * <b>ATENÇÃO:</b>
+   * <li>Objetos associados a mais de um objeto raiz (por exemplo um mesmo cliente em vários pedidos) são instâncias diferentes em cada objeto raiz entregue.
+   * <li>O orderBy só pode utilizar atributos do próprio objeto ou de associações para um único objeto. Ordenar por atributos de listas impediria que as linhas de cada objeto viessem em sequência.
+   * <li>A conexão com o banco de dados fica presa até o fim da iteração.
+   * <li>Dentro de uma {@link RFWDAOSession} a leitura utiliza a conexão da sessão, por isso nenhuma outra instrução (nem o commit ou o rollback) pode ser executada na sessão até que a leitura seja
+   * encerrada. No MySQL, onde a leitura linha a linha impede qualquer outra instrução na conexão, dentro da sessão o driver carrega o ResultSet inteiro ao invés de entregar as linhas uma a uma.
+   *
+   * @param mo Match Object para realizar o filtro no banco de dados.
+   * @param orderBy Objeto para definir a ordenação da lista.
+   * @param attributes Atributos que devem ser recuperados em cada objeto.
+   * @param consumer Consumer que receberá cada um dos objetos.
+   * @throws RFWException Lançado em caso de erro.
+   */
+  public void forEach(RFWMO mo, RFWOrderBy orderBy, String[] attributes, Consumer<VO> consumer) throws RFWException {
+    try (DAOStreamCursor<VO> cursor = openStream(mo, orderBy, attributes)) {
+      VO vo;
+      while ((vo = cursor.next()) != null) {
+        consumer.accept(vo);
+      }
+    }
+  }
+
+  /**
+   * Cria um Stream dos VOs que satisfazem um critério de "search" sem carregar toda a lista em memória.<br>
+   * Segue as mesmas regras do {@link #forEach(RFWMO, RFWOrderBy, String[], Consumer)}. O Stream mantém a conexão com o banco de dados aberta e <b>deve ser fechado</b> (de preferência com um
+   * try-with-resources). Falhas durante a iteração são lançadas como RuntimeException, encapsulando a {@link RFWException} original.
+   *
+   * @param mo Match Object para realizar o filtro no banco de dados.
+   * @param orderBy Objeto para definir a ordenação da lista.
+   * @param attributes Atributos que devem ser recuperados em cada objeto.
+   * @return Stream com os objetos na ordem desejada.
+   * @throws RFWException Lançado em caso de erro ao abrir a consulta.
+   */
+  public Stream<VO> findStream(RFWMO mo, RFWOrderBy orderBy, String[] attributes) throws RFWException {
+    final DAOStreamCursor<VO> cursor = openStream(mo, orderBy, attributes);
+    return StreamSupport.stream(cursor.spliterator(), false).onClose(cursor::closeUnchecked);
+  }
+
+  /**
+   * Abre o cursor de leitura contínua utilizado pelo {@link #forEach(RFWMO, RFWOrderBy, String[], Consumer)} e pelo {@link #findStream(RFWMO, RFWOrderBy, String[])}.<br>
+   * <b>ATENÇÃO:</b> Dentro de uma {@link RFWDAOSession} o cursor fica aberto sobre a conexão da sessão, e nenhuma outra instrução pode ser executada na sessão até que ele seja fechado. Como as
+   * COMPOSITION_TREE são completadas durante a leitura (com consultas na mesma conexão), quando o dialeto lê as linhas com o fetchSize de Integer.MIN_VALUE (MySQL), que bloqueia a conexão até o fim do
+   * ResultSet, dentro da sessão a leitura linha a linha é desabilitada.
+   */
+  private DAOStreamCursor<VO> openStream(RFWMO mo, RFWOrderBy orderBy, String[] attributes) throws RFWException {
+    if (mo == null) mo = new RFWMO();
+    if (orderBy != null) validateRootOrderBy(orderBy);
+
+    if (compiledRowMapperEnabled) {
+      String[] atts = RUArray.concatAll(new String[0], mo.getAttributes().toArray(new String[0]), attributes);
+      if (orderBy != null) atts = RUArray.concatAll(atts, orderBy.getAttributes().toArray(new String[0]));
+      final DAOMap map = createDAOMap(this.type, atts);
+      final DAORowMapper mapper = map.getRowMapper();
+      if (mapper != null) {
+        String[] selectAtts = attributes;
+        if (orderBy != null) selectAtts = attributes == null ? orderBy.getAttributes().toArray(new String[0]) : RUArray.concatAll(attributes, orderBy.getAttributes().toArray(new String[0]));
+
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        try {
+          conn = getDataSource().getConnection();
+          // Todas as linhas de um mesmo objeto raiz precisam vir em sequência para que ele possa ser entregue assim que a próxima linha pertencer a outro objeto
+          stmt = DAOMap.createSelectPageStatement(conn, map, map, selectAtts, mo, orderBy, null, null, true, dialect);
+          if (dialect.getStreamingFetchSize() == Integer.MIN_VALUE && RFWDAOSession.current(ds) != null) {
+            // Na conexão da sessão um ResultSet lido linha a linha impediria as consultas das COMPOSITION_TREE (e qualquer outra) até o fim da leitura
+            stmt.setFetchSize(0);
+          } else {
+            stmt.setFetchSize(dialect.getStreamingFetchSize());
+          }
+          rs = stmt.executeQuery();
+          final DAORowMapper.Cursor cursor = mapper.stream(this, rs, map);
+          if (cursor != null) return new DAOStreamCursor<>(conn, stmt, rs, cursor);
+        } catch (Throwable e) {
+          try (Connection c = conn; PreparedStatement s = stmt; ResultSet r = rs) {
+          } catch (Throwable e2) {
+            e.addSuppressed(e2);
+          }
+          if (e instanceof RFWException) throw (RFWException) e;
+          throw new RFWCriticalException("Falha ao executar a operação no banco de dados.", e);
+        }
+        // O ResultSet não tem todas as colunas esperadas pelo plano. Liberamos a conexão e seguimos pela montagem em blocos.
+        try (Connection c = conn; PreparedStatement s = stmt; ResultSet r = rs) {
+        } catch (Throwable e) {
+          throw new RFWCriticalException("Falha ao executar a operação no banco de dados.", e);
+        }
+      }
+    }
+    return new DAOStreamCursor<>(this, findIDs(mo, orderBy), orderBy, attributes);
+  }
+
+  /**
+   * Valida se todos os atributos do orderBy são do próprio objeto ou de associações para um único objeto, ou seja, se cada objeto raiz tem um único valor para cada coluna da ordenação.<br>
+   * Necessário na leitura contínua, para que as linhas de um mesmo objeto raiz venham em sequência, e na paginação por continuação, para que o último objeto da página defina a posição da próxima.
+   */
+  @SuppressWarnings("unchecked")
+  private void validateRootOrderBy(RFWOrderBy orderBy) throws RFWException {
+    for (String attribute : orderBy.getAttributes()) {
+      if (attribute.indexOf('@') >= 0) throw new RFWCriticalException("O atributo '${0}' não pode ser utilizado na ordenação por pertencer a uma RFWMetaCollection.", new String[] { attribute });
+      Class<? extends RFWVO> entityType = this.type;
+      final String[] parts = attribute.split("\\.");
+      for (int i = 0; i < parts.length - 1; i++) {
+        final RelationshipDescriptor rel = EntityMetadata.get(entityType).getRelationship(parts[i]);
+        if (rel == null) break;
+        final Class<?> fieldType = rel.field.getType();
+        if (!RFWVO.class.isAssignableFrom(fieldType)) throw new RFWCriticalException("O atributo '${0}' não pode ser utilizado na ordenação por pertencer a uma lista de objetos.", new String[] { attribute });
+        entityType = (Class<? extends RFWVO>) fieldType;
+      }
+    }
+  }
+
+  /**
+   * Busca uma página de VOs baseado em um critério de "search", utilizando paginação por continuação (keyset/seek) ao invés do offSet.<br>
+   * Cada página começa logo após o último objeto da página anterior, identificado pelo {@link PageToken}. Diferente do offSet, o banco não precisa ler e descartar as linhas das páginas anteriores,
+   * por isso o custo de cada página não aumenta conforme a navegação avança.<br>
+   * <br>
+   * <b>ATENÇÃO:</b>
+   * <li>O orderBy só aceita atributos simples (sem funções) do próprio objeto ou de associações para um único objeto. O "id" do objeto raiz é sempre utilizado como critério de desempate.
+   * <li>O {@link PageToken} só pode ser utilizado com o mesmo orderBy da consulta que o gerou.
+   * <li>Não há como "pular" para uma página qualquer, apenas avançar a partir da anterior.
+   *
+   * @param mo Match Object para realizar o filtro no banco de dados.
+   * @param orderBy Objeto para definir a ordenação da lista.
+   * @param attributes Atributos que devem ser recuperados em cada objeto.
+   * @param after Token retornado pela página anterior em {@link Page#getNextToken()}. Nulo para a primeira página.
+   * @param size Quantidade de objetos da página.
+   * @return Página com os objetos e o token para a próxima página.
+   * @throws RFWException Lançado em caso de erro.
+   */
+  @SuppressWarnings("unchecked")
+  public Page<VO> findPage(RFWMO mo, RFWOrderBy orderBy, String[] attributes, PageToken after, int size) throws RFWException {
+    if (size <= 0) throw new RFWCriticalException("O tamanho da página deve ser maior que zero!");
+    if (mo == null) mo = new RFWMO();
+    if (orderBy != null) validateRootOrderBy(orderBy);
+    final String orderSignature = getOrderSignature(orderBy);
+    if (after != null && !orderSignature.equals(after.orderSignature)) throw new RFWCriticalException("O PageToken informado foi gerado para uma ordenação diferente da utilizada na consulta.");
+
+    String[] atts = RUArray.concatAll(new String[0], mo.getAttributes().toArray(new String[0]), attributes);
+    if (orderBy != null) atts = RUArray.concatAll(atts, orderBy.getAttributes().toArray(new String[0]));
+    final DAOMap map = createDAOMap(this.type, atts);
+    // A página de IDs é selecionada apenas com as tabelas do MO e do orderBy, para que as listas solicitadas não multipliquem as linhas contadas pelo LIMIT
+    String[] idAtts = mo.getAttributes().toArray(new String[0]);
+    if (orderBy != null) idAtts = RUArray.concatAll(idAtts, orderBy.getAttributes().toArray(new String[0]));
+    final DAOMap idMap = createDAOMap(this.type, idAtts);
+
+    String[] selectAtts = attributes;
+    if (orderBy != null) selectAtts = attributes == null ? orderBy.getAttributes().toArray(new String[0]) : RUArray.concatAll(attributes, orderBy.getAttributes().toArray(new String[0]));
+
+    try (Connection conn = getDataSource().getConnection(); PreparedStatement stmt = DAOMap.createSelectSeekStatement(conn, map, idMap, selectAtts, mo, orderBy, after == null ? null : after.values, size, dialect); ResultSet rs = stmt.executeQuery()) {
+      final List<VO> list = (List<VO>) mountVO(rs, map, null);
+      // Uma página incompleta indica que chegamos ao fim. Uma página completa pode ser a última, neste caso a próxima página virá vazia.
+      PageToken next = null;
+      if (list.size() >= size) next = createPageToken(map, orderBy, list.get(list.size() - 1), orderSignature);
+      return new Page<>(list, next);
+    } catch (RFWException e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new RFWCriticalException("Falha ao executar a operação no banco de dados.", e);
+    }
+  }
+
+  /**
+   * Cria a assinatura da ordenação, utilizada para garantir que o {@link PageToken} seja utilizado com a mesma ordenação que o gerou.
+   */
+  private static String getOrderSignature(RFWOrderBy orderBy) {
+    final StringBuilder buff = new StringBuilder();
+    if (orderBy != null) {
+      for (RFWOrderbyItem orderItem : orderBy.getOrderbylist()) {
+        buff.append(orderItem.getField().getField()).append(orderItem.isAsc() ? ":A," : ":D,");
+      }
+    }
+    return buff.append("id").toString();
+  }
+
+  /**
+   * Cria o {@link PageToken} a partir do último objeto da página. Os valores são lidos do objeto e preparados para o banco de dados da mesma forma que na persistência (inclusive pelos
+   * conversores), na ordem das colunas do orderBy seguidos do ID.
+   */
+  private PageToken createPageToken(DAOMap map, RFWOrderBy orderBy, VO last, String orderSignature) throws RFWException {
+    final ArrayList<Object> values = new ArrayList<>();
+    if (orderBy != null) {
+      for (RFWOrderbyItem orderItem : orderBy.getOrderbylist()) {
+        final String path = orderItem.getField().getField();
+        if (path == null) throw new RFWCriticalException("A paginação por continuação só aceita ordenação por atributos simples, sem funções.");
+        Object value = last;
+        for (String part : path.split("\\.")) {
+          if (value == null) break;
+          value = EntityMetadata.get(((RFWVO) value).getClass()).getPropertyValue(value, part);
+        }
+        final DAOMapField mField = map.getMapFieldByPath(path);
+        if (value != null && mField != null) {
+          final FieldDescriptor fd = EntityMetadata.get(mField.table.type).getField(mField.field);
+          if (fd.converterClass != null) value = getConverter(fd.converterClass, fd.converterCacheable, mField.field, mField.table.type).toDB(value);
+        }
+        values.add(value);
+      }
     }
+    values.add(last.getId());
+    return new PageToken(orderSignature, values.toArray());
   }
 
   public List<Object[]> findListEspecial(RFWField[] fields, RFWMO mo, RFWOrderBy orderBy, RFWField[] groupBy, Integer offSet, Integer limit) throws RFWException {
@@ -1376,10 +3021,10 @@ public final class RFWDAO<VO extends RFWVO> {
   public List<Object[]> findListEspecial(RFWField[] fields, RFWMO mo, RFWOrderBy orderBy, RFWField[] groupBy, Integer offSet, Integer limit, Boolean useFullJoin) throws RFWException {
     if (mo == null) mo = new RFWMO();
 
-    // Verificamos todos os atributos que precisamos mapear conforme utilizao em cada parte do SQL
+    // Verificamos todos os atributos que precisamos mapear conforme utilização em cada parte do SQL
     String[] attsMO = mo.getAttributes().toArray(new String[0]);
     String[] attsFields = new String[0];
-    if (fields == null) throw new RFWCriticalException("O parmetro 'fields' no pode ser nulo!");
+    if (fields == null) throw new RFWCriticalException("O parâmetro 'fields' não pode ser nulo!");
     for (RFWField field : fields) {
       attsFields = RUArray.concatAll(attsFields, field.getAttributes().toArray(new String[0]));
     }
@@ -1392,10 +3037,10 @@ public final class RFWDAO<VO extends RFWVO> {
 
     String[] attsTotal = RUArray.concatAll(attsMO, attsFields, attsOrderBy, attsGroupBy);
 
-    // Mapeamos todos os objetos necessrios
+    // Mapeamos todos os objetos necessários
     final DAOMap map = createDAOMap(this.type, attsTotal);
 
-    try (Connection conn = ds.getConnection(); PreparedStatement stmt2 = DAOMap.createSelectStatement(conn, map, fields, mo, orderBy, groupBy, offSet, limit, useFullJoin, dialect); ResultSet rs2 = stmt2.executeQuery()) {
+    try (Connection conn = getDataSource().getConnection(); PreparedStatement stmt2 = DAOMap.createSelectStatement(conn, map, fields, mo, orderBy, groupBy, offSet, limit, useFullJoin, dialect); ResultSet rs2 = stmt2.executeQuery()) {
       List<Object[]> list = new LinkedList<Object[]>();
       while (rs2.next()) {
         Object[] row = new Object[fields.length];
@@ -1406,74 +3051,76 @@ public final class RFWDAO<VO extends RFWVO> {
       }
       return list;
     } catch (Throwable e) {
-      throw new RFWCriticalException("Falha ao executar a operao no banco de dados.", e);
+      throw new RFWCriticalException("Falha ao executar a operação no banco de dados.", e);
     }
   }
 
   /**
-   * Busca um objeto atravs do MatchObject. Note que as condies usadas no MO devem garantir que apenas 1 objeto ser retornado, como a busca por um campo definido como Unique. <br>
-   * Caso este mtodo encontre mais de um objeto para a mesma busca, um erro crtico ser lanado.
+   * Busca um objeto através do MatchObject. Note que as condições usadas no MO devem garantir que apenas 1 objeto será retornado, como a busca por um campo definido como Unique. <br>
+   * Caso este método encontre mais de um objeto para a mesma busca, um erro crítico será lançado.
    *
    * @param mo Match Object para realizar o filtro no banco de dados.
    * @param attributes Atributos que devem ser recuperados em cada objeto.
-   * @return Objecto nico encontrado
-   * @throws RFWException Lanado em caso de erro.
+   * @return Objecto único encontrado
+   * @throws RFWException Lançado em caso de erro.
    */
   public VO findUniqueMatch(RFWMO mo, String[] attributes) throws RFWException {
     if (mo == null) mo = new RFWMO();
-    // Primeiro vamos buscar apenas os ids do objeto raiz que satisfazem as condies
+    // Primeiro vamos buscar apenas os ids do objeto raiz que satisfazem as condições
     final DAOMap map = createDAOMap(this.type, RUArray.concatAll(new String[0], mo.getAttributes().toArray(new String[0]), attributes));
 
-    try (Connection conn = ds.getConnection(); PreparedStatement stmt = DAOMap.createSelectStatement(conn, map, new String[] { "id" }, false, mo, null, null, null, null, dialect); ResultSet rs = stmt.executeQuery()) {
+    try (Connection conn = getDataSource().getConnection(); PreparedStatement stmt = DAOMap.createSelectStatement(conn, map, new String[] { "id" }, false, mo, null, null, null, null, dialect); ResultSet rs = stmt.executeQuery()) {
 
       DAOMapTable mTable = map.getMapTableByPath("");
       Long id = null;
+      final ResultSetColumnIndex index = new ResultSetColumnIndex(rs, dialect);
       while (rs.next()) {
-        final long rsID = getRSLong(rs, mTable.schema, mTable.table, mTable.alias, "id", dialect); // rs.getLong("id");
-        // Precisamos verficiar se no  o mesmo ID pq as vezes a consult inclui joins de listas, o que faz com que vrias linhas retornem para o mesmo objeto
-        if (id != null && id != rsID) throw new RFWCriticalException("Encontrado mais de um objeto pelo mtodo 'findUniqueMatch()'.");
+        final long rsID = getRSLong(rs, index, mTable.schema, mTable.table, mTable.alias, "id"); // rs.getLong("id");
+        // Precisamos verficiar se não é o mesmo ID pq as vezes a consult inclui joins de listas, o que faz com que várias linhas retornem para o mesmo objeto
+        if (id != null && id != rsID) throw new RFWCriticalException("Encontrado mais de um objeto pelo método 'findUniqueMatch()'.");
         id = rsID;
       }
 
-      // Se no temos um ID para procurar,  pq o objeto no foi encontrado, simplesmente retorna null
+      // Se não temos um ID para procurar, é pq o objeto não foi encontrado, simplesmente retorna null
       if (id == null) return null;
-      // Com base nos IDs retornados, montar um RFWMO para retornar todos os objetos com os IDs, e neste caso j passamos as colunas que queremos montar no objeto
+      // Com base nos IDs retornados, montar um RFWMO para retornar todos os objetos com os IDs, e neste caso já passamos as colunas que queremos montar no objeto
       return findById(id, attributes);
     } catch (Throwable e) {
-      throw new RFWCriticalException("Falha ao executar a operao no banco de dados.", e);
+      throw new RFWCriticalException("Falha ao executar a operação no banco de dados.", e);
     }
   }
 
   /**
-   * Busca um objeto atravs do MatchObject para edio. Note que as condies usadas no MO devem garantir que apenas 1 objeto ser retornado, como a busca por um campo definido como Unique. <br>
-   * Caso este mtodo encontre mais de um objeto para a mesma busca, um erro crtico ser lanado.
+   * Busca um objeto através do MatchObject para edição. Note que as condições usadas no MO devem garantir que apenas 1 objeto será retornado, como a busca por um campo definido como Unique. <br>
+   * Caso este método encontre mais de um objeto para a mesma busca, um erro crítico será lançado.
    *
    * @param mo Match Object para realizar o filtro no banco de dados.
    * @param attributes Atributos que devem ser recuperados em cada objeto.
-   * @return Objecto nico encontrado
-   * @throws RFWException Lanado em caso de erro.
+   * @return Objecto único encontrado
+   * @throws RFWException Lançado em caso de erro.
    */
   public VO findUniqueMatchForUpdate(RFWMO mo, String[] attributes) throws RFWException {
     if (mo == null) mo = new RFWMO();
-    // Primeiro vamos buscar apenas os ids do objeto raiz que satisfazem as condies
+    // Primeiro vamos buscar apenas os ids do objeto raiz que satisfazem as condições
     final DAOMap map = createDAOMap(this.type, RUArray.concatAll(new String[0], mo.getAttributes().toArray(new String[0]), attributes));
 
-    try (Connection conn = ds.getConnection(); PreparedStatement stmt = DAOMap.createSelectStatement(conn, map, new String[] { "id" }, false, mo, null, null, null, null, dialect); ResultSet rs = stmt.executeQuery()) {
+    try (Connection conn = getDataSource().getConnection(); PreparedStatement stmt = DAOMap.createSelectStatement(conn, map, new String[] { "id" }, false, mo, null, null, null, null, dialect); ResultSet rs = stmt.executeQuery()) {
       DAOMapTable mTable = map.getMapTableByPath("");
       Long id = null;
+      final ResultSetColumnIndex index = new ResultSetColumnIndex(rs, dialect);
       while (rs.next()) {
-        final long rsID = getRSLong(rs, mTable.schema, mTable.table, mTable.alias, "id", dialect); // rs.getLong("id");
-        // Precisamos verficiar se no  o mesmo ID pq as vezes a consult inclui joins de listas, o que faz com que vrias linhas retornem para o mesmo objeto
-        if (id != null && id != rsID) throw new RFWCriticalException("Encontrado mais de um objeto pelo mtodo 'findUniqueMatch()'.");
+        final long rsID = getRSLong(rs, index, mTable.schema, mTable.table, mTable.alias, "id"); // rs.getLong("id");
+        // Precisamos verficiar se não é o mesmo ID pq as vezes a consult inclui joins de listas, o que faz com que várias linhas retornem para o mesmo objeto
+        if (id != null && id != rsID) throw new RFWCriticalException("Encontrado mais de um objeto pelo método 'findUniqueMatch()'.");
         id = rsID;
       }
 
-      // Se no temos um ID para procurar,  pq o objeto no foi encontrado, simplesmente retorna null
+      // Se não temos um ID para procurar, é pq o objeto não foi encontrado, simplesmente retorna null
       if (id == null) return null;
-      // Com base nos IDs retornados, montar um RFWMO para retornar todos os objetos com os IDs, e neste caso j passamos as colunas que queremos montar no objeto
+      // Com base nos IDs retornados, montar um RFWMO para retornar todos os objetos com os IDs, e neste caso já passamos as colunas que queremos montar no objeto
       return findForUpdate(id, attributes);
     } catch (Throwable e) {
-      throw new RFWCriticalException("Falha ao executar a operao no banco de dados.", e);
+      throw new RFWCriticalException("Falha ao executar a operação no banco de dados.", e);
     }
   }
 
@@ -1500,7 +3147,7 @@ public final class RFWDAO<VO extends RFWVO> {
   // RFWVO vo = null;
   // try {
   // if (mTable.path.startsWith(".")) { // Tabelas de N:N
-  // // Tabelas de Join no tm uma entidade, no momento de montar o objeto s  necessrio "pular" a tabela do join e carregar a prxima tabela
+  // // Tabelas de Join não têm uma entidade, no momento de montar o objeto só é necessário "pular" a tabela do join e carregar a próxima tabela
   // vo = loadVO(rs, map, mTable.joinedTables.get(0), cache);
   // } else {
   // Long id = getRSLong(rs, mTable.schema, mTable.table, mTable.alias, "id", dialect);
@@ -1576,9 +3223,9 @@ public final class RFWDAO<VO extends RFWVO> {
   //
   // final DAOMapField mField = map.getMapFieldByPath(joinedTable.path.substring(1) + "@");
   // final RFWMetaCollectionField ann = (RFWMetaCollectionField) RUReflex.getRFWMetaAnnotation(mField.table.type, mField.field.substring(0, mField.field.length() - 1));
-  // if (ann.targetRelationship() == null) throw new RFWCriticalException("No foi possvel encontrar o TargetRelationship da MetaCollection em '" + vo.getClass().getCanonicalName() + "' do mtodo '" + mField.field.substring(0, mField.field.length() - 1) + "'.");
+  // if (ann.targetRelationship() == null) throw new RFWCriticalException("Não foi possível encontrar o TargetRelationship da MetaCollection em '" + vo.getClass().getCanonicalName() + "' do método '" + mField.field.substring(0, mField.field.length() - 1) + "'.");
   //
-  // // Recupera o contedo a ser colocado na MetaCollection
+  // // Recupera o conteúdo a ser colocado na MetaCollection
   // Object content = null;
   // if (String.class.isAssignableFrom(ann.targetRelationship())) {
   // content = getRSString(rs, joinedTable.schema, joinedTable.table, joinedTable.alias, mField.column, dialect);
@@ -1588,15 +3235,15 @@ public final class RFWDAO<VO extends RFWVO> {
   // content = getRSString(rs, joinedTable.schema, joinedTable.table, joinedTable.alias, mField.column, dialect);
   // if (content != null) content = Enum.valueOf((Class<Enum>) ann.targetRelationship(), (String) content);
   // } else {
-  // throw new RFWCriticalException("RFWDAO no preparado para tratar Collections com target do tipo '" + ann.targetRelationship().getCanonicalName() + "'!");
+  // throw new RFWCriticalException("RFWDAO não preparado para tratar Collections com target do tipo '" + ann.targetRelationship().getCanonicalName() + "'!");
   // }
   //
   // if (content != null) {
   // final Class<?> rt = RUReflex.getPropertyTypeByType(mTable.type, mField.field.substring(0, mField.field.length() - 1));
   // if (List.class.isAssignableFrom(rt)) {
-  // // Se  um List procuramos a coluna de 'sort' para saber como organizar os itens
+  // // Se é um List procuramos a coluna de 'sort' para saber como organizar os itens
   // DAOMapField sortField = map.getMapFieldByPath(joinedTable.path.substring(1) + "@sortColumn");
-  // Integer sortIndex = null; // A coluna de organizao no  obrigatria para montar uma lista, s deixamos de garantir a ordem.
+  // Integer sortIndex = null; // A coluna de organização não é obrigatória para montar uma lista, só deixamos de garantir a ordem.
   // if (sortField != null) {
   // sortIndex = getRSInteger(rs, joinedTable.schema, joinedTable.table, joinedTable.alias, sortField.column, dialect);
   // }
@@ -1622,17 +3269,17 @@ public final class RFWDAO<VO extends RFWVO> {
   // set = new HashSet<>();
   // RUReflex.setPropertyValue(vo, mField.field.substring(0, mField.field.length() - 1), set, false);
   // }
-  // set.add(content); // no testamos se j existe pq o SET no permite itens repetidos, ele substituir automaticamente itens repetidos
+  // set.add(content); // não testamos se já existe pq o SET não permite itens repetidos, ele substituirá automaticamente itens repetidos
   // } else if (Map.class.isAssignableFrom(rt)) {
-  // // Se  um Map procuramos a coluna de 'key' para saber a chave que devemos incluir na Map
+  // // Se é um Map procuramos a coluna de 'key' para saber a chave que devemos incluir na Map
   // DAOMapField keyField = map.getMapFieldByPath(mTable.path.substring(1) + "@keyColumn");
   // Object keyValue = getRSString(rs, mTable.schema, mTable.table, mTable.alias, keyField.column, dialect); // rs.getString(mTable.alias + "." + keyField.column);
   //
-  // // Verifica a existncia de um Converter para a chave de acesso
+  // // Verifica a existência de um Converter para a chave de acesso
   // if (RFWDAOConverterInterface.class.isAssignableFrom(ann.keyConverterClass())) {
   // // Object ni = ann.keyConverterClass().newInstance();
   // Object ni = createNewInstance(ann.keyConverterClass());
-  // if (!(ni instanceof RFWDAOConverterInterface)) throw new RFWCriticalException("A classe '${0}' definida no atributo '${1}' da classe '${2}' no  um RFWDAOConverterInterface vlido!", new String[] { ann.keyConverterClass().getCanonicalName(), mField.field, vo.getClass().getCanonicalName() });
+  // if (!(ni instanceof RFWDAOConverterInterface)) throw new RFWCriticalException("A classe '${0}' definida no atributo '${1}' da classe '${2}' não é um RFWDAOConverterInterface válido!", new String[] { ann.keyConverterClass().getCanonicalName(), mField.field, vo.getClass().getCanonicalName() });
   // keyValue = ((RFWDAOConverterInterface) ni).toVO(keyValue);
   // }
   //
@@ -1641,20 +3288,20 @@ public final class RFWDAO<VO extends RFWVO> {
   // hash = new LinkedHashMap<>();
   // RUReflex.setPropertyValue(vo, mField.field.substring(0, mField.field.length() - 1), hash, false);
   // }
-  // hash.put(keyValue, content); // O prprio map substituir e validar se a chave  repetida
+  // hash.put(keyValue, content); // O próprio map substituirá e validará se a chave é repetida
   // } else {
-  // throw new RFWCriticalException("O tipo ${0} no  suportado pela RFWMetaCollection! Atributo '${1}' da classe '${2}'.", new String[] { rt.getCanonicalName(), mField.field.substring(0, mField.field.length() - 1), mTable.type.getCanonicalName() });
+  // throw new RFWCriticalException("O tipo ${0} não é suportado pela RFWMetaCollection! Atributo '${1}' da classe '${2}'.", new String[] { rt.getCanonicalName(), mField.field.substring(0, mField.field.length() - 1), mTable.type.getCanonicalName() });
   // }
   // }
   // }
 
   // /**
-  // * Este mtodo itera o ResultSet recebido e monta todos os objetos {@link RFWVO} encontrados no {@link DAOMap} passado e no ResultSet. Ele no monta a hierarquia dos objetos, apenas monta todos os VOs encontrados dentro do ResultSet.
+  // * Este método itera o ResultSet recebido e monta todos os objetos {@link RFWVO} encontrados no {@link DAOMap} passado e no ResultSet. Ele não monta a hierarquia dos objetos, apenas monta todos os VOs encontrados dentro do ResultSet.
   // *
   // * @param rs ResultSet da consulta no banco de dados
   // * @param map mapeamento da consulta.
-  // * @param cache Cache com os objetos j criados ou cach limpe. Se no tiver, passar um objeto novo instnciado. JAMAIS PASSAR OBJETO NULO!
-  // * @return HashSet com os VOs raiz j montados.
+  // * @param cache Cache com os objetos já criados ou cach limpe. Se não tiver, passar um objeto novo instânciado. JAMAIS PASSAR OBJETO NULO!
+  // * @return HashSet com os VOs raiz já montados.
   // * @throws RFWException
   // */
   // @SuppressWarnings({ "unchecked", "rawtypes" })
@@ -1671,7 +3318,7 @@ public final class RFWDAO<VO extends RFWVO> {
   // while (rs.next()) { // rs.beforeFirst();
   // for (DAOMapTable mTable : map.getMapTable()) {
   // if (mTable.path.startsWith("@")) { // Tabelas de Collection (RFWMetaCollection)
-  // // Faz a busca pela coluna ID no resultSet, se encontrar indica que a tabela do objeto foi recuperada mesmo que o contedo venha vazio
+  // // Faz a busca pela coluna ID no resultSet, se encontrar indica que a tabela do objeto foi recuperada mesmo que o conteúdo venha vazio
   // boolean retrived = false;
   // Long id = null;
   // try {
@@ -1679,7 +3326,7 @@ public final class RFWDAO<VO extends RFWVO> {
   // retrived = true;
   // } catch (RFWException e) {
   // if (e.getCause() != null && e.getCause() instanceof SQLException) {
-  // // um SQLException indica que a coluna no est presente, provavelmente pq os objetos no foram exigidos. Neste caso pulamos este objeto.
+  // // um SQLException indica que a coluna não está presente, provavelmente pq os objetos não foram exigidos. Neste caso pulamos este objeto.
   // } else {
   // throw e;
   // }
@@ -1703,7 +3350,7 @@ public final class RFWDAO<VO extends RFWVO> {
   // });
   // }
   // } else if (mTable.path.startsWith(".")) { // Tabelas de N:N (join Tables)
-  // // No faz nenhuma operao, apenas no momento montar os mapeamentos que pularemos a tabela de "join"
+  // // Não faz nenhuma operação, apenas no momento montar os mapeamentos que pularemos a tabela de "join"
   // } else {
   // boolean retrived = false;
   // Long id = null;
@@ -1712,7 +3359,7 @@ public final class RFWDAO<VO extends RFWVO> {
   // retrived = true;
   // } catch (RFWException e) {
   // if (e.getCause() != null && e.getCause() instanceof SQLException) {
-  // // um SQLException indica que a coluna no est presente, provavelmente pq os objetos no foram exigidos. Neste caso pulamos este objeto.
+  // // um SQLException indica que a coluna não está presente, provavelmente pq os objetos não foram exigidos. Neste caso pulamos este objeto.
   // } else {
   // throw e;
   // }
@@ -1720,18 +3367,18 @@ public final class RFWDAO<VO extends RFWVO> {
   //
   // if (retrived) {
   // // Monta Um array com os dados para o relacionamento
-  // // Nota que se a tabela do objeto foi recuperado, mesmo que o ID seja nulo (no tenha o objeto), no passo de montar o objeto isso representar, nos atributos que so collees, uma coleo vazia ao invs do valor nulo. Em outras palavras, de que no h relacionamentos e no que no foi recuperado no banco de dados.
+  // // Nota que se a tabela do objeto foi recuperado, mesmo que o ID seja nulo (não tenha o objeto), no passo de montar o objeto isso representará, nos atributos que são colleções, uma coleção vazia ao invés do valor nulo. Em outras palavras, de que não há relacionamentos e não que não foi recuperado no banco de dados.
   // DAOMapTable parentTable = null;
   // Long parentId = null;
   // if (mTable.joinAlias != null) {
   // parentTable = map.getMapTableByAlias(mTable.joinAlias);
-  // if (parentTable.path.startsWith(".")) { // Se o caminho comea com '.', significa que  uma tabela da N:N, nestes casos temos que abstrair "um join" e usar tabela "parent da parent" para obter os IDs e objetos corretos. Isso pq temos 3 tabelas, mas apenas 2 objetos.
+  // if (parentTable.path.startsWith(".")) { // Se o caminho começa com '.', significa que é uma tabela da N:N, nestes casos temos que abstrair "um join" e usar tabela "parent da parent" para obter os IDs e objetos corretos. Isso pq temos 3 tabelas, mas apenas 2 objetos.
   // parentTable = map.getMapTableByAlias(parentTable.joinAlias);
   // }
   // parentId = getRSLong(rs, parentTable.schema, parentTable.table, parentTable.alias, "id", dialect);
   // }
   //
-  // if (parentId != null || id != null) { // Se no temos nem o ID do objeto pai, nem o id do objeto atual, no temos nada a fazer com a informao desse mapeamento. J descartamos aqui para evitar loops desnecessrios a frente
+  // if (parentId != null || id != null) { // Se não temos nem o ID do objeto pai, nem o id do objeto atual, não temos nada a fazer com a informação desse mapeamento. Já descartamos aqui para evitar loops desnecessários a frente
   // // mapRelList.add(new Object[] {
   // // parentTable,
   // // parentId,
@@ -1772,13 +3419,13 @@ public final class RFWDAO<VO extends RFWVO> {
   // }
   // }
   //
-  // // Ateno: A lgica da montagem dos objetos abaixo mira em utilizar o menos de reflexo possvel, por ser a parte mais "cara" par a performance, mesmo que para isso haja mais interaes nos mesmos loops, fazemos o mximo possvel para cada objeto que j foi carregado.
+  // // Atenção: A lógica da montagem dos objetos abaixo mira em utilizar o menos de reflexão possível, por ser a parte mais "cara" par a performance, mesmo que para isso haja mais interações nos mesmos loops, fazemos o máximo possível para cada objeto que já foi carregado.
   //
   // List<VO> rootVOs = new LinkedList<VO>();
   // LinkedList<Object[]> mapHashRelList = new LinkedList<Object[]>();
   // int lastsize = -1;
   // // for (Object[] mapRel : new ArrayList<Object[]>(mapRelations)) {
-  // while (mapRelHash.size() > 0) {// Iteramos at o esgotamento pois vamos remover vrios objetos a cada iterao desse while
+  // while (mapRelHash.size() > 0) {// Iteramos até o esgotamento pois vamos remover vários objetos a cada iteração desse while
   // if (mapRelHash.size() == lastsize) throw new RFWCriticalException("Infinity Loop Detected!");
   // lastsize = mapRelHash.size();
   //
@@ -1792,7 +3439,7 @@ public final class RFWDAO<VO extends RFWVO> {
   // RFWVO vo = null;
   // if (id != null) vo = cache.get(mTable.type.getCanonicalName() + "." + id);
   //
-  // if (parentTable == null) { // Se no h tabela pai,  um VO "raiz", vai para a lista re objetos a serem retornados
+  // if (parentTable == null) { // Se não há tabela pai, é um VO "raiz", vai para a lista re objetos a serem retornados
   // if (vo != null) rootVOs.add((VO) vo);
   // mapRelHash.remove(hashK);
   // } else {
@@ -1810,7 +3457,7 @@ public final class RFWDAO<VO extends RFWVO> {
   // list = new ArrayList<>();
   // RUReflex.setPropertyValue(parentVO, parentAttribute, list, false);
   // }
-  // if (vo != null) list.add(vo); // no  preciso testar por repetio pq cada mapeamento s  includo uma vez e  removido a seguir
+  // if (vo != null) list.add(vo); // não é preciso testar por repetição pq cada mapeamento só é incluído uma vez e é removido a seguir
   // mapRelHash.remove(hashK);
   //
   // // Itera por outros objetos que fazem parte desta lista
@@ -1836,7 +3483,7 @@ public final class RFWDAO<VO extends RFWVO> {
   // set = new HashSet<>();
   // RUReflex.setPropertyValue(parentVO, parentAttribute, set, false);
   // }
-  // if (vo != null) set.add(vo); // no  preciso testar por repetio pq cada mapeamento s  includo uma vez e  removido a seguir
+  // if (vo != null) set.add(vo); // não é preciso testar por repetição pq cada mapeamento só é incluído uma vez e é removido a seguir
   // mapRelHash.remove(hashK);
   //
   // // Itera por outros objetos que fazem parte desta lista
@@ -1856,7 +3503,7 @@ public final class RFWDAO<VO extends RFWVO> {
   // }
   // }
   // } else if (Map.class.isAssignableFrom(propertyType)) {
-  // // No montamos as Hash nesse ponto pois os objetos filhos podem ainda no estar montados e no vamos conseguir pegar a chave da hash, salvamos esse mapeamento para montar a hash na prxima fase
+  // // Não montamos as Hash nesse ponto pois os objetos filhos podem ainda não estar montados e não vamos conseguir pegar a chave da hash, salvamos esse mapeamento para montar a hash na próxima fase
   // mapHashRelList.add(mapRel);
   // mapRelHash.remove(hashK);
   // }
@@ -1866,7 +3513,7 @@ public final class RFWDAO<VO extends RFWVO> {
   // // Itera e termina de montar as Hashs
   // lastsize = -1;
   // // for (Object[] mapRel : new ArrayList<Object[]>(mapRelations)) {
-  // while (mapHashRelList.size() > 0) {// Iteramos at o esgotamento pois vamos remover vrios objetos a cada iterao desse while
+  // while (mapHashRelList.size() > 0) {// Iteramos até o esgotamento pois vamos remover vários objetos a cada iteração desse while
   // if (mapHashRelList.size() == lastsize) throw new RFWCriticalException("Infinity Loop Detected!");
   // lastsize = mapHashRelList.size();
   //
@@ -1884,7 +3531,7 @@ public final class RFWDAO<VO extends RFWVO> {
   // vo = cache.get(mTable.type.getCanonicalName() + "." + id);
   // }
   //
-  // // Todos os mapeamentos iterados aqui so hash, no  necessrio testar, apenas montar a hash
+  // // Todos os mapeamentos iterados aqui são hash, não é necessário testar, apenas montar a hash
   //
   // Map hash = (Map) RUReflex.getPropertyValue(parentVO, parentAttribute);
   // if (hash == null) {
@@ -1907,15 +3554,40 @@ public final class RFWDAO<VO extends RFWVO> {
   // }
 
   /**
-   * Mtodo utilizado ler os dados do result set e montar os objetos conforme forem retornados.
+   * Método utilizado ler os dados do result set e montar os objetos conforme forem retornados.
    *
    * @param rs ResultSet da consulta no banco de dados
    * @param map mapeamento da consulta.
-   * @param cache Cache com os objetos j criados. Utilizado para a recurso do mtodo. Quando chamado de fora do prprio mtodo: passar NULL.
+   * @param cache Cache com os objetos já criados. Utilizado para a recursão do método. Quando chamado de fora do próprio método: passar NULL.
    * @throws RFWException
    */
-  @SuppressWarnings({ "unchecked", "rawtypes" })
   private List<RFWVO> mountVO(ResultSet rs, DAOMap map, HashMap<String, RFWVO> cache) throws RFWException {
+    final HashMap<String, RFWVO> objCache = cache == null ? new HashMap<>() : cache;
+    final DAOCompositionTree tree = new DAOCompositionTree();
+    final List<RFWVO> list = mountVO(rs, map, objCache, tree);
+    loadCompositionTree(tree, objCache);
+    return list;
+  }
+
+  /**
+   * Método utilizado ler os dados do result set e montar os objetos conforme forem retornados.<br>
+   * Os objetos de COMPOSITION_TREE encontrados não são completados aqui, apenas agendados no tree para serem completados nível a nível pelo {@link #loadCompositionTree(DAOCompositionTree, HashMap)}.
+   *
+   * @param rs ResultSet da consulta no banco de dados
+   * @param map mapeamento da consulta.
+   * @param cache Cache com os objetos já criados.
+   * @param tree Objetos de COMPOSITION_TREE aguardando para serem completados.
+   * @throws RFWException
+   */
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private List<RFWVO> mountVO(ResultSet rs, DAOMap map, HashMap<String, RFWVO> cache, DAOCompositionTree tree) throws RFWException {
+    if (compiledRowMapperEnabled) {
+      final DAORowMapper mapper = map.getRowMapper();
+      if (mapper != null) {
+        final List<RFWVO> list = mapper.mount(this, rs, map, cache, tree);
+        if (list != null) return list; // Nulo indica que o ResultSet não tem todas as colunas esperadas pelo plano, segue pelo interpretador
+      }
+    }
     try {
       // HashMap<String, RFWVO> fullCache = new HashMap<String, RFWVO>();
       // if (map.getMapTable().size() >= 0) {
@@ -1927,18 +3599,36 @@ public final class RFWDAO<VO extends RFWVO> {
       // return (List<RFWVO>) rsToVO(rs, map, fullCache);
       // }
 
-      // ATENO: NO TRABALHAMOS COM LinkedList, apesar de ter menos overhead que o ArrayList pq o Glassfish ao tentar colocar o linkedlist na fachada acaba estourando a memria.  um BUG do Glassfish que no clona direito o objeto.
-      // Ao usar o ArrayList o Glassfish funciona melhor. Ou seja, para passar pela fachada o Arraylist  mais rpido e evita stackoverflow de "copyObject"
+      // ATENÇÃO: NÃO TRABALHAMOS COM LinkedList, apesar de ter menos overhead que o ArrayList pq o Glassfish ao tentar colocar o linkedlist na fachada acaba estourando a memória. É um BUG do Glassfish que não clona direito o objeto.
+      // Ao usar o ArrayList o Glassfish funciona melhor. Ou seja, para passar pela fachada o Arraylist é mais rápido e evita stackoverflow de "copyObject"
       final ArrayList<RFWVO> vos = new ArrayList<>();
 
       // Lista de listas de obejtos que precisam ser "limpas"
-      // Quando as listas tem um sortIndex definido, o banco envia os objetos conforme o orderBy definido do banco e no como deveriamos ter na lista.
-      // Como no temos o sortIndex salvo no VO, o valor ser jogado fora com o ResultSet, ns criamos objetos "dummies" para ocupar a posio informada pelo indexOrder at que o objeto correto seja recuperado.
+      // Quando as listas tem um sortIndex definido, o banco envia os objetos conforme o orderBy definido do banco e não como deveriamos ter na lista.
+      // Como não temos o sortIndex salvo no VO, o valor será jogado fora com o ResultSet, nós criamos objetos "dummies" para ocupar a posição informada pelo indexOrder até que o objeto correto seja recuperado.
       // PROBLEMAS: se por algum motivo o sortIndex ficou errado, digamos faltando o elemento 4 de um total de 10, por exemplo pq o mapeamento foi apagado por ON DELETE CASCADE do banco,
-      // a lista acaba sendo retornada com o dummie objetct ocupando a posio do item que sumiu. Por isso salvamos aqui todas as listas que tiveram dummies objetos colocados, para que no fim da montagem possamos limpar essas listas e manter a ordem desejada
+      // a lista acaba sendo retornada com o dummie objetct ocupando a posição do item que sumiu. Por isso salvamos aqui todas as listas que tiveram dummies objetos colocados, para que no fim da montagem possamos limpar essas listas e manter a ordem desejada
       final HashSet<List<?>> cleanLists = new HashSet<List<?>>();
 
-      // Cache com os objetos j criados, assim reaproveitamos ao invs de criar vrias instncias do mesmo objeto.
+      // Índice das colunas do ResultSet, montado uma única vez para toda a consulta
+      final ResultSetColumnIndex index = new ResultSetColumnIndex(rs, dialect);
+
+      // Tabelas recuperadas na consulta: o bit na posição da tabela no DAOMap indica se sua coluna de identificação (ID da entidade ou FK da collection) está presente no ResultSet.
+      // Calculado uma única vez a partir do metadados, assim as tabelas não solicitadas são ignoradas sem tentar ler a coluna em cada linha.
+      final BitSet retrievedTables = new BitSet();
+      {
+        int tablePos = 0;
+        for (DAOMapTable mTable : map.getMapTable()) {
+          if (mTable.path.startsWith("@")) {
+            if (index.hasColumn(mTable.schema, mTable.table, mTable.alias, mTable.column)) retrievedTables.set(tablePos);
+          } else if (!mTable.path.startsWith(".")) {
+            if (index.hasColumn(mTable.schema, mTable.table, mTable.alias, "id")) retrievedTables.set(tablePos);
+          }
+          tablePos++;
+        }
+      }
+
+      // Cache com os objetos já criados, assim reaproveitamos ao invés de criar várias instâncias do mesmo objeto.
       final HashMap<String, RFWVO> objCache;
       if (cache == null) {
         objCache = new HashMap<>();
@@ -1947,78 +3637,66 @@ public final class RFWDAO<VO extends RFWVO> {
       }
 
       while (rs.next()) {
-        final HashMap<String, RFWVO> aliasCache = new HashMap<>(); // este cache armazena os objetos desse ResultSet. Sendo que a chave da Hash  o Alias utilizado no SQL para representar o objeto/tabela.
+        final HashMap<String, RFWVO> aliasCache = new HashMap<>(); // este cache armazena os objetos desse ResultSet. Sendo que a chave da Hash é o Alias utilizado no SQL para representar o objeto/tabela.
 
         // Vamos iterar cada tabela para criar seus objetos principais
+        int tablePos = -1;
         for (DAOMapTable mTable : map.getMapTable()) {
+          tablePos++;
           if (mTable.path.startsWith("@")) { // Tabelas de Collection (RFWMetaCollection)
-            // Verifica se temos a coluna ID no resultSet, isso indica que a tabela do objeto foi recuperada
-            boolean retrived = false;
-            try {
-              getRSLong(rs, mTable.schema, mTable.table, mTable.alias, mTable.column, dialect); // rs.getLong(mTable.alias + "." + mTable.column);
-              // Essa flag  passada para true quando no tivemos uma exception nas linhas acima. Isso quer dizer que a coluna existe no resultado, s retornou nulo. Isso quer dizer buscamos pelo objeto mas no existe a associao.
-              // Neste caso temos de inicializar as listas do objeto, mesmo que v vazia, para indicar que procuramos pelas associaes mesmo qu no exista nenhuma. J que enviar null indica que nem procuramos.
-              retrived = true;
-            } catch (RFWException e) {
-              if (e.getCause() != null && e.getCause() instanceof SQLException) {
-                // um SQLException indica que a coluna no est presente, provavelmente pq os objetos no foram exigidos. Neste caso pulamos este objeto.
-              } else {
-                throw e;
-              }
-            }
-
-            if (retrived) {
+            // Se a coluna de FK não está no resultSet a collection não foi solicitada nesta consulta, pulamos a tabela.
+            if (retrievedTables.get(tablePos)) {
               // Busca o objeto 'pai', que tem a collection, pelo ID definido na foreingKey
               DAOMapTable joinTable = map.getMapTableByAlias(mTable.joinAlias);
-              Long parentID = getRSLong(rs, joinTable.schema, joinTable.table, joinTable.alias, "id", dialect); // Long parentID = rs.getLong(mTable.joinAlias + ".id");
+              Long parentID = getRSLong(rs, index, joinTable.schema, joinTable.table, joinTable.alias, "id"); // Long parentID = rs.getLong(mTable.joinAlias + ".id");
               if (rs.wasNull()) parentID = null;
 
-              // Se no temos um ID do Pai, no temos nem um objeto para incializar
+              // Se não temos um ID do Pai, não temos nem um objeto para incializar
               if (parentID != null) {
                 final DAOMapTable parentTable = joinTable;
                 final String key = parentTable.type.getCanonicalName() + "." + parentID;
                 RFWVO vo = objCache.get(key);
 
-                // Se temos a chave da FK mas no encontramos o objeto, temos um probema... Se no temos a FK  pq provavelmente j temos o objeto pai nulo tambm...
-                if (vo == null) throw new RFWCriticalException("No foi possvel encontrar o pai para colocar os valores da RFWMetaCollection!", new String[] { mTable.table, mTable.column });
+                // Se temos a chave da FK mas não encontramos o objeto, temos um probema... Se não temos a FK é pq provavelmente já temos o objeto pai nulo também...
+                if (vo == null) throw new RFWCriticalException("Não foi possível encontrar o pai para colocar os valores da RFWMetaCollection!", new String[] { mTable.table, mTable.column });
 
-                // Recupera o field com o valor baseado no atributo do Path da Tabela. Note que o Path da tabela tem o @ no incio para identificar que  uma tabela de MetaCollection. J os campos, tem o @ no fim do nome do field, por isso a operao remover a @ do comeo e concatena-la no final.
+                // Recupera o field com o valor baseado no atributo do Path da Tabela. Note que o Path da tabela tem o @ no início para identificar que é uma tabela de MetaCollection. Já os campos, tem o @ no fim do nome do field, por isso a operação remover a @ do começo e concatena-la no final.
                 final DAOMapField mField = map.getMapFieldByPath(mTable.path.substring(1) + "@");
 
                 final RFWMetaCollectionField ann = (RFWMetaCollectionField) RUReflex.getRFWMetaAnnotation(vo.getClass(), mField.field.substring(0, mField.field.length() - 1));
-                if (ann.targetRelationship() == null) throw new RFWCriticalException("No foi possvel encontrar o TargetRelationship da MetaCollection em '" + vo.getClass().getCanonicalName() + "' do mtodo '" + mField.field.substring(0, mField.field.length() - 1) + "'.");
+                if (ann.targetRelationship() == null) throw new RFWCriticalException("Não foi possível encontrar o TargetRelationship da MetaCollection em '" + vo.getClass().getCanonicalName() + "' do método '" + mField.field.substring(0, mField.field.length() - 1) + "'.");
 
-                // Recupera o contedo a ser colocado na MetaCollection
+                // Recupera o conteúdo a ser colocado na MetaCollection
                 Object content = null;
                 try {
                   if (String.class.isAssignableFrom(ann.targetRelationship())) {
-                    content = getRSString(rs, mTable.schema, mTable.table, mTable.alias, mField.column, dialect); // content = rs.getString(mTable.alias + "." + mField.column);
+                    content = getRSString(rs, index, mTable.schema, mTable.table, mTable.alias, mField.column); // content = rs.getString(mTable.alias + "." + mField.column);
                     if (rs.wasNull()) content = null;
                   } else if (BigDecimal.class.isAssignableFrom(ann.targetRelationship())) {
-                    content = getRSBigDecimal(rs, mTable.schema, mTable.table, mTable.alias, mField.column, dialect);
+                    content = getRSBigDecimal(rs, index, mTable.schema, mTable.table, mTable.alias, mField.column);
                   } else if (Enum.class.isAssignableFrom(ann.targetRelationship())) {
-                    content = getRSString(rs, mTable.schema, mTable.table, mTable.alias, mField.column, dialect); // content = rs.getString(mTable.alias + "." + mField.column);
+                    content = getRSString(rs, index, mTable.schema, mTable.table, mTable.alias, mField.column); // content = rs.getString(mTable.alias + "." + mField.column);
                     if (rs.wasNull()) {
                       content = null;
                     } else {
                       content = Enum.valueOf((Class<Enum>) ann.targetRelationship(), (String) content);
                     }
                   } else {
-                    throw new RFWCriticalException("RFWDAO no preparado para tratar Collections com target do tipo '" + ann.targetRelationship().getCanonicalName() + "'!");
+                    throw new RFWCriticalException("RFWDAO não preparado para tratar Collections com target do tipo '" + ann.targetRelationship().getCanonicalName() + "'!");
                   }
                 } catch (SQLException e) {
-                  // Uma SQLException ao tentar recuperar a coluna, indica que a coluna no foi "solicitada", assim no temos nada para adicionar, nem o objeto Hash
+                  // Uma SQLException ao tentar recuperar a coluna, indica que a coluna não foi "solicitada", assim não temos nada para adicionar, nem o objeto Hash
                 }
 
                 if (content != null) {
-                  // Com o VO em mos, verificamos o tipo de MetaCollection que temos na entidade (Map ou List) para saber como popular e instanciar se ainda for o primeiro
+                  // Com o VO em mãos, verificamos o tipo de MetaCollection que temos na entidade (Map ou List) para saber como popular e instanciar se ainda for o primeiro
                   final Class<?> rt = RUReflex.getPropertyTypeByType(parentTable.type, mField.field.substring(0, mField.field.length() - 1)); // Remove a @ do final do Field
                   if (List.class.isAssignableFrom(rt)) {
-                    // Se  um List procuramos a coluna de 'sort' para saber como organizar os itens
+                    // Se é um List procuramos a coluna de 'sort' para saber como organizar os itens
                     DAOMapField sortField = map.getMapFieldByPath(mTable.path.substring(1) + "@sortColumn");
-                    Integer sortIndex = null; // A coluna de organizao no  obrigatria para montar uma lista, s deixamos de garantir a ordem.
+                    Integer sortIndex = null; // A coluna de organização não é obrigatória para montar uma lista, só deixamos de garantir a ordem.
                     if (sortField != null) {
-                      sortIndex = getRSInteger(rs, mTable.schema, mTable.table, mTable.alias, sortField.column, dialect);
+                      sortIndex = getRSInteger(rs, index, mTable.schema, mTable.table, mTable.alias, sortField.column);
                       // sortIndex = rs.getInt(mTable.alias + "." + sortField.column);
                     }
 
@@ -2029,15 +3707,15 @@ public final class RFWDAO<VO extends RFWVO> {
 
                     if (!list.contains(content)) {
                       if (sortIndex == null) {
-                        // Se no temos sortIndex, simplesmente adicionamos  lista a medida que vamos recuperando
+                        // Se não temos sortIndex, simplesmente adicionamos à lista a medida que vamos recuperando
                         list.add(content);
                       } else {
-                        if (list.size() == 0) cleanLists.add(list); // Se  nova, e temos indexao, inclumos a lista para limpeza depois.
-                        // Se temos um index, temos de repeita-lo e ir populando a lista corretamente. Como podemos receber a lista fora de ordem temos de verificar o tamanho da lista antes de inserir o objeto. Caso a lista ainda seja menor do que a posio a ser ocupada, inclumos alguns "Dummy" Objects para crescer a lista e j deixar o objeto na posio correta
+                        if (list.size() == 0) cleanLists.add(list); // Se é nova, e temos indexação, incluímos a lista para limpeza depois.
+                        // Se temos um index, temos de repeita-lo e ir populando a lista corretamente. Como podemos receber a lista fora de ordem temos de verificar o tamanho da lista antes de inserir o objeto. Caso a lista ainda seja menor do que a posição a ser ocupada, incluímos alguns "Dummy" Objects para crescer a lista e já deixar o objeto na posição correta
                         while (list.size() < sortIndex + 1)
-                          list.add(map); // incluimos um objeto que j existe para evitar instanciar novos objetos na memria. E Adicionar NULL no funciona na Linked List
-                        // Inclumos inclusive um objeto no lugar onde nosso objeto ser colocado propositalmente, assim no precisamos ter duas lgicas abaixo
-                        list.add(sortIndex, content); // Ao incluir o objeto no ndex determinado, empurramos todos os outros para frente, por isso temos de remover o prximo objeto (que antes ocupava o lugar deste)
+                          list.add(map); // incluimos um objeto que já existe para evitar instanciar novos objetos na memória. E Adicionar NULL não funciona na Linked List
+                        // Incluímos inclusive um objeto no lugar onde nosso objeto será colocado propositalmente, assim não precisamos ter duas lógicas abaixo
+                        list.add(sortIndex, content); // Ao incluir o objeto no índex determinado, empurramos todos os outros para frente, por isso temos de remover o próximo objeto (que antes ocupava o lugar deste)
                         list.remove(sortIndex + 1);
                       }
                       RUReflex.setPropertyValue(vo, mField.field.substring(0, mField.field.length() - 1), list, false);
@@ -2047,54 +3725,41 @@ public final class RFWDAO<VO extends RFWVO> {
                     if (set == null) {
                       set = new HashSet<>();
                     }
-                    set.add(content); // no testamos se j existe pq o SET no permite itens repetidos, ele substituir automaticamente itens repetidos
+                    set.add(content); // não testamos se já existe pq o SET não permite itens repetidos, ele substituirá automaticamente itens repetidos
                     RUReflex.setPropertyValue(vo, mField.field.substring(0, mField.field.length() - 1), set, false);
                   } else if (Map.class.isAssignableFrom(rt)) {
-                    // Se  um Map procuramos a coluna de 'key' para saber a chave que devemos incluir na Map
+                    // Se é um Map procuramos a coluna de 'key' para saber a chave que devemos incluir na Map
                     DAOMapField keyField = map.getMapFieldByPath(mTable.path.substring(1) + "@keyColumn");
-                    Object keyValue = getRSString(rs, mTable.schema, mTable.table, mTable.alias, keyField.column, dialect); // rs.getString(mTable.alias + "." + keyField.column);
+                    Object keyValue = getRSString(rs, index, mTable.schema, mTable.table, mTable.alias, keyField.column); // rs.getString(mTable.alias + "." + keyField.column);
 
-                    // Verifica a existncia de um Converter para a chave de acesso
+                    // Verifica a existência de um Converter para a chave de acesso
                     if (RFWDAOConverterInterface.class.isAssignableFrom(ann.keyConverterClass())) {
-                      // Object ni = ann.keyConverterClass().newInstance();
-                      Object ni = createNewInstance(ann.keyConverterClass());
-                      if (!(ni instanceof RFWDAOConverterInterface)) throw new RFWCriticalException("A classe '${0}' definida no atributo '${1}' da classe '${2}' no  um RFWDAOConverterInterface vlido!", new String[] { ann.keyConverterClass().getCanonicalName(), mField.field, vo.getClass().getCanonicalName() });
-                      keyValue = ((RFWDAOConverterInterface) ni).toVO(keyValue);
+                      keyValue = getConverter(ann.keyConverterClass(), true, mField.field, vo.getClass()).toVO(keyValue);
                     }
 
                     Map hash = (Map) RUReflex.getPropertyValue(vo, mField.field.substring(0, mField.field.length() - 1));
                     if (hash == null) {
                       hash = new LinkedHashMap<>();
                     }
-                    // Recupera o atributo do objeto que  usado como chave da hash
+                    // Recupera o atributo do objeto que é usado como chave da hash
                     if (!hash.containsKey(keyValue)) {
-                      hash.put(keyValue, content); // S adiciona se ainda no tiver este objeto
+                      hash.put(keyValue, content); // Só adiciona se ainda não tiver este objeto
                       RUReflex.setPropertyValue(vo, mField.field.substring(0, mField.field.length() - 1), hash, false);
                     }
                   } else {
-                    throw new RFWCriticalException("O tipo ${0} no  suportado pela RFWMetaCollection! Atributo '${1}' da classe '${2}'.", new String[] { rt.getCanonicalName(), mField.field.substring(0, mField.field.length() - 1), parentTable.type.getCanonicalName() });
+                    throw new RFWCriticalException("O tipo ${0} não é suportado pela RFWMetaCollection! Atributo '${1}' da classe '${2}'.", new String[] { rt.getCanonicalName(), mField.field.substring(0, mField.field.length() - 1), parentTable.type.getCanonicalName() });
                   }
                 }
               }
             }
           } else if (mTable.path.startsWith(".")) { // Tabelas de N:N (join Tables)
-            // Ignora as tabelas de N:N, no faz nada!
+            // Ignora as tabelas de N:N, não faz nada!
           } else {
-            // Verifica se temos a coluna ID no resultSet, isso indica que a tabela do objeto foi recuperada
+            // Verifica se temos a coluna ID no resultSet, isso indica que a tabela do objeto foi recuperada.
+            // Se a coluna existe mas retornou nulo, buscamos pelo objeto mas não existe a associação. Neste caso temos de inicializar as listas do objeto, mesmo que vá vazia, para indicar que procuramos pelas associações mesmo qu não exista nenhuma. Já que enviar null indica que nem procuramos.
+            final boolean retrived = retrievedTables.get(tablePos);
             Long id = null;
-            boolean retrived = false;
-            try {
-              id = getRSLong(rs, mTable.schema, mTable.table, mTable.alias, "id", dialect); // rs.getLong(mTable.alias + ".id");
-              // Essa flag  passada para true quando no tivemos uma exception nas linhas acima. Isso quer dizer que a coluna existe no resultado, s retornou nulo. Isso quer dizer buscamos pelo objeto mas no existe a associao.
-              // Neste caso temos de inicializar as listas do objeto, mesmo que v vazia, para indicar que procuramos pelas associaes mesmo qu no exista nenhuma. J que enviar null indica que nem procuramos.
-              retrived = true;
-            } catch (RFWException e) {
-              if (e.getCause() != null && e.getCause() instanceof SQLException) {
-                // um SQLException indica que a coluna no est presente, provavelmente pq os objetos no foram exigidos. Neste caso pulamos este objeto.
-              } else {
-                throw e;
-              }
-            }
+            if (retrived) id = getRSLong(rs, index, mTable.schema, mTable.table, mTable.alias, "id"); // rs.getLong(mTable.alias + ".id");
             if (id != null) {
               final String key = mTable.type.getCanonicalName() + "." + id;
               RFWVO vo = objCache.get(key);
@@ -2103,41 +3768,41 @@ public final class RFWDAO<VO extends RFWVO> {
                 vo.setId(id);
                 objCache.put(key, vo);
 
-                // Iteramos os campos em busca das informaes deste VO
+                // Iteramos os campos em busca das informações deste VO
                 for (DAOMapField mField : map.getMapField()) {
-                  // Ignora o field ID pq ele no est no objeto sendo escrito ( herdado do pai) e o mtodo write no o encontra. Sem contar que j foi escrito diretamente acima sem a necessidade de reflexo
-                  if (mField.table == mTable && !"id".equals(mField.field)) writeToVO(mField, vo, rs);
+                  // Ignora o field ID pq ele não está no objeto sendo escrito (é herdado do pai) e o método write não o encontra. Sem contar que já foi escrito diretamente acima sem a necessidade de reflexão
+                  if (mField.table == mTable && !"id".equals(mField.field)) writeToVO(mField, vo, rs, index);
                 }
               }
               aliasCache.put(mTable.alias, vo);
-              // Se  um objeto da tabela raiz, adicionamos tambm na lista que vamos retornar. No podemos ter essa linha s quando criamos o objeto pq as vezes um objeto raiz  criado primeiro por ter sido apontado em um relacionamento cclico. E embor ao objeto j tenha sido criado em outra iterao, ele deve ser adiconado na lista de objetos raiz s agora.
+              // Se é um objeto da tabela raiz, adicionamos também na lista que vamos retornar. Não podemos ter essa linha só quando criamos o objeto pq as vezes um objeto raiz é criado primeiro por ter sido apontado em um relacionamento cíclico. E embor ao objeto já tenha sido criado em outra iteração, ele deve ser adiconado na lista de objetos raiz só agora.
               if ("".equals(mTable.path) && !vos.contains(vo)) vos.add(vo);
 
             } else if (retrived) {
-              // Se no tem objeto, mas o procuramos, vamos incluir o objeto "nulo" na hash de cache para que fique explicito de que o procuramos o objeto, s no existe nenhuma associao
+              // Se não tem objeto, mas o procuramos, vamos incluir o objeto "nulo" na hash de cache para que fique explicito de que o procuramos o objeto, só não existe nenhuma associação
               aliasCache.put(mTable.alias, null);
             }
           }
         }
 
-        // Com todos os objetos criados, s precisamos defini-los para montar a hierarquia
+        // Com todos os objetos criados, só precisamos defini-los para montar a hierarquia
         for (int iterationControl = 0; iterationControl < 2; iterationControl++) {
-          // O Loop do iteration control foi criado para garantir que as hashs s sero montadas em uma segunda iterao, depois que os demais objetos j foram montados. Isso porqu a chave da hash possa ter propriedades aninhadas em seus subobjetos, e garantir que eles j foram montados:
-          // - Iterao 0: monta todos os objetos e os "relaciona" nas propriedades diretas e Listas
-          // - Iterao 1: monta as Hashs para que suas propriedaes aninhadas no estejam nulas.
+          // O Loop do iteration control foi criado para garantir que as hashs só serão montadas em uma segunda iteração, depois que os demais objetos já foram montados. Isso porquê a chave da hash possa ter propriedades aninhadas em seus subobjetos, e garantir que eles já foram montados:
+          // - Iteração 0: monta todos os objetos e os "relaciona" nas propriedades diretas e Listas
+          // - Iteração 1: monta as Hashs para que suas propriedaes aninhadas não estejam nulas.
           for (DAOMapTable mTable : map.getMapTable()) {
-            if (mTable.joinAlias != null && !mTable.path.startsWith(".")) { // joinAlias != null -> ignora a tabela raiz, Todos os objetos raz no precisem ser colocados dentro de outro objeto, mas colocamos no array de objetos que vamos retornar | !mTable.path.startsWith(".") -> ignora as tabelas de N:N que no tem um objeto
+            if (mTable.joinAlias != null && !mTable.path.startsWith(".")) { // joinAlias != null -> ignora a tabela raiz, Todos os objetos raíz não precisem ser colocados dentro de outro objeto, mas colocamos no array de objetos que vamos retornar | !mTable.path.startsWith(".") -> ignora as tabelas de N:N que não tem um objeto
               RFWVO vo = aliasCache.get(mTable.alias);
-              // VO pode ser nulo caso a associao no exista
+              // VO pode ser nulo caso a associação não exista
               if (vo != null) {
                 RFWVO join = aliasCache.get(mTable.joinAlias);
                 if (join == null) {
-                  // Join  nulo quando temos entre este objeto e o objeto de joinAlias uma tabela de N:N. Neste caso temos de pular esse objeto
+                  // Join é nulo quando temos entre este objeto e o objeto de joinAlias uma tabela de N:N. Neste caso temos de pular esse objeto
                   final DAOMapTable tmp = map.getMapTableByAlias(mTable.joinAlias);
-                  // Se for mesmo a tabela de Join, ela tem o caminho comeando com ".". Se no for uma tabela de join no utilizamos o objeto pois pode ser s um caso de 2 Joins de objetos diferentes e estamos pulando 1
+                  // Se for mesmo a tabela de Join, ela tem o caminho começando com ".". Se não for uma tabela de join não utilizamos o objeto pois pode ser só um caso de 2 Joins de objetos diferentes e estamos pulando 1
                   if (tmp.path.startsWith(".")) join = aliasCache.get(tmp.joinAlias);
                 }
-                final String relativePath = RUReflex.getLastPath(mTable.path); // pega o caminho em ralao ao objeto atual, no desde a raiz
+                final String relativePath = RUReflex.getLastPath(mTable.path); // pega o caminho em ralação ao objeto atual, não desde a raiz
                 final Class<?> rt = RUReflex.getPropertyTypeByType(join.getClass(), relativePath);
                 if (RFWVO.class.isAssignableFrom(rt)) {
                   if (iterationControl == 0) {
@@ -2149,30 +3814,29 @@ public final class RFWDAO<VO extends RFWVO> {
                     if (list == null) {
                       list = new ArrayList<>();
                     }
-                    if (!list.contains(vo)) { // S adiciona se ainda no tiver este objeto
-                      // Se  uma lista, verificamos se no atributo do VO temos a definio da coluna de 'sortColumn', para montar a lista na ordem correta.
-                      final RFWMetaRelationshipField ann = join.getClass().getDeclaredField(relativePath).getAnnotation(RFWMetaRelationshipField.class);
+                    if (!list.contains(vo)) { // Só adiciona se ainda não tiver este objeto
+                      // Se é uma lista, verificamos se no atributo do VO temos a definição da coluna de 'sortColumn', para montar a lista na ordem correta.
+                      final RelationshipDescriptor rel = EntityMetadata.get(join.getClass()).getRelationship(relativePath);
                       Integer sortIndex = null;
-                      if (ann != null && !"".equals(ann.sortColumn())) {
-                        sortIndex = getRSInteger(rs, mTable.schema, mTable.table, mTable.alias, ann.sortColumn(), dialect); // rs.getInt(mTable.alias + "." + ann.sortColumn());
+                      if (rel != null && rel.sortColumn != null) {
+                        sortIndex = getRSInteger(rs, index, mTable.schema, mTable.table, mTable.alias, rel.sortColumn); // rs.getInt(mTable.alias + "." + ann.sortColumn());
                       }
-                      // Verificamos se  um caso de composio de rvore
-                      if (ann.relationship() == RelationshipTypes.COMPOSITION_TREE) {
-                        // Nos casos de composio de rvore vamos recber o primeiro objeto, mas no os objetos filhos da rvore completa. Isso pq no teriamos como fazer infinitos JOINS no SQL para garantir que todos os objetos seriam retornados.
-                        // Nestes casos vamos resolicitar ao DAO este objeto de forma completa, incluindo seu prximo filho. Isso ser feito de forma recursiva at que todos sejam recuperados.
-                        // Para aproveitar o mesmo cache de objetos, chamamos um mtodo especfico para isso, que criar um SQL baseado no DAOMap que j temos deste objeto e passando o cache de objetos
-                        vo = fullFillCompositoinTreeObject(map, map.getMapTableByAlias(mTable.joinAlias), vo, objCache);
+                      // Verificamos se é um caso de composição de árvore
+                      if (rel != null && rel.relationship == RelationshipTypes.COMPOSITION_TREE) {
+                        // Nos casos de composição de árvore vamos recber o primeiro objeto, mas não os objetos filhos da árvore completa. Isso pq não teriamos como fazer infinitos JOINS no SQL para garantir que todos os objetos seriam retornados.
+                        // Nestes casos agendamos o objeto para ser completado depois, junto com todos os objetos do mesmo nível da árvore, com um SQL baseado no DAOMap que já temos deste objeto e o mesmo cache de objetos
+                        tree.add(map, map.getMapTableByAlias(mTable.joinAlias), vo);
                       }
                       if (sortIndex == null) {
-                        // Se no temos sortIndex, simplesmente adicionamos  lista a medida que vamos recuperando
+                        // Se não temos sortIndex, simplesmente adicionamos à lista a medida que vamos recuperando
                         list.add(vo);
                       } else {
-                        if (list.size() == 0) cleanLists.add(list); // Se  nova, e temos indexao, inclumos a lista para limpeza depois.
-                        // Se temos um index, temos de repeita-lo e ir populando a lista corretamente. Como podemos receber a lista fora de ordem temos de verificar o tamanho da lista antes de inserir o objeto. Caso a lista ainda seja menor do que a posio a ser ocupada, inclumos alguns "Dummy" Objects para crescer a lista e j deixar o objeto na posio correta
+                        if (list.size() == 0) cleanLists.add(list); // Se é nova, e temos indexação, incluímos a lista para limpeza depois.
+                        // Se temos um index, temos de repeita-lo e ir populando a lista corretamente. Como podemos receber a lista fora de ordem temos de verificar o tamanho da lista antes de inserir o objeto. Caso a lista ainda seja menor do que a posição a ser ocupada, incluímos alguns "Dummy" Objects para crescer a lista e já deixar o objeto na posição correta
                         while (list.size() <= sortIndex + 3)
-                          list.add(map); // incluimos um objeto que j existe para evitar instanciar novos objetos na memria. E Adicionar NULL no funciona na Linked List
-                        // Inclumos inclusive um objeto no lugar onde nosso objeto ser colocado propositalmente, assim no precisamos ter duas lgicas abaixo
-                        list.add(sortIndex, vo); // Ao incluir o objeto no ndex determinado, empurramos todos os outros para frente, por isso temos de remover o prximo objeto (que antes ocupava o lugar deste)
+                          list.add(map); // incluimos um objeto que já existe para evitar instanciar novos objetos na memória. E Adicionar NULL não funciona na Linked List
+                        // Incluímos inclusive um objeto no lugar onde nosso objeto será colocado propositalmente, assim não precisamos ter duas lógicas abaixo
+                        list.add(sortIndex, vo); // Ao incluir o objeto no índex determinado, empurramos todos os outros para frente, por isso temos de remover o próximo objeto (que antes ocupava o lugar deste)
                         list.remove(sortIndex + 1);
                       }
                       RUReflex.setPropertyValue(join, relativePath, list, false);
@@ -2184,33 +3848,33 @@ public final class RFWDAO<VO extends RFWVO> {
                     if (hash == null) {
                       hash = new LinkedHashMap<>();
                     }
-                    // Recupera o atributo do objeto que  usado como chave da hash
-                    final String keyMapAttributeName = join.getClass().getDeclaredField(relativePath).getAnnotation(RFWMetaRelationshipField.class).keyMap();
+                    // Recupera o atributo do objeto que é usado como chave da hash
+                    final String keyMapAttributeName = EntityMetadata.get(join.getClass()).getRelationship(relativePath).keyMap;
                     final Object key = RUReflex.getPropertyValue(vo, keyMapAttributeName);
                     if (!hash.containsKey(key)) {
-                      hash.put(key, vo); // S adiciona se ainda no tiver este objeto
+                      hash.put(key, vo); // Só adiciona se ainda não tiver este objeto
                       RUReflex.setPropertyValue(join, relativePath, hash, false);
                     }
                   }
                 } else {
-                  throw new RFWCriticalException("O RFWDAO no sabe montar mapeamento do tipo '${0}', presente no '${1}'.", new String[] { rt.getCanonicalName(), join.getClass().getCanonicalName() });
+                  throw new RFWCriticalException("O RFWDAO não sabe montar mapeamento do tipo '${0}', presente no '${1}'.", new String[] { rt.getCanonicalName(), join.getClass().getCanonicalName() });
                 }
               } else {
-                // Se o objeto da tabela no foi montado, verifica se a chave consta na Hash. Isso no h objeto para associar, mas que o objeto foi procurado. Nesse caso no temos objeto para adicionar, mas devemos criar a Lista/Hash Vazia se ela ainda no existir
+                // Se o objeto da tabela não foi montado, verifica se a chave consta na Hash. Isso não há objeto para associar, mas que o objeto foi procurado. Nesse caso não temos objeto para adicionar, mas devemos criar a Lista/Hash Vazia se ela ainda não existir
                 if (aliasCache.containsKey(mTable.alias)) {
                   RFWVO join = aliasCache.get(mTable.joinAlias);
                   if (join == null) {
-                    // Join  nulo quando temos entre este objeto e o objeto de joinAlias uma tabela de N:N. Neste caso temos de pular esse objeto
+                    // Join é nulo quando temos entre este objeto e o objeto de joinAlias uma tabela de N:N. Neste caso temos de pular esse objeto
                     final DAOMapTable tmp = map.getMapTableByAlias(mTable.joinAlias);
-                    // Se for mesmo a tabela de Join, ela tem o caminho comeando com ".". Se no for uma tabela de join no utilizamos o objeto pois pode ser s um caso de 2 Joins de objetos diferentes e estamos pulando 1
+                    // Se for mesmo a tabela de Join, ela tem o caminho começando com ".". Se não for uma tabela de join não utilizamos o objeto pois pode ser só um caso de 2 Joins de objetos diferentes e estamos pulando 1
                     if (tmp.path.startsWith(".")) join = aliasCache.get(tmp.joinAlias);
                   }
                   if (join != null) {
-                    // Se joinAlias continuar nulo,  pq mesmo o objeto pai no foi montado. Isso pode acontecer am casos de mltiplos LEFT JOIN e o relacionamento anterior tambm retornou nulo. Como ele  nulo no precisamos criar a lista vazia
-                    final String relativePath = RUReflex.getLastPath(mTable.path); // pega o caminho em ralao ao objeto atual, no desde a raiz
+                    // Se joinAlias continuar nulo, é pq mesmo o objeto pai não foi montado. Isso pode acontecer am casos de múltiplos LEFT JOIN e o relacionamento anterior também retornou nulo. Como ele é nulo não precisamos criar a lista vazia
+                    final String relativePath = RUReflex.getLastPath(mTable.path); // pega o caminho em ralação ao objeto atual, não desde a raiz
                     final Class<?> rt = RUReflex.getPropertyTypeByType(join.getClass(), relativePath);
                     if (RFWVO.class.isAssignableFrom(rt)) {
-                      // No faz nada, s no deixa cair no else
+                      // Não faz nada, só não deixa cair no else
                     } else if (List.class.isAssignableFrom(rt)) {
                       List list = (List) RUReflex.getPropertyValue(join, relativePath);
                       if (list == null) {
@@ -2224,7 +3888,7 @@ public final class RFWDAO<VO extends RFWVO> {
                         RUReflex.setPropertyValue(join, relativePath, hash, false);
                       }
                     } else {
-                      throw new RFWCriticalException("O RFWDAO no sabe montar mapeamento do tipo '${0}', presente no '${1}'.", new String[] { rt.getCanonicalName(), join.getClass().getCanonicalName() });
+                      throw new RFWCriticalException("O RFWDAO não sabe montar mapeamento do tipo '${0}', presente no '${1}'.", new String[] { rt.getCanonicalName(), join.getClass().getCanonicalName() });
                     }
                   }
                 }
@@ -2251,457 +3915,267 @@ public final class RFWDAO<VO extends RFWVO> {
     }
   }
 
-  private Boolean getRSBoolean(ResultSet rs, String schema, String tableName, String tableAlias, String column, SQLDialect dialect) throws RFWException {
-    Boolean l = null;
-    switch (dialect) {
-      case MySQL:
-        try {
-          l = rs.getBoolean(tableAlias + "." + column);
-          if (rs.wasNull()) l = null;
-          // Essa flag  passada para true quando no tivemos uma exception nas linhas acima. Isso quer dizer que a coluna existe no resultado, s retornou nulo. Isso quer dizer buscamos pelo objeto mas no existe a associao.
-          // Neste caso temos de inicializar as listas do objeto, mesmo que v vazia, para indicar que procuramos pelas associaes mesmo qu no exista nenhuma. J que enviar null indica que nem procuramos.
-        } catch (SQLException e) {
-          throw new RFWCriticalException("Falha ao obter o valor da coluna no banco de dados.", e);
-        }
-        break;
-      case DerbyDB:
-        try {
-          // Note que o DerbyDB no d suporte  recuperar o valor pelo nome da coluna quando o select utiliza o * ou algo tipo t0.*. Nesses casos tentamos procurar utilizando os metadados
-          String col = (schema + "." + tableName + "." + column).toUpperCase();
-          ResultSetMetaData md = rs.getMetaData();
-          for (int i = 1; i <= md.getColumnCount(); i++) {
-            if (col.equals(md.getSchemaName(i) + "." + md.getTableName(i) + "." + md.getColumnName(i))) {
-              l = rs.getBoolean(i);
-              if (rs.wasNull()) l = null;
-              break;
-            }
-          }
-        } catch (SQLException e) {
-          throw new RFWCriticalException("Falha ao obter o valor da coluna no banco de dados.", e);
-        }
-        break;
+  /**
+   * Lê o valor da coluna com o método do ResultSet correspondente ao tipo informado (ver {@link RFWDAOConverterInterface#getDBType()}).
+   *
+   * @param dbType Tipo esperado. Se nulo, ou não suportado, o valor é lido com o getObject.
+   */
+  private Object getRSValue(ResultSet rs, ResultSetColumnIndex index, String schema, String tableName, String tableAlias, String column, Class<?> dbType) throws RFWException {
+    if (dbType == null) return getRSObject(rs, index, schema, tableName, tableAlias, column);
+    try {
+      final int col = index.getColumn(schema, tableName, tableAlias, column);
+      if (col < 0) return null;
+      return DAORowMapper.readerFor(dbType).read(rs, col);
+    } catch (RFWException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new RFWCriticalException("Falha ao obter o valor da coluna no banco de dados.", e);
     }
-    return l;
   }
 
-  private BigDecimal getRSBigDecimal(ResultSet rs, String schema, String tableName, String tableAlias, String column, SQLDialect dialect) throws RFWException {
-    BigDecimal l = null;
-    switch (dialect) {
-      case MySQL:
-        try {
-          l = rs.getBigDecimal(tableAlias + "." + column);
-          if (rs.wasNull()) l = null;
-          // Essa flag  passada para true quando no tivemos uma exception nas linhas acima. Isso quer dizer que a coluna existe no resultado, s retornou nulo. Isso quer dizer buscamos pelo objeto mas no existe a associao.
-          // Neste caso temos de inicializar as listas do objeto, mesmo que v vazia, para indicar que procuramos pelas associaes mesmo qu no exista nenhuma. J que enviar null indica que nem procuramos.
-        } catch (SQLException e) {
-          throw new RFWCriticalException("Falha ao obter o valor da coluna no banco de dados.", e);
-        }
-        break;
-      case DerbyDB:
-        try {
-          // Note que o DerbyDB no d suporte  recuperar o valor pelo nome da coluna quando o select utiliza o * ou algo tipo t0.*. Nesses casos tentamos procurar utilizando os metadados
-          String col = (schema + "." + tableName + "." + column).toUpperCase();
-          ResultSetMetaData md = rs.getMetaData();
-          for (int i = 1; i <= md.getColumnCount(); i++) {
-            if (col.equals(md.getSchemaName(i) + "." + md.getTableName(i) + "." + md.getColumnName(i))) {
-              l = rs.getBigDecimal(i);
-              if (rs.wasNull()) l = null;
-              break;
-            }
-          }
-        } catch (SQLException e) {
-          throw new RFWCriticalException("Falha ao obter o valor da coluna no banco de dados.", e);
-        }
-        break;
+  /**
+   * Os métodos getRS* leem o valor de uma coluna do ResultSet pela sua posição, obtida do {@link ResultSetColumnIndex}, e retornam nulo quando o valor da coluna for nulo.<br>
+   * Quando a coluna não existe no ResultSet o MySQL lança exceção e o DerbyDB retorna nulo (ver {@link ResultSetColumnIndex#getColumn(String, String, String, String)}).
+   */
+  private Boolean getRSBoolean(ResultSet rs, ResultSetColumnIndex index, String schema, String tableName, String tableAlias, String column) throws RFWException {
+    try {
+      final int col = index.getColumn(schema, tableName, tableAlias, column);
+      if (col < 0) return null;
+      final boolean l = rs.getBoolean(col);
+      return rs.wasNull() ? null : l;
+    } catch (SQLException e) {
+      throw new RFWCriticalException("Falha ao obter o valor da coluna no banco de dados.", e);
     }
-    return l;
   }
 
-  private Blob getRSBlob(ResultSet rs, String schema, String tableName, String tableAlias, String column, SQLDialect dialect) throws RFWException {
-    Blob l = null;
-    switch (dialect) {
-      case MySQL:
-        try {
-          l = rs.getBlob(tableAlias + "." + column);
-          if (rs.wasNull()) l = null;
-          // Essa flag  passada para true quando no tivemos uma exception nas linhas acima. Isso quer dizer que a coluna existe no resultado, s retornou nulo. Isso quer dizer buscamos pelo objeto mas no existe a associao.
-          // Neste caso temos de inicializar as listas do objeto, mesmo que v vazia, para indicar que procuramos pelas associaes mesmo qu no exista nenhuma. J que enviar null indica que nem procuramos.
-        } catch (SQLException e) {
-          throw new RFWCriticalException("Falha ao obter o valor da coluna no banco de dados.", e);
-        }
-        break;
-      case DerbyDB:
-        try {
-          // Note que o DerbyDB no d suporte  recuperar o valor pelo nome da coluna quando o select utiliza o * ou algo tipo t0.*. Nesses casos tentamos procurar utilizando os metadados
-          String col = (schema + "." + tableName + "." + column).toUpperCase();
-          ResultSetMetaData md = rs.getMetaData();
-          for (int i = 1; i <= md.getColumnCount(); i++) {
-            if (col.equals(md.getSchemaName(i) + "." + md.getTableName(i) + "." + md.getColumnName(i))) {
-              l = rs.getBlob(i);
-              if (rs.wasNull()) l = null;
-              break;
-            }
-          }
-        } catch (SQLException e) {
-          throw new RFWCriticalException("Falha ao obter o valor da coluna no banco de dados.", e);
-        }
-        break;
+  private BigDecimal getRSBigDecimal(ResultSet rs, ResultSetColumnIndex index, String schema, String tableName, String tableAlias, String column) throws RFWException {
+    try {
+      final int col = index.getColumn(schema, tableName, tableAlias, column);
+      if (col < 0) return null;
+      final BigDecimal l = rs.getBigDecimal(col);
+      return rs.wasNull() ? null : l;
+    } catch (SQLException e) {
+      throw new RFWCriticalException("Falha ao obter o valor da coluna no banco de dados.", e);
     }
-    return l;
   }
 
-  private Time getRSTime(ResultSet rs, String schema, String tableName, String tableAlias, String column, SQLDialect dialect) throws RFWException {
-    Time l = null;
-    switch (dialect) {
-      case MySQL:
-        try {
-          l = rs.getTime(tableAlias + "." + column);
-          if (rs.wasNull()) l = null;
-          // Essa flag  passada para true quando no tivemos uma exception nas linhas acima. Isso quer dizer que a coluna existe no resultado, s retornou nulo. Isso quer dizer buscamos pelo objeto mas no existe a associao.
-          // Neste caso temos de inicializar as listas do objeto, mesmo que v vazia, para indicar que procuramos pelas associaes mesmo qu no exista nenhuma. J que enviar null indica que nem procuramos.
-        } catch (SQLException e) {
-          throw new RFWCriticalException("Falha ao obter o valor da coluna no banco de dados.", e);
-        }
-        break;
-      case DerbyDB:
-        try {
-          // Note que o DerbyDB no d suporte  recuperar o valor pelo nome da coluna quando o select utiliza o * ou algo tipo t0.*. Nesses casos tentamos procurar utilizando os metadados
-          String col = (schema + "." + tableName + "." + column).toUpperCase();
-          ResultSetMetaData md = rs.getMetaData();
-          for (int i = 1; i <= md.getColumnCount(); i++) {
-            if (col.equals(md.getSchemaName(i) + "." + md.getTableName(i) + "." + md.getColumnName(i))) {
-              l = rs.getTime(i);
-              if (rs.wasNull()) l = null;
-              break;
-            }
-          }
-        } catch (SQLException e) {
-          throw new RFWCriticalException("Falha ao obter o valor da coluna no banco de dados.", e);
-        }
-        break;
+  private Blob getRSBlob(ResultSet rs, ResultSetColumnIndex index, String schema, String tableName, String tableAlias, String column) throws RFWException {
+    try {
+      final int col = index.getColumn(schema, tableName, tableAlias, column);
+      if (col < 0) return null;
+      final Blob l = rs.getBlob(col);
+      return rs.wasNull() ? null : l;
+    } catch (SQLException e) {
+      throw new RFWCriticalException("Falha ao obter o valor da coluna no banco de dados.", e);
     }
-    return l;
   }
 
-  private Timestamp getRSTimestamp(ResultSet rs, String schema, String tableName, String tableAlias, String column, SQLDialect dialect) throws RFWException {
-    Timestamp l = null;
-    switch (dialect) {
-      case MySQL:
-        try {
-          l = rs.getTimestamp(tableAlias + "." + column);
-          if (rs.wasNull()) l = null;
-          // Essa flag  passada para true quando no tivemos uma exception nas linhas acima. Isso quer dizer que a coluna existe no resultado, s retornou nulo. Isso quer dizer buscamos pelo objeto mas no existe a associao.
-          // Neste caso temos de inicializar as listas do objeto, mesmo que v vazia, para indicar que procuramos pelas associaes mesmo qu no exista nenhuma. J que enviar null indica que nem procuramos.
-        } catch (SQLException e) {
-          throw new RFWCriticalException("Falha ao obter o valor da coluna no banco de dados.", e);
-        }
-        break;
-      case DerbyDB:
-        try {
-          // Note que o DerbyDB no d suporte  recuperar o valor pelo nome da coluna quando o select utiliza o * ou algo tipo t0.*. Nesses casos tentamos procurar utilizando os metadados
-          String col = (schema + "." + tableName + "." + column).toUpperCase();
-          ResultSetMetaData md = rs.getMetaData();
-          for (int i = 1; i <= md.getColumnCount(); i++) {
-            if (col.equals(md.getSchemaName(i) + "." + md.getTableName(i) + "." + md.getColumnName(i))) {
-              l = rs.getTimestamp(i);
-              if (rs.wasNull()) l = null;
-              break;
-            }
-          }
-        } catch (SQLException e) {
-          throw new RFWCriticalException("Falha ao obter o valor da coluna no banco de dados.", e);
-        }
-        break;
+  private Time getRSTime(ResultSet rs, ResultSetColumnIndex index, String schema, String tableName, String tableAlias, String column) throws RFWException {
+    try {
+      final int col = index.getColumn(schema, tableName, tableAlias, column);
+      if (col < 0) return null;
+      final Time l = rs.getTime(col);
+      return rs.wasNull() ? null : l;
+    } catch (SQLException e) {
+      throw new RFWCriticalException("Falha ao obter o valor da coluna no banco de dados.", e);
     }
-    return l;
   }
 
-  private Long getRSLong(ResultSet rs, String schema, String tableName, String tableAlias, String column, SQLDialect dialect) throws RFWException {
-    Long l = null;
-    switch (dialect) {
-      case MySQL:
-        try {
-          l = rs.getLong(tableAlias + "." + column);
-          if (rs.wasNull()) l = null;
-          // Essa flag  passada para true quando no tivemos uma exception nas linhas acima. Isso quer dizer que a coluna existe no resultado, s retornou nulo. Isso quer dizer buscamos pelo objeto mas no existe a associao.
-          // Neste caso temos de inicializar as listas do objeto, mesmo que v vazia, para indicar que procuramos pelas associaes mesmo qu no exista nenhuma. J que enviar null indica que nem procuramos.
-        } catch (SQLException e) {
-          throw new RFWCriticalException("Falha ao obter o valor da coluna no banco de dados.", e);
-        }
-        break;
-      case DerbyDB:
-        try {
-          // Note que o DerbyDB no d suporte  recuperar o valor pelo nome da coluna quando o select utiliza o * ou algo tipo t0.*. Nesses casos tentamos procurar utilizando os metadados
-          String col = (schema + "." + tableName + "." + column).toUpperCase();
-          ResultSetMetaData md = rs.getMetaData();
-          for (int i = 1; i <= md.getColumnCount(); i++) {
-            if (col.equals(md.getSchemaName(i) + "." + md.getTableName(i) + "." + md.getColumnName(i))) {
-              l = rs.getLong(i);
-              if (rs.wasNull()) l = null;
-              break;
-            }
-          }
-        } catch (SQLException e) {
-          throw new RFWCriticalException("Falha ao obter o valor da coluna no banco de dados.", e);
-        }
-        break;
+  private Timestamp getRSTimestamp(ResultSet rs, ResultSetColumnIndex index, String schema, String tableName, String tableAlias, String column) throws RFWException {
+    try {
+      final int col = index.getColumn(schema, tableName, tableAlias, column);
+      if (col < 0) return null;
+      final Timestamp l = rs.getTimestamp(col);
+      return rs.wasNull() ? null : l;
+    } catch (SQLException e) {
+      throw new RFWCriticalException("Falha ao obter o valor da coluna no banco de dados.", e);
     }
-    return l;
   }
 
-  private Object getRSObject(ResultSet rs, String schema, String tableName, String tableAlias, String column, SQLDialect dialect) throws RFWException {
-    Object l = null;
-    switch (dialect) {
-      case MySQL:
-        try {
-          l = rs.getObject(tableAlias + "." + column);
-          if (rs.wasNull()) l = null;
-          // Essa flag  passada para true quando no tivemos uma exception nas linhas acima. Isso quer dizer que a coluna existe no resultado, s retornou nulo. Isso quer dizer buscamos pelo objeto mas no existe a associao.
-          // Neste caso temos de inicializar as listas do objeto, mesmo que v vazia, para indicar que procuramos pelas associaes mesmo qu no exista nenhuma. J que enviar null indica que nem procuramos.
-        } catch (SQLException e) {
-          throw new RFWCriticalException("Falha ao obter o valor da coluna no banco de dados.", e);
-        }
-        break;
-      case DerbyDB:
-        try {
-          // Note que o DerbyDB no d suporte  recuperar o valor pelo nome da coluna quando o select utiliza o * ou algo tipo t0.*. Nesses casos tentamos procurar utilizando os metadados
-          String col = (schema + "." + tableName + "." + column).toUpperCase();
-          ResultSetMetaData md = rs.getMetaData();
-          for (int i = 1; i <= md.getColumnCount(); i++) {
-            if (col.equals(md.getSchemaName(i) + "." + md.getTableName(i) + "." + md.getColumnName(i))) {
-              l = rs.getObject(i);
-              if (rs.wasNull()) l = null;
-              break;
-            }
-          }
-        } catch (SQLException e) {
-          throw new RFWCriticalException("Falha ao obter o valor da coluna no banco de dados.", e);
-        }
-        break;
+  private Long getRSLong(ResultSet rs, ResultSetColumnIndex index, String schema, String tableName, String tableAlias, String column) throws RFWException {
+    try {
+      final int col = index.getColumn(schema, tableName, tableAlias, column);
+      if (col < 0) return null;
+      final long l = rs.getLong(col);
+      return rs.wasNull() ? null : l;
+    } catch (SQLException e) {
+      throw new RFWCriticalException("Falha ao obter o valor da coluna no banco de dados.", e);
     }
-    return l;
   }
 
-  private Integer getRSInteger(ResultSet rs, String schema, String tableName, String tableAlias, String column, SQLDialect dialect) throws RFWException {
-    Integer l = null;
-    switch (dialect) {
-      case MySQL:
-        try {
-          l = rs.getInt(tableAlias + "." + column);
-          if (rs.wasNull()) l = null;
-          // Essa flag  passada para true quando no tivemos uma exception nas linhas acima. Isso quer dizer que a coluna existe no resultado, s retornou nulo. Isso quer dizer buscamos pelo objeto mas no existe a associao.
-          // Neste caso temos de inicializar as listas do objeto, mesmo que v vazia, para indicar que procuramos pelas associaes mesmo qu no exista nenhuma. J que enviar null indica que nem procuramos.
-        } catch (SQLException e) {
-          throw new RFWCriticalException("Falha ao obter o valor da coluna no banco de dados.", e);
-        }
-        break;
-      case DerbyDB:
-        try {
-          // Note que o DerbyDB no d suporte  recuperar o valor pelo nome da coluna quando o select utiliza o * ou algo tipo t0.*. Nesses casos tentamos procurar utilizando os metadados
-          String col = (schema + "." + tableName + "." + column).toUpperCase();
-          ResultSetMetaData md = rs.getMetaData();
-          for (int i = 1; i <= md.getColumnCount(); i++) {
-            if (col.equals(md.getSchemaName(i) + "." + md.getTableName(i) + "." + md.getColumnName(i))) {
-              l = rs.getInt(i);
-              if (rs.wasNull()) l = null;
-              break;
-            }
-          }
-        } catch (SQLException e) {
-          throw new RFWCriticalException("Falha ao obter o valor da coluna no banco de dados.", e);
-        }
-        break;
+  private Object getRSObject(ResultSet rs, ResultSetColumnIndex index, String schema, String tableName, String tableAlias, String column) throws RFWException {
+    try {
+      final int col = index.getColumn(schema, tableName, tableAlias, column);
+      if (col < 0) return null;
+      final Object l = rs.getObject(col);
+      return rs.wasNull() ? null : l;
+    } catch (SQLException e) {
+      throw new RFWCriticalException("Falha ao obter o valor da coluna no banco de dados.", e);
     }
-    return l;
   }
 
-  private Float getRSFloat(ResultSet rs, String schema, String tableName, String tableAlias, String column, SQLDialect dialect) throws RFWException {
-    Float l = null;
-    switch (dialect) {
-      case MySQL:
-        try {
-          l = rs.getFloat(tableAlias + "." + column);
-          if (rs.wasNull()) l = null;
-          // Essa flag  passada para true quando no tivemos uma exception nas linhas acima. Isso quer dizer que a coluna existe no resultado, s retornou nulo. Isso quer dizer buscamos pelo objeto mas no existe a associao.
-          // Neste caso temos de inicializar as listas do objeto, mesmo que v vazia, para indicar que procuramos pelas associaes mesmo qu no exista nenhuma. J que enviar null indica que nem procuramos.
-        } catch (SQLException e) {
-          throw new RFWCriticalException("Falha ao obter o valor da coluna no banco de dados.", e);
-        }
-        break;
-      case DerbyDB:
-        try {
-          // Note que o DerbyDB no d suporte  recuperar o valor pelo nome da coluna quando o select utiliza o * ou algo tipo t0.*. Nesses casos tentamos procurar utilizando os metadados
-          String col = (schema + "." + tableName + "." + column).toUpperCase();
-          ResultSetMetaData md = rs.getMetaData();
-          for (int i = 1; i <= md.getColumnCount(); i++) {
-            if (col.equals(md.getSchemaName(i) + "." + md.getTableName(i) + "." + md.getColumnName(i))) {
-              l = rs.getFloat(i);
-              if (rs.wasNull()) l = null;
-              break;
-            }
-          }
-        } catch (SQLException e) {
-          throw new RFWCriticalException("Falha ao obter o valor da coluna no banco de dados.", e);
-        }
-        break;
+  private Integer getRSInteger(ResultSet rs, ResultSetColumnIndex index, String schema, String tableName, String tableAlias, String column) throws RFWException {
+    try {
+      final int col = index.getColumn(schema, tableName, tableAlias, column);
+      if (col < 0) return null;
+      final int l = rs.getInt(col);
+      return rs.wasNull() ? null : l;
+    } catch (SQLException e) {
+      throw new RFWCriticalException("Falha ao obter o valor da coluna no banco de dados.", e);
     }
-    return l;
   }
 
-  private String getRSString(ResultSet rs, String schema, String tableName, String tableAlias, String column, SQLDialect dialect) throws RFWException {
-    String s = null;
-    switch (dialect) {
-      case MySQL:
-        try {
-          s = rs.getString(tableAlias + "." + column);
-          if (rs.wasNull()) s = null;
-          // Essa flag  passada para true quando no tivemos uma exception nas linhas acima. Isso quer dizer que a coluna existe no resultado, s retornou nulo. Isso quer dizer buscamos pelo objeto mas no existe a associao.
-          // Neste caso temos de inicializar as listas do objeto, mesmo que v vazia, para indicar que procuramos pelas associaes mesmo qu no exista nenhuma. J que enviar null indica que nem procuramos.
-        } catch (SQLException e) {
-          throw new RFWCriticalException("Falha ao obter o valor da coluna no banco de dados.", e);
-        }
-        break;
-      case DerbyDB:
-        try {
-          // Note que o DerbyDB no d suporte  recuperar o valor pelo nome da coluna quando o select utiliza o * ou algo tipo t0.*. Nesses casos tentamos procurar utilizando os metadados
-          String col = (schema + "." + tableName + "." + column).toUpperCase();
-          ResultSetMetaData md = rs.getMetaData();
-          for (int i = 1; i <= md.getColumnCount(); i++) {
-            if (col.equals(md.getSchemaName(i) + "." + md.getTableName(i) + "." + md.getColumnName(i))) {
-              s = rs.getString(i);
-              if (rs.wasNull()) s = null;
-              break;
-            }
-          }
-        } catch (SQLException e) {
-          throw new RFWCriticalException("Falha ao obter o valor da coluna no banco de dados.", e);
-        }
-        break;
+  private Float getRSFloat(ResultSet rs, ResultSetColumnIndex index, String schema, String tableName, String tableAlias, String column) throws RFWException {
+    try {
+      final int col = index.getColumn(schema, tableName, tableAlias, column);
+      if (col < 0) return null;
+      final float l = rs.getFloat(col);
+      return rs.wasNull() ? null : l;
+    } catch (SQLException e) {
+      throw new RFWCriticalException("Falha ao obter o valor da coluna no banco de dados.", e);
     }
-    return s;
   }
 
-  private RFWVO fullFillCompositoinTreeObject(DAOMap map, DAOMapTable startTable, RFWVO vo, HashMap<String, RFWVO> objCache) throws RFWException {
-    // Se no for a tabela raiz, temos de criar um subMap para conseguir prosseguir, se for, j estamos com ele pronto (provavelmente pq j estamos seguindo a rvore desse objeto
-    if (!"".equals(startTable.path)) map = map.createSubMap(startTable);
-    try (Connection conn = ds.getConnection(); PreparedStatement stmt = DAOMap.createSelectCompositionTreeStatement(conn, map, startTable, vo.getId(), null, null, null, null, null, dialect); ResultSet rs = stmt.executeQuery()) {
-      // Removemos o objeto atual da Cache, ou ele no ser remontado conforme os novos dados
-      objCache.remove(vo.getClass().getCanonicalName() + "." + vo.getId());
-      final List<RFWVO> list = mountVO(rs, map, objCache);
-      if (list.size() > 1) {
-        throw new RFWCriticalException("O RFWDAO montou mais de um objeto de CompositionTree para o mesmo ID! Alguma falha de modelo da tabelas ou configurao de chaves de banco.");
-      } else if (list.size() == 1) {
-        return list.get(0);
+  private String getRSString(ResultSet rs, ResultSetColumnIndex index, String schema, String tableName, String tableAlias, String column) throws RFWException {
+    try {
+      final int col = index.getColumn(schema, tableName, tableAlias, column);
+      if (col < 0) return null;
+      final String l = rs.getString(col);
+      return rs.wasNull() ? null : l;
+    } catch (SQLException e) {
+      throw new RFWCriticalException("Falha ao obter o valor da coluna no banco de dados.", e);
+    }
+  }
+
+  /**
+   * Completa os objetos de COMPOSITION_TREE agendados durante a montagem, nível a nível.<br>
+   * Os objetos de cada nível são recuperados com uma única consulta (IN pelos IDs, limitada pelo {@link #getInClauseMaxSize()}) por mapeamento, e completados nas mesmas instâncias que já estão no
+   * cache. Os objetos filhos encontrados são agendados para o próximo nível, até que a árvore termine.
+   *
+   * @param tree Objetos de COMPOSITION_TREE aguardando para serem completados.
+   * @param objCache Cache com os objetos já criados, o mesmo utilizado na montagem.
+   * @throws RFWException
+   */
+  void loadCompositionTree(DAOCompositionTree tree, HashMap<String, RFWVO> objCache) throws RFWException {
+    if (!tree.hasPending()) return;
+    final int chunkSize = Math.max(inClauseMaxSize, 1);
+    try (Connection conn = getDataSource().getConnection()) {
+      while (tree.hasPending()) {
+        for (Map.Entry<DAOMap, LinkedHashMap<Long, RFWVO>> level : tree.poll().entrySet()) {
+          final DAOMap treeMap = level.getKey();
+          final ArrayList<Long> ids = new ArrayList<>(level.getValue().keySet());
+          for (int i = 0; i < ids.size(); i += chunkSize) {
+            try (PreparedStatement stmt = DAOMap.createSelectCompositionTreeStatement(conn, treeMap, treeMap.getRootTable(), ids.subList(i, Math.min(i + chunkSize, ids.size())), null, dialect); ResultSet rs = stmt.executeQuery()) {
+              mountVO(rs, treeMap, objCache, tree);
+            }
+          }
+        }
       }
     } catch (RFWException e) {
       throw e;
     } catch (Throwable e) {
-      throw new RFWCriticalException("Falha ao executar a operao no banco de dados.", e);
+      throw new RFWCriticalException("Falha ao executar a operação no banco de dados.", e);
     }
-    throw new RFWCriticalException("O RFWDAO falhou em montar o CompositionTree para um objeto que acabara de ser recuperado do banco.");
   }
 
   /**
-   * Este mtodo recupera o contedo do ResultSet, e de acordo com o tipo do atributo no VO, faz a converso e passa o valor.
+   * Este método recupera o conteúdo do ResultSet, e de acordo com o tipo do atributo no VO, faz a conversão e passa o valor.
    *
    * @param mField Descritor do Mapeamento do Campo
-   * @param vo VO onde a informao ser escrita
-   * @param rs ResultSet com o contedo do banco de dados.
+   * @param vo VO onde a informação será escrita
+   * @param rs ResultSet com o conteúdo do banco de dados.
+   * @param index Índice das colunas do ResultSet.
    * @throws RFWException
    */
-  private void writeToVO(DAOMapField mField, RFWVO vo, ResultSet rs) throws RFWException {
+  private void writeToVO(DAOMapField mField, RFWVO vo, ResultSet rs, ResultSetColumnIndex index) throws RFWException {
     try {
       final DAOMapTable mTable = mField.table;
-      final Field decField = RUReflex.getDeclaredFieldRecursively(mTable.type, mField.field);
+      final FieldDescriptor fd = EntityMetadata.get(mTable.type).getField(mField.field);
 
       // Buscamos se o atributo tem algum converter definido
-      final RFWDAOConverter convAnn = decField.getAnnotation(RFWDAOConverter.class);
-      if (convAnn != null) {
-        final Object ni = createNewInstance(convAnn.converterClass());
-        if (!(ni instanceof RFWDAOConverterInterface)) throw new RFWCriticalException("A classe '${0}' definida no atributo '${1}' da classe '${2}' no  um RFWDAOConverterInterface vlido!", new String[] { convAnn.converterClass().getCanonicalName(), mField.field, vo.getClass().getCanonicalName() });
-        Object obj = getRSObject(rs, mTable.schema, mTable.table, mTable.alias, mField.column, dialect);
-        // final Object s = ((RFWDAOConverterInterface) ni).toVO(rs.getObject(mTable.alias + "." + mField.column));
-        final Object s = ((RFWDAOConverterInterface) ni).toVO(obj);
-        RUReflex.setPropertyValue(vo, mField.field, s, false);
+      if (fd.converterClass != null) {
+        final RFWDAOConverterInterface<Object, Object> conv = getConverter(fd.converterClass, fd.converterCacheable, mField.field, vo.getClass());
+        // Se o conversor informar o tipo esperado lemos a coluna com o método específico, caso contrário deixamos o driver decidir com o getObject
+        final Object obj = getRSValue(rs, index, mTable.schema, mTable.table, mTable.alias, mField.column, conv.getDBType());
+        fd.set(vo, conv.toVO(obj));
       } else {
-        final Class<?> dataType = decField.getType();
+        final Class<?> dataType = fd.type;
 
         if (Long.class.isAssignableFrom(dataType)) {
-          Long l = getRSLong(rs, mTable.schema, mTable.table, mTable.alias, mField.column, dialect); // rs.getLong(mTable.alias + "." + mField.column);
-          if (!rs.wasNull()) RUReflex.setPropertyValue(vo, mField.field, l, false);
+          Long l = getRSLong(rs, index, mTable.schema, mTable.table, mTable.alias, mField.column); // rs.getLong(mTable.alias + "." + mField.column);
+          if (!rs.wasNull()) fd.set(vo, l);
         } else if (String.class.isAssignableFrom(dataType)) {
-          String s = getRSString(rs, mTable.schema, mTable.table, mTable.alias, mField.column, dialect); // rs.getString(mTable.alias + "." + mField.column);
+          String s = getRSString(rs, index, mTable.schema, mTable.table, mTable.alias, mField.column); // rs.getString(mTable.alias + "." + mField.column);
           if (!rs.wasNull()) {
             // Nos casos de String, verificamos se temos a anotation de RFWMetaEncrypt
-            final RFWMetaEncrypt encAnn = decField.getAnnotation(RFWMetaEncrypt.class);
-            if (encAnn != null) {
-              s = RUEncrypter.decryptDES(s, encAnn.key());
+            if (fd.encryptKey != null) {
+              s = RUEncrypter.decryptDES(s, fd.encryptKey);
             }
-            RUReflex.setPropertyValue(vo, mField.field, s, false);
+            fd.set(vo, s);
           }
         } else if (Date.class.isAssignableFrom(dataType)) {
           if (RFW.isDevelopmentEnvironment() && !RFW.isDevPropertyTrue("rfw.orm.dao.disableLocalDateTimeRecomendation")) {
-            // Se estiver no desenvolvimento imprime a exception com a mensagem de recomendao para que tenha o Stack da chamada completa, mas deixa o cdigo seguir normalmente
-            new RFWWarningException("O RFW no recomenda utilizar o 'java.util.Date'. Verifique a implementao e substitua adequadamente por LocalDate, LocalTime ou LocalDateTime.").printStackTrace();
+            // Se estiver no desenvolvimento imprime a exception com a mensagem de recomendação para que tenha o Stack da chamada completa, mas deixa o código seguir normalmente
+            new RFWWarningException("O RFW não recomenda utilizar o 'java.util.Date'. Verifique a implementação e substitua adequadamente por LocalDate, LocalTime ou LocalDateTime.").printStackTrace();
           }
-          Timestamp timestamp = rs.getTimestamp(mField.table.alias + "." + mField.column);
-          if (!rs.wasNull()) RUReflex.setPropertyValue(vo, mField.field, new Date(timestamp.getTime()), false);
+          Timestamp timestamp = getRSTimestamp(rs, index, mTable.schema, mTable.table, mTable.alias, mField.column);
+          if (!rs.wasNull()) fd.set(vo, new Date(timestamp.getTime()));
         } else if (LocalDate.class.isAssignableFrom(dataType)) {
-          Object obj = getRSObject(rs, mTable.schema, mTable.table, mTable.alias, mField.column, dialect); // rs.getObject(mTable.alias + "." + mField.column);
+          Object obj = getRSObject(rs, index, mTable.schema, mTable.table, mTable.alias, mField.column); // rs.getObject(mTable.alias + "." + mField.column);
           if (!rs.wasNull()) {
             if (obj instanceof Timestamp) {
-              RUReflex.setPropertyValue(vo, mField.field, ((Timestamp) obj).toLocalDateTime().toLocalDate(), false);
+              fd.set(vo, ((Timestamp) obj).toLocalDateTime().toLocalDate());
             } else if (obj instanceof java.sql.Date) {
-              RUReflex.setPropertyValue(vo, mField.field, ((java.sql.Date) obj).toLocalDate(), false);
+              fd.set(vo, ((java.sql.Date) obj).toLocalDate());
             } else {
-              throw new RFWCriticalException("No foi possvel identificar o objeto '" + obj.getClass().getCanonicalName() + "' recebido para o atributo '" + mField.field + "' do VO: '" + vo.getClass().getCanonicalName() + "'. Tabela: '" + mTable.table + "." + mField.column + "'.");
+              throw new RFWCriticalException("Não foi possível identificar o objeto '" + obj.getClass().getCanonicalName() + "' recebido para o atributo '" + mField.field + "' do VO: '" + vo.getClass().getCanonicalName() + "'. Tabela: '" + mTable.table + "." + mField.column + "'.");
             }
           }
         } else if (LocalTime.class.isAssignableFrom(dataType)) {
-          Time t = getRSTime(rs, mTable.schema, mTable.table, mTable.alias, mField.column, dialect); // rs.getTime(mTable.alias + "." + mField.column);
-          if (!rs.wasNull()) RUReflex.setPropertyValue(vo, mField.field, t.toLocalTime(), false);
+          Time t = getRSTime(rs, index, mTable.schema, mTable.table, mTable.alias, mField.column); // rs.getTime(mTable.alias + "." + mField.column);
+          if (!rs.wasNull()) fd.set(vo, t.toLocalTime());
         } else if (LocalDateTime.class.isAssignableFrom(dataType)) {
-          Timestamp t = getRSTimestamp(rs, mTable.schema, mTable.table, mTable.alias, mField.column, dialect); // rs.getTimestamp(mTable.alias + "." + mField.column);
-          if (!rs.wasNull()) RUReflex.setPropertyValue(vo, mField.field, t.toLocalDateTime(), false);
+          Timestamp t = getRSTimestamp(rs, index, mTable.schema, mTable.table, mTable.alias, mField.column); // rs.getTimestamp(mTable.alias + "." + mField.column);
+          if (!rs.wasNull()) fd.set(vo, t.toLocalDateTime());
         } else if (Integer.class.isAssignableFrom(dataType)) {
-          Integer i = getRSInteger(rs, mTable.schema, mTable.table, mTable.alias, mField.column, dialect); // rs.getInt(mTable.alias + "." + mField.column);
-          if (!rs.wasNull()) RUReflex.setPropertyValue(vo, mField.field, i, false);
+          Integer i = getRSInteger(rs, index, mTable.schema, mTable.table, mTable.alias, mField.column); // rs.getInt(mTable.alias + "." + mField.column);
+          if (!rs.wasNull()) fd.set(vo, i);
         } else if (Float.class.isAssignableFrom(dataType)) {
-          Float i = getRSFloat(rs, mTable.schema, mTable.table, mTable.alias, mField.column, dialect); // rs.getInt(mTable.alias + "." + mField.column);
-          if (!rs.wasNull()) RUReflex.setPropertyValue(vo, mField.field, i, false);
+          Float i = getRSFloat(rs, index, mTable.schema, mTable.table, mTable.alias, mField.column); // rs.getInt(mTable.alias + "." + mField.column);
+          if (!rs.wasNull()) fd.set(vo, i);
         } else if (Boolean.class.isAssignableFrom(dataType)) {
-          Boolean b = getRSBoolean(rs, mTable.schema, mTable.table, mTable.alias, mField.column, dialect); // rs.getBoolean(mTable.alias + "." + mField.column);
-          if (!rs.wasNull()) RUReflex.setPropertyValue(vo, mField.field, b, false);
+          Boolean b = getRSBoolean(rs, index, mTable.schema, mTable.table, mTable.alias, mField.column); // rs.getBoolean(mTable.alias + "." + mField.column);
+          if (!rs.wasNull()) fd.set(vo, b);
         } else if (BigDecimal.class.isAssignableFrom(dataType)) {
-          BigDecimal b = getRSBigDecimal(rs, mTable.schema, mTable.table, mTable.alias, mField.column, dialect); // rs.getBigDecimal(mTable.alias + "." + mField.column);
-          if (!rs.wasNull()) RUReflex.setPropertyValue(vo, mField.field, b, false);
+          BigDecimal b = getRSBigDecimal(rs, index, mTable.schema, mTable.table, mTable.alias, mField.column); // rs.getBigDecimal(mTable.alias + "." + mField.column);
+          if (!rs.wasNull()) fd.set(vo, b);
         } else if (Enum.class.isAssignableFrom(dataType)) {
-          String b = getRSString(rs, mTable.schema, mTable.table, mTable.alias, mField.column, dialect); // rs.getString(mTable.alias + "." + mField.column);
+          String b = getRSString(rs, index, mTable.schema, mTable.table, mTable.alias, mField.column); // rs.getString(mTable.alias + "." + mField.column);
           if (!rs.wasNull()) {
             try {
               @SuppressWarnings({ "rawtypes", "unchecked" })
               final Enum e = Enum.valueOf((Class<Enum>) dataType, b);
-              RUReflex.setPropertyValue(vo, mField.field, e, false);
+              fd.set(vo, e);
             } catch (IllegalArgumentException e) {
               throw new RFWCriticalException("RFW_ERR_000013", new String[] { b, dataType.getCanonicalName(), mField.field, vo.getClass().getCanonicalName() });
             }
           }
         } else if (byte[].class.isAssignableFrom(dataType)) {
-          Blob blob = getRSBlob(rs, mTable.schema, mTable.table, mTable.alias, mField.column, dialect); // rs.getBlob(mTable.alias + "." + mField.column);
+          Blob blob = getRSBlob(rs, index, mTable.schema, mTable.table, mTable.alias, mField.column); // rs.getBlob(mTable.alias + "." + mField.column);
           if (!rs.wasNull()) {
             int blobLength = (int) blob.length();
             byte[] b = blob.getBytes(1, blobLength);
             blob.free();
-            if (!rs.wasNull()) RUReflex.setPropertyValue(vo, mField.field, b, false);
+            if (!rs.wasNull()) fd.set(vo, b);
           }
         } else if (RFWVO.class.isAssignableFrom(dataType)) {
-          // No fazemos nada. Isso pq o caso em que esse objeto aparece  quando temos uma coluna de FK na tabela do objeto. Para inserir s o ID no vamos criar o objeto para dar preferncia em mandar sempre um objeto mais leve. Caso o objeto tenha sido solicitado explicitamente, ele ser montado durante leitura da sua propria tabela e colocado aqui.
-          // Assim inclusive garantimos que no vamos sobrepor um objeto completo por um s com o ID
+          // Não fazemos nada. Isso pq o caso em que esse objeto aparece é quando temos uma coluna de FK na tabela do objeto. Para inserir só o ID não vamos criar o objeto para dar preferência em mandar sempre um objeto mais leve. Caso o objeto tenha sido solicitado explicitamente, ele será montado durante leitura da sua propria tabela e colocado aqui.
+          // Assim inclusive garantimos que não vamos sobrepor um objeto completo por um só com o ID
         } else if (List.class.isAssignableFrom(dataType)) {
-          // No fazemos nada. Isso pq o caso em que esse objeto aparece  quando temos uma coluna de FK na tabela do objeto. Para inserir s o ID no vamos criar o objeto para dar preferncia em mandar sempre um objeto mais leve. Caso o objeto tenha sido solicitado explicitamente, ele ser montado durante leitura da sua propria tabela e colocado aqui.
-          // Assim inclusive garantimos que no vamos sobrepor um objeto completo por um s com o ID
+          // Não fazemos nada. Isso pq o caso em que esse objeto aparece é quando temos uma coluna de FK na tabela do objeto. Para inserir só o ID não vamos criar o objeto para dar preferência em mandar sempre um objeto mais leve. Caso o objeto tenha sido solicitado explicitamente, ele será montado durante leitura da sua propria tabela e colocado aqui.
+          // Assim inclusive garantimos que não vamos sobrepor um objeto completo por um só com o ID
         } else {
-          throw new RFWCriticalException("O RFWDAO no escrever no VO dados do tipo '${0}'.", new String[] { dataType.getCanonicalName() });
+          throw new RFWCriticalException("O RFWDAO não escrever no VO dados do tipo '${0}'.", new String[] { dataType.getCanonicalName() });
         }
       }
     } catch (Throwable e) {
@@ -2710,33 +4184,256 @@ public final class RFWDAO<VO extends RFWVO> {
 
   }
 
+  /**
+   * Recupera o {@link DAOMap} para a entidade e atributos informados.<br>
+   * O mapeamento é obtido do {@link DAOMapCache}, e só é montado a partir das annotations quando ainda não existir no cache. O objeto retornado é sempre uma cópia exclusiva do chamador.
+   *
+   * @param type Entidade raiz do mapeamento.
+   * @param attributes Atributos que devem ser mapeados além dos atributos da entidade raiz.
+   * @return Mapeamento pronto para ser utilizado.
+   * @throws RFWException
+   */
   private DAOMap createDAOMap(Class<VO> type, String[] attributes) throws RFWException {
+    final DAOMapCache.Key key = new DAOMapCache.Key(getEntity(type), attributes, this.schema, this.resolver);
+    return DAOMapCache.get(key, k -> loadDAOMap(type, k.getAttributes()));
+  }
+
+  /**
+   * Monta o {@link DAOMap} a partir da leitura das annotations da entidade e dos atributos solicitados.
+   *
+   * @param type Entidade raiz do mapeamento.
+   * @param attributes Atributos que devem ser mapeados além dos atributos da entidade raiz.
+   * @return Mapeamento criado.
+   * @throws RFWException
+   */
+  private DAOMap loadDAOMap(Class<VO> type, String[] attributes) throws RFWException {
     final DAOMap map = new DAOMap();
+    map.setResolver(this.resolver);
 
     // Primeiro passo, carregar os mapeamentos da entidade raiz
     loadEntityMap(type, map, "");
 
-    // Iteramos todos os atributos para mapea-los tambm
+    // Iteramos todos os atributos para mapea-los também
     if (attributes != null) for (String attribute : attributes) {
-      loadEntityMap(type, map, RUReflex.getParentPath(attribute)); // Removemos o ltimo bloco de attribute pq  um atributo, e queremos passar para o mtodo somente o "caminho" at a entidade.
+      loadEntityMap(type, map, RUReflex.getParentPath(attribute)); // Removemos o último bloco de attribute pq é um atributo, e queremos passar para o método somente o "caminho" até a entidade.
       loadEntityCollectionMap(type, map, attribute);
     }
 
     return map;
   }
 
+  /**
+   * Recupera a quantidade de vezes que um mapeamento foi encontrado no cache compartilhado de {@link DAOMap}.
+   */
+  public static long getDAOMapCacheHits() {
+    return DAOMapCache.getHits();
+  }
+
+  /**
+   * Recupera a quantidade de vezes que um mapeamento não foi encontrado no cache compartilhado de {@link DAOMap} e precisou ser montado a partir das annotations.
+   */
+  public static long getDAOMapCacheMisses() {
+    return DAOMapCache.getMisses();
+  }
+
+  /**
+   * Recupera a quantidade de mapeamentos descartados do cache compartilhado de {@link DAOMap} por ter atingido o tamanho máximo.
+   */
+  public static long getDAOMapCacheEvictions() {
+    return DAOMapCache.getEvictions();
+  }
+
+  /**
+   * Define a quantidade máxima de mapeamentos mantidos no cache compartilhado de {@link DAOMap}. Quando atingido, os mapeamentos menos utilizados recentemente são descartados. Passe 0 para
+   * desabilitar o cache.
+   *
+   * @param maxSize Quantidade máxima de mapeamentos. Padrão {@value DAOMapCache#DEFAULT_MAXSIZE}.
+   */
+  public static void setDAOMapCacheMaxSize(int maxSize) {
+    DAOMapCache.setMaxSize(maxSize);
+  }
+
+  /**
+   * Descarta todos os mapeamentos do cache compartilhado de {@link DAOMap}. Útil quando as definições do {@link DAOResolver} forem alteradas em tempo de execução.
+   */
+  public static void clearDAOMapCache() {
+    DAOMapCache.clear();
+  }
+
+  /**
+   * Habilita ou desabilita a montagem dos objetos pelo plano compilado ({@link DAORowMapper}). Quando desabilitado todas as consultas passam a ser montadas pelo interpretador original, o que
+   * permite comparar os dois caminhos em produção sem alterar o código.
+   *
+   * @param enabled true para utilizar o plano compilado, false para utilizar o interpretador.
+   */
+  public static void setCompiledRowMapperEnabled(boolean enabled) {
+    compiledRowMapperEnabled = enabled;
+  }
+
+  /**
+   * Indica se a montagem dos objetos pelo plano compilado ({@link DAORowMapper}) está habilitada.
+   */
+  public static boolean isCompiledRowMapperEnabled() {
+    return compiledRowMapperEnabled;
+  }
+
+  /**
+   * Define a estratégia utilizada pelo {@link #findList(RFWMO, RFWOrderBy, String[], Integer, Integer)} quando nenhuma é informada na chamada.
+   *
+   * @param strategy Estratégia padrão. Se nulo, volta para {@link FindListStrategy#AUTO}.
+   */
+  public static void setDefaultFindListStrategy(FindListStrategy strategy) {
+    defaultFindListStrategy = strategy == null ? FindListStrategy.AUTO : strategy;
+  }
+
+  /**
+   * Recupera a estratégia utilizada pelo {@link #findList(RFWMO, RFWOrderBy, String[], Integer, Integer)} quando nenhuma é informada na chamada.
+   */
+  public static FindListStrategy getDefaultFindListStrategy() {
+    return defaultFindListStrategy;
+  }
+
+  /**
+   * Define o maior limit para o qual o {@link FindListStrategy#AUTO} escolhe o {@link FindListStrategy#TWO_QUERIES}.
+   *
+   * @param maxSize Quantidade máxima de objetos. Passe 0 para utilizar o {@link FindListStrategy#SINGLE_QUERY} em todas as consultas com limit. Consultas sem limit sempre utilizam o
+   *          {@link FindListStrategy#TWO_QUERIES}.
+   */
+  public static void setFindListTwoQueriesMaxSize(int maxSize) {
+    findListTwoQueriesMaxSize = maxSize;
+  }
+
+  /**
+   * Recupera o maior limit para o qual o {@link FindListStrategy#AUTO} escolhe o {@link FindListStrategy#TWO_QUERIES}.
+   */
+  public static int getFindListTwoQueriesMaxSize() {
+    return findListTwoQueriesMaxSize;
+  }
+
+  /**
+   * Define a quantidade máxima de linhas enviadas em cada executeBatch() na persistência dos objetos de composição 1:N.
+   *
+   * @param batchSize Quantidade de linhas por lote. Passe 0 (ou 1) para persistir os objetos um a um.
+   */
+  public static void setPersistBatchSize(int batchSize) {
+    persistBatchSize = batchSize;
+  }
+
+  /**
+   * Recupera a quantidade máxima de linhas enviadas em cada executeBatch() na persistência dos objetos de composição 1:N.
+   */
+  public static int getPersistBatchSize() {
+    return persistBatchSize;
+  }
+
+  /**
+   * Habilita ou desabilita a comparação dos objetos com o objeto original na atualização, para que apenas as colunas alteradas sejam escritas no banco de dados.
+   *
+   * @param enabled true para atualizar apenas as colunas alteradas, false para atualizar sempre todas as colunas.
+   */
+  public static void setDirtyCheckEnabled(boolean enabled) {
+    dirtyCheckEnabled = enabled;
+  }
+
+  /**
+   * Indica se a comparação dos objetos com o objeto original na atualização está habilitada.
+   */
+  public static boolean isDirtyCheckEnabled() {
+    return dirtyCheckEnabled;
+  }
+
+  /**
+   * Define a quantidade máxima de valores em uma única condição IN gerada pelo próprio RFWDAO.
+   *
+   * @param maxSize Quantidade máxima de valores. Valores menores que 1 são tratados como 1.
+   */
+  public static void setInClauseMaxSize(int maxSize) {
+    inClauseMaxSize = maxSize;
+  }
+
+  /**
+   * Recupera a quantidade máxima de valores em uma única condição IN gerada pelo próprio RFWDAO.
+   */
+  public static int getInClauseMaxSize() {
+    return inClauseMaxSize;
+  }
+
+  /**
+   * Define a quantidade máxima de consultas executadas ao mesmo tempo pelas leituras em paralelo. Cada consulta utiliza uma conexão do DataSource, por isso o valor deve respeitar o tamanho do pool.
+   *
+   * @param maxParallelism Quantidade máxima de consultas simultâneas. Valores menores ou iguais a 1 fazem as leituras serem executadas em sequência.
+   */
+  public static void setParallelism(int maxParallelism) {
+    parallelism = maxParallelism;
+  }
+
+  /**
+   * Recupera a quantidade máxima de consultas executadas ao mesmo tempo pelas leituras em paralelo.
+   */
+  public static int getParallelism() {
+    return parallelism;
+  }
+
+  /**
+   * Recupera a quantidade total de FKs pendentes (INNER_ASSOCIATION) que precisaram ser atualizadas depois da persistência dos objetos, somando todas as persistências.<br>
+   * Cada FK pendente indica um objeto que foi inserido sem a associação, porque o objeto associado ainda não tinha ID, e depois precisou de um UPDATE.
+   */
+  public static long getFKFixUpCount() {
+    return fkFixUps.get();
+  }
+
+  /**
+   * Recupera a quantidade de persistências que precisaram atualizar alguma FK pendente (INNER_ASSOCIATION).
+   */
+  public static long getFKFixUpPersistCount() {
+    return fkFixUpPersists.get();
+  }
+
+  /**
+   * Zera os contadores de {@link #getFKFixUpCount()} e {@link #getFKFixUpPersistCount()}.
+   */
+  public static void resetFKFixUpCount() {
+    fkFixUps.set(0);
+    fkFixUpPersists.set(0);
+  }
+
+  /**
+   * Recupera a quantidade de FKs pendentes (INNER_ASSOCIATION) atualizadas na última persistência realizada por esta instância na Thread atual. No {@link #persistAll(Collection)} é a quantidade do
+   * último objeto persistido.
+   */
+  public int getLastFKFixUpCount() {
+    final Integer count = lastFKFixUpCount.get();
+    return count == null ? 0 : count;
+  }
+
+  /**
+   * Recupera a quantidade de vezes que a ausência de uma coluna no ResultSet só pôde ser identificada através de uma SQLException.<br>
+   * A posição das colunas é resolvida uma única vez por consulta (no DerbyDB a partir do ResultSetMetaData, no MySQL pelo próprio driver), por isso cada coluna ausente é contada no máximo uma vez
+   * por consulta, e não uma vez por linha.
+   */
+  public static long getMissingColumnExceptionCount() {
+    return ResultSetColumnIndex.getMissingColumnExceptions();
+  }
+
+  /**
+   * Zera o contador de {@link #getMissingColumnExceptionCount()}.
+   */
+  public static void resetMissingColumnExceptionCount() {
+    ResultSetColumnIndex.resetMissingColumnExceptions();
+  }
+
   /**
    * Carrega o mapeamento de uma entidade (RFWVO) na estrutura de mapeamento do SQL.
    *
    * @param type Tipo da Entidade a ser carregada (Classe)
    * @param map Objeto de mapeamento onde os novos mapeamentos devem ser colocados.
-   * @param path Caminho do atributo com o mapeamento para esta entidade. Passe "" para carregar como objeto raiz. NUNCA PASSE NULL, no testamos null para diminuir o if.
+   * @param path Caminho do atributo com o mapeamento para esta entidade. Passe "" para carregar como objeto raiz. NUNCA PASSE NULL, não testamos null para diminuir o if.
    * @throws RFWException
    */
   @SuppressWarnings("unchecked")
   private void loadEntityMap(Class<? extends RFWVO> root, DAOMap map, String path) throws RFWException {
-    if (map.getMapTableByPath(path) == null) { // se j encontramos no precisamos processar o bloco abaixo, pois no s o mapeamento da tabela j foi criado, qualquer qualquer mapeamento de tabela N:N e seus campos
-      // Variveis com o prefixo "entity" referen-se  entidade sendo mapeada
+    if (map.getMapTableByPath(path) == null) { // se já encontramos não precisamos processar o bloco abaixo, pois não só o mapeamento da tabela já foi criado, qualquer qualquer mapeamento de tabela N:N e seus campos
+      // Variáveis com o prefixo "entity" referen-se à entidade sendo mapeada
       Class<? extends RFWVO> entityType = null;
       RFWDAOAnnotation entityDAOAnn = null;
       String entityTable = null;
@@ -2746,29 +4443,29 @@ public final class RFWDAO<VO extends RFWVO> {
       String entityJoinColumn = null;
       DAOMapTable mapTable = null;
 
-      if (path.equals("")) { // Deixado nessa ordem, ao invs do "".equals(path) para justamente dar nullpointer caso algum passe null. Em caso de null o if retornria true e estragaria a lgica de qualquer forma. Como null no  esperado, conforme javadoc,  melhor que d nullpointer logo aqui para que o real problema seja encontrado (que  de onde vem o null)
-        entityType = getEntity(root); // Se estamos no objeto raiz, a entidade  exatamente o objeto raiz
+      if (path.equals("")) { // Deixado nessa ordem, ao invés do "".equals(path) para justamente dar nullpointer caso alguém passe null. Em caso de null o if retornria true e estragaria a lógica de qualquer forma. Como null não é esperado, conforme javadoc, é melhor que dê nullpointer logo aqui para que o real problema seja encontrado (que é de onde vem o null)
+        entityType = getEntity(root); // Se estamos no objeto raiz, a entidade é exatamente o objeto raiz
         entityDAOAnn = entityType.getAnnotation(RFWDAOAnnotation.class);
         entityTable = getTable(entityType, entityDAOAnn);
         entitySchema = getSchema(entityType, entityDAOAnn);
 
-        PreProcess.requiredNonNull(entitySchema, "O RFWDAO no conseguiu determinar o schema a ser utilizada com a entidade: '${0}'.", new String[] { entityType.getCanonicalName() });
-        PreProcess.requiredNonNull(entityTable, "O RFWDAO no conseguiu determinar a tabela a ser utilizada com a entidade: '${0}'.", new String[] { entityType.getCanonicalName() });
+        PreProcess.requiredNonNull(entitySchema, "O RFWDAO não conseguiu determinar o schema a ser utilizada com a entidade: '${0}'.", new String[] { entityType.getCanonicalName() });
+        PreProcess.requiredNonNull(entityTable, "O RFWDAO não conseguiu determinar a tabela a ser utilizada com a entidade: '${0}'.", new String[] { entityType.getCanonicalName() });
 
         mapTable = map.createMapTable(entityType, path, entitySchema, entityTable, entityColumn, entityJoin, entityJoinColumn);
       } else {
         String parentPath = RUReflex.getParentPath(path);
         if (parentPath != null) {
-          // Se temos um caminho e obtivemos um caminho do pai, procuramos se essa tabela j foi mapeada
+          // Se temos um caminho e obtivemos um caminho do pai, procuramos se essa tabela já foi mapeada
           DAOMapTable parentMapTable = map.getMapTableByPath(parentPath);
           if (parentMapTable == null) {
-            // Se no encontramos, chamamos o mtodo recursivamente para primeiro cadastrar o pai
+            // Se não encontramos, chamamos o método recursivamente para primeiro cadastrar o pai
             loadEntityMap(root, map, parentPath);
-            // Recuperamos o parent recem criado na recurso
+            // Recuperamos o parent recem criado na recursão
             parentMapTable = map.getMapTableByPath(parentPath);
           }
 
-          // Se temos o pai, temos de verificar o relacionamento que entre o objeto pai e este e suas definies. Dependendo do tipo de relacionamento, posicionamento da FK e etc., o mapeamento ser diferente
+          // Se temos o pai, temos de verificar o relacionamento que entre o objeto pai e este e suas definições. Dependendo do tipo de relacionamento, posicionamento da FK e etc., o mapeamento será diferente
           Field parentField = null;
           try {
             parentField = parentMapTable.type.getDeclaredField(RUReflex.getCleanPath(RUReflex.getLastPath(path)));
@@ -2777,13 +4474,13 @@ public final class RFWDAO<VO extends RFWVO> {
           }
           final RFWMetaRelationshipField parentRelAnn = parentField.getAnnotation(RFWMetaRelationshipField.class);
 
-          // Para definir a entidade destino primeiro tentamos retirar do atributo da anotao da classe pai, se no tiver tentamos verificar o tipo do atributo. A ordem  usada assim pr conta de litas, hashs e interfaces que impedem a deteco automaticamente
+          // Para definir a entidade destino primeiro tentamos retirar do atributo da anotação da classe pai, se não tiver tentamos verificar o tipo do atributo. A ordem é usada assim pr conta de litas, hashs e interfaces que impedem a detecção automaticamente
           if (!parentRelAnn.targetRelationship().equals(RFWVO.class)) {
             entityType = parentRelAnn.targetRelationship();
           } else if (RFWVO.class.isAssignableFrom(parentField.getType())) {
             entityType = (Class<? extends RFWVO>) parentField.getType();
           } else {
-            throw new RFWCriticalException("No foi possvel detectar a classe de relacionamento do atributo '${0}'. Verifique se  um RFWVO ou se a classe est definida corretamente no 'targetRelatioship'.", new String[] { parentMapTable.type.getCanonicalName() + "." + parentField.getName() });
+            throw new RFWCriticalException("Não foi possível detectar a classe de relacionamento do atributo '${0}'. Verifique se é um RFWVO ou se a classe está definida corretamente no 'targetRelatioship'.", new String[] { parentMapTable.type.getCanonicalName() + "." + parentField.getName() });
           }
 
           entityType = getEntity(entityType);
@@ -2791,84 +4488,84 @@ public final class RFWDAO<VO extends RFWVO> {
           entitySchema = getSchema(entityType, entityDAOAnn);
           entityTable = getTable(entityType, entityDAOAnn);
 
-          PreProcess.requiredNonNull(entitySchema, "O RFWDAO no conseguiu determinar o schema a ser utilizada com a entidade: '${0}'.", new String[] { entityType.getCanonicalName() });
-          PreProcess.requiredNonNull(entityTable, "O RFWDAO no conseguiu determinar a tabela a ser utilizada com a entidade: '${0}'.", new String[] { entityType.getCanonicalName() });
+          PreProcess.requiredNonNull(entitySchema, "O RFWDAO não conseguiu determinar o schema a ser utilizada com a entidade: '${0}'.", new String[] { entityType.getCanonicalName() });
+          PreProcess.requiredNonNull(entityTable, "O RFWDAO não conseguiu determinar a tabela a ser utilizada com a entidade: '${0}'.", new String[] { entityType.getCanonicalName() });
 
           switch (parentRelAnn.relationship()) {
             case MANY_TO_MANY:
-              // Se o relacionamento entre um objeto e outro  N:N temos de criar um mapeamento de tabela de "joinAlias", se ainda no existir
+              // Se o relacionamento entre um objeto e outro é N:N temos de criar um mapeamento de tabela de "joinAlias", se ainda não existir
               DAOMapTable joinMapTable = map.getMapTableByPath("." + path); // Tabelas de Join tem o mesmo caminho da tabela da entidade relacionada, precedidas de um '.'
               if (joinMapTable == null) joinMapTable = map.createMapTable(null, "." + path, parentMapTable.schema, getMetaRelationJoinTable(parentField, parentRelAnn), getMetaRelationColumn(parentField, parentRelAnn), parentMapTable.alias, "id");
-              // Usamos as informaes do mapeamento de joinAlias criado para criar o mapeamento desta entidade agora
+              // Usamos as informações do mapeamento de joinAlias criado para criar o mapeamento desta entidade agora
               mapTable = map.createMapTable(entityType, path, entitySchema, entityTable, "id", joinMapTable.alias, getMetaRelationColumnMapped(parentField, parentRelAnn));
               break;
             case PARENT_ASSOCIATION:
-              if ("".equals(getMetaRelationColumn(parentField, parentRelAnn))) throw new RFWCriticalException("O atributo '${0}' da entidade '${1}' est marcado como PARENT_ASSOCIATION, mas no tem o atributo 'column' definido corretamente.", new String[] { parentField.getName(), parentMapTable.type.getCanonicalName() });
+              if ("".equals(getMetaRelationColumn(parentField, parentRelAnn))) throw new RFWCriticalException("O atributo '${0}' da entidade '${1}' está marcado como PARENT_ASSOCIATION, mas não tem o atributo 'column' definido corretamente.", new String[] { parentField.getName(), parentMapTable.type.getCanonicalName() });
               mapTable = map.createMapTable(entityType, path, entitySchema, entityTable, "id", parentMapTable.alias, getMetaRelationColumn(parentField, parentRelAnn));
               break;
             case WEAK_ASSOCIATION:
               // No mapeamento, este tipo de relacionamento se comporta igualzinho o ASSOCIATION, por isso deixamos seguir para o ASSOCIATION e realizar o mesmo tipo de mapeamento/regras.
             case ASSOCIATION:
               if (!"".equals(getMetaRelationColumn(parentField, parentRelAnn))) {
-                // Se a coluna mapeada est na tabela pai
+                // Se a coluna mapeada está na tabela pai
                 mapTable = map.createMapTable(entityType, path, entitySchema, entityTable, "id", parentMapTable.alias, getMetaRelationColumn(parentField, parentRelAnn));
               } else if (!"".equals(getMetaRelationColumnMapped(parentField, parentRelAnn))) {
-                // Se a coluna mapeada est na nossa tabela
+                // Se a coluna mapeada está na nossa tabela
                 mapTable = map.createMapTable(entityType, path, entitySchema, entityTable, getMetaRelationColumnMapped(parentField, parentRelAnn), parentMapTable.alias, "id");
               } else {
-                throw new RFWCriticalException("O atributo '${0}' da entidade '${1}' est marcado como ASSOCIATION, mas no tem o atributo 'column' nem 'columMapper' definido corretamente.", new String[] { parentField.getName(), parentMapTable.type.getCanonicalName() });
+                throw new RFWCriticalException("O atributo '${0}' da entidade '${1}' está marcado como ASSOCIATION, mas não tem o atributo 'column' nem 'columMapper' definido corretamente.", new String[] { parentField.getName(), parentMapTable.type.getCanonicalName() });
               }
               break;
             case COMPOSITION:
-              // Se  composio, criamos o mapeamento considerando que a coluna de joinAlias est na tabela que estamos mapeando agora
-              if ("".equals(getMetaRelationColumnMapped(parentField, parentRelAnn))) throw new RFWCriticalException("O atributo '${0}' da entidade '${1}' est marcado como COMPOSITION, mas no tem o atributo 'columnMapped' definido corretamente.", new String[] { parentField.getName(), parentMapTable.type.getCanonicalName() });
+              // Se é composição, criamos o mapeamento considerando que a coluna de joinAlias está na tabela que estamos mapeando agora
+              if ("".equals(getMetaRelationColumnMapped(parentField, parentRelAnn))) throw new RFWCriticalException("O atributo '${0}' da entidade '${1}' está marcado como COMPOSITION, mas não tem o atributo 'columnMapped' definido corretamente.", new String[] { parentField.getName(), parentMapTable.type.getCanonicalName() });
               mapTable = map.createMapTable(entityType, path, entitySchema, entityTable, getMetaRelationColumnMapped(parentField, parentRelAnn), parentMapTable.alias, "id");
               break;
             case COMPOSITION_TREE:
-              // Se  composio de hierarquia, criamos o mapeamento s do primeiro objeto mas no vamos dar sequncia recursivamente. A sequncia recursiva dever ser tratada dinamicamente no objeto posteriormente
-              if ("".equals(getMetaRelationColumnMapped(parentField, parentRelAnn))) throw new RFWCriticalException("O atributo '${0}' da entidade '${1}' est marcado como COMPOSITION_TREE, mas no tem o atributo 'columnMapped' definido corretamente.", new String[] { parentField.getName(), parentMapTable.type.getCanonicalName() });
+              // Se é composição de hierarquia, criamos o mapeamento só do primeiro objeto mas não vamos dar sequência recursivamente. A sequência recursiva deverá ser tratada dinamicamente no objeto posteriormente
+              if ("".equals(getMetaRelationColumnMapped(parentField, parentRelAnn))) throw new RFWCriticalException("O atributo '${0}' da entidade '${1}' está marcado como COMPOSITION_TREE, mas não tem o atributo 'columnMapped' definido corretamente.", new String[] { parentField.getName(), parentMapTable.type.getCanonicalName() });
               mapTable = map.createMapTable(entityType, path, entitySchema, entityTable, getMetaRelationColumnMapped(parentField, parentRelAnn), parentMapTable.alias, "id");
               break;
             case INNER_ASSOCIATION:
-              // Uma associao interna  similar a uma PARENT ASSOCIATION, mesmo que o RFWDAO v reutilizar o objeto caso ele j exista, em casos de consultas especficas precisamos fazer o Join da tabela de qualquer forma.
-              if ("".equals(getMetaRelationColumn(parentField, parentRelAnn))) throw new RFWCriticalException("O atributo '${0}' da entidade '${1}' est marcado como INNER_ASSOCIATION, mas no tem o atributo 'column' definido corretamente.", new String[] { parentField.getName(), parentMapTable.type.getCanonicalName() });
+              // Uma associação interna é similar a uma PARENT ASSOCIATION, mesmo que o RFWDAO vá reutilizar o objeto caso ele já exista, em casos de consultas específicas precisamos fazer o Join da tabela de qualquer forma.
+              if ("".equals(getMetaRelationColumn(parentField, parentRelAnn))) throw new RFWCriticalException("O atributo '${0}' da entidade '${1}' está marcado como INNER_ASSOCIATION, mas não tem o atributo 'column' definido corretamente.", new String[] { parentField.getName(), parentMapTable.type.getCanonicalName() });
               mapTable = map.createMapTable(entityType, path, entitySchema, entityTable, "id", parentMapTable.alias, getMetaRelationColumn(parentField, parentRelAnn));
               break;
           }
         }
       }
 
-      // mapeamos o atributo "id" que no  enxergado pq est na classe pai RFWVO.
-      map.createMapField(path, "id", mapTable, "id"); // Este atributo segue o padro que no banco de ser sempre "id" e no objeto herda sempre o atributo "id" da classe pai.
+      // mapeamos o atributo "id" que não é enxergado pq está na classe pai RFWVO.
+      map.createMapField(path, "id", mapTable, "id"); // Este atributo segue o padrão que no banco de ser sempre "id" e no objeto herda sempre o atributo "id" da classe pai.
       // RFWDAO.dumpDAOMap(map)
-      // Tendo o mapeamento da tabela feito, iteramos a classe para mapear todos os seus fields que tenham alguma anotao RFWMeta definida. Qualquer attributo sem uma annotation RFWMeta  ignorado.
+      // Tendo o mapeamento da tabela feito, iteramos a classe para mapear todos os seus fields que tenham alguma anotação RFWMeta definida. Qualquer attributo sem uma annotation RFWMeta é ignorado.
       for (Field field : RUReflex.getDeclaredFieldsRecursively(entityType)) {
         final Annotation metaAnn = RUReflex.getRFWMetaAnnotation(field);
         if (metaAnn != null) {
 
-          // Se no tivermos um nome de coluna definido, utilizaremos o nome do prprio atributo da classe
+          // Se não tivermos um nome de coluna definido, utilizaremos o nome do próprio atributo da classe
           String fieldColumn = field.getName();
           try {
-            // Tentamos recuperar por reflexo o field "column" da annotation j que no sabemos qual annotation . Se falhar no tem problema, deixa o cdigo seguir e tentar usar o nome da coluna como sendo do atributo da classe.
+            // Tentamos recuperar por reflexão o field "column" da annotation já que não sabemos qual annotation é. Se falhar não tem problema, deixa o código seguir e tentar usar o nome da coluna como sendo do atributo da classe.
             String t = (String) metaAnn.annotationType().getMethod("column").invoke(metaAnn);
-            if (!"".equals(t)) fieldColumn = t; // S passamos se no estiver "", j que ""  o valor padro do atributo column na annotation.
+            if (!"".equals(t)) fieldColumn = t; // Só passamos se não estiver "", já que "" é o valor padrão do atributo column na annotation.
           } catch (Throwable e) {
-            throw new RFWCriticalException("No encontramos o atributo 'column' na RFWMetaAnnotation '${0}'. Este atributo  obrigatrio em todas as RFWMetaAnnotations.", new String[] { metaAnn.annotationType().getCanonicalName() });
+            throw new RFWCriticalException("Não encontramos o atributo 'column' na RFWMetaAnnotation '${0}'. Este atributo é obrigatório em todas as RFWMetaAnnotations.", new String[] { metaAnn.annotationType().getCanonicalName() });
           }
 
           if (metaAnn instanceof RFWMetaRelationshipField) {
             RFWMetaRelationshipField relAnn = (RFWMetaRelationshipField) metaAnn;
             if (relAnn.relationship() != RelationshipTypes.MANY_TO_MANY && !"".equals(getMetaRelationColumn(field, relAnn))) {
-              // Se a coluna com a FK fica na tabela deste objeto (ou seja o column foi definido e no  um relacionamento N:N)
+              // Se a coluna com a FK fica na tabela deste objeto (ou seja o column foi definido e não é um relacionamento N:N)
               map.createMapField(path, field.getName(), mapTable, getMetaRelationColumn(field, relAnn));
             } else {
-              // Relacionamentos que no tenham a FK dentro da tabela do objeto em questo, no precisam ser mapeadas. Isso pq ou no sero recuperados de qualquer forma, ou sero mapeados depois no mapa da entidade associada.
+              // Relacionamentos que não tenham a FK dentro da tabela do objeto em questão, não precisam ser mapeadas. Isso pq ou não serão recuperados de qualquer forma, ou serão mapeados depois no mapa da entidade associada.
             }
           } else if (metaAnn instanceof RFWMetaCollectionField) {
-            // Se for um collection no cadastramos nada neste momento, os atirbutos de collection precisam ser solicitados explicitamente.
-            // Ao recebermos o atributo do collection ele  tratado posteriormente no mtodo loadEntityCollectionMap
+            // Se for um collection não cadastramos nada neste momento, os atirbutos de collection precisam ser solicitados explicitamente.
+            // Ao recebermos o atributo do collection ele é tratado posteriormente no método loadEntityCollectionMap
           } else {
-            // Se no for um Relationship, deixamos simplesmente cadastramos o mapeamento comum
+            // Se não for um Relationship, deixamos simplesmente cadastramos o mapeamento comum
             map.createMapField(path, field.getName(), mapTable, fieldColumn);
           }
         }
@@ -2880,22 +4577,22 @@ public final class RFWDAO<VO extends RFWVO> {
     if (!"id".equals(attribute)) {
       if (attribute.endsWith("@") && attribute.length() > 0) attribute = attribute.substring(0, attribute.length() - 1);
 
-      // Verifica se ser substitudo
+      // Verifica se será substituído
       Class<? extends RFWVO> entityType = getEntity(root);
 
       Annotation ann = RUReflex.getRFWMetaAnnotation(entityType, attribute);
       if (ann instanceof RFWMetaCollectionField) {
         RFWMetaCollectionField colAnn = (RFWMetaCollectionField) ann;
-        String parentPath = RUReflex.getParentPath(attribute); // Recuperamos o caminho pai para obter o mapeamento do pai. J devemos ter todos pois o mtodo loadEntityMap deve ser sempre chamado antes deste mtodo
+        String parentPath = RUReflex.getParentPath(attribute); // Recuperamos o caminho pai para obter o mapeamento do pai. Já devemos ter todos pois o método loadEntityMap deve ser sempre chamado antes deste método
 
         String[] paths = attribute.split("\\.");
         String fieldName = paths[paths.length - 1];
 
-        // Validamos se j no associamos essa tabela (isso pode acontecer se o usurio solicitar mais de uma vez o mesmo atributo de collection... tsc tsc tsc...)
+        // Validamos se já não associamos essa tabela (isso pode acontecer se o usuário solicitar mais de uma vez o mesmo atributo de collection... tsc tsc tsc...)
         if (map.getMapTableByPath("@" + RUReflex.addPath(parentPath, fieldName)) == null) {
           DAOMapTable daoMapTable = map.getMapTableByPath(parentPath);
 
-          // para indicar que o caminho  uma Collection, o path recebe um '@' como prefixo do path
+          // para indicar que o caminho é uma Collection, o path recebe um '@' como prefixo do path
           final DAOMapTable colMapTable = map.createMapTable(daoMapTable.type, "@" + RUReflex.addPath(parentPath, fieldName), daoMapTable.schema, colAnn.table(), colAnn.fkColumn(), daoMapTable.alias, "id");
           // Mapeia o campo e as colunas de key e Sort caso existam
           map.createMapField(parentPath, fieldName + "@", colMapTable, colAnn.column());
@@ -2909,7 +4606,7 @@ public final class RFWDAO<VO extends RFWVO> {
 
   /**
    * Retorna a entitidade que deve ser utilizada para mapear o DAOMap.<br>
-   * Este mtodo permite que o {@link DAOResolver} substitua um objeto por outro a ser mapeado em seu lugar.
+   * Este método permite que o {@link DAOResolver} substitua um objeto por outro a ser mapeado em seu lugar.
    *
    * @param entityType Entidate a descobrir o Schema
    * @param entityDAOAnn
@@ -2929,7 +4626,7 @@ public final class RFWDAO<VO extends RFWVO> {
   }
 
   /**
-   * Retorna o schema/catalog conforme definio da annotation da entidade.
+   * Retorna o schema/catalog conforme definição da annotation da entidade.
    *
    * @param entityType Entidate a descobrir o Schema
    * @param entityDAOAnn
@@ -2942,7 +4639,7 @@ public final class RFWDAO<VO extends RFWVO> {
     if (this.resolver != null) {
       schema = this.resolver.getSchema(entityType, entityDAOAnn);
     }
-    // Verifica se foi pasado na construo do RFWDAO
+    // Verifica se foi pasado na construção do RFWDAO
     if (schema == null) {
       schema = this.schema;
     }
@@ -2951,12 +4648,27 @@ public final class RFWDAO<VO extends RFWVO> {
       schema = entityDAOAnn.schema();
     }
     if (schema == null) {
-      throw new RFWCriticalException("No h um schema definido para a entidade '" + entityType.getCanonicalName() + "'.");
+      throw new RFWCriticalException("Não há um schema definido para a entidade '" + entityType.getCanonicalName() + "'.");
     }
     return schema;
   }
 
-  private Object createNewInstance(Class<?> objClass) throws RFWException {
+  /**
+   * Recupera a instância do conversor do {@link DAOConverterRegistry}. Caso o {@link DAOResolver} crie a instância ela é utilizada (e reaproveitada nas próximas chamadas), caso contrário a
+   * instância compartilhada é utilizada.
+   *
+   * @param converterClass Classe do conversor.
+   * @param cacheable Indica se a instância pode ser reaproveitada.
+   * @param field Atributo onde o conversor foi definido. Utilizado apenas na mensagem de erro.
+   * @param owner Classe do atributo onde o conversor foi definido. Utilizado apenas na mensagem de erro.
+   * @return Instância do conversor.
+   * @throws RFWException
+   */
+  RFWDAOConverterInterface<Object, Object> getConverter(Class<?> converterClass, boolean cacheable, String field, Class<?> owner) throws RFWException {
+    return DAOConverterRegistry.get(this.resolver, converterClass, cacheable, field, owner);
+  }
+
+  Object createNewInstance(Class<?> objClass) throws RFWException {
     Object newInstance = null;
     if (this.resolver != null) {
       newInstance = this.resolver.createInstance(objClass);
@@ -2972,7 +4684,7 @@ public final class RFWDAO<VO extends RFWVO> {
   }
 
   /**
-   * Retorna a tabela conforme definio da annotation da entidade.
+   * Retorna a tabela conforme definição da annotation da entidade.
    *
    * @param entityType Entidate a descobrir o Schema
    * @param entityDAOAnn
@@ -2990,13 +4702,13 @@ public final class RFWDAO<VO extends RFWVO> {
       table = entityDAOAnn.table();
     }
     if (table == null) {
-      throw new RFWCriticalException("No h uma tabela definida para a entidade '" + entityType.getCanonicalName() + "'.");
+      throw new RFWCriticalException("Não há uma tabela definida para a entidade '" + entityType.getCanonicalName() + "'.");
     }
     return table;
   }
 
   /**
-   * Mtodo para DEBUG, retorna uma String (e imprime no console) o contedo do Map, tanto mapeamento das tabelas quanto dos campos.
+   * Método para DEBUG, retorna uma String (e imprime no console) o conteúdo do Map, tanto mapeamento das tabelas quanto dos campos.
    *
    * @param map Map a ser impresso.
    * @return String contendo o dump do {@link DAOMap}
@@ -0,0 +1,71 @@
+package br.eng.rodrigogml.rfw.orm.dao;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+
+import javax.sql.DataSource;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.orm.dao.RFWDAO.SQLDialect;
+import br.eng.rodrigogml.rfw.orm.dao.interfaces.RFWDAOIDGenerator;
+
+/**
+ * Description: Base dos geradores de ID que reservam blocos de IDs no banco de dados e os distribuem em memória.<br>
+ * Cada bloco é identificado pelo DataSource, schema e nome do gerador. O banco de dados só é acessado quando o bloco atual termina, uma vez a cada blockSize IDs. Os IDs que não forem utilizados
+ * (por exemplo quando a aplicação é finalizada ou a transação desfeita) são descartados, deixando lacunas na numeração.
+ *
+ * @author Rodrigo Leitão
+ * @since 10.0.0 (18 de out de 2026)
+ */
+public abstract class RFWDAOBlockIDGenerator implements RFWDAOIDGenerator {
+
+  /**
+   * Bloco de IDs reservado.
+   */
+  private static final class Block {
+    /**
+     * Próximo ID a ser entregue. Começa depois do último para que o bloco nasça vazio e seja reservado no banco de dados logo no primeiro ID solicitado.
+     */
+    private long next = 1;
+    private long last = 0;
+  }
+
+  private final IdentityHashMap<DataSource, HashMap<String, Block>> blocks = new IdentityHashMap<>();
+
+  @Override
+  public final synchronized Long nextID(DataSource ds, SQLDialect dialect, String schema, String table, String name, int blockSize) throws RFWException {
+    if (blockSize < 1) throw new RFWCriticalException("O tamanho do bloco do gerador de IDs '${0}' deve ser maior que zero.", new String[] { name });
+    HashMap<String, Block> dsBlocks = blocks.get(ds);
+    if (dsBlocks == null) {
+      dsBlocks = new HashMap<>();
+      blocks.put(ds, dsBlocks);
+    }
+    final String key = schema + "." + name;
+    Block block = dsBlocks.get(key);
+    if (block == null) {
+      block = new Block();
+      dsBlocks.put(key, block);
+    }
+    if (block.next > block.last) {
+      block.next = allocateBlock(ds, dialect, schema, table, name, blockSize);
+      block.last = block.next + blockSize - 1;
+    }
+    return block.next++;
+  }
+
+  /**
+   * Reserva um novo bloco de IDs no banco de dados.
+   *
+   * @param ds DataSource da entidade.
+   * @param dialect Dialeto do banco de dados.
+   * @param schema Schema da tabela da entidade.
+   * @param table Tabela da entidade.
+   * @param name Nome do gerador.
+   * @param blockSize Quantidade de IDs do bloco.
+   * @return Primeiro ID do bloco. O bloco reservado deve conter os IDs de retorno até retorno + blockSize - 1.
+   * @throws RFWException Lançado caso não seja possível reservar o bloco.
+   */
+  protected abstract long allocateBlock(DataSource ds, SQLDialect dialect, String schema, String table, String name, int blockSize) throws RFWException;
+
+}
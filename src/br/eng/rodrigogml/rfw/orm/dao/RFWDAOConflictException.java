@@ -0,0 +1,65 @@
+package br.eng.rodrigogml.rfw.orm.dao;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWValidationException;
+import br.eng.rodrigogml.rfw.orm.dao.annotations.dao.RFWDAOVersion;
+
+/**
+ * Description: Exception lançada pelo {@link RFWDAO} quando o UPDATE de uma entidade com {@link RFWDAOVersion} não encontra o registro com a versão esperada. Indica que o objeto foi alterado (ou
+ * excluído) por outra transação depois de ter sido lido, e que deve ser recarregado antes de ser persistido novamente.<br>
+ * A transação da persistência é desfeita antes da exception chegar ao chamador.
+ *
+ * @author Rodrigo Leitão
+ * @since 10.0.0 (18 de out de 2026)
+ */
+public class RFWDAOConflictException extends RFWValidationException {
+
+  private static final long serialVersionUID = 2319458623301748236L;
+
+  /**
+   * Classe da entidade que não pôde ser atualizada.
+   */
+  private final String entity;
+
+  /**
+   * ID da entidade que não pôde ser atualizada.
+   */
+  private final Long id;
+
+  /**
+   * Versão do objeto enviado para persistência.
+   */
+  private final Object version;
+
+  /**
+   * @param entity Classe da entidade que não pôde ser atualizada.
+   * @param id ID da entidade.
+   * @param version Versão do objeto enviado para persistência.
+   */
+  public RFWDAOConflictException(Class<?> entity, Long id, Object version) {
+    super("O objeto '${0}' (ID: ${1}, versão: ${2}) foi alterado ou excluído por outra operação depois de ser lido. Recarregue o objeto antes de salvar novamente.", new String[] { entity.getCanonicalName(), "" + id, "" + version });
+    this.entity = entity.getCanonicalName();
+    this.id = id;
+    this.version = version;
+  }
+
+  /**
+   * Recupera a classe da entidade que não pôde ser atualizada.
+   */
+  public String getEntity() {
+    return entity;
+  }
+
+  /**
+   * Recupera o ID da entidade que não pôde ser atualizada.
+   */
+  public Long getId() {
+    return id;
+  }
+
+  /**
+   * Recupera a versão do objeto enviado para persistência.
+   */
+  public Object getVersion() {
+    return version;
+  }
+}
@@ -0,0 +1,128 @@
+package br.eng.rodrigogml.rfw.orm.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import br.eng.rodrigogml.rfw.kernel.RFW;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.orm.dao.RFWDAO.SQLDialect;
+
+/**
+ * Description: Gerador de IDs a partir de uma tabela de controle (hi/lo), para os bancos de dados sem sequence.<br>
+ * A tabela de controle fica no schema da entidade e tem uma linha por gerador, com o próximo ID livre. Cada reserva incrementa o valor da linha em blockSize em uma transação própria, que é
+ * confirmada imediatamente para que as demais conexões não fiquem bloqueadas até o fim da persistência:
+ *
+ * <pre>
+ * CREATE TABLE rfw_idgenerator (name VARCHAR(255) NOT NULL PRIMARY KEY, next_id BIGINT NOT NULL)
+ * </pre>
+ *
+ * Quando o gerador ainda não tem linha na tabela de controle ela é criada a partir do maior ID existente na tabela da entidade. O nome da tabela de controle pode ser alterado pelo
+ * {@link #setTable(String)}.<br>
+ * <br>
+ * <b>ATENÇÃO:</b> O DataSource da entidade deve entregar conexões independentes. Se a reserva for feita dentro de uma transação que depois é desfeita, o mesmo bloco pode ser reservado novamente.
+ *
+ * @author Rodrigo Leitão
+ * @since 10.0.0 (18 de out de 2026)
+ */
+public final class RFWDAOHiLoIDGenerator extends RFWDAOBlockIDGenerator {
+
+  /**
+   * Nome da tabela de controle.<br>
+   * O valor inicial pode ser definido pela propriedade de sistema "rfw.orm.dao.idGeneratorTable". Padrão: rfw_idgenerator.
+   */
+  private static volatile String table = System.getProperty("rfw.orm.dao.idGeneratorTable", "rfw_idgenerator");
+
+  @Override
+  protected long allocateBlock(DataSource ds, SQLDialect dialect, String schema, String entityTable, String name, int blockSize) throws RFWException {
+    final String qM = dialect.getQM();
+    final String control = qM + schema + qM + "." + qM + table + qM;
+    try (Connection conn = ds.getConnection()) {
+      final boolean autoCommit = conn.getAutoCommit();
+      if (autoCommit) conn.setAutoCommit(false);
+      try {
+        Long next = reserve(conn, control, qM, name, blockSize);
+        if (next == null) {
+          try {
+            insertControl(conn, control, qM, schema, entityTable, name);
+          } catch (SQLException e) {
+            // Outra conexão pode ter criado a linha ao mesmo tempo, neste caso só tentamos a reserva novamente
+            conn.rollback();
+          }
+          next = reserve(conn, control, qM, name, blockSize);
+          if (next == null) throw new RFWCriticalException("Não foi possível criar o gerador de IDs '${0}' na tabela '${1}'.", new String[] { name, control });
+        }
+        conn.commit();
+        return next - blockSize;
+      } catch (Throwable e) {
+        conn.rollback();
+        throw e;
+      } finally {
+        if (autoCommit) conn.setAutoCommit(true);
+      }
+    } catch (RFWException e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new RFWCriticalException("Falha ao reservar os IDs do gerador '${0}' na tabela '${1}'.", new String[] { name, control }, e);
+    }
+  }
+
+  /**
+   * Incrementa o próximo ID livre do gerador em blockSize.
+   *
+   * @return Próximo ID livre depois do incremento, ou nulo caso o gerador ainda não exista na tabela de controle.
+   */
+  private static Long reserve(Connection conn, String control, String qM, String name, int blockSize) throws SQLException {
+    final String update = "UPDATE " + control + " SET " + qM + "next_id" + qM + "=" + qM + "next_id" + qM + "+? WHERE " + qM + "name" + qM + "=?";
+    // ATENÇÃO: NÃO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log não dá certo!!!!
+    if (RFW.isDevelopmentEnvironment()) System.out.println(update);
+    try (PreparedStatement stmt = conn.prepareStatement(update)) {
+      stmt.setInt(1, blockSize);
+      stmt.setString(2, name);
+      if (stmt.executeUpdate() == 0) return null;
+    }
+    try (PreparedStatement stmt = conn.prepareStatement("SELECT " + qM + "next_id" + qM + " FROM " + control + " WHERE " + qM + "name" + qM + "=?")) {
+      stmt.setString(1, name);
+      try (ResultSet rs = stmt.executeQuery()) {
+        return rs.next() ? rs.getLong(1) : null;
+      }
+    }
+  }
+
+  private static void insertControl(Connection conn, String control, String qM, String schema, String entityTable, String name) throws SQLException {
+    long first = 1;
+    try (PreparedStatement stmt = conn.prepareStatement("SELECT MAX(" + qM + "id" + qM + ") FROM " + qM + schema + qM + "." + qM + entityTable + qM); ResultSet rs = stmt.executeQuery()) {
+      if (rs.next()) first = rs.getLong(1) + 1;
+    }
+    final String insert = "INSERT INTO " + control + " (" + qM + "name" + qM + "," + qM + "next_id" + qM + ") VALUES (?,?)";
+    // ATENÇÃO: NÃO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log não dá certo!!!!
+    if (RFW.isDevelopmentEnvironment()) System.out.println(insert);
+    try (PreparedStatement stmt = conn.prepareStatement(insert)) {
+      stmt.setString(1, name);
+      stmt.setLong(2, first);
+      stmt.executeUpdate();
+    }
+  }
+
+  /**
+   * Define o nome da tabela de controle, no schema de cada entidade.
+   *
+   * @param table Nome da tabela de controle.
+   */
+  public static void setTable(String table) {
+    RFWDAOHiLoIDGenerator.table = table;
+  }
+
+  /**
+   * Recupera o nome da tabela de controle, no schema de cada entidade.
+   *
+   * @return Nome da tabela de controle.
+   */
+  public static String getTable() {
+    return table;
+  }
+}
@@ -0,0 +1,71 @@
+package br.eng.rodrigogml.rfw.orm.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import javax.sql.DataSource;
+
+import br.eng.rodrigogml.rfw.kernel.RFW;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.orm.dao.RFWDAO.SQLDialect;
+
+/**
+ * Description: Gerador de IDs a partir de uma sequence do banco de dados.<br>
+ * Cada valor obtido da sequence reserva um bloco de IDs, a partir do próprio valor, por isso a sequence deve ser criada com o "INCREMENT BY" igual ao idBlockSize da entidade. Por exemplo, no Derby:
+ *
+ * <pre>
+ * CREATE SEQUENCE schema.tabela AS BIGINT START WITH 1 INCREMENT BY 50
+ * </pre>
+ *
+ * No dialeto MySQL é utilizado o NEXTVAL(), que só existe nas sequences do MariaDB (10.3 ou superior). O MySQL não tem sequences, por isso quando o servidor não é um MariaDB é lançada uma
+ * exceção, e a entidade deve utilizar outro gerador (como o {@link RFWDAOHiLoIDGenerator}).
+ *
+ * @author Rodrigo Leitão
+ * @since 10.0.0 (18 de out de 2026)
+ */
+public final class RFWDAOSequenceIDGenerator extends RFWDAOBlockIDGenerator {
+
+  @Override
+  protected long allocateBlock(DataSource ds, SQLDialect dialect, String schema, String table, String name, int blockSize) throws RFWException {
+    final String sequence = dialect.getQM() + schema + dialect.getQM() + "." + dialect.getQM() + name + dialect.getQM();
+    final String sql;
+    switch (dialect) {
+      case DerbyDB:
+        sql = "VALUES NEXT VALUE FOR " + sequence;
+        break;
+      case MySQL:
+      default:
+        sql = "SELECT NEXTVAL(" + sequence + ")";
+        break;
+    }
+    // ATENÇÃO: NÃO USAR O RFWLOGGER, OU TERMINAR EM LOOP INFINITO. Gerar Log ao gravar os Log não dá certo!!!!
+    if (RFW.isDevelopmentEnvironment()) System.out.println(sql);
+    try (Connection conn = ds.getConnection()) {
+      if (dialect == SQLDialect.MySQL && !isMariaDB(conn)) {
+        throw new RFWCriticalException("O banco de dados '${0}' não suporta sequences. O RFWDAOSequenceIDGenerator, no dialeto MySQL, só pode ser utilizado com o MariaDB. Utilize outro gerador de IDs para a sequence '${1}'.", new String[] { conn.getMetaData().getDatabaseProductName() + " " + conn.getMetaData().getDatabaseProductVersion(), sequence });
+      }
+      try (PreparedStatement stmt = conn.prepareStatement(sql); ResultSet rs = stmt.executeQuery()) {
+        if (!rs.next()) throw new RFWCriticalException("A sequence '${0}' não retornou nenhum valor.", new String[] { sequence });
+        final long value = rs.getLong(1);
+        if (!conn.getAutoCommit()) conn.commit();
+        return value;
+      }
+    } catch (RFWException e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new RFWCriticalException("Falha ao obter o próximo valor da sequence '${0}'.", new String[] { sequence }, e);
+    }
+  }
+
+  /**
+   * Verifica se o servidor é um MariaDB. Com o driver do MariaDB o nome do produto já é "MariaDB", e com o driver do MySQL a versão do servidor contém "MariaDB" (ex: "10.11.6-MariaDB").
+   */
+  private static boolean isMariaDB(Connection conn) throws Exception {
+    final String product = conn.getMetaData().getDatabaseProductName();
+    final String version = conn.getMetaData().getDatabaseProductVersion();
+    return (product != null && product.toLowerCase().contains("mariadb")) || (version != null && version.toLowerCase().contains("mariadb"));
+  }
+
+}
@@ -0,0 +1,347 @@
+package br.eng.rodrigogml.rfw.orm.dao;
+
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.IdentityHashMap;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+
+/**
+ * Description: Unidade de trabalho do {@link RFWDAO}: prende uma única conexão do DataSource e executa todas as operações dentro de uma mesma transação, com commit e rollback explícitos.<br>
+ * Enquanto a sessão estiver aberta ela fica associada à Thread corrente e ao DataSource para o qual foi criada. Qualquer {@link RFWDAO} criado com o mesmo DataSource e utilizado na mesma Thread
+ * passa a utilizar a conexão da sessão, o que permite que uma sessão englobe várias chamadas e vários DAOs:
+ *
+ * <pre>
+ * try (RFWDAOSession session = RFWDAOSession.begin(ds)) {
+ *   pedidoDAO.persist(pedido);
+ *   estoqueDAO.persist(estoque);
+ *   session.commit();
+ * }
+ * </pre>
+ *
+ * Se a sessão for fechada sem o commit, todas as alterações são desfeitas.<br>
+ * Ao chamar o {@link #begin(DataSource)} com uma sessão já aberta para o mesmo DataSource na mesma Thread, a nova sessão participa da transação existente: o commit fica a cargo da sessão externa e
+ * um rollback (ou o fechamento sem commit) marca a transação externa para ser desfeita.<br>
+ * <br>
+ * <b>ATENÇÃO:</b> A sessão não é thread-safe e só deve ser utilizada pela Thread que a criou.
+ *
+ * @author Rodrigo Leitão
+ * @since 10.0.0 (18 de out de 2026)
+ */
+public final class RFWDAOSession implements AutoCloseable {
+
+  /**
+   * Sessões abertas na Thread, indexadas pelo DataSource (por identidade) para o qual foram criadas.
+   */
+  private static final ThreadLocal<IdentityHashMap<DataSource, RFWDAOSession>> bound = new ThreadLocal<>();
+
+  /**
+   * DataSource original, para o qual a sessão foi criada.
+   */
+  private final DataSource ds;
+
+  /**
+   * Sessão que controla a transação. Aponta para a própria instância quando esta sessão foi a que abriu a conexão.
+   */
+  private final RFWDAOSession owner;
+
+  /**
+   * Conexão real, presa pela sessão.
+   */
+  private final Connection conn;
+
+  /**
+   * Conexão entregue aos DAOs. Ignora as chamadas de close(), commit(), rollback() e setAutoCommit(), que passam a ser controladas apenas pela sessão.
+   */
+  private final Connection sessionConn;
+
+  /**
+   * DataSource entregue aos DAOs, que sempre retorna a conexão da sessão.
+   */
+  private final DataSource sessionDS;
+
+  /**
+   * Valor do autoCommit da conexão antes de ser presa pela sessão, restaurado antes de devolver a conexão ao pool.
+   */
+  private final boolean originalAutoCommit;
+
+  private boolean finished = false;
+
+  private boolean rollbackOnly = false;
+
+  private RFWDAOSession(DataSource ds, Connection conn) throws SQLException {
+    this.ds = ds;
+    this.owner = this;
+    this.conn = conn;
+    this.originalAutoCommit = conn.getAutoCommit();
+    if (this.originalAutoCommit) conn.setAutoCommit(false);
+    this.sessionConn = (Connection) Proxy.newProxyInstance(RFWDAOSession.class.getClassLoader(), new Class<?>[] { Connection.class }, new SessionConnectionHandler(conn));
+    this.sessionDS = new SessionDataSource(ds, this.sessionConn);
+  }
+
+  private RFWDAOSession(RFWDAOSession owner) {
+    this.ds = owner.ds;
+    this.owner = owner;
+    this.conn = owner.conn;
+    this.originalAutoCommit = owner.originalAutoCommit;
+    this.sessionConn = owner.sessionConn;
+    this.sessionDS = owner.sessionDS;
+  }
+
+  /**
+   * Abre uma sessão para o DataSource e a associa à Thread corrente. Caso já exista uma sessão aberta para o mesmo DataSource nesta Thread, a sessão retornada participa da transação existente.
+   *
+   * @param ds DataSource de onde a conexão será obtida.
+   * @return Sessão aberta. Deve ser fechada com {@link #close()}, de preferência com um try-with-resources.
+   * @throws RFWException Lançado caso não seja possível obter a conexão ou iniciar a transação.
+   */
+  public static RFWDAOSession begin(DataSource ds) throws RFWException {
+    final RFWDAOSession current = current(ds);
+    if (current != null) return new RFWDAOSession(current);
+
+    Connection conn = null;
+    try {
+      conn = ds.getConnection();
+      final RFWDAOSession session = new RFWDAOSession(ds, conn);
+      IdentityHashMap<DataSource, RFWDAOSession> sessions = bound.get();
+      if (sessions == null) {
+        sessions = new IdentityHashMap<>();
+        bound.set(sessions);
+      }
+      sessions.put(ds, session);
+      return session;
+    } catch (Throwable e) {
+      if (conn != null) {
+        try {
+          conn.close();
+        } catch (Throwable e2) {
+          e.addSuppressed(e2);
+        }
+      }
+      throw new RFWCriticalException("Falha ao iniciar a transação no banco de dados.", e);
+    }
+  }
+
+  /**
+   * Recupera a sessão aberta para o DataSource na Thread corrente.
+   *
+   * @param ds DataSource original.
+   * @return Sessão aberta, ou nulo caso não exista.
+   */
+  static RFWDAOSession current(DataSource ds) {
+    final IdentityHashMap<DataSource, RFWDAOSession> sessions = bound.get();
+    return sessions == null ? null : sessions.get(ds);
+  }
+
+  /**
+   * Recupera o DataSource que deve ser utilizado pelas operações do {@link RFWDAO}: o da sessão aberta na Thread corrente, ou o próprio DataSource quando não houver sessão.
+   *
+   * @param ds DataSource original.
+   * @return DataSource a ser utilizado.
+   */
+  static DataSource resolve(DataSource ds) {
+    final RFWDAOSession session = current(ds);
+    return session == null ? ds : session.sessionDS;
+  }
+
+  /**
+   * Recupera o DataSource da sessão, que sempre entrega a conexão da sessão. Pode ser utilizado para criar {@link RFWDAO} ou para executar SQLs próprios dentro da mesma transação.
+   */
+  public DataSource getDataSource() {
+    return sessionDS;
+  }
+
+  /**
+   * Recupera a conexão da sessão. As chamadas de close(), commit(), rollback() e setAutoCommit() nesta conexão são ignoradas, utilize os métodos da própria sessão.
+   */
+  public Connection getConnection() {
+    return sessionConn;
+  }
+
+  /**
+   * Indica se esta sessão participa da transação de outra sessão aberta anteriormente.
+   */
+  public boolean isParticipating() {
+    return owner != this;
+  }
+
+  /**
+   * Confirma as alterações realizadas na sessão.<br>
+   * Em uma sessão participante nada é feito, o commit fica a cargo da sessão que abriu a transação.
+   *
+   * @throws RFWException Lançado caso a transação tenha sido marcada para ser desfeita por uma sessão participante, ou em caso de falha no banco de dados. Nos dois casos as alterações são desfeitas.
+   */
+  public void commit() throws RFWException {
+    if (finished) throw new RFWCriticalException("A sessão já foi finalizada!");
+    finished = true;
+    if (owner != this) return;
+    if (rollbackOnly) {
+      rollbackQuietly();
+      throw new RFWCriticalException("A transação foi desfeita pois uma das operações participantes falhou ou foi cancelada.");
+    }
+    try {
+      conn.commit();
+    } catch (Throwable e) {
+      rollbackQuietly();
+      throw new RFWCriticalException("Falha ao confirmar a transação no banco de dados.", e);
+    }
+  }
+
+  /**
+   * Desfaz as alterações realizadas na sessão.<br>
+   * Em uma sessão participante a transação é apenas marcada para ser desfeita pela sessão que a abriu.
+   *
+   * @throws RFWException Lançado em caso de falha no banco de dados.
+   */
+  public void rollback() throws RFWException {
+    if (finished) return;
+    finished = true;
+    if (owner != this) {
+      owner.rollbackOnly = true;
+      return;
+    }
+    try {
+      conn.rollback();
+    } catch (Throwable e) {
+      throw new RFWCriticalException("Falha ao desfazer a transação no banco de dados.", e);
+    }
+  }
+
+  /**
+   * Fecha a sessão. Caso ela não tenha sido confirmada com o {@link #commit()}, as alterações são desfeitas. A sessão que abriu a transação também devolve a conexão ao DataSource.
+   *
+   * @throws RFWException Lançado em caso de falha no banco de dados.
+   */
+  @Override
+  public void close() throws RFWException {
+    if (!finished) rollback();
+    if (owner != this) return;
+
+    final IdentityHashMap<DataSource, RFWDAOSession> sessions = bound.get();
+    if (sessions != null && sessions.get(ds) == this) {
+      sessions.remove(ds);
+      if (sessions.isEmpty()) bound.remove();
+    }
+    try (Connection c = conn) {
+      if (originalAutoCommit) c.setAutoCommit(true);
+    } catch (Throwable e) {
+      throw new RFWCriticalException("Falha ao liberar a conexão com o banco de dados.", e);
+    }
+  }
+
+  private void rollbackQuietly() {
+    try {
+      conn.rollback();
+    } catch (Throwable e) {
+      // Já estamos lançando a falha original
+    }
+  }
+
+  /**
+   * Intercepta as chamadas na conexão entregue aos DAOs, para que o controle da transação e o fechamento da conexão fiquem apenas com a sessão.
+   */
+  private static final class SessionConnectionHandler implements InvocationHandler {
+
+    private final Connection conn;
+
+    private SessionConnectionHandler(Connection conn) {
+      this.conn = conn;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      switch (method.getName()) {
+        case "close":
+        case "commit":
+        case "rollback":
+          if (method.getParameterCount() == 0) return null;
+          break; // rollback(Savepoint) segue para a conexão
+        case "setAutoCommit":
+          return null;
+        case "getAutoCommit":
+          return Boolean.FALSE;
+        case "equals":
+          return proxy == args[0];
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        default:
+          break;
+      }
+      try {
+        return method.invoke(conn, args);
+      } catch (InvocationTargetException e) {
+        throw e.getCause();
+      }
+    }
+  }
+
+  /**
+   * DataSource entregue aos DAOs, que sempre retorna a conexão da sessão.
+   */
+  private static final class SessionDataSource implements DataSource {
+
+    private final DataSource ds;
+
+    private final Connection conn;
+
+    private SessionDataSource(DataSource ds, Connection conn) {
+      this.ds = ds;
+      this.conn = conn;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+      return conn;
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+      return conn;
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+      return ds.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+      ds.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+      ds.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+      return ds.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+      return ds.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+      return ds.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+      return ds.isWrapperFor(iface);
+    }
+  }
+}
@@ -0,0 +1,144 @@
+package br.eng.rodrigogml.rfw.orm.dao;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import br.eng.rodrigogml.rfw.orm.dao.RFWDAO.SQLDialect;
+
+/**
+ * Description: Índice das colunas de um ResultSet, resolvido uma única vez por consulta.<br>
+ * Permite que as leituras sejam feitas pela posição da coluna (rs.getXxx(int)) ao invés de concatenar e procurar o nome "alias.coluna" a cada célula (MySQL) ou de percorrer todo o metadados a
+ * cada valor lido (DerbyDB).<br>
+ * No DerbyDB o índice é montado a partir do ResultSetMetaData. No MySQL o metadados não serve: com as configurações padrão do driver (useOldAliasMetadataBehavior=false) o getTableName() retorna o
+ * nome físico da tabela e não o alias utilizado no SQL (t0, t1...), e duas junções da mesma tabela teriam o mesmo nome. Por isso no MySQL cada "alias.coluna" é resolvido pelo próprio driver
+ * (rs.findColumn), que conhece os alias, uma única vez por consulta.<br>
+ * <br>
+ * <b>ATENÇÃO:</b> O índice é válido apenas para o ResultSet para o qual foi criado. Não é thread-safe, assim como o próprio ResultSet.
+ *
+ * @author Rodrigo Leitão
+ * @since 10.0.0 (18 de out de 2026)
+ */
+final class ResultSetColumnIndex {
+
+  /**
+   * Contador global de colunas cuja ausência no ResultSet só pôde ser identificada através de uma SQLException (lançada pelo driver ou por {@link #getColumn(String, String, String, String)}).
+   * No MySQL cada coluna ausente é contada no máximo uma vez por consulta.
+   */
+  private static final AtomicLong missingColumnExceptions = new AtomicLong();
+
+  private final ResultSet rs;
+
+  private final SQLDialect dialect;
+
+  /**
+   * Posição das colunas no DerbyDB, indexadas pelo nome completo obtido do metadados: "SCHEMA.TABELA.COLUNA". Nulo no MySQL.
+   */
+  private final HashMap<String, Integer> columnByName;
+
+  /**
+   * Cache das posições já resolvidas pelo driver no MySQL, inclusive das que não existem (-1).
+   */
+  private final HashMap<String, Integer> resolved = new HashMap<>();
+
+  /**
+   * Cria o índice do ResultSet. No DerbyDB o metadados é lido neste momento, no MySQL as colunas são resolvidas conforme solicitadas.
+   *
+   * @param rs ResultSet a ser indexado.
+   * @param dialect Dialeto do banco de dados que gerou o ResultSet.
+   * @throws SQLException Lançado caso o metadados não possa ser lido.
+   */
+  ResultSetColumnIndex(ResultSet rs, SQLDialect dialect) throws SQLException {
+    this.rs = rs;
+    this.dialect = dialect;
+
+    if (dialect == SQLDialect.DerbyDB) {
+      final ResultSetMetaData md = rs.getMetaData();
+      final int count = md.getColumnCount();
+      this.columnByName = new HashMap<>(count * 2);
+      for (int i = 1; i <= count; i++) {
+        // Em caso de nomes repetidos prevalece a primeira coluna, mesmo comportamento da busca sequencial feita anteriormente
+        this.columnByName.putIfAbsent(md.getSchemaName(i) + "." + md.getTableName(i) + "." + md.getColumnName(i), i);
+      }
+    } else {
+      this.columnByName = null;
+    }
+  }
+
+  /**
+   * Procura a posição de uma coluna no ResultSet.
+   *
+   * @param schema Schema da tabela.
+   * @param table Nome da tabela.
+   * @param alias Alias da tabela no SQL.
+   * @param column Nome da coluna.
+   * @return Posição da coluna (base 1) ou -1 caso a coluna não esteja presente no ResultSet.
+   */
+  int findColumn(String schema, String table, String alias, String column) {
+    switch (dialect) {
+      case DerbyDB: {
+        // O DerbyDB não recupera o valor pelo nome da coluna quando o select utiliza o * ou algo tipo t0.*, por isso usamos o nome completo do metadados
+        final Integer i = columnByName.get((schema + "." + table + "." + column).toUpperCase());
+        return i == null ? -1 : i;
+      }
+      default: {
+        final String label = alias + "." + column;
+        Integer i = resolved.get(label);
+        if (i == null) {
+          // Apenas o driver conhece os alias das tabelas, deixamos que ele resolva o nome uma única vez
+          try {
+            i = rs.findColumn(label);
+          } catch (SQLException e) {
+            missingColumnExceptions.incrementAndGet();
+            i = -1;
+          }
+          resolved.put(label, i);
+        }
+        return i;
+      }
+    }
+  }
+
+  /**
+   * Recupera a posição de uma coluna no ResultSet, mantendo o comportamento de cada dialeto quando a coluna não existe: o MySQL lança SQLException, como faria a leitura pelo nome da coluna, e o
+   * DerbyDB retorna -1.
+   *
+   * @param schema Schema da tabela.
+   * @param table Nome da tabela.
+   * @param alias Alias da tabela no SQL.
+   * @param column Nome da coluna.
+   * @return Posição da coluna (base 1), ou -1 no DerbyDB caso a coluna não esteja presente.
+   * @throws SQLException Lançado no MySQL caso a coluna não esteja presente no ResultSet.
+   */
+  int getColumn(String schema, String table, String alias, String column) throws SQLException {
+    final int i = findColumn(schema, table, alias, column);
+    if (i < 0 && dialect == SQLDialect.MySQL) {
+      missingColumnExceptions.incrementAndGet();
+      throw new SQLException("Column '" + alias + "." + column + "' not found.");
+    }
+    return i;
+  }
+
+  /**
+   * Verifica se a coluna está presente no ResultSet.
+   *
+   * @param schema Schema da tabela.
+   * @param table Nome da tabela.
+   * @param alias Alias da tabela no SQL.
+   * @param column Nome da coluna.
+   * @return true caso a coluna tenha sido retornada na consulta.
+   */
+  boolean hasColumn(String schema, String table, String alias, String column) {
+    return findColumn(schema, table, alias, column) >= 0;
+  }
+
+  static long getMissingColumnExceptions() {
+    return missingColumnExceptions.get();
+  }
+
+  static void resetMissingColumnExceptions() {
+    missingColumnExceptions.set(0);
+  }
+}
@@ -5,10 +5,12 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+import br.eng.rodrigogml.rfw.orm.dao.interfaces.RFWDAOIDGenerator;
+
 /**
- * Description: Annotation usada para definir o catlogo a qual uma entidade pertence.<br>
+ * Description: Annotation usada para definir o catálogo a qual uma entidade pertence.<br>
  *
- * @author Rodrigo Leito
+ * @author Rodrigo Leitão
  * @since 10.0.0 (12 de jul de 2018)
  */
 @Retention(RetentionPolicy.RUNTIME)
@@ -16,7 +18,7 @@ import java.lang.annotation.Target;
 public @interface RFWDAOAnnotation {
 
   /**
-   * Define o noma da tabela  qual esta entidade deve ser associada.
+   * Define o noma da tabela à qual esta entidade deve ser associada.
    */
   String table();
 
@@ -25,4 +27,24 @@ public @interface RFWDAOAnnotation {
    */
   String schema() default "";
 
+  /**
+   * Define o gerador dos IDs da entidade, como o {@link br.eng.rodrigogml.rfw.orm.dao.RFWDAOSequenceIDGenerator} ou o {@link br.eng.rodrigogml.rfw.orm.dao.RFWDAOHiLoIDGenerator}.<br>
+   * Com um gerador definido o ID é atribuído ao objeto antes da inserção, e a coluna 'id' é sempre incluída no INSERT. Dessa forma as inserções em lote não dependem do retorno das chaves geradas
+   * pelo banco de dados. Objetos marcados com o insertWithID continuam sendo inseridos com o ID que já possuem.<br>
+   * No upsert ({@link br.eng.rodrigogml.rfw.orm.dao.RFWDAO#upsertAll(java.util.List, String...)}) o ID só é gerado para os objetos cujo registro ainda não existe. Se outra transação inserir o
+   * mesmo registro entre a consulta e o upsert, o ID gerado é descartado e o objeto recebe o ID do registro existente.<br>
+   * Por padrão ({@link RFWDAOIDGenerator}) a entidade não tem gerador e o ID é gerado pelo banco de dados.
+   */
+  Class<? extends RFWDAOIDGenerator> idGenerator() default RFWDAOIDGenerator.class;
+
+  /**
+   * Nome utilizado pelo {@link #idGenerator()}: o nome da sequence ou a chave da tabela de hi/lo. Por padrão é utilizado o nome da tabela da entidade.
+   */
+  String idGeneratorName() default "";
+
+  /**
+   * Quantidade de IDs reservados pelo {@link #idGenerator()} a cada acesso ao banco de dados. No caso de sequence deve ser igual ao "INCREMENT BY" da sequence.
+   */
+  int idBlockSize() default 50;
+
 }
@@ -8,10 +8,10 @@ import java.lang.annotation.Target;
 import br.eng.rodrigogml.rfw.orm.dao.interfaces.RFWDAOConverterInterface;
 
 /**
- * Description: Esta Annotation permite definir um "interprete" para converter os dados que esto no VO e o que ser escrito na base de dados.<br>
- * Essa ferramenta  muito til quando temos algum valor que precisa ser tratado antes de ir para o banco, e vice-versa. Como valores que no Objeto esto como uma interface e o RFWDAO no sabe que objeto instanciar.
+ * Description: Esta Annotation permite definir um "interprete" para converter os dados que estão no VO e o que será escrito na base de dados.<br>
+ * Essa ferramenta é muito útil quando temos algum valor que precisa ser tratado antes de ir para o banco, e vice-versa. Como valores que no Objeto estão como uma interface e o RFWDAO não sabe que objeto instanciar.
  *
- * @author Rodrigo Leito
+ * @author Rodrigo Leitão
  * @since 7.1.0 (13 de out de 2018)
  */
 @Retention(RetentionPolicy.RUNTIME)
@@ -19,8 +19,14 @@ import br.eng.rodrigogml.rfw.orm.dao.interfaces.RFWDAOConverterInterface;
 public @interface RFWDAOConverter {
 
   /**
-   * Define a classe do {@link RFWDAOConverterInterface} que ser utilizado.
+   * Define a classe do {@link RFWDAOConverterInterface} que será utilizado.
    */
   Class<?> converterClass();
 
+  /**
+   * Indica se a instância do conversor pode ser reaproveitada. Por padrão o RFWDAO cria uma única instância de cada conversor e a utiliza em todas as conversões, inclusive entre threads.<br>
+   * Conversores que mantenham estado, ou que não sejam thread-safe, devem definir false para que uma nova instância seja criada a cada conversão.
+   */
+  boolean cacheable() default true;
+
 }
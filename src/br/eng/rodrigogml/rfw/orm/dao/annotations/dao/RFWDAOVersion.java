@@ -0,0 +1,22 @@
+package br.eng.rodrigogml.rfw.orm.dao.annotations.dao;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Description: Esta Annotation define o atributo da entidade utilizado como coluna de versão para o controle de concorrência otimista.<br>
+ * Em todo UPDATE da entidade a versão é incrementada e a condição da versão atual é incluída no WHERE (WHERE id=? AND version=?). Caso o registro tenha sido alterado por outra transação depois que
+ * o objeto foi lido, nenhuma linha é atualizada e a persistência é interrompida com o {@link br.eng.rodrigogml.rfw.orm.dao.RFWDAOConflictException}.<br>
+ * O atributo deve ser do tipo Long ou Integer e também deve estar anotado com a RFWMeta correspondente (como qualquer outro atributo persistido), para que seja mapeado para a coluna da tabela. Na
+ * inserção, se estiver nulo, o atributo recebe a versão inicial 0.
+ *
+ * @author Rodrigo Leitão
+ * @since 10.0.0 (18 de out de 2026)
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface RFWDAOVersion {
+
+}
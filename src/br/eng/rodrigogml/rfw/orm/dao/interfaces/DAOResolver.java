@@ -9,7 +9,7 @@ import br.eng.rodrigogml.rfw.orm.dao.RFWDAO;
 import br.eng.rodrigogml.rfw.orm.dao.annotations.dao.RFWDAOAnnotation;
 
 /**
- * Description: Interface para permitir que algumas informaes que precisam ser passadas para o RFWDAO sejam manipuladas/resolvidas pela aplicao a medida que necessrias pelo RFWDAO.<br>
+ * Description: Interface para permitir que algumas informações que precisam ser passadas para o RFWDAO sejam manipuladas/resolvidas pela aplicação a medida que necessárias pelo RFWDAO.<br>
  *
  * @author Rodrigo GML
  * @since 10.0 (12 de out de 2020)
@@ -17,80 +17,82 @@ import br.eng.rodrigogml.rfw.orm.dao.annotations.dao.RFWDAOAnnotation;
 public interface DAOResolver {
 
   /**
-   * Permite que o Resolver da aplicao substitua uma entidade durante o mapeamento. Este mtodo  til quando o RFW j oferece alguns VOs de solues (como do Servio de Location), e a aplicao tem objetod prprios descendentes dele. Este  um exemplo,  vrios casos em que seja necessrio a troca do objeto mapeado por outro descendente.
+   * Permite que o Resolver da aplicação substitua uma entidade durante o mapeamento. Este método é útil quando o RFW já oferece alguns VOs de soluções (como do Serviço de Location), e a aplicação tem objetod próprios descendentes dele. Este é um exemplo, á vários casos em que seja necessário a troca do objeto mapeado por outro descendente.
    *
    * @param entityType Entidade sendo mapeada pelo {@link RFWDAO}.
-   * @return Nova entidade a ser mapeada em seu lugar, ou a mesma caso no seja necessrio realizar nenhuma troca. Retornar nulo far com que o RFWDAO siga sua implementao padro.
+   * @return Nova entidade a ser mapeada em seu lugar, ou a mesma caso não seja necessário realizar nenhuma troca. Retornar nulo fará com que o RFWDAO siga sua implementação padrão.
    */
   public default Class<? extends RFWVO> getEntityType(Class<? extends RFWVO> entityType) throws RFWException {
     return entityType;
   }
 
   /**
-   * Este mtodo deve retornar o schema do banco de dados que deve ser utilizado com o VO.
+   * Este método deve retornar o schema do banco de dados que deve ser utilizado com o VO.
    *
    * @param entityType entidade/RFWVO que se deseja saber o schema a ser utilizado.
    * @param entityDAOAnn {@link RFWDAO} Annotation atual da entidade.
-   * @return String com o nome do Schema a ser utilizado no comando SQL. Retornar nulo far com que o RFWDAO siga sua implementao padro.
+   * @return String com o nome do Schema a ser utilizado no comando SQL. Retornar nulo fará com que o RFWDAO siga sua implementação padrão.
    */
   public default String getSchema(Class<? extends RFWVO> entityType, RFWDAOAnnotation entityDAOAnn) throws RFWException {
     return null;
   }
 
   /**
-   * Este mtodo deve retornar a tabela a ser utilizada pela entidade.
+   * Este método deve retornar a tabela a ser utilizada pela entidade.
    *
    * @param entityType entidade/RFWVO que se deseja saber a tabela a ser utilizada.
    * @param entityDAOAnn {@link RFWDAO} Annotation atual da entidade.
-   * @return String com o nome da tabela a ser utilizado no comando SQL. Retornar nulo far com que o RFWDAO siga sua implementao padro.
+   * @return String com o nome da tabela a ser utilizado no comando SQL. Retornar nulo fará com que o RFWDAO siga sua implementação padrão.
    */
   public default String getTable(Class<? extends RFWVO> entityType, RFWDAOAnnotation entityDAOAnn) throws RFWException {
     return null;
   }
 
   /**
-   * Este mtodo permite a customizao da instanciao de novos objetos do sistema.<br>
-   * Pode ser utilizao para objetos que requerem alguma inicializao diferenciada (como no ter um construtor sem argumentos), ou mesmo para trocar o objeto pela criao de uma classe descendente.<br>
-   * Por exemplo, pode ser utilizada quando o sistema tiver suas prprias implementaes das classes de Location ou outros VOs dos mdulos oferecidos pelo RFW.
+   * Este método permite a customização da instanciação de novos objetos do sistema.<br>
+   * Pode ser utilizao para objetos que requerem alguma inicialização diferenciada (como não ter um construtor sem argumentos), ou mesmo para trocar o objeto pela criação de uma classe descendente.<br>
+   * Por exemplo, pode ser utilizada quando o sistema tiver suas próprias implementações das classes de Location ou outros VOs dos módulos oferecidos pelo RFW.<br>
+   * Para os conversores ({@link br.eng.rodrigogml.rfw.orm.dao.interfaces.RFWDAOConverterInterface}) reaproveitáveis o método é chamado uma única vez por classe, e a instância retornada (ou a falta dela)
+   * é reaproveitada em todas as leituras e escritas dos RFWDAO criados com esta mesma instância do resolver.
    *
    * @param objClass Classe do objeto que precisa ser instanciado.
-   * @return Deve retornar a instncia que possa ser auferida pela classe passada. Retornar nulo far com que o RFWDAO siga sua implementao padro.
+   * @return Deve retornar a instância que possa ser auferida pela classe passada. Retornar nulo fará com que o RFWDAO siga sua implementação padrão.
    */
   public default Object createInstance(Class<?> objClass) throws RFWException {
     return null;
   }
 
   /**
-   * Permite interferir com o atributo "column" da Annotation {@link RFWMetaRelationshipField}, com a possibilidade de interveno do {@link DAOResolver}.
+   * Permite interferir com o atributo "column" da Annotation {@link RFWMetaRelationshipField}, com a possibilidade de intervenção do {@link DAOResolver}.
    *
    * @param field Field do objeto que estamos tratando, e procurando o valor da coluna para terminar o mapeamento.
-   * @param ann referncia para a {@link RFWMetaRelationshipField} encontrada.
-   * @return Retorna o nome da coluna a ser utilizada no mapeamento, ou nulo para continuar com a implementao padro do RFWDAO.
-   * @throws RFWException Lanado em caso de falha.
+   * @param ann referência para a {@link RFWMetaRelationshipField} encontrada.
+   * @return Retorna o nome da coluna a ser utilizada no mapeamento, ou nulo para continuar com a implementação padrão do RFWDAO.
+   * @throws RFWException Lançado em caso de falha.
    */
   public default String getMetaRelationColumn(Field field, final RFWMetaRelationshipField ann) throws RFWException {
     return null;
   }
 
   /**
-   * Permite interferir com o atributo "columnMapped" da Annotation {@link RFWMetaRelationshipField}, com a possibilidade de interveno do {@link DAOResolver}.
+   * Permite interferir com o atributo "columnMapped" da Annotation {@link RFWMetaRelationshipField}, com a possibilidade de intervenção do {@link DAOResolver}.
    *
    * @param field Field do objeto que estamos tratando, e procurando o valor da coluna para terminar o mapeamento.
-   * @param ann referncia para a {@link RFWMetaRelationshipField} encontrada.
-   * @return Retorna o nome da coluna a ser utilizada no mapeamento, ou nulo para continuar com a implementao padro do RFWDAO.
-   * @throws RFWException Lanado em caso de falha.
+   * @param ann referência para a {@link RFWMetaRelationshipField} encontrada.
+   * @return Retorna o nome da coluna a ser utilizada no mapeamento, ou nulo para continuar com a implementação padrão do RFWDAO.
+   * @throws RFWException Lançado em caso de falha.
    */
   public default String getMetaRelationColumnMapped(Field field, RFWMetaRelationshipField ann) throws RFWException {
     return null;
   }
 
   /**
-   * Permite interferir com o atributo "joinTable" da Annotation {@link RFWMetaRelationshipField}, com a possibilidade de interveno do {@link DAOResolver}.
+   * Permite interferir com o atributo "joinTable" da Annotation {@link RFWMetaRelationshipField}, com a possibilidade de intervenção do {@link DAOResolver}.
    *
    * @param field Field do objeto que estamos tratando, e procurando o valor da joinTable para terminar o mapeamento.
-   * @param ann referncia para a {@link RFWMetaRelationshipField} encontrada.
-   * @return Retorna o nome da coluna de join nos casos de ManyToMany que ser utilizada no mapeamento.
-   * @throws RFWException Lanado em caso de falha.
+   * @param ann referência para a {@link RFWMetaRelationshipField} encontrada.
+   * @return Retorna o nome da coluna de join nos casos de ManyToMany que será utilizada no mapeamento.
+   * @throws RFWException Lançado em caso de falha.
    */
   public default String getMetaRelationJoinTable(Field field, RFWMetaRelationshipField ann) throws RFWException {
     return null;
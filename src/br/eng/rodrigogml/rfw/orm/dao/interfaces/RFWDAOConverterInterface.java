@@ -1,21 +1,24 @@
 package br.eng.rodrigogml.rfw.orm.dao.interfaces;
 
 /**
- * Description: Interface do conversor de dados, que deve ser anotado com a @RFWDAOConverterInterface para converter os dados que vo para o banco e/ou para o objeto.<br>
+ * Description: Interface do conversor de dados, que deve ser anotado com a @RFWDAOConverterInterface para converter os dados que vão para o banco e/ou para o objeto.<br>
+ * Os tipos genéricos são opcionais. Implementações antigas, que implementam a interface sem os tipos, continuam funcionando recebendo e retornando Object.
  *
- * @author Rodrigo Leito
+ * @author Rodrigo Leitão
  * @since 7.1.0 (13 de out de 2018)
+ * @param <V> Tipo do atributo no VO.
+ * @param <D> Tipo do valor no banco de dados.
  */
-public interface RFWDAOConverterInterface {
+public interface RFWDAOConverterInterface<V, D> {
 
   /**
    * Converte o valor para ser colocado no Objeto.<br>
-   * Note que o Objeto recebido ser criado pelo Java, de acordo com o objeto padro do Java para o tipo de coluna do bando de dados.
+   * Note que o Objeto recebido será criado pelo Java, de acordo com o objeto padrão do Java para o tipo de coluna do bando de dados, ou de acordo com o tipo informado em {@link #getDBType()}.
    *
    * @param value Valor como foi lido do banco de dados.
    * @return Objeto pronto para ser colocado no VO. Deve respeitar o tipo do objeto no VO
    */
-  Object toVO(Object value);
+  V toVO(D value);
 
   /**
    * Covnerte o valor para ser persistido na base de dados.<br>
@@ -23,6 +26,17 @@ public interface RFWDAOConverterInterface {
    * @param value Objeto que consta no VO
    * @return Valor para ser salvo no banco de dados.
    */
-  Object toDB(Object value);
+  D toDB(V value);
+
+  /**
+   * Informa o tipo Java em que o valor deve ser lido do banco de dados e entregue ao {@link #toVO(Object)}. Com essa informação o RFWDAO lê a coluna com o método específico do ResultSet
+   * (getString, getLong, getBigDecimal, etc.) ao invés do getObject.<br>
+   * Tipos suportados: String, Long, Integer, Float, Double, Boolean, BigDecimal, java.sql.Timestamp, java.sql.Time, java.sql.Date e byte[].
+   *
+   * @return Tipo do valor no banco de dados, ou null (padrão) para que a leitura seja feita com o getObject.
+   */
+  default Class<D> getDBType() {
+    return null;
+  }
 
 }
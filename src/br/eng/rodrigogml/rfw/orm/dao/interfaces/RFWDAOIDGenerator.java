@@ -0,0 +1,33 @@
+package br.eng.rodrigogml.rfw.orm.dao.interfaces;
+
+import javax.sql.DataSource;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.orm.dao.RFWDAO.SQLDialect;
+import br.eng.rodrigogml.rfw.orm.dao.annotations.dao.RFWDAOAnnotation;
+
+/**
+ * Description: Interface dos geradores de ID utilizados pelo RFWDAO para definir o ID dos objetos antes da inserção, ao invés de utilizar a chave gerada pelo banco de dados.<br>
+ * O gerador é definido em cada entidade pelo {@link RFWDAOAnnotation#idGenerator()}. Uma única instância de cada implementação é criada e compartilhada entre todas as entidades e threads, por
+ * isso as implementações devem ser thread-safe.
+ *
+ * @author Rodrigo Leitão
+ * @since 10.0.0 (18 de out de 2026)
+ */
+public interface RFWDAOIDGenerator {
+
+  /**
+   * Gera o próximo ID da entidade.
+   *
+   * @param ds DataSource da entidade. As implementações que precisam acessar o banco de dados devem obter uma conexão própria, para que a reserva dos IDs não dependa da transação da persistência.
+   * @param dialect Dialeto do banco de dados.
+   * @param schema Schema da tabela da entidade.
+   * @param table Tabela da entidade.
+   * @param name Nome do gerador ({@link RFWDAOAnnotation#idGeneratorName()}, ou o nome da tabela quando não definido).
+   * @param blockSize Quantidade de IDs reservados a cada acesso ao banco de dados ({@link RFWDAOAnnotation#idBlockSize()}).
+   * @return ID para o objeto que será inserido.
+   * @throws RFWException Lançado caso não seja possível gerar o ID.
+   */
+  Long nextID(DataSource ds, SQLDialect dialect, String schema, String table, String name, int blockSize) throws RFWException;
+
+}
@@ -9,16 +9,15 @@ import br.eng.rodrigogml.rfw.kernel.measureruler.interfaces.MeasureUnit.MeasureD
 import br.eng.rodrigogml.rfw.orm.dao.interfaces.RFWDAOConverterInterface;
 
 /**
- * Description: Implementa o conversor do DAO para que seja possvel persistir um objeto que utilize a MeasureUnit como um de seus atributos.<br>
+ * Description: Implementa o conversor do DAO para que seja possível persistir um objeto que utilize a MeasureUnit como um de seus atributos.<br>
  *
- * @author Rodrigo Leito
+ * @author Rodrigo Leitão
  * @since 7.1.0 (13 de out de 2018)
  */
-public class MeasureUnitDAOConverter implements RFWDAOConverterInterface {
+public class MeasureUnitDAOConverter implements RFWDAOConverterInterface<MeasureUnit, String> {
 
   @Override
-  public Object toVO(Object obj) {
-    String value = (String) obj;
+  public MeasureUnit toVO(String value) {
     MeasureUnit result = null;
     try {
       if (value != null) {
@@ -39,12 +38,11 @@ public class MeasureUnitDAOConverter implements RFWDAOConverterInterface {
   }
 
   @Override
-  public Object toDB(Object obj) {
-    MeasureUnit value = (MeasureUnit) obj;
+  public String toDB(MeasureUnit value) {
     String rvalue = null;
     if (value != null) {
       if (value.getDimension() == MeasureDimension.CUSTOM) {
-        // Salva a unidade de medida custom comeando com #, no padro "#<Symbol>(<name>)", para que seja possvel fazer o parser e recria-la quando for lida do banco de dados.
+        // Salva a unidade de medida custom começando com #, no padrão "#<Symbol>(<name>)", para que seja possível fazer o parser e recria-la quando for lida do banco de dados.
         rvalue = "#" + value.getSymbol() + "|" + value.name();
       } else {
         rvalue = value.name();
@@ -52,4 +50,9 @@ public class MeasureUnitDAOConverter implements RFWDAOConverterInterface {
     }
     return rvalue;
   }
+
+  @Override
+  public Class<String> getDBType() {
+    return String.class;
+  }
 }
@@ -0,0 +1,101 @@
+package br.eng.rodrigogml.rfw.orm.dao;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.utils.RUReflex;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVO;
+import br.eng.rodrigogml.rfw.orm.dao.EntityMetadata.FieldDescriptor;
+
+/**
+ * Description: Compara o custo de leitura e escrita dos atributos das entidades pelo {@link RUReflex} (reflexão com a busca do método a cada chamada), pela reflexão com o {@link Method} já resolvido
+ * e pelos MethodHandles do {@link FieldDescriptor}, utilizados pelo {@link RFWDAO} na montagem e na persistência dos objetos.<br>
+ * Executar com: mvn -Pjmh test-compile exec:exec
+ *
+ * @author Rodrigo Leitão
+ * @since 10.0.0 (18 de out de 2026)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EntityMetadataAccessBenchmark {
+
+  /**
+   * Entidade utilizada no benchmark.
+   */
+  public static class BenchVO extends RFWVO {
+
+    private static final long serialVersionUID = 1L;
+
+    private String name;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+  }
+
+  private BenchVO vo;
+  private FieldDescriptor descriptor;
+  private Method getter;
+  private Method setter;
+  private String value;
+
+  @Setup
+  public void setup() throws Exception {
+    this.vo = new BenchVO();
+    this.vo.setName("RFW");
+    this.value = "RFW.ORM";
+    this.descriptor = EntityMetadata.get(BenchVO.class).getField("name");
+    this.getter = BenchVO.class.getMethod("getName");
+    this.setter = BenchVO.class.getMethod("setName", String.class);
+  }
+
+  @Benchmark
+  public Object getRUReflex() throws RFWException {
+    return RUReflex.getPropertyValue(this.vo, "name");
+  }
+
+  @Benchmark
+  public Object getReflection() throws Exception {
+    return this.getter.invoke(this.vo);
+  }
+
+  @Benchmark
+  public Object getMethodHandle() throws RFWException {
+    return this.descriptor.get(this.vo);
+  }
+
+  @Benchmark
+  public void setRUReflex() throws RFWException {
+    RUReflex.setPropertyValue(this.vo, "name", this.value, false);
+  }
+
+  @Benchmark
+  public void setReflection() throws Exception {
+    this.setter.invoke(this.vo, this.value);
+  }
+
+  @Benchmark
+  public void setMethodHandle() throws RFWException {
+    this.descriptor.set(this.vo, this.value);
+  }
+}
@@ -0,0 +1,69 @@
+package br.eng.rodrigogml.rfw.orm.dao;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+
+import javax.sql.DataSource;
+
+import org.junit.Test;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.orm.dao.RFWDAO.SQLDialect;
+
+/**
+ * Description: Testes da distribuição dos IDs reservados em bloco pelo {@link RFWDAOBlockIDGenerator}.<br>
+ *
+ * @author Rodrigo Leitão
+ * @since 10.0.0 (18 de out de 2026)
+ */
+public class RFWDAOBlockIDGeneratorTest {
+
+  /**
+   * Gerador que reserva os blocos em sequência a partir de um valor inicial, registrando cada reserva.
+   */
+  private static final class SequentialGenerator extends RFWDAOBlockIDGenerator {
+
+    private final ArrayList<Long> allocations = new ArrayList<>();
+
+    private long nextBlock;
+
+    private SequentialGenerator(long firstID) {
+      this.nextBlock = firstID;
+    }
+
+    @Override
+    protected long allocateBlock(DataSource ds, SQLDialect dialect, String schema, String table, String name, int blockSize) throws RFWException {
+      final long first = nextBlock;
+      nextBlock += blockSize;
+      allocations.add(first);
+      return first;
+    }
+  }
+
+  @Test
+  public void t00_firstIDComesFromReservedBlock() throws RFWException {
+    final SequentialGenerator generator = new SequentialGenerator(1000);
+    assertEquals(Long.valueOf(1000), generator.nextID(null, SQLDialect.MySQL, "schema", "table", "gen", 3));
+    assertEquals(1, generator.allocations.size());
+  }
+
+  @Test
+  public void t01_blockIsConsumedBeforeNextReservation() throws RFWException {
+    final SequentialGenerator generator = new SequentialGenerator(1);
+    for (long expected = 1; expected <= 7; expected++) {
+      assertEquals(Long.valueOf(expected), generator.nextID(null, SQLDialect.MySQL, "schema", "table", "gen", 3));
+    }
+    // 7 IDs em blocos de 3: reservas em 1, 4 e 7
+    assertEquals(3, generator.allocations.size());
+    assertEquals(Long.valueOf(7), generator.allocations.get(2));
+  }
+
+  @Test
+  public void t02_eachGeneratorNameHasItsOwnBlock() throws RFWException {
+    final SequentialGenerator generator = new SequentialGenerator(10);
+    assertEquals(Long.valueOf(10), generator.nextID(null, SQLDialect.MySQL, "schema", "table", "a", 5));
+    assertEquals(Long.valueOf(15), generator.nextID(null, SQLDialect.MySQL, "schema", "table", "b", 5));
+    assertEquals(Long.valueOf(11), generator.nextID(null, SQLDialect.MySQL, "schema", "table", "a", 5));
+  }
+}
@@ -0,0 +1,76 @@
+package br.eng.rodrigogml.rfw.orm.dao;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Date;
+
+import org.junit.Test;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWValidationException;
+import br.eng.rodrigogml.rfw.orm.dao.RFWDAO.PageToken;
+
+/**
+ * Description: Testes da codificação do {@link PageToken} da paginação por continuação.<br>
+ *
+ * @author Rodrigo Leitão
+ * @since 10.0.0 (18 de out de 2026)
+ */
+public class RFWDAOPageTokenTest {
+
+  @Test
+  public void t00_encodeDecodeKeepsAllSupportedTypes() throws RFWException {
+    final Timestamp timestamp = new Timestamp(1760000000123L);
+    timestamp.setNanos(123456789);
+    final Object[] values = new Object[] { null, "Nome", 10L, 20, new BigDecimal("1234.5600"), new Date(1760000000000L), timestamp, LocalDate.of(2026, 10, 18), LocalDateTime.of(2026, 10, 18, 13, 45, 10, 987654321), 99L };
+    final String encoded = new PageToken("name:A,id", values).encode();
+
+    // A assinatura é determinística, então um token decodificado volta a gerar exatamente o mesmo conteúdo
+    assertEquals(encoded, PageToken.decode(encoded).encode());
+  }
+
+  @Test
+  public void t01_emptyTokenDecodesToNull() throws RFWException {
+    assertNull(PageToken.decode(null));
+    assertNull(PageToken.decode(""));
+  }
+
+  @Test
+  public void t02_tamperedTokenIsRejected() throws RFWException {
+    final byte[] bytes = Base64.getUrlDecoder().decode(new PageToken("id", new Object[] { 10L }).encode());
+    bytes[3] ^= 1;
+    try {
+      PageToken.decode(Base64.getUrlEncoder().withoutPadding().encodeToString(bytes));
+      fail("O token alterado deveria ser rejeitado.");
+    } catch (RFWValidationException e) {
+    }
+  }
+
+  @Test
+  public void t03_invalidContentIsRejected() throws RFWException {
+    for (String token : new String[] { "@@@", "AAAA", "rO0ABXNyABFqYXZhLnV0aWwuSGFzaE1hcA" }) {
+      try {
+        PageToken.decode(token);
+        fail("O token '" + token + "' deveria ser rejeitado.");
+      } catch (RFWValidationException e) {
+      }
+    }
+  }
+
+  @Test
+  public void t04_unsupportedTypeIsRejectedOnEncode() throws RFWException {
+    try {
+      new PageToken("id", new Object[] { new StringBuilder("x"), 10L }).encode();
+      fail("O tipo não suportado deveria ser rejeitado.");
+    } catch (RFWCriticalException e) {
+    }
+  }
+}